@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -19,6 +20,7 @@ import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.events.ui.LoginStatusEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.FileUtil;
@@ -29,6 +31,7 @@ import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.google.PhotoHandler;
 import seedu.address.model.google.PhotosLibraryClientFactory;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -75,7 +78,8 @@ public class MainApp extends Application {
 
         logic = new LogicManager(model);
 
-        ui = new UiManager(logic, config, userPrefs, model.getUserLoggedIn());
+        // the status bar is told who is logged in once the login started by the model is over
+        ui = new UiManager(logic, config, userPrefs, null);
 
 
         initEventsCenter();
@@ -163,6 +167,19 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting Piconso " + MainApp.VERSION);
         ui.start(primaryStage);
+        reportGoogleConnection();
+    }
+
+    /**
+     * Shows in the status bar that the stored account is being logged into, and who is logged in once it is over.
+     */
+    private void reportGoogleConnection() {
+        CompletableFuture<PhotoHandler> connection = model.getGoogleConnection();
+        if (!connection.isDone()) {
+            EventsCenter.getInstance().post(LoginStatusEvent.connecting());
+        }
+        connection.thenAccept(handler -> EventsCenter.getInstance().post(
+                new LoginStatusEvent(handler == null ? "" : handler.identifyUser())));
     }
 
     @Override
@@ -171,6 +188,7 @@ public class MainApp extends Application {
         ui.stop();
         try {
             storage.saveUserPrefs(userPrefs);
+            model.saveImageMetadata();
             storage.clearCache();
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
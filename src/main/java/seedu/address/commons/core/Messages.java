@@ -4,12 +4,18 @@ import seedu.address.logic.commands.CreateApplyCommand;
 import seedu.address.logic.commands.SaveCommand;
 import seedu.address.logic.commands.canvas.CanvasAutoResizeCommand;
 import seedu.address.logic.commands.canvas.CanvasBgcolorCommand;
+import seedu.address.logic.commands.canvas.CanvasProxyCommand;
 import seedu.address.logic.commands.canvas.CanvasSizeCommand;
 import seedu.address.logic.commands.google.GoogleDlCommand;
 import seedu.address.logic.commands.google.GoogleLsCommand;
+import seedu.address.logic.commands.google.GoogleOpenCommand;
+import seedu.address.logic.commands.google.GoogleSyncCommand;
 import seedu.address.logic.commands.google.GoogleUploadCommand;
+import seedu.address.logic.commands.google.GoogleViewCommand;
 import seedu.address.logic.commands.layer.LayerAddCommand;
+import seedu.address.logic.commands.layer.LayerBlendCommand;
 import seedu.address.logic.commands.layer.LayerDeleteCommand;
+import seedu.address.logic.commands.layer.LayerOpacityCommand;
 import seedu.address.logic.commands.layer.LayerPositionCommand;
 import seedu.address.logic.commands.layer.LayerSelectCommand;
 import seedu.address.logic.commands.layer.LayerSwapCommand;
@@ -25,7 +31,6 @@ public class Messages {
 
     /* Error message for traversing imageList */
     public static final String MESSAGE_INDEX_END_OF_IMAGE_LIST = "Exceeded number of images in current directory.";
-    public static final String MESSAGE_INDEX_EXCEED_MAX_BATCH_SIZE = "The index provided exceeds batch size.";
     public static final String MESSAGE_TOTAL_IMAGES_IN_DIR = "Total number of images in directory: %d\n";
     public static final String MESSAGE_CURRENT_BATCH_IN_IMAGE_LIST = "Currently viewing images from %d to %d\n";
     public static final String MESSAGE_CURRENT_IMAGES_IN_BATCH = "Current number of images in batch: %d\n";
@@ -39,9 +44,14 @@ public class Messages {
     public static final String MESSAGE_CONNECTION_FAILURE = "Error connecting to Google Photos, please try again.";
 
     public static final String MESSAGE_INVALID_IMAGE_REQUESTED = "The image name provided is invalid.";
+    public static final String MESSAGE_NO_GOOGLE_LISTING = "There is nothing more to list, use g ls first.";
+    public static final String MESSAGE_GOOGLE_LISTING_BUSY = "Still retrieving the list, please wait.";
     public static final String ENTIRE_GOOGLE_MESSAGE = MESSAGE_GOOGLE_INVALID_FORMAT + "\n---------------------\n\n"
             + GoogleLsCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + GoogleDlCommand.MESSAGE_USAGE + "\n------------------------\n\n"
+            + GoogleSyncCommand.MESSAGE_USAGE + "\n------------------------\n\n"
+            + GoogleViewCommand.MESSAGE_USAGE + "\n------------------------\n\n"
+            + GoogleOpenCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + GoogleUploadCommand.MESSAGE_USAGE;
 
     /* Error messages ls. */
@@ -53,6 +63,8 @@ public class Messages {
     public static final String ENTIRE_LAYER_MESSAGE = MESSAGE_LAYER_INVALID_FORMAT + "\n------------------------\n\n"
             + LayerAddCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + LayerDeleteCommand.MESSAGE_USAGE + "\n------------------------\n\n"
+            + LayerOpacityCommand.MESSAGE_USAGE + "\n------------------------\n\n"
+            + LayerBlendCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + LayerPositionCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + LayerSelectCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + LayerSwapCommand.MESSAGE_USAGE + "\n------------------------\n\n";
@@ -61,6 +73,7 @@ public class Messages {
     public static final String ENTIRE_CANVAS_MESSAGE = MESSAGE_CANVAS_INVALID_FORMAT + "\n------------------------\n\n"
             + CanvasAutoResizeCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + CanvasBgcolorCommand.MESSAGE_USAGE + "\n------------------------\n\n"
+            + CanvasProxyCommand.MESSAGE_USAGE + "\n------------------------\n\n"
             + CanvasSizeCommand.MESSAGE_USAGE;
 
     /* Error messages for create convert command */
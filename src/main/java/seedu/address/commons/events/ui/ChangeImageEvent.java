@@ -2,18 +2,23 @@ package seedu.address.commons.events.ui;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.scene.image.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.util.RasterUtil;
 
 //@@author j-lum
 /**
  * A simple event that notifies a target ImagePanel to change its image.
+ * The image is handed over as-is; the panel copies only the {@code dirty} region into its frame.
  */
 
 public class ChangeImageEvent extends BaseEvent {
 
-    public final Image image;
+    public final BufferedImage image;
     public final String target;
+    public final Rectangle dirty;
 
     /**
      * Constructor for ChangeImageEvent
@@ -21,9 +26,21 @@ public class ChangeImageEvent extends BaseEvent {
      * @param image  Image to replace
      * @param target The name of the ImageView to target.
      */
-    public ChangeImageEvent(Image image, String target) {
-        this.image = requireNonNull(image);
+    public ChangeImageEvent(BufferedImage image, String target) {
+        this(image, target, null);
+    }
+
+    /**
+     * Constructor for ChangeImageEvent with a known changed region.
+     *
+     * @param image  Image to replace
+     * @param target The name of the ImageView to target.
+     * @param dirty  The region of {@code image} that changed, or null if unknown.
+     */
+    public ChangeImageEvent(BufferedImage image, String target, Rectangle dirty) {
+        this.image = RasterUtil.toIntArgb(requireNonNull(image));
         this.target = requireNonNull(target);
+        this.dirty = dirty;
     }
 
     @Override
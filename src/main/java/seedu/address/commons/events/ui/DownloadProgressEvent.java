@@ -0,0 +1,44 @@
+package seedu.address.commons.events.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+
+//@@author chivent
+/**
+ * An event that notifies StatusBarFooter of the progress of an album download.
+ */
+public class DownloadProgressEvent extends BaseEvent {
+
+    public final String album;
+    public final int completed;
+    public final int failed;
+    public final int total;
+
+    /**
+     * Constructor for DownloadProgressEvent
+     *
+     * @param album The name of the album being downloaded
+     * @param completed The number of images whose download is over, including the failed ones
+     * @param failed The number of images that could not be downloaded
+     * @param total The number of images in the album
+     */
+    public DownloadProgressEvent(String album, int completed, int failed, int total) {
+        this.album = requireNonNull(album);
+        this.completed = completed;
+        this.failed = failed;
+        this.total = total;
+    }
+
+    /**
+     * Returns true once the download of every image is over.
+     */
+    public boolean isDone() {
+        return completed >= total;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
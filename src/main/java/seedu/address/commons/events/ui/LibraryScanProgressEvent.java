@@ -0,0 +1,37 @@
+package seedu.address.commons.events.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+
+//@@author benedictcss
+/**
+ * An event that notifies StatusBarFooter of the progress of a library scan.
+ */
+public class LibraryScanProgressEvent extends BaseEvent {
+
+    public final String root;
+    public final int folders;
+    public final int images;
+    public final boolean isDone;
+
+    /**
+     * Constructor for LibraryScanProgressEvent
+     *
+     * @param root The directory at the root of the library
+     * @param folders The number of folders scanned so far
+     * @param images The number of images found so far
+     * @param isDone Whether the scan has completed
+     */
+    public LibraryScanProgressEvent(String root, int folders, int images, boolean isDone) {
+        this.root = requireNonNull(root);
+        this.folders = folders;
+        this.images = images;
+        this.isDone = isDone;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -13,6 +13,7 @@ public class LoginStatusEvent extends BaseEvent {
 
     public final String user;
     public final boolean loggedIn;
+    public final boolean connecting;
 
     /**
      * Constructor for LoginStatusEvent
@@ -20,12 +21,20 @@ public class LoginStatusEvent extends BaseEvent {
      * @param user The email of the logged in user
      */
     public LoginStatusEvent(String user) {
+        this(user, false);
+    }
+
+    private LoginStatusEvent(String user, boolean connecting) {
         this.user = requireNonNull(user);
-        if (this.user.isEmpty()) {
-            loggedIn = false;
-        } else {
-            loggedIn = true;
-        }
+        this.loggedIn = !this.user.isEmpty();
+        this.connecting = connecting;
+    }
+
+    /**
+     * Returns an event telling that the stored account is being logged into in the background.
+     */
+    public static LoginStatusEvent connecting() {
+        return new LoginStatusEvent("", true);
     }
 
     @Override
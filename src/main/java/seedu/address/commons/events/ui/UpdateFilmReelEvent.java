@@ -3,17 +3,29 @@ package seedu.address.commons.events.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.google.RemoteImage;
 
 //@@author chivent
 /**
  * An event that updates the list of images in film reel upon call events.
+ * The film reel holds every image of the current directory and scrolls to the current batch.
+ * Images that belong to a group of duplicates are labelled with the number of their group.
+ * The film reel can also show the images of a remote album, whose thumbnails are downloaded rather than decoded.
  */
 public class UpdateFilmReelEvent extends BaseEvent {
 
     public final List<Path> paths;
+    public final Path changed;
+    public final int removedIndex;
+    public final int insertedIndex;
+    public final int firstIndex;
+    public final Map<Path, Integer> groups;
+    public final Map<Path, RemoteImage> remote;
 
     /**
      * Constructor for LoginStatusEvent
@@ -21,7 +33,78 @@ public class UpdateFilmReelEvent extends BaseEvent {
      * @param paths List of paths to new images
      */
     public UpdateFilmReelEvent(List<Path> paths) {
+        this(paths, 0);
+    }
+
+    /**
+     * Constructor for an update that replaces the whole list and shows a batch of it.
+     *
+     * @param paths List of paths to the images now in the film reel
+     * @param firstIndex Index in {@code paths} of the first image of the current batch
+     */
+    public UpdateFilmReelEvent(List<Path> paths, int firstIndex) {
+        this(paths, firstIndex, Collections.emptyMap());
+    }
+
+    /**
+     * Constructor for an update that replaces the whole list, with the group of each grouped image, and shows a
+     * batch of it.
+     *
+     * @param paths List of paths to the images now in the film reel
+     * @param firstIndex Index in {@code paths} of the first image of the current batch
+     * @param groups Group number of each image of {@code paths} that is in a group
+     */
+    public UpdateFilmReelEvent(List<Path> paths, int firstIndex, Map<Path, Integer> groups) {
         this.paths = requireNonNull(paths);
+        this.changed = null;
+        this.removedIndex = -1;
+        this.insertedIndex = -1;
+        this.firstIndex = firstIndex;
+        this.groups = requireNonNull(groups);
+        this.remote = Collections.emptyMap();
+    }
+
+    /**
+     * Constructor for an update that replaces the whole list with the images of a remote album.
+     *
+     * @param paths List of the paths the remote images are shown under
+     * @param remote Remote image shown under each path of {@code paths}
+     */
+    public UpdateFilmReelEvent(List<Path> paths, Map<Path, RemoteImage> remote) {
+        this.paths = requireNonNull(paths);
+        this.changed = null;
+        this.removedIndex = -1;
+        this.insertedIndex = -1;
+        this.firstIndex = 0;
+        this.groups = Collections.emptyMap();
+        this.remote = requireNonNull(remote);
+    }
+
+    /**
+     * Constructor for an update that only affects one image of the film reel, which is removed from
+     * {@code removedIndex}, if it is not negative, and then inserted at {@code insertedIndex}, if it is not
+     * negative. An image modified in place is removed and inserted at the same index.
+     *
+     * @param changed Image that was added, removed or modified
+     * @param removedIndex Index of {@code changed} in the film reel before the change, or -1 if it was not in it
+     * @param insertedIndex Index of {@code changed} in the film reel after the change, or -1 if it is not in it
+     */
+    public UpdateFilmReelEvent(Path changed, int removedIndex, int insertedIndex) {
+        this.paths = null;
+        this.changed = requireNonNull(changed);
+        this.removedIndex = removedIndex;
+        this.insertedIndex = insertedIndex;
+        this.firstIndex = -1;
+        this.groups = null;
+        this.remote = null;
+    }
+
+    /**
+     * Returns true if only the image {@code changed} needs to be updated, keeping the other images, the groups
+     * shown and the scroll position.
+     */
+    public boolean isIncremental() {
+        return changed != null;
     }
 
     @Override
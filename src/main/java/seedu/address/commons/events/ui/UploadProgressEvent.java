@@ -0,0 +1,44 @@
+package seedu.address.commons.events.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+
+//@@author chivent
+/**
+ * An event that notifies StatusBarFooter of the progress of an upload to Google Photos.
+ */
+public class UploadProgressEvent extends BaseEvent {
+
+    public final String directory;
+    public final int completed;
+    public final int failed;
+    public final int total;
+
+    /**
+     * Constructor for UploadProgressEvent
+     *
+     * @param directory The name of the directory being uploaded
+     * @param completed The number of files whose upload is over, including the skipped and failed ones
+     * @param failed The number of files that could not be uploaded
+     * @param total The number of files in the directory
+     */
+    public UploadProgressEvent(String directory, int completed, int failed, int total) {
+        this.directory = requireNonNull(directory);
+        this.completed = completed;
+        this.failed = failed;
+        this.total = total;
+    }
+
+    /**
+     * Returns true once the upload of every file is over.
+     */
+    public boolean isDone() {
+        return completed >= total;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
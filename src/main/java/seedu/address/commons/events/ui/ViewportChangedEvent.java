@@ -0,0 +1,31 @@
+package seedu.address.commons.events.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.canvas.Viewport;
+
+/**
+ * An event requesting a frame of the canvas for a zoomed or panned ImagePanel.
+ */
+public class ViewportChangedEvent extends BaseEvent {
+
+    public final String target;
+    public final Viewport viewport;
+
+    /**
+     * Constructor for ViewportChangedEvent
+     *
+     * @param target The name of the ImagePanel requesting the frame.
+     * @param viewport The part of the canvas to show.
+     */
+    public ViewportChangedEvent(String target, Viewport viewport) {
+        this.target = requireNonNull(target);
+        this.viewport = requireNonNull(viewport);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.commons.events.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.util.RasterUtil;
+import seedu.address.model.canvas.Viewport;
+
+/**
+ * An event that delivers the frame composited for a {@link ViewportChangedEvent}.
+ */
+public class ViewportFrameEvent extends BaseEvent {
+
+    public final BufferedImage image;
+    public final String target;
+    public final Viewport viewport;
+
+    /**
+     * Constructor for ViewportFrameEvent
+     *
+     * @param image The composited frame, of the size of the viewport.
+     * @param target The name of the ImagePanel to target.
+     * @param viewport The viewport the frame was composited for.
+     */
+    public ViewportFrameEvent(BufferedImage image, String target, Viewport viewport) {
+        this.image = RasterUtil.toIntArgb(requireNonNull(image));
+        this.target = requireNonNull(target);
+        this.viewport = requireNonNull(viewport);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads and writes files in the compact binary formats of the caches on the hard disk.
+ * Each file starts with the magic number and version of its format, and is written under a temporary name and
+ * moved into place, so that a reader never sees a partially written file.
+ */
+public class BinaryFileUtil {
+
+    /**
+     * Returns what {@code reader} reads from {@code file} after its header, or an empty Optional if the file does not
+     * exist or {@code reader} finds that it holds something else.
+     * @throws DataConversionException if the file is not in the format {@code magic} at {@code version}, or is cut
+     *     short or corrupt.
+     * @throws IOException if the file cannot be read.
+     */
+    public static <T> Optional<T> readBinaryFile(Path file, int magic, int version, BinaryReader<T> reader)
+            throws DataConversionException, IOException {
+        requireNonNull(file);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != magic || input.readInt() != version) {
+                throw new DataConversionException(new IOException("Unknown format of " + file));
+            }
+            return reader.read(input);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (EOFException | UTFDataFormatException | InvalidPathException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Replaces {@code file} with the header of the format {@code magic} at {@code version} followed by what
+     * {@code writer} writes, creating its directory if needed.
+     */
+    public static void saveBinaryFile(Path file, int magic, int version, BinaryWriter writer) throws IOException {
+        requireNonNull(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temp)))) {
+                output.writeInt(magic);
+                output.writeInt(version);
+                writer.write(output);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the contents of a file after its header.
+     */
+    @FunctionalInterface
+    public interface BinaryReader<T> {
+        Optional<T> read(DataInputStream input) throws DataConversionException, IOException;
+    }
+
+    /**
+     * Writes the contents of a file after its header.
+     */
+    @FunctionalInterface
+    public interface BinaryWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+}
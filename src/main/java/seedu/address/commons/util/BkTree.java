@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A BK-tree of values keyed by 64-bit hashes under the Hamming distance, which finds every value whose key is
+ * within a distance of a query without comparing the query to every key.
+ * Each child of a node holds the keys at one distance from the node's key, so by the triangle inequality a search
+ * within {@code d} of a query at distance {@code k} from a node only has to descend into the children from
+ * {@code k - d} to {@code k + d}.
+ * Not thread-safe.
+ */
+public class BkTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Adds {@code value} under {@code key}. Values with equal keys are kept together in one node.
+     */
+    public void add(long key, T value) {
+        requireNonNull(value);
+        size++;
+        if (root == null) {
+            root = new Node<>(key, value);
+            return;
+        }
+        Node<T> node = root;
+        while (true) {
+            int distance = PerceptualHash.distance(key, node.key);
+            if (distance == 0) {
+                node.values.add(value);
+                return;
+            }
+            Node<T> child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node<>(key, value));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the values whose key differs from {@code key} in at most {@code maxDistance} bits.
+     */
+    public List<T> search(long key, int maxDistance) {
+        List<T> found = new ArrayList<>();
+        if (root == null) {
+            return found;
+        }
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            int distance = PerceptualHash.distance(key, node.key);
+            if (distance <= maxDistance) {
+                found.addAll(node.values);
+            }
+            int to = Math.min(PerceptualHash.BITS, distance + maxDistance);
+            for (int i = Math.max(1, distance - maxDistance); i <= to; i++) {
+                Node<T> child = node.getChild(i);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A key with its values and its children, indexed by their distance from the key.
+     * Most nodes are leaves, so the children are only allocated once the first one is added.
+     */
+    private static class Node<T> {
+        private final long key;
+        private final List<T> values = new ArrayList<>(1);
+        private Node<T>[] children;
+
+        Node(long key, T value) {
+            this.key = key;
+            values.add(value);
+        }
+
+        Node<T> getChild(int distance) {
+            return (children == null) ? null : children[distance];
+        }
+
+        @SuppressWarnings("unchecked")
+        void setChild(int distance, Node<T> child) {
+            if (children == null) {
+                children = (Node<T>[]) new Node<?>[PerceptualHash.BITS + 1];
+            }
+            children[distance] = child;
+        }
+    }
+}
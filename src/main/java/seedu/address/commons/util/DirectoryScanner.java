@@ -0,0 +1,139 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Lists a directory one level deep, handing each entry to a consumer as soon as it is read.
+ * The attributes of an entry come with the listing on file systems that return them with it, e.g. on Windows,
+ * instead of being looked up file by file, and images are classified by the shared {@link ImageTypeClassifier}.
+ */
+public class DirectoryScanner {
+
+    private DirectoryScanner() {
+    } // prevents instantiation
+
+    /**
+     * An entry of a scanned directory.
+     */
+    public static class Entry {
+        private final Path path;
+        private final BasicFileAttributes attributes;
+        private final Optional<String> imageType;
+
+        Entry(Path path, BasicFileAttributes attributes, Optional<String> imageType) {
+            this.path = path;
+            this.attributes = attributes;
+            this.imageType = imageType;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public BasicFileAttributes getAttributes() {
+            return attributes;
+        }
+
+        public boolean isDirectory() {
+            return attributes.isDirectory();
+        }
+
+        /**
+         * Returns the mime type of the entry if it is an image file.
+         */
+        public Optional<String> getImageType() {
+            return imageType;
+        }
+
+        public boolean isImage() {
+            return imageType.isPresent();
+        }
+
+        /**
+         * Returns true if the entry is an image that can be opened for editing, i.e. any image but a GIF.
+         */
+        public boolean isEditableImage() {
+            return imageType.filter(type -> !ImageTypeClassifier.MIME_GIF.equals(type)).isPresent();
+        }
+    }
+
+    /**
+     * Hands every entry of {@code directory} to {@code consumer}, in the order the file system returns them.
+     * Entries whose attributes cannot be read, e.g. because they were deleted during the scan, are skipped.
+     * Symbolic links are described by the attributes of their target.
+     * @throws IOException if {@code directory} does not exist, is not a directory or cannot be read.
+     */
+    public static void scan(Path directory, Consumer<Entry> consumer) throws IOException {
+        requireNonNull(directory);
+        requireNonNull(consumer);
+        if (Files.exists(directory) && !Files.isDirectory(directory)) {
+            throw new NotDirectoryException(directory.toString());
+        }
+        Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+                Optional<String> imageType = attributes.isRegularFile()
+                        ? ImageTypeClassifier.getImageType(path) : Optional.empty();
+                consumer.accept(new Entry(path, attributes, imageType));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path path, IOException e) throws IOException {
+                if (path.equals(directory)) {
+                    throw e;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Returns the paths of the editable images in {@code directory}, sorted by name.
+     * @throws IOException if {@code directory} cannot be listed.
+     */
+    public static List<Path> listEditableImages(Path directory) throws IOException {
+        return listEditableImages(directory, 0, batch -> { });
+    }
+
+    /**
+     * Returns the paths of the editable images in {@code directory}, sorted by name, handing the first
+     * {@code firstBatchSize} images found to {@code firstBatch}, sorted among themselves, as soon as they are
+     * found, so that they can be shown before the whole directory is listed and sorted.
+     * {@code firstBatch} is not called if fewer images are found.
+     * @throws IOException if {@code directory} cannot be listed.
+     */
+    public static List<Path> listEditableImages(Path directory, int firstBatchSize, Consumer<List<Path>> firstBatch)
+            throws IOException {
+        requireNonNull(firstBatch);
+        List<Path> images = new ArrayList<>();
+        scan(directory, entry -> {
+            if (!entry.isEditableImage()) {
+                return;
+            }
+            images.add(entry.getPath());
+            if (images.size() == firstBatchSize) {
+                List<Path> batch = new ArrayList<>(images);
+                Collections.sort(batch);
+                firstBatch.accept(batch);
+            }
+        });
+        Collections.sort(images);
+        return images;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches a single directory with a {@code WatchService} on a daemon thread.
+ * Every entry that is created, deleted or modified is handed to {@code onChange}; if the file system dropped
+ * events, {@code onOverflow} is run instead so that the listener can rescan.
+ */
+public class DirectoryWatcher {
+
+    private static final Logger logger = LogsCenter.getLogger(DirectoryWatcher.class);
+
+    private final WatchService watchService;
+    private final Consumer<Path> onChange;
+    private final Runnable onOverflow;
+    private WatchKey key;
+
+    public DirectoryWatcher(Consumer<Path> onChange, Runnable onOverflow) throws IOException {
+        this.onChange = requireNonNull(onChange);
+        this.onOverflow = requireNonNull(onOverflow);
+        this.watchService = FileSystems.getDefault().newWatchService();
+        Thread thread = new Thread(this::processEvents, "directory-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts watching {@code directory} instead of the directory watched before.
+     */
+    public synchronized void watch(Path directory) {
+        if (key != null) {
+            key.cancel();
+            key = null;
+        }
+        try {
+            key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.warning("Unable to watch " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops watching and ends the watcher thread.
+     */
+    public synchronized void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Unable to close directory watcher: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for events and dispatches them until the watch service is closed.
+     */
+    private void processEvents() {
+        try {
+            while (true) {
+                WatchKey signalled = watchService.take();
+                Path directory = (Path) signalled.watchable();
+                for (WatchEvent<?> event : signalled.pollEvents()) {
+                    if (!isCurrent(signalled)) {
+                        break;
+                    }
+                    try {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            onOverflow.run();
+                        } else {
+                            onChange.accept(directory.resolve((Path) event.context()));
+                        }
+                    } catch (RuntimeException e) {
+                        logger.warning("Failed to handle change in " + directory + ": " + e.getMessage());
+                    }
+                }
+                signalled.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Directory watcher stopped");
+        }
+    }
+
+    /**
+     * Returns true if {@code signalled} belongs to the directory that is watched now, not one watched before.
+     */
+    private synchronized boolean isCurrent(WatchKey signalled) {
+        return signalled == key;
+    }
+}
@@ -2,26 +2,23 @@ package seedu.address.commons.util;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 
-import javafx.embed.swing.SwingFXUtils;
-import javafx.scene.image.Image;
-import seedu.address.commons.core.EventsCenter;
-import seedu.address.commons.events.ui.ChangeImageEvent;
 import seedu.address.commons.exceptions.IllegalOperationException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.canvas.BlendMode;
 import seedu.address.model.canvas.Canvas;
-import seedu.address.model.canvas.Layer;
+import seedu.address.model.canvas.CanvasSnapshot;
 import seedu.address.model.transformation.Transformation;
 import seedu.address.storage.JsonConvertArgsStorage;
 
@@ -96,7 +93,7 @@ public class ImageMagickUtil {
     public static BufferedImage processImage(Path path, Transformation transformation, boolean isRaw)
             throws ParseException, IOException, InterruptedException, IllegalArgumentException,
             IllegalOperationException {
-        String modifiedFile = tmpPath + "/output.png";
+        String modifiedFile = createTempOutput("output");
         //create a processbuilder to blur the image
         ArrayList<String> args = new ArrayList<>();
         args.add(ImageMagickUtil.getConvertExecutablePath());
@@ -113,7 +110,31 @@ public class ImageMagickUtil {
             args.addAll(cmds);
         }
         args.add(modifiedFile);
-        return runProcessBuilder(args, modifiedFile);
+        try {
+            return runProcessBuilder(args, modifiedFile);
+        } finally {
+            new File(modifiedFile).delete();
+        }
+    }
+
+    /**
+     * Returns a new file name in the temporary folder, so that images can be processed concurrently.
+     */
+    private static String createTempOutput(String prefix) throws IOException {
+        File tmpFolder = new File(tmpPath);
+        tmpFolder.mkdirs();
+        return File.createTempFile(prefix, ".png", tmpFolder).getPath();
+    }
+
+    /**
+     * check that the arguments of a transformation are valid, without processing any image.
+     * @param transformation
+     * @throws IOException
+     * @throws ParseException
+     */
+    public static void checkOperationArguments(Transformation transformation)
+            throws IOException, ParseException, IllegalArgumentException {
+        parseOperationArguments(transformation);
     }
 
     /**
@@ -205,13 +226,17 @@ public class ImageMagickUtil {
             throw new IllegalOperationException("Unsupported OS!");
         }
         Process process = pb.start();
-        process.waitFor();
+        try {
+            process.waitFor();
+        } catch (InterruptedException e) {
+            // the result is no longer wanted, e.g. a newer render superseded this one
+            process.destroy();
+            throw e;
+        }
         if (process.exitValue() != 0) {
             throw new IllegalArgumentException("Process fails");
         }
-        FileInputStream is = new FileInputStream(output);
-        Image modifiedImage = new Image(is);
-        return SwingFXUtils.fromFXImage(modifiedImage, null);
+        return RasterUtil.readImage(new File(output));
     }
 
     /**
@@ -262,27 +287,65 @@ public class ImageMagickUtil {
 
     //@@author j-lum
     /**
-     * Creates a ProcessBuilder instance to merge/flatten layers.
+     * Creates a ProcessBuilder instance to merge/flatten layers at full resolution.
      * @param c - A canvas to be processed
      * @return a buffered image with a merged canvas.
      */
     public static BufferedImage processCanvas(Canvas c) throws IOException, InterruptedException,
             IllegalOperationException {
+        return processCanvas(c, false);
+    }
+
+    /**
+     * Creates a ProcessBuilder instance to merge/flatten layers.
+     * When {@code useProxy} is true, the proxies of the layers are merged and the canvas size and layer offsets
+     * are scaled by the proxy scale of the canvas.
+     * @param c - A canvas to be processed
+     * @param useProxy - whether to merge the proxies instead of the full resolution layers
+     * @return a buffered image with a merged canvas.
+     */
+    public static BufferedImage processCanvas(Canvas c, boolean useProxy) throws IOException, InterruptedException,
+            IllegalOperationException {
+        return processCanvas(new CanvasSnapshot(c), useProxy);
+    }
+
+    /**
+     * Creates a ProcessBuilder instance to merge/flatten the layers of a snapshot of a canvas.
+     * @param c - A snapshot of the canvas to be processed
+     * @param useProxy - whether to merge the proxies instead of the full resolution layers
+     * @return a buffered image with a merged canvas.
+     */
+    public static BufferedImage processCanvas(CanvasSnapshot c, boolean useProxy) throws IOException,
+            InterruptedException, IllegalOperationException {
         ArrayList<String> args = new ArrayList<>();
-        String output = tmpPath + "/modified.png";
+        String output = createTempOutput("modified");
+        double scale = useProxy ? c.getProxyScale() : 1.0;
         args.add(getConvertExecutablePath());
-        boolean pageSizeDefined = false;
 
-        for (Layer l: c.getLayers()) {
-            if (!c.isCanvasAuto() && !pageSizeDefined) {
-                args.add("-page");
-                args.add(String.format("%dx%d+%d+%d", c.getWidth(), c.getHeight(), l.getX(), l.getY()));
-                args.add(String.format("%s", l.getImage().getCurrentPath()));
-                pageSizeDefined = true;
+        if (!c.isCanvasAuto()) {
+            // a transparent base fixes the page size without compositing any layer onto itself
+            args.add("-size");
+            args.add(String.format("%dx%d", Math.max(1, Math.round(c.getWidth() * scale)),
+                    Math.max(1, Math.round(c.getHeight() * scale))));
+            args.add("xc:none");
+        }
+
+        for (int i = 0; i < c.getLayers().size(); i++) {
+            Path layerPath = useProxy ? c.getProxyPath(i) : c.getFullResolutionPath(i);
+            int x = (int) Math.round(c.getX(i) * scale);
+            int y = (int) Math.round(c.getY(i) * scale);
+            boolean isBlended = c.getBlendMode(i) != BlendMode.NORMAL || c.getOpacity(i) < 1f;
+            if (isBlended) {
+                args.add("(");
             }
             args.add("-page");
-            args.add(String.format("+%d+%d", l.getX(), l.getY()));
-            args.add(String.format("%s", l.getImage().getCurrentPath()));
+            args.add(String.format("+%d+%d", x, y));
+            args.add(String.format("%s", layerPath));
+            if (isBlended) {
+                args.addAll(Arrays.asList("-alpha", "set", "-channel", "A", "-evaluate", "multiply",
+                        String.format("%s", c.getOpacity(i)), "+channel", "-set", "compose",
+                        c.getBlendMode(i).getComposeOperator(), ")"));
+            }
         }
 
         args.add("-background");
@@ -296,7 +359,11 @@ public class ImageMagickUtil {
         }
         args.add(output);
         System.out.println(args);
-        return runProcessBuilder(args, output);
+        try {
+            return runProcessBuilder(args, output);
+        } finally {
+            new File(output).delete();
+        }
     }
 
     /**
@@ -330,23 +397,14 @@ public class ImageMagickUtil {
 */
 
     /**
-     * Given any canvas, renders it to the target panel.
+     * Given any canvas, renders it to the target panel, from proxies if the canvas has proxies enabled.
+     * A coarse frame is shown immediately and refined in the background, see {@link ProgressiveRenderer}.
      * @param c - Canvas to render
      * @param logger - an instance of the logger
      * @param target - the name of the ImagePanel to target
      */
     public static void render(Canvas c, Logger logger, String target) {
-        try {
-            EventsCenter.getInstance().post(
-                    new ChangeImageEvent(
-                            SwingFXUtils.toFXImage(
-                                    ImageMagickUtil.processCanvas(c), null), target));
-        } catch (IOException e) {
-            logger.severe(e.getMessage());
-        } catch (InterruptedException | IllegalOperationException e) {
-            logger.severe(e.getMessage());
-        }
-
+        ProgressiveRenderer.getInstance().render(c, logger, target);
     }
 
 }
@@ -0,0 +1,242 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.stream.ImageInputStream;
+
+import seedu.address.model.ImageMetadata;
+
+/**
+ * Reads {@link ImageMetadata} from the header of an image file through an {@code ImageReader}, without decoding
+ * any pixels. EXIF orientation and date are read from the APP1 segment of JPEG files.
+ * The content hash covers the file size and its first and last {@value #HASH_SAMPLE_BYTES} bytes, so that it
+ * costs the same for every file while still telling apart files that only share a name, size and date.
+ */
+public class ImageMetadataReader {
+
+    public static final int HASH_SAMPLE_BYTES = 64 * 1024;
+
+    private static final int EXIF_SEARCH_LIMIT = 128 * 1024;
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+
+    private ImageMetadataReader() {
+    } // prevents instantiation
+
+    /**
+     * Reads the metadata of the image at {@code file}.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static ImageMetadata read(Path file) throws IOException {
+        requireNonNull(file);
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        int width;
+        int height;
+        String format;
+        int bitDepth;
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = (input == null) ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + file.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+                format = reader.getFormatName().toLowerCase();
+                bitDepth = getBitDepth(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        int orientation = ImageMetadata.ORIENTATION_NORMAL;
+        String dateTaken = null;
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            byte[] exif = findJpegExif(raf);
+            if (exif != null) {
+                ExifTags tags = parseExif(exif);
+                orientation = tags.getOrientation();
+                dateTaken = tags.getDateTaken();
+            }
+            return new ImageMetadata(file.getFileName().toString(), width, height, format, bitDepth, orientation,
+                    dateTaken, attributes.size(), attributes.lastModifiedTime().toMillis(), hash(raf));
+        }
+    }
+
+    /**
+     * Returns the bits per colour channel of the first image, or 0 if the reader does not say.
+     */
+    private static int getBitDepth(ImageReader reader) throws IOException {
+        Iterator<ImageTypeSpecifier> types = reader.getImageTypes(0);
+        if (types == null || !types.hasNext()) {
+            return 0;
+        }
+        ImageTypeSpecifier type = types.next();
+        return type.getColorModel().getComponentSize(0);
+    }
+
+    /**
+     * Returns the TIFF structure of the EXIF APP1 segment of a JPEG file, or null if the file is not a JPEG or
+     * has no EXIF data. Only the markers before the image data are read.
+     */
+    static byte[] findJpegExif(RandomAccessFile raf) throws IOException {
+        raf.seek(0);
+        if (raf.length() < 4 || raf.readUnsignedShort() != 0xffd8) {
+            return null;
+        }
+        while (raf.getFilePointer() + 4 <= Math.min(raf.length(), EXIF_SEARCH_LIMIT)) {
+            int marker = raf.readUnsignedShort();
+            if ((marker & 0xff00) != 0xff00 || marker == 0xffda) {
+                return null;
+            }
+            int length = raf.readUnsignedShort() - 2;
+            if (length < 0) {
+                return null;
+            }
+            if (marker == 0xffe1 && length > 6) {
+                byte[] segment = new byte[length];
+                raf.readFully(segment);
+                if (new String(segment, 0, 6, StandardCharsets.ISO_8859_1).equals("Exif\0\0")) {
+                    byte[] tiff = new byte[length - 6];
+                    System.arraycopy(segment, 6, tiff, 0, tiff.length);
+                    return tiff;
+                }
+            } else {
+                raf.seek(raf.getFilePointer() + length);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the orientation and the date the picture was taken from the TIFF structure of an EXIF segment.
+     * Tags that are missing or malformed are left at their defaults.
+     */
+    static ExifTags parseExif(byte[] tiff) {
+        ExifTags tags = new ExifTags();
+        if (tiff.length < 8) {
+            return tags;
+        }
+        boolean isLittleEndian = tiff[0] == 'I' && tiff[1] == 'I';
+        try {
+            int ifd0 = readInt(tiff, 4, isLittleEndian);
+            int exifIfd = readIfd(tiff, ifd0, isLittleEndian, tags);
+            if (exifIfd > 0) {
+                readIfd(tiff, exifIfd, isLittleEndian, tags);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // truncated EXIF data; keep what was read so far
+        }
+        return tags;
+    }
+
+    /**
+     * Reads the tags of interest in the IFD at {@code offset} into {@code tags}.
+     * @return the offset of the EXIF sub-IFD if this IFD points to one, otherwise 0.
+     */
+    private static int readIfd(byte[] tiff, int offset, boolean isLittleEndian, ExifTags tags) {
+        int exifIfd = 0;
+        int count = readShort(tiff, offset, isLittleEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = offset + 2 + i * 12;
+            int tag = readShort(tiff, entry, isLittleEndian);
+            int valueCount = readInt(tiff, entry + 4, isLittleEndian);
+            switch (tag) {
+            case TAG_ORIENTATION:
+                tags.orientation = readShort(tiff, entry + 8, isLittleEndian);
+                break;
+            case TAG_EXIF_IFD:
+                exifIfd = readInt(tiff, entry + 8, isLittleEndian);
+                break;
+            case TAG_DATE_TIME:
+                if (tags.dateTaken == null) {
+                    tags.dateTaken = readAscii(tiff, readInt(tiff, entry + 8, isLittleEndian), valueCount);
+                }
+                break;
+            case TAG_DATE_TIME_ORIGINAL:
+                // the original date is preferred over the date the file was last changed
+                tags.dateTaken = readAscii(tiff, readInt(tiff, entry + 8, isLittleEndian), valueCount);
+                break;
+            default:
+                break;
+            }
+        }
+        return exifIfd;
+    }
+
+    private static int readShort(byte[] data, int offset, boolean isLittleEndian) {
+        int b0 = data[offset] & 0xff;
+        int b1 = data[offset + 1] & 0xff;
+        return isLittleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean isLittleEndian) {
+        int high = readShort(data, offset + (isLittleEndian ? 2 : 0), isLittleEndian);
+        int low = readShort(data, offset + (isLittleEndian ? 0 : 2), isLittleEndian);
+        return (high << 16) | low;
+    }
+
+    /**
+     * Reads a NUL terminated ASCII value of at most {@code count} bytes.
+     */
+    private static String readAscii(byte[] data, int offset, int count) {
+        int end = offset;
+        while (end < offset + count && data[end] != 0) {
+            end++;
+        }
+        return new String(data, offset, end - offset, StandardCharsets.US_ASCII).trim();
+    }
+
+    /**
+     * Returns the SHA-1, in hexadecimal, of the file length followed by its first and last
+     * {@value #HASH_SAMPLE_BYTES} bytes.
+     */
+    static String hash(RandomAccessFile raf) throws IOException {
+        MessageDigest digest = StringUtil.newSha1();
+        long length = raf.length();
+        digest.update(Long.toString(length).getBytes(StandardCharsets.US_ASCII));
+        byte[] head = new byte[(int) Math.min(length, HASH_SAMPLE_BYTES)];
+        raf.seek(0);
+        raf.readFully(head);
+        digest.update(head);
+        if (length > HASH_SAMPLE_BYTES) {
+            byte[] tail = new byte[(int) Math.min(length - HASH_SAMPLE_BYTES, HASH_SAMPLE_BYTES)];
+            raf.seek(length - tail.length);
+            raf.readFully(tail);
+            digest.update(tail);
+        }
+        return StringUtil.toHex(digest.digest());
+    }
+
+    /**
+     * The EXIF tags read from an image.
+     */
+    static class ExifTags {
+        private int orientation = ImageMetadata.ORIENTATION_NORMAL;
+        private String dateTaken;
+
+        int getOrientation() {
+            return orientation;
+        }
+
+        String getDateTaken() {
+            return dateTaken;
+        }
+    }
+}
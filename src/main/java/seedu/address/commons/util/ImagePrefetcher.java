@@ -0,0 +1,207 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PreviewImage;
+
+//@@author benedictcss
+/**
+ * Decodes, in the background, what the user is likely to look at next: the proxies of the images next to the one
+ * that is open, and the thumbnails of the batches before and after the current one.
+ * Prefetching runs on a single low priority thread, one image at a time, so that it only uses time the app would
+ * otherwise spend idle. Proxies are kept in an LRU cache bounded in bytes. Every call to
+ * {@link #prefetch(List, List)} cancels whatever the previous call had not finished, so jumping elsewhere in the
+ * directory never waits for images the user has moved away from.
+ */
+public class ImagePrefetcher {
+
+    /** Number of images on each side of the open image whose proxies are prefetched. */
+    public static final int NEIGHBOURS = 2;
+    /** Bytes of pixels the proxy cache may hold. */
+    public static final long MEMORY_BUDGET_BYTES = 48L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ImagePrefetcher.class);
+    private static final ImagePrefetcher instance = new ImagePrefetcher(ThumbnailService.getInstance(),
+            MEMORY_BUDGET_BYTES);
+
+    private final ThumbnailService thumbnails;
+    private final long memoryBudget;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-prefetcher");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private final List<Future<?>> inFlight = new ArrayList<>();
+    // access ordered, so iteration starts from the least recently used proxy
+    private final LinkedHashMap<Key, BufferedImage> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryUsed;
+
+    ImagePrefetcher(ThumbnailService thumbnails, long memoryBudget) {
+        this.thumbnails = requireNonNull(thumbnails);
+        this.memoryBudget = memoryBudget;
+    }
+
+    public static ImagePrefetcher getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the proxy of the image at {@code path}, from the cache if it was prefetched, otherwise decoded
+     * on the calling thread.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public BufferedImage getProxy(Path path) throws IOException {
+        Key key = new Key(path, Files.getLastModifiedTime(path).toMillis());
+        BufferedImage cached = getFromMemory(key);
+        if (cached != null) {
+            logger.fine("Prefetched proxy of " + path + " used");
+            return cached;
+        }
+        BufferedImage proxy = PreviewImage.decodeProxy(path);
+        putInMemory(key, proxy);
+        return proxy;
+    }
+
+    /**
+     * Cancels any prefetching still in progress and starts prefetching the proxies of {@code neighbours}, then the
+     * thumbnails of {@code batchImages}, both in the order given.
+     */
+    public synchronized void prefetch(List<Path> neighbours, List<Path> batchImages) {
+        cancel();
+        for (Path path : neighbours) {
+            inFlight.add(worker.submit(() -> prefetchProxy(path)));
+        }
+        for (Path path : batchImages) {
+            inFlight.add(worker.submit(() -> prefetchThumbnail(path)));
+        }
+    }
+
+    /**
+     * Cancels any prefetching still in progress. Proxies that were already decoded stay cached.
+     */
+    public synchronized void cancel() {
+        for (Future<?> future : inFlight) {
+            future.cancel(true);
+        }
+        inFlight.clear();
+    }
+
+    /**
+     * Decodes the proxy of the image at {@code path} into the cache, unless it is already there.
+     */
+    private void prefetchProxy(Path path) {
+        try {
+            Key key = new Key(path, Files.getLastModifiedTime(path).toMillis());
+            if (getFromMemory(key) != null) {
+                return;
+            }
+            BufferedImage proxy = PreviewImage.decodeProxy(path);
+            if (!Thread.currentThread().isInterrupted()) {
+                putInMemory(key, proxy);
+            }
+        } catch (IOException e) {
+            logger.fine("Unable to prefetch " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the thumbnail of the image at {@code path} into the caches of the thumbnail service, waiting for it
+     * so that only one image is prefetched at a time.
+     */
+    private void prefetchThumbnail(Path path) {
+        Future<?> request = thumbnails.request(path, ThumbnailService.THUMBNAIL_SIZE, thumbnail -> { });
+        try {
+            request.get();
+        } catch (InterruptedException e) {
+            request.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            logger.fine("Unable to prefetch the thumbnail of " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns true if the proxy of the current version of the image at {@code path} is cached.
+     */
+    synchronized boolean isCached(Path path) {
+        try {
+            return memory.containsKey(new Key(path, Files.getLastModifiedTime(path).toMillis()));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private synchronized BufferedImage getFromMemory(Key key) {
+        return memory.get(key);
+    }
+
+    /**
+     * Caches {@code proxy} in memory, evicting the least recently used proxies to stay within budget.
+     */
+    private synchronized void putInMemory(Key key, BufferedImage proxy) {
+        BufferedImage previous = memory.put(key, proxy);
+        if (previous != null) {
+            memoryUsed -= getBytes(previous);
+        }
+        memoryUsed += getBytes(proxy);
+        Iterator<Map.Entry<Key, BufferedImage>> eldest = memory.entrySet().iterator();
+        while (memoryUsed > memoryBudget && eldest.hasNext()) {
+            memoryUsed -= getBytes(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    private static long getBytes(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Identifies a proxy in memory. The modification time is part of the key so that an image edited since it
+     * was prefetched is decoded again.
+     */
+    private static class Key {
+        private final Path path;
+        private final long lastModified;
+
+        Key(Path path, long lastModified) {
+            this.path = path.toAbsolutePath().normalize();
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return path.equals(key.path) && lastModified == key.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Works out whether a file is an image, and of which type, from its name.
+ * Files without an extension are identified from their first bytes instead.
+ * The extension table is built once and shared, replacing a {@code MimetypesFileTypeMap} per file, which parses
+ * the mime type tables again every time it is created.
+ */
+public class ImageTypeClassifier {
+
+    public static final String MIME_GIF = "image/gif";
+
+    // the image types known to javax.activation, which used to decide what is listed, and every type sniffed
+    private static final Map<String, String> EXTENSIONS;
+    private static final int MAGIC_LENGTH = 12;
+
+    static {
+        Map<String, String> extensions = new HashMap<>();
+        extensions.put("png", "image/png");
+        extensions.put("jpg", "image/jpeg");
+        extensions.put("jpeg", "image/jpeg");
+        extensions.put("jpe", "image/jpeg");
+        extensions.put("gif", MIME_GIF);
+        extensions.put("tif", "image/tiff");
+        extensions.put("tiff", "image/tiff");
+        extensions.put("ief", "image/ief");
+        extensions.put("xwd", "image/x-xwindowdump");
+        extensions.put("bmp", "image/bmp");
+        EXTENSIONS = Collections.unmodifiableMap(extensions);
+    }
+
+    private ImageTypeClassifier() {
+    } // prevents instantiation
+
+    /**
+     * Returns the mime type of the image at {@code file}, or an empty Optional if it is not an image.
+     * Only files without an extension are opened.
+     */
+    public static Optional<String> getImageType(Path file) {
+        requireNonNull(file);
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot > 0) {
+            return getImageTypeOfExtension(name.substring(dot + 1));
+        }
+        try {
+            return sniff(file);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the mime type of images with {@code extension}, or an empty Optional if it is not an image
+     * extension. The extension is matched ignoring case.
+     */
+    public static Optional<String> getImageTypeOfExtension(String extension) {
+        return Optional.ofNullable(EXTENSIONS.get(extension.toLowerCase()));
+    }
+
+    /**
+     * Returns the mime type of the image at {@code file} from its first bytes, whatever its name, or an empty
+     * Optional if it is not an image or cannot be read. Only the header is read, the image is not decoded.
+     */
+    public static Optional<String> getImageTypeOfContent(Path file) {
+        requireNonNull(file);
+        try {
+            return sniff(file);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if {@code file} is an image that can be opened for editing, i.e. any image but a GIF.
+     */
+    public static boolean isEditableImage(Path file) {
+        return getImageType(file).filter(type -> !MIME_GIF.equals(type)).isPresent();
+    }
+
+    /**
+     * Identifies an image from the magic number at the start of {@code file}.
+     */
+    static Optional<String> sniff(Path file) throws IOException {
+        byte[] header = new byte[MAGIC_LENGTH];
+        int length;
+        try (InputStream input = Files.newInputStream(file)) {
+            length = input.read(header);
+        }
+        return sniff(header, Math.max(0, length));
+    }
+
+    /**
+     * Identifies an image from the first {@code length} bytes of a file.
+     */
+    static Optional<String> sniff(byte[] header, int length) {
+        if (startsWith(header, length, 0x89, 'P', 'N', 'G')) {
+            return Optional.of("image/png");
+        }
+        if (startsWith(header, length, 0xff, 0xd8, 0xff)) {
+            return Optional.of("image/jpeg");
+        }
+        if (startsWith(header, length, 'G', 'I', 'F', '8')) {
+            return Optional.of(MIME_GIF);
+        }
+        if (startsWith(header, length, 'I', 'I', 0x2a, 0x00) || startsWith(header, length, 'M', 'M', 0x00, 0x2a)) {
+            return Optional.of("image/tiff");
+        }
+        if (startsWith(header, length, 'B', 'M')) {
+            return Optional.of("image/bmp");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if the first {@code length} bytes of {@code header} start with {@code magic}.
+     */
+    private static boolean startsWith(byte[] header, int length, int... magic) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if ((header[i] & 0xff) != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Library;
+
+//@@author benedictcss
+/**
+ * Scans a directory tree into a {@link Library} on a work-stealing pool, one task per folder, so that the
+ * listing of sibling folders overlaps and a deep year/month tree is not walked one folder at a time.
+ * Given the library from a previous scan, folders whose modification time did not change are taken from it
+ * without being listed again. Symbolic links to folders are not followed.
+ */
+public class LibraryScanner {
+
+    /** Minimum time between two progress reports of a scan. */
+    public static final long PROGRESS_INTERVAL_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(LibraryScanner.class);
+    // listing a folder mostly waits on the disk, so the pool has more threads than there are processors
+    private static final ForkJoinPool pool = new ForkJoinPool(
+            Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+
+    private LibraryScanner() {
+    } // prevents instantiation
+
+    /**
+     * Receives the progress of a scan.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called with the number of folders scanned and images found so far, at most every
+         * {@link #PROGRESS_INTERVAL_MILLIS} while the scan runs and once more when it completes.
+         */
+        void onProgress(int folders, int images, boolean isDone);
+    }
+
+    /**
+     * Scans the tree under {@code root} in the background.
+     * @param previous the library of a previous scan of {@code root}, or null to list every folder.
+     * @return a future completed with the library, or exceptionally with an {@link UncheckedIOException} if
+     *     {@code root} cannot be listed.
+     */
+    public static CompletableFuture<Library> scanAsync(Path root, Library previous, ProgressListener listener) {
+        requireNonNull(root);
+        requireNonNull(listener);
+        return CompletableFuture.supplyAsync(() -> new Scan(root, previous, listener).run(), pool);
+    }
+
+    /**
+     * Scans the tree under {@code root} and waits for the result.
+     * @param previous the library of a previous scan of {@code root}, or null to list every folder.
+     * @throws IOException if {@code root} cannot be listed.
+     */
+    public static Library scan(Path root, Library previous, ProgressListener listener) throws IOException {
+        try {
+            return scanAsync(root, previous, listener).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The state of one scan, shared by the tasks of all its folders.
+     */
+    private static class Scan {
+        private final Path root;
+        private final Library previous;
+        private final ProgressListener listener;
+        private final Queue<Library.Folder> folders = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger imageCount = new AtomicInteger();
+        private final AtomicLong lastReport = new AtomicLong(System.currentTimeMillis());
+
+        Scan(Path root, Library previous, ProgressListener listener) {
+            this.root = root;
+            this.previous = (previous != null && previous.getRoot().equals(root)) ? previous : null;
+            this.listener = listener;
+        }
+
+        /**
+         * Scans every folder of the tree, on the pool of the calling thread.
+         */
+        Library run() {
+            new FolderTask(this, root).invoke();
+            listener.onProgress(folders.size(), imageCount.get(), true);
+            return new Library(root, folders);
+        }
+
+        /**
+         * Records a scanned folder and reports the progress if the last report is old enough.
+         */
+        void add(Library.Folder folder) {
+            folders.add(folder);
+            imageCount.addAndGet(folder.getImages().size());
+            long now = System.currentTimeMillis();
+            long last = lastReport.get();
+            if (now - last >= PROGRESS_INTERVAL_MILLIS && lastReport.compareAndSet(last, now)) {
+                listener.onProgress(folders.size(), imageCount.get(), false);
+            }
+        }
+
+        Optional<Library.Folder> getPrevious(Path folder) {
+            return (previous == null) ? Optional.empty() : previous.getFolder(folder);
+        }
+    }
+
+    /**
+     * Scans one folder and forks a task for each of its subfolders.
+     */
+    private static class FolderTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Scan scan;
+        private final Path path;
+
+        FolderTask(Scan scan, Path path) {
+            this.scan = scan;
+            this.path = path;
+        }
+
+        @Override
+        protected void compute() {
+            Library.Folder folder;
+            try {
+                folder = scanFolder();
+            } catch (IOException e) {
+                if (path.equals(scan.root)) {
+                    throw new UncheckedIOException(e);
+                }
+                logger.warning("Skipping unreadable folder " + path + ": " + e.getMessage());
+                return;
+            }
+            scan.add(folder);
+            List<FolderTask> subtasks = new ArrayList<>();
+            for (Path subfolder : folder.getSubfolders()) {
+                subtasks.add(new FolderTask(scan, subfolder));
+            }
+            invokeAll(subtasks);
+        }
+
+        /**
+         * Returns the folder as scanned before if it has not been modified since, otherwise lists it.
+         */
+        private Library.Folder scanFolder() throws IOException {
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            Optional<Library.Folder> previous = scan.getPrevious(path);
+            if (previous.isPresent() && previous.get().getLastModified() == lastModified) {
+                return previous.get();
+            }
+            List<Path> images = new ArrayList<>();
+            List<Path> subfolders = new ArrayList<>();
+            DirectoryScanner.scan(path, entry -> {
+                if (entry.isEditableImage()) {
+                    images.add(entry.getPath());
+                } else if (entry.isDirectory() && !Files.isSymbolicLink(entry.getPath())) {
+                    subfolders.add(entry.getPath());
+                }
+            });
+            Collections.sort(images);
+            Collections.sort(subfolders);
+            return new Library.Folder(path, lastModified, images, subfolders);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+//@@author chivent
+/**
+ * Downloads files, such as the originals of photos in Google Photos, straight to disk, or into memory when they are
+ * decoded straight away.
+ * The bytes are streamed from the connection into a temporary file next to the target through NIO channels, without
+ * decoding them, and the temporary file is only renamed to the target once it is complete, so a failed download
+ * never leaves a truncated file behind. Downloads that fail on the network or with a server error are retried with
+ * exponential backoff. Many files are downloaded at once on a bounded pool of worker threads, so that a large album
+ * is limited by bandwidth rather than by the latency of each request.
+ */
+public class MediaDownloader {
+
+    /** Number of files downloaded at the same time. */
+    public static final int PARALLELISM = 6;
+    /** Number of times a file is requested before its download fails. */
+    public static final int MAX_ATTEMPTS = 4;
+    /** Wait before the first retry, doubled for every further retry. */
+    public static final long INITIAL_BACKOFF_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(MediaDownloader.class);
+    private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+    private static final int READ_TIMEOUT_MILLIS = 30000;
+    private static final long TRANSFER_CHUNK = 1 << 20;
+    private static final MediaDownloader instance = new MediaDownloader(PARALLELISM, MAX_ATTEMPTS,
+            INITIAL_BACKOFF_MILLIS, URL::openConnection);
+
+    private final ExecutorService workers;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final ConnectionOpener opener;
+
+    MediaDownloader(int parallelism, int maxAttempts, long initialBackoffMillis, ConnectionOpener opener) {
+        AppUtil.checkArgument(maxAttempts > 0, "There must be at least one attempt");
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.opener = requireNonNull(opener);
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "media-downloader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static MediaDownloader getInstance() {
+        return instance;
+    }
+
+    /**
+     * Downloads {@code source} to {@code target} on the calling thread, replacing {@code target} if it exists.
+     * @throws IOException if the download still fails after the last retry, or cannot be retried.
+     */
+    public void download(URL source, Path target) throws IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        withRetries(String.valueOf(target.getFileName()), () -> {
+            transfer(source, target);
+            return null;
+        });
+    }
+
+    /**
+     * Downloads {@code source} into memory on the calling thread, for files that are decoded straight away rather
+     * than kept.
+     * @throws IOException if the download still fails after the last retry, or cannot be retried.
+     */
+    public byte[] downloadBytes(URL source) throws IOException {
+        requireNonNull(source);
+        return withRetries(source.getPath(), () -> read(source));
+    }
+
+    /**
+     * Returns what {@code attempt} returns, trying it again with exponential backoff while it fails with an error
+     * that may go away.
+     */
+    private <T> T withRetries(String name, Attempt<T> attempt) throws IOException {
+        long backoff = initialBackoffMillis;
+        for (int count = 1;; count++) {
+            try {
+                return attempt.run();
+            } catch (IOException e) {
+                if (count >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                logger.fine("Retrying download of " + name + " after: " + e.getMessage());
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Download of " + name + " interrupted");
+            }
+            backoff *= 2;
+        }
+    }
+
+    /**
+     * Downloads every source in {@code downloads} to its target in the background, {@link #PARALLELISM} at a time.
+     * {@code listener} is told on a worker thread as each download succeeds or fails.
+     * @return a future completed, once every download is over, with the targets that could not be downloaded.
+     */
+    public CompletableFuture<List<Path>> downloadAll(Map<Path, URL> downloads, ProgressListener listener) {
+        requireNonNull(listener);
+        Map<Path, URL> toDownload = new LinkedHashMap<>(downloads);
+        int total = toDownload.size();
+        AtomicInteger completed = new AtomicInteger();
+        List<Path> failed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> items = new ArrayList<>(total);
+        for (Map.Entry<Path, URL> entry : toDownload.entrySet()) {
+            Path target = entry.getKey();
+            items.add(CompletableFuture.runAsync(() -> {
+                boolean isSuccess = true;
+                try {
+                    download(entry.getValue(), target);
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Unable to download " + target.getFileName() + ": " + e.getMessage());
+                    failed.add(target);
+                    isSuccess = false;
+                }
+                listener.onProgress(target, isSuccess, completed.incrementAndGet(), total);
+            }, workers));
+        }
+        return CompletableFuture.allOf(items.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> new ArrayList<>(failed));
+    }
+
+    /**
+     * Streams {@code source} into a temporary file next to {@code target} and renames it to {@code target}.
+     */
+    private void transfer(URL source, Path target) throws IOException {
+        URLConnection connection = connect(source);
+        long expected = connection.getContentLengthLong();
+
+        Path directory = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, "." + target.getFileName(), ".part");
+        try {
+            long written = 0;
+            try (InputStream stream = connection.getInputStream();
+                 ReadableByteChannel input = Channels.newChannel(stream);
+                 FileChannel output = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = output.transferFrom(input, written, TRANSFER_CHUNK)) > 0) {
+                    written += transferred;
+                }
+            }
+            if (expected >= 0 && written != expected) {
+                throw new IOException("Connection closed after " + written + " of " + expected + " bytes");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the whole of {@code source} into memory.
+     */
+    private byte[] read(URL source) throws IOException {
+        URLConnection connection = connect(source);
+        long expected = connection.getContentLengthLong();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(expected > 0 ? (int) expected : 1 << 16);
+        try (InputStream stream = connection.getInputStream()) {
+            byte[] buffer = new byte[1 << 16];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                output.write(buffer, 0, read);
+            }
+        }
+        if (expected >= 0 && output.size() != expected) {
+            throw new IOException("Connection closed after " + output.size() + " of " + expected + " bytes");
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Opens a connection to {@code source}, failing if the server replied with an error status.
+     */
+    private URLConnection connect(URL source) throws IOException {
+        URLConnection connection = opener.open(source);
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        if (connection instanceof HttpURLConnection) {
+            HttpURLConnection http = (HttpURLConnection) connection;
+            int code = http.getResponseCode();
+            if (code >= 400) {
+                http.disconnect();
+                throw new HttpStatusException(code, source);
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * Returns true if a download that failed with {@code e} may succeed when tried again.
+     */
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof MalformedURLException) {
+            return false;
+        }
+        if (e instanceof HttpStatusException) {
+            int code = ((HttpStatusException) e).code;
+            return code == 408 || code == 429 || code >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * A single attempt at a download.
+     */
+    @FunctionalInterface
+    private interface Attempt<T> {
+        T run() throws IOException;
+    }
+
+    /**
+     * Opens the connection a file is downloaded from.
+     */
+    @FunctionalInterface
+    interface ConnectionOpener {
+        URLConnection open(URL url) throws IOException;
+    }
+
+    /**
+     * Told as each download of {@link #downloadAll(Map, ProgressListener)} is over.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called once the download to {@code target} succeeded or failed, as the {@code completed}th of
+         * {@code total} downloads.
+         */
+        void onProgress(Path target, boolean isSuccess, int completed, int total);
+    }
+
+    /**
+     * An HTTP response with an error status.
+     */
+    static class HttpStatusException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final int code;
+
+        HttpStatusException(int code, URL source) {
+            super("Server replied " + code + " for " + source.getPath());
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Computes difference hashes (dHash) of images: 64-bit fingerprints that stay within a few bits of each other when
+ * an image is re-encoded, resized or lightly edited, so that near-duplicates can be found by the Hamming distance of
+ * their hashes.
+ * The image is reduced to a grid of 9 by 8 cells of average luminance, and each bit records whether a cell is
+ * brighter than its right neighbour.
+ */
+public class PerceptualHash {
+
+    /** Longest side an image is decoded at before it is hashed. */
+    public static final int SAMPLE_SIZE = 64;
+    /** Number of bits in a hash, i.e. the largest possible distance between two hashes. */
+    public static final int BITS = Long.SIZE;
+
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+
+    private PerceptualHash() {
+    } // prevents instantiation
+
+    /**
+     * Returns the hash of the image at {@code file}, decoding only a subsampled copy of it.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static long dHash(File file) throws IOException {
+        return dHash(RasterUtil.readSubsampled(file, SAMPLE_SIZE));
+    }
+
+    /**
+     * Returns the hash of {@code image}.
+     */
+    public static long dHash(BufferedImage image) {
+        requireNonNull(image);
+        BufferedImage argb = RasterUtil.toIntArgb(image);
+        int width = argb.getWidth();
+        int height = argb.getHeight();
+        int[] pixels = RasterUtil.getPixels(argb);
+        double[] sums = new double[GRID_WIDTH * GRID_HEIGHT];
+        int[] counts = new int[GRID_WIDTH * GRID_HEIGHT];
+        for (int y = 0; y < height; y++) {
+            int row = y * GRID_HEIGHT / height;
+            for (int x = 0; x < width; x++) {
+                int cell = row * GRID_WIDTH + x * GRID_WIDTH / width;
+                sums[cell] += luminance(pixels[y * width + x]);
+                counts[cell]++;
+            }
+        }
+        double[] cells = new double[GRID_WIDTH * GRID_HEIGHT];
+        for (int row = 0; row < GRID_HEIGHT; row++) {
+            for (int column = 0; column < GRID_WIDTH; column++) {
+                int cell = row * GRID_WIDTH + column;
+                // images smaller than the grid leave cells empty, which take the pixel under their centre
+                cells[cell] = (counts[cell] > 0) ? sums[cell] / counts[cell]
+                        : luminance(pixels[(2 * row + 1) * height / (2 * GRID_HEIGHT) * width
+                                + (2 * column + 1) * width / (2 * GRID_WIDTH)]);
+            }
+        }
+
+        long hash = 0;
+        for (int row = 0; row < GRID_HEIGHT; row++) {
+            for (int column = 0; column < GRID_WIDTH - 1; column++) {
+                hash <<= 1;
+                if (cells[row * GRID_WIDTH + column] > cells[row * GRID_WIDTH + column + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the number of bits in which {@code a} and {@code b} differ.
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * Returns the luminance of an ARGB pixel, composited over white so that transparent areas count as light.
+     */
+    private static double luminance(int argb) {
+        int alpha = argb >>> 24;
+        double luma = 0.299 * ((argb >> 16) & 0xff) + 0.587 * ((argb >> 8) & 0xff) + 0.114 * (argb & 0xff);
+        return (luma * alpha + 255.0 * (255 - alpha)) / 255.0;
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.commons.util;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.ChangeImageEvent;
+import seedu.address.commons.exceptions.IllegalOperationException;
+import seedu.address.model.PreviewImage;
+import seedu.address.model.canvas.BlendKernel;
+import seedu.address.model.canvas.Canvas;
+import seedu.address.model.canvas.CanvasSnapshot;
+import seedu.address.model.canvas.ViewportCompositor;
+
+//@@author j-lum
+/**
+ * Renders a canvas in two passes. A coarse frame, composited in Java from subsampled decodes of the layers with
+ * nearest-neighbour scaling, is posted before {@code render} returns. The full quality frame is then rendered by
+ * ImageMagick in the background and replaces it, unless a newer render was requested in the meantime, in which
+ * case the refinement is cancelled.
+ * The time from a render request to its first frame is logged as the time to first pixel.
+ */
+public class ProgressiveRenderer {
+
+    /** Longest side of the coarse frame. */
+    public static final int COARSE_MAX_DIMENSION = 256;
+    /** Time within which the coarse frame should be shown; slower frames are logged as warnings. */
+    public static final long FIRST_PIXEL_BUDGET_MILLIS = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveRenderer.class);
+    private static final ProgressiveRenderer instance = new ProgressiveRenderer();
+
+    private final ExecutorService refiner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "render-refiner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> refinement;
+    private long frameCount;
+    private long totalTimeToFirstPixel;
+    private volatile long lastTimeToFirstPixel = -1;
+
+    public static ProgressiveRenderer getInstance() {
+        return instance;
+    }
+
+    /**
+     * Posts a coarse frame of {@code canvas} to {@code target} and schedules its refinement, cancelling the
+     * refinement of any earlier render.
+     * @param canvas - Canvas to render
+     * @param callerLogger - the logger of the caller, to which failures of the refinement are reported
+     * @param target - the name of the ImagePanel to target
+     */
+    public synchronized void render(Canvas canvas, Logger callerLogger, String target) {
+        long start = System.nanoTime();
+        cancel();
+        long renderGeneration = generation.get();
+        CanvasSnapshot snapshot = new CanvasSnapshot(canvas);
+
+        try {
+            EventsCenter.getInstance().post(new ChangeImageEvent(renderCoarse(snapshot), target));
+            reportFirstPixel(start);
+        } catch (IOException e) {
+            logger.warning("Skipping coarse frame: " + e.getMessage());
+        }
+
+        refinement = refiner.submit(() -> refine(snapshot, renderGeneration, callerLogger, target, start));
+    }
+
+    /**
+     * Cancels the refinement of the last render, so that it cannot replace a frame posted afterwards.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (refinement != null) {
+            refinement.cancel(true);
+            refinement = null;
+        }
+    }
+
+    /**
+     * Records the time to first pixel of a frame that was requested at {@code startNanos}, as given by
+     * {@link System#nanoTime()}, and posted just now.
+     */
+    public synchronized void reportFirstPixel(long startNanos) {
+        recordTimeToFirstPixel(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    public long getLastTimeToFirstPixel() {
+        return lastTimeToFirstPixel;
+    }
+
+    /**
+     * Renders the full quality frame and posts it if no newer render was requested.
+     * The check and the post are made while holding the renderer, as {@code render} and {@code cancel} are, so that
+     * a frame posted by a newer render can never be followed by this one.
+     */
+    private void refine(CanvasSnapshot snapshot, long renderGeneration, Logger callerLogger, String target,
+                        long start) {
+        try {
+            BufferedImage frame = ImageMagickUtil.processCanvas(snapshot, snapshot.isProxyEnabled());
+            synchronized (this) {
+                if (renderGeneration != generation.get()) {
+                    return;
+                }
+                EventsCenter.getInstance().post(new ChangeImageEvent(frame, target));
+            }
+            logger.fine(String.format("Refined frame after %d ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        } catch (InterruptedException e) {
+            logger.fine("Refinement cancelled by a newer render");
+        } catch (IOException | IllegalOperationException e) {
+            callerLogger.severe(e.getMessage());
+        }
+    }
+
+    /**
+     * Composites the layers of {@code canvas}, decoded from their proxies with subsampling, into a frame whose
+     * longest side is at most {@code COARSE_MAX_DIMENSION}.
+     */
+    static BufferedImage renderCoarse(CanvasSnapshot canvas) throws IOException {
+        List<File> files = new ArrayList<>();
+        List<Rectangle> layerBounds = new ArrayList<>();
+        Rectangle canvasBounds = canvas.isCanvasAuto() ? null
+                : new Rectangle(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < canvas.getLayers().size(); i++) {
+            PreviewImage image = canvas.getLayers().get(i).getImage();
+            File proxy = canvas.getProxyPath(i).toFile();
+            Dimension proxySize = RasterUtil.readSize(proxy);
+            Rectangle bounds = new Rectangle(canvas.getX(i), canvas.getY(i),
+                    (int) Math.round(proxySize.width / image.getProxyScale()),
+                    (int) Math.round(proxySize.height / image.getProxyScale()));
+            files.add(proxy);
+            layerBounds.add(bounds);
+            if (canvas.isCanvasAuto()) {
+                canvasBounds = (canvasBounds == null) ? bounds : canvasBounds.union(bounds);
+            }
+        }
+
+        double scale = Math.min(1.0, (double) COARSE_MAX_DIMENSION
+                / Math.max(canvasBounds.width, canvasBounds.height));
+        BufferedImage frame = new BufferedImage(Math.max(1, (int) Math.round(canvasBounds.width * scale)),
+                Math.max(1, (int) Math.round(canvasBounds.height * scale)), BufferedImage.TYPE_INT_ARGB);
+        Color background = ViewportCompositor.parseColor(canvas.getBackgroundColor());
+        if (background != null) {
+            Graphics2D g = frame.createGraphics();
+            g.setColor(background);
+            g.fillRect(0, 0, frame.getWidth(), frame.getHeight());
+            g.dispose();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Rectangle bounds = layerBounds.get(i);
+            int longestSide = (int) Math.ceil(Math.max(bounds.width, bounds.height) * scale);
+            BufferedImage decoded = RasterUtil.readSubsampled(files.get(i), Math.max(1, longestSide));
+            BufferedImage layer = new BufferedImage(Math.max(1, (int) Math.round(bounds.width * scale)),
+                    Math.max(1, (int) Math.round(bounds.height * scale)), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = layer.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(decoded, 0, 0, layer.getWidth(), layer.getHeight(), null);
+            g.dispose();
+            BlendKernel.composite(frame, null, layer, (int) Math.round((bounds.x - canvasBounds.x) * scale),
+                    (int) Math.round((bounds.y - canvasBounds.y) * scale), canvas.getBlendMode(i),
+                    canvas.getOpacity(i));
+        }
+        return frame;
+    }
+
+    /**
+     * Logs the time to first pixel of a render, and a warning if it exceeds the budget.
+     */
+    private void recordTimeToFirstPixel(long millis) {
+        lastTimeToFirstPixel = millis;
+        frameCount++;
+        totalTimeToFirstPixel += millis;
+        String message = String.format("Time to first pixel: %d ms (average %d ms over %d renders)",
+                millis, totalTimeToFirstPixel / frameCount, frameCount);
+        if (millis > FIRST_PIXEL_BUDGET_MILLIS) {
+            logger.warning(message + ", over the budget of " + FIRST_PIXEL_BUDGET_MILLIS + " ms");
+        } else {
+            logger.info(message);
+        }
+    }
+}
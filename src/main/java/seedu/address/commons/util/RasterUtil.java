@@ -0,0 +1,339 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+/**
+ * Utility functions for moving pixel data between the image engine and the UI without intermediate copies.
+ * All images handled by the engine are kept as {@code TYPE_INT_ARGB} so that their backing
+ * {@code int[]} can be handed to a JavaFX {@code PixelWriter} directly.
+ */
+public class RasterUtil {
+
+    private RasterUtil() {
+    } // prevents instantiation
+
+    /**
+     * Decodes the image at {@code file} into a {@code TYPE_INT_ARGB} {@code BufferedImage}.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static BufferedImage readImage(File file) throws IOException {
+        requireNonNull(file);
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            ImageReader reader = getReader(input, file.getName());
+            try {
+                reader.setInput(input, true, true);
+                return decode(reader, null, 1);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Decodes the encoded image {@code content} into a {@code TYPE_INT_ARGB} {@code BufferedImage}, as
+     * {@link #readImage(File)} does for a file.
+     * @throws IOException if {@code content} is not a supported image.
+     */
+    public static BufferedImage readImage(byte[] content) throws IOException {
+        requireNonNull(content);
+        try (ImageInputStream input = openStream(content)) {
+            ImageReader reader = getReader(input, "image in memory");
+            try {
+                reader.setInput(input, true, true);
+                return decode(reader, null, 1);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reads the size of the image at {@code file} from its header, without decoding any pixels.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static Dimension readSize(File file) throws IOException {
+        requireNonNull(file);
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            return readSize(input, file.getName());
+        }
+    }
+
+    /**
+     * Reads the size of the encoded image {@code content} from its header, without decoding any pixels.
+     * @throws IOException if {@code content} is not a supported image.
+     */
+    public static Dimension readSize(byte[] content) throws IOException {
+        requireNonNull(content);
+        try (ImageInputStream input = openStream(content)) {
+            return readSize(input, "image in memory");
+        }
+    }
+
+    /**
+     * Reads the size of the image in {@code input}, called {@code name} in errors.
+     */
+    private static Dimension readSize(ImageInputStream input, String name) throws IOException {
+        ImageReader reader = getReader(input, name);
+        try {
+            reader.setInput(input, true, true);
+            return new Dimension(reader.getWidth(0), reader.getHeight(0));
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Decodes the image at {@code file} skipping rows and columns, so that neither side of the result is longer
+     * than about {@code maxDimension}. Only the pixels that are kept are decoded, which makes this much faster
+     * than decoding the whole image and scaling it down.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static BufferedImage readSubsampled(File file, int maxDimension) throws IOException {
+        requireNonNull(file);
+        AppUtil.checkArgument(maxDimension > 0, "Maximum dimension must be positive");
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            ImageReader reader = getReader(input, file.getName());
+            try {
+                reader.setInput(input, true, true);
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, (longestSide + maxDimension - 1) / maxDimension);
+                return decode(reader, null, subsampling);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Decodes only {@code region} of the image at {@code file}, keeping one pixel in {@code subsampling} along
+     * each axis. The region is clipped to the image.
+     * @throws IOException if the file cannot be read, is not a supported image or the region lies outside it.
+     */
+    public static BufferedImage readRegion(File file, Rectangle region, int subsampling) throws IOException {
+        requireNonNull(file);
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            return readRegion(input, file.getName(), region, subsampling);
+        }
+    }
+
+    /**
+     * Decodes only {@code region} of the encoded image {@code content}, as {@link #readRegion(File, Rectangle, int)}
+     * does, so that an image downloaded into memory is decoded without being written to disk first.
+     * @throws IOException if {@code content} is not a supported image or the region lies outside it.
+     */
+    public static BufferedImage readRegion(byte[] content, Rectangle region, int subsampling) throws IOException {
+        requireNonNull(content);
+        try (ImageInputStream input = openStream(content)) {
+            return readRegion(input, "image in memory", region, subsampling);
+        }
+    }
+
+    /**
+     * Decodes only {@code region} of the image in {@code input}, called {@code name} in errors.
+     */
+    private static BufferedImage readRegion(ImageInputStream input, String name, Rectangle region, int subsampling)
+            throws IOException {
+        requireNonNull(region);
+        AppUtil.checkArgument(subsampling > 0, "Subsampling must be positive");
+        ImageReader reader = getReader(input, name);
+        try {
+            reader.setInput(input, true, true);
+            Rectangle clipped = region.intersection(new Rectangle(0, 0, reader.getWidth(0), reader.getHeight(0)));
+            if (clipped.isEmpty()) {
+                throw new IOException("Region " + region + " lies outside " + name);
+            }
+            return decode(reader, clipped, subsampling);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Returns a stream over {@code content} that is buffered in memory, as ImageIO would otherwise cache it in a
+     * temporary file.
+     */
+    private static ImageInputStream openStream(byte[] content) {
+        return new MemoryCacheImageInputStream(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Decodes {@code region} of the first image of {@code reader}, or all of it if {@code region} is null.
+     * The reader decodes straight into {@code TYPE_INT_ARGB} when it supports it, so that no conversion is needed.
+     */
+    private static BufferedImage decode(ImageReader reader, Rectangle region, int subsampling) throws IOException {
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        if (region != null) {
+            param.setSourceRegion(region);
+        }
+        Iterator<ImageTypeSpecifier> types = reader.getImageTypes(0);
+        while (types.hasNext()) {
+            ImageTypeSpecifier type = types.next();
+            if (type.getBufferedImageType() == BufferedImage.TYPE_INT_ARGB) {
+                param.setDestinationType(type);
+                break;
+            }
+        }
+        return toIntArgb(reader.read(0, param));
+    }
+
+    /**
+     * Returns a reader for the image in {@code input}, called {@code name} in errors.
+     * @throws IOException if the image is not in a supported format.
+     */
+    private static ImageReader getReader(ImageInputStream input, String name) throws IOException {
+        Iterator<ImageReader> readers = (input == null) ? null : ImageIO.getImageReaders(input);
+        if (readers == null || !readers.hasNext()) {
+            throw new IOException("Unsupported image format: " + name);
+        }
+        return readers.next();
+    }
+
+    /**
+     * Returns {@code image} unchanged if it is already a packed {@code TYPE_INT_ARGB} image, as described by
+     * {@link #isPacked(BufferedImage)}, otherwise a converted copy.
+     */
+    public static BufferedImage toIntArgb(BufferedImage image) {
+        requireNonNull(image);
+        if (isPacked(image)) {
+            return image;
+        }
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = converted.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return converted;
+    }
+
+    /**
+     * Encodes {@code image} in {@code format}, e.g. {@code "png"}, into {@code output}. Formats that cannot store an
+     * alpha channel, such as JPEG, get the image composited onto white, as ImageMagick does when it flattens.
+     * @throws IOException if there is no encoder for {@code format} or writing to {@code output} fails.
+     */
+    public static void encode(BufferedImage image, String format, OutputStream output) throws IOException {
+        requireNonNull(image);
+        requireNonNull(format);
+        BufferedImage encodable = image;
+        if (image.getColorModel().hasAlpha() && !canStoreAlpha(image, format)) {
+            encodable = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = encodable.createGraphics();
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+            g.dispose();
+        }
+        if (!ImageIO.write(encodable, format, output)) {
+            throw new IOException("Unsupported image format: " + format);
+        }
+    }
+
+    /**
+     * Returns true if {@code format} has an encoder that keeps the alpha channel of {@code image}. JPEG encoders of
+     * some versions of Java accept an alpha channel, but write it as a fourth colour channel that viewers misread.
+     */
+    private static boolean canStoreAlpha(BufferedImage image, String format) {
+        if (format.equalsIgnoreCase("jpg") || format.equalsIgnoreCase("jpeg")) {
+            return false;
+        }
+        return ImageIO.getImageWriters(ImageTypeSpecifier.createFromRenderedImage(image), format).hasNext();
+    }
+
+    /**
+     * Returns true if {@code image} is {@code TYPE_INT_ARGB} and its backing array holds exactly its pixels, row by
+     * row from the first element, with a scanline stride equal to its width. Images returned by
+     * {@link BufferedImage#getSubimage(int, int, int, int)}, for example, share the array of a larger image and are
+     * not packed.
+     */
+    public static boolean isPacked(BufferedImage image) {
+        requireNonNull(image);
+        if (image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            return false;
+        }
+        WritableRaster raster = image.getRaster();
+        if (!(raster.getSampleModel() instanceof SinglePixelPackedSampleModel)
+                || raster.getSampleModelTranslateX() != 0 || raster.getSampleModelTranslateY() != 0) {
+            return false;
+        }
+        SinglePixelPackedSampleModel model = (SinglePixelPackedSampleModel) raster.getSampleModel();
+        return model.getScanlineStride() == image.getWidth() && raster.getDataBuffer().getOffset() == 0;
+    }
+
+    /**
+     * Returns the pixels of a {@code TYPE_INT_ARGB} image, laid out row by row with a scanline stride equal to the
+     * image width. The backing array of a packed image is returned without copying, so writing to it changes the
+     * image; any other image gets a copy of its pixels, which does not.
+     */
+    public static int[] getPixels(BufferedImage image) {
+        requireNonNull(image);
+        AppUtil.checkArgument(image.getType() == BufferedImage.TYPE_INT_ARGB, "Image must be TYPE_INT_ARGB");
+        if (!isPacked(image)) {
+            return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        }
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * Returns the smallest rectangle containing every pixel that differs between {@code previous} and
+     * {@code next}, or null if the two frames are identical. Both images must be {@code TYPE_INT_ARGB}
+     * and of the same size.
+     */
+    public static Rectangle getDirtyBounds(BufferedImage previous, BufferedImage next) {
+        int width = next.getWidth();
+        int height = next.getHeight();
+        AppUtil.checkArgument(previous.getWidth() == width && previous.getHeight() == height,
+                "Frames must be of the same size");
+        int[] before = getPixels(previous);
+        int[] after = getPixels(next);
+
+        int top = -1;
+        int bottom = -1;
+        int left = width;
+        int right = -1;
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int x = 0;
+            while (x < width && before[row + x] == after[row + x]) {
+                x++;
+            }
+            if (x == width) {
+                continue;
+            }
+            left = Math.min(left, x);
+            int end = width - 1;
+            while (end > right && before[row + end] == after[row + end]) {
+                end--;
+            }
+            right = Math.max(right, end);
+            if (top < 0) {
+                top = y;
+            }
+            bottom = y;
+        }
+
+        if (top < 0) {
+            return null;
+        }
+        return new Rectangle(left, top, right - left + 1, bottom - top + 1);
+    }
+}
@@ -5,6 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 
 /**
@@ -65,4 +68,36 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code bytes} as lower case hexadecimal, two digits per byte.
+     */
+    public static String toHex(byte[] bytes) {
+        requireNonNull(bytes);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Returns the SHA-1 digest of the UTF-8 encoding of {@code s}, in hexadecimal.
+     */
+    public static String sha1Hex(String s) {
+        requireNonNull(s);
+        return toHex(newSha1().digest(s.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns a new SHA-1 {@code MessageDigest}.
+     */
+    public static MessageDigest newSha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new AssertionError(e);
+        }
+    }
 }
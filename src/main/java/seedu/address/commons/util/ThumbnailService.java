@@ -0,0 +1,278 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.storage.ThumbnailStorage;
+
+//@@author chivent
+/**
+ * Produces thumbnails of images for the film reel without blocking the caller.
+ * Thumbnails are looked up in an in-memory LRU cache, then in a {@link ThumbnailStorage} on disk, and only
+ * decoded from the source image, with subsampling, when neither has them. Decoding happens on a pool of worker
+ * threads; a request can be cancelled through the {@code Future} it returns, e.g. when a list cell is reused
+ * for another image before its thumbnail arrived.
+ * Thumbnails of remote images, such as those in Google Photos, are downloaded already scaled by the server and
+ * kept in the same caches by the id of the image, so browsing a remote album never downloads the originals.
+ */
+public class ThumbnailService {
+
+    /** Longest side of a thumbnail. */
+    public static final int THUMBNAIL_SIZE = 256;
+    /** Bytes of pixels the in-memory cache may hold. */
+    public static final long MEMORY_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ThumbnailService.class);
+    private static final ThumbnailService instance = new ThumbnailService(
+            new ThumbnailStorage(ThumbnailStorage.DEFAULT_DIRECTORY),
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2), MEMORY_BUDGET_BYTES);
+
+    private final ThumbnailStorage storage;
+    private final RemoteFetcher fetcher;
+    private final ExecutorService workers;
+    private final long memoryBudget;
+    // access ordered, so iteration starts from the least recently used thumbnail
+    private final LinkedHashMap<Key, BufferedImage> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryUsed;
+
+    ThumbnailService(ThumbnailStorage storage, int threads, long memoryBudget) {
+        this(storage, threads, memoryBudget, MediaDownloader.getInstance()::download);
+    }
+
+    ThumbnailService(ThumbnailStorage storage, int threads, long memoryBudget, RemoteFetcher fetcher) {
+        this.storage = requireNonNull(storage);
+        this.fetcher = requireNonNull(fetcher);
+        this.memoryBudget = memoryBudget;
+        AtomicInteger count = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-worker-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static ThumbnailService getInstance() {
+        return instance;
+    }
+
+    /**
+     * Hands the thumbnail of the image at {@code path}, no longer than {@code size} on either side, to
+     * {@code callback}. If it is in memory the callback runs before this method returns, otherwise it runs on
+     * a worker thread once the thumbnail is loaded. The callback is not run if the image cannot be read.
+     * @return a future that can be cancelled if the thumbnail is no longer needed.
+     */
+    public Future<?> request(Path path, int size, Consumer<BufferedImage> callback) {
+        requireNonNull(callback);
+        AppUtil.checkArgument(size > 0, "Thumbnail size must be positive");
+        Key key;
+        try {
+            key = new Key(path, size, Files.getLastModifiedTime(path).toMillis());
+        } catch (IOException e) {
+            logger.warning("Unable to read " + path + ": " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        BufferedImage cached = getFromMemory(key);
+        if (cached != null) {
+            callback.accept(cached);
+            return CompletableFuture.completedFuture(null);
+        }
+        return workers.submit(() -> {
+            Optional<BufferedImage> thumbnail = load(key);
+            if (thumbnail.isPresent() && !Thread.currentThread().isInterrupted()) {
+                callback.accept(thumbnail.get());
+            }
+        });
+    }
+
+    /**
+     * Hands the thumbnail of the remote image with id {@code remoteId}, no longer than {@code size} on either side,
+     * to {@code callback}, the same way as {@link #request(Path, int, Consumer)}. A thumbnail that is not cached is
+     * downloaded from {@code source}, which should already be scaled to about {@code size} by the server.
+     * @return a future that can be cancelled if the thumbnail is no longer needed.
+     */
+    public Future<?> requestRemote(String remoteId, URL source, int size, Consumer<BufferedImage> callback) {
+        requireNonNull(source);
+        requireNonNull(callback);
+        AppUtil.checkArgument(size > 0, "Thumbnail size must be positive");
+        Key key = new Key(remoteId, size, 0);
+
+        BufferedImage cached = getFromMemory(key);
+        if (cached != null) {
+            callback.accept(cached);
+            return CompletableFuture.completedFuture(null);
+        }
+        return workers.submit(() -> {
+            Optional<BufferedImage> thumbnail = loadRemote(key, remoteId, source);
+            if (thumbnail.isPresent() && !Thread.currentThread().isInterrupted()) {
+                callback.accept(thumbnail.get());
+            }
+        });
+    }
+
+    /**
+     * Loads the thumbnail for {@code key} of the remote image {@code remoteId} from disk, or downloads it from
+     * {@code source} and stores it, and caches it in memory.
+     */
+    private Optional<BufferedImage> loadRemote(Key key, String remoteId, URL source) {
+        Optional<BufferedImage> thumbnail = storage.readRemoteThumbnail(remoteId, key.size);
+        if (!thumbnail.isPresent()) {
+            try {
+                Path download = Files.createTempFile("thumbnail", ".download");
+                try {
+                    fetcher.fetch(source, download);
+                    thumbnail = Optional.of(createThumbnail(download, key.size));
+                } finally {
+                    Files.deleteIfExists(download);
+                }
+            } catch (IOException e) {
+                logger.warning("Unable to download thumbnail of " + remoteId + ": " + e.getMessage());
+                return Optional.empty();
+            }
+            try {
+                storage.saveRemoteThumbnail(remoteId, key.size, thumbnail.get());
+            } catch (IOException e) {
+                logger.fine("Unable to store thumbnail of " + remoteId + ": " + e.getMessage());
+            }
+        }
+        putInMemory(key, thumbnail.get());
+        return thumbnail;
+    }
+
+    /**
+     * Loads the thumbnail for {@code key} from disk, or decodes and stores it, and caches it in memory.
+     */
+    private Optional<BufferedImage> load(Key key) {
+        Path path = (Path) key.source;
+        Optional<BufferedImage> thumbnail = storage.readThumbnail(path, key.size);
+        if (!thumbnail.isPresent()) {
+            try {
+                thumbnail = Optional.of(createThumbnail(path, key.size));
+            } catch (IOException e) {
+                logger.warning("Unable to create thumbnail of " + path + ": " + e.getMessage());
+                return Optional.empty();
+            }
+            try {
+                storage.saveThumbnail(path, key.size, thumbnail.get());
+            } catch (IOException e) {
+                logger.fine("Unable to store thumbnail of " + path + ": " + e.getMessage());
+            }
+        }
+        putInMemory(key, thumbnail.get());
+        return thumbnail;
+    }
+
+    /**
+     * Decodes the image at {@code path} subsampled close to {@code size} and scales it to fit within {@code size}.
+     */
+    static BufferedImage createThumbnail(Path path, int size) throws IOException {
+        BufferedImage decoded = RasterUtil.readSubsampled(path.toFile(), size);
+        int longestSide = Math.max(decoded.getWidth(), decoded.getHeight());
+        if (longestSide <= size) {
+            return decoded;
+        }
+        double scale = (double) size / longestSide;
+        BufferedImage thumbnail = new BufferedImage(Math.max(1, (int) Math.round(decoded.getWidth() * scale)),
+                Math.max(1, (int) Math.round(decoded.getHeight() * scale)), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = thumbnail.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(decoded, 0, 0, thumbnail.getWidth(), thumbnail.getHeight(), null);
+        g.dispose();
+        return thumbnail;
+    }
+
+    private synchronized BufferedImage getFromMemory(Key key) {
+        return memory.get(key);
+    }
+
+    /**
+     * Caches {@code thumbnail} in memory, evicting the least recently used thumbnails to stay within budget.
+     */
+    private synchronized void putInMemory(Key key, BufferedImage thumbnail) {
+        BufferedImage previous = memory.put(key, thumbnail);
+        if (previous != null) {
+            memoryUsed -= getBytes(previous);
+        }
+        memoryUsed += getBytes(thumbnail);
+        Iterator<Map.Entry<Key, BufferedImage>> eldest = memory.entrySet().iterator();
+        while (memoryUsed > memoryBudget && eldest.hasNext()) {
+            memoryUsed -= getBytes(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    synchronized int getMemoryCount() {
+        return memory.size();
+    }
+
+    private static long getBytes(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Downloads a remote image to a file.
+     */
+    @FunctionalInterface
+    interface RemoteFetcher {
+        void fetch(URL source, Path target) throws IOException;
+    }
+
+    /**
+     * Identifies a thumbnail in memory, by the path of a local image or the id of a remote one. The modification
+     * time is part of the key so that an image edited outside the app is decoded again.
+     */
+    private static class Key {
+        private final Object source;
+        private final int size;
+        private final long lastModified;
+
+        Key(Path path, int size, long lastModified) {
+            this.source = path.toAbsolutePath().normalize();
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        Key(String remoteId, int size, long lastModified) {
+            this.source = "remote:" + requireNonNull(remoteId);
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return source.equals(key.source) && size == key.size && lastModified == key.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, size, lastModified);
+        }
+    }
+}
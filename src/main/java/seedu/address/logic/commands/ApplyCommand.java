@@ -13,6 +13,7 @@ import seedu.address.commons.util.ImageMagickUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.PreviewImage;
 import seedu.address.model.transformation.Transformation;
 
 
@@ -56,6 +57,9 @@ public class ApplyCommand extends Command {
 
     /**
      * build a new processbuilder and initialize witht the commands need to the apply command
+     * When the canvas has proxies enabled, the transformation is scaled and applied to the proxy only,
+     * and the full resolution image is rendered in the background.
+     * Raw and customised operations cannot be scaled, so they are always applied at full resolution.
      * @param model {@code Model} which the command should operate on.
      * @param history {@code CommandHistory} which the command should operate on.
      * @return
@@ -65,10 +69,20 @@ public class ApplyCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
         try {
-            BufferedImage modifiedImage = ImageMagickUtil.processImage(model.getCurrentPreviewImagePath(),
-                    transformation, isRaw);
-            model.addTransformation(isRaw ? new Transformation(transformation.getOperation()) : transformation);
-            model.updateCurrentPreviewImage(modifiedImage);
+            PreviewImage previewImage = model.getCurrentPreviewImage();
+            if (model.getCanvas().isProxyEnabled() && !isRaw && transformation.isScalable()) {
+                // arguments are validated before scaling, as scaled down values may fall within bounds
+                ImageMagickUtil.checkOperationArguments(transformation);
+                BufferedImage modifiedProxy = ImageMagickUtil.processImage(previewImage.getProxyPath(),
+                        transformation.scale(previewImage.getProxyScale()), false);
+                model.addTransformation(transformation);
+                model.updateCurrentPreviewProxy(modifiedProxy, transformation);
+            } else {
+                BufferedImage modifiedImage = ImageMagickUtil.processImage(model.getCurrentPreviewImagePath(),
+                        transformation, isRaw);
+                model.addTransformation(isRaw ? new Transformation(transformation.getOperation()) : transformation);
+                model.updateCurrentPreviewImage(modifiedImage);
+            }
             ImageMagickUtil.render(model.getCanvas(), logger, "preview");
         } catch (IllegalOperationException e) {
             throw new CommandException(e.getMessage());
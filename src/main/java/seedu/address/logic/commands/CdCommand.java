@@ -7,6 +7,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
@@ -26,6 +30,11 @@ public class CdCommand extends Command {
             + "Example: " + COMMAND_WORD + " Desktop/piconso";
 
     public static final String MESSAGE_FAILURE = "The system cannot find the path specified.";
+    public static final String MESSAGE_LISTING = "Listing the images of the directory, they are shown in the film "
+            + "reel as they are found.";
+
+    /** Time to wait for a directory to be listed before its images are left to show up in the film reel. */
+    private static final long LISTING_WAIT_MILLIS = 200;
 
     private final Path toDirectories;
 
@@ -41,6 +50,7 @@ public class CdCommand extends Command {
         String newDir = currDirectory + "/" + toDirectories.toString();
 
         Path newCurrDirectory = Paths.get("");
+        CompletableFuture<Void> listing = CompletableFuture.completedFuture(null);
         File dir;
         try {
             if (toDirectories.isAbsolute()) {
@@ -53,15 +63,37 @@ public class CdCommand extends Command {
                 return new CommandResult(MESSAGE_FAILURE);
             }
             newCurrDirectory = dir.toPath().toRealPath();
-            model.updateCurrDirectory(newCurrDirectory);
+            listing = model.updateCurrDirectory(newCurrDirectory);
         } catch (IOException ioe) {
             ioe.printStackTrace();
         }
 
+        if (!isListed(listing)) {
+            return new CommandResult(newCurrDirectory.toString() + "\n" + MESSAGE_LISTING);
+        }
         return new CommandResult(newCurrDirectory.toString() + "\n"
                 + String.format(Messages.MESSAGE_TOTAL_IMAGES_IN_DIR, model.getTotalImagesInDir())
-                + String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH,
-                Math.min(model.getDirectoryImageList().size(), OpenCommand.BATCH_SIZE)));
+                + String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH, model.getDirectoryImageList().size()));
+    }
+
+    /**
+     * Waits a moment for the directory to be listed, so that the images of a small directory can be counted while
+     * a large one does not hold up the film reel, which shows its first batch as soon as it is found.
+     * @return true if the directory is listed.
+     */
+    private static boolean isListed(CompletableFuture<Void> listing) {
+        try {
+            listing.get(LISTING_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // a directory that cannot be listed has no images
+            return true;
+        }
     }
 
     public Path getPath() {
@@ -0,0 +1,75 @@
+//@@author benedictcss
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.PerceptualHash;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.DuplicateFinder;
+import seedu.address.model.Model;
+
+/**
+ * Looks for duplicate and near-duplicate images in the current directory, e.g. the frames of a burst, and shows
+ * them in the film reel group by group.
+ */
+public class DedupeCommand extends Command {
+
+    public static final String COMMAND_WORD = "dedupe";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows groups of duplicate and near-duplicate images in the current directory.\n"
+            + "Parameters: [MAX_DISTANCE] (0 to " + PerceptualHash.BITS + ", how different two images of a group "
+            + "may be, " + DuplicateFinder.DEFAULT_MAX_DISTANCE + " if left out, 0 for identical looking images)\n"
+            + "Example: " + COMMAND_WORD + " 10";
+
+    public static final String MESSAGE_SEARCHING = "Looking for duplicates among %d images in the background...";
+    public static final String MESSAGE_FOUND = "%d groups of duplicates found, %d images in total.\n"
+            + "Use `find` without criteria to show every image again.";
+    public static final String MESSAGE_NONE_FOUND = "No duplicates found.";
+    public static final String MESSAGE_FAILURE = "Unable to look for duplicates.";
+
+    private final int maxDistance;
+
+    public DedupeCommand(int maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        int total = model.getTotalImagesInDir();
+        model.findDuplicates(maxDistance).whenComplete((groups, error) -> {
+            String message = (error != null) ? MESSAGE_FAILURE : getResultMessage(groups);
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(message));
+        });
+        return new CommandResult(String.format(MESSAGE_SEARCHING, total));
+    }
+
+    /**
+     * Returns the message shown once {@code groups} were found.
+     */
+    static String getResultMessage(List<List<Path>> groups) {
+        if (groups.isEmpty()) {
+            return MESSAGE_NONE_FOUND;
+        }
+        int images = groups.stream().mapToInt(List::size).sum();
+        return String.format(MESSAGE_FOUND, groups.size(), images);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DedupeCommand // instanceof handles nulls
+                && maxDistance == ((DedupeCommand) other).maxDistance); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return maxDistance;
+    }
+}
@@ -0,0 +1,57 @@
+//@@author benedictcss
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.ImageQuery;
+import seedu.address.model.Model;
+
+/**
+ * Shows only the images of the current directory that match the given criteria.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows only the images of the current directory that match all the given criteria.\n"
+            + "Parameters: [NAME]... [name/NAME]... [ext/EXTENSION]... [size/RANGE] [width/RANGE] [height/RANGE] "
+            + "[date/RANGE]\n"
+            + "A NAME matches the start of a file name, or the whole name if it contains * or ?. "
+            + "A RANGE is VALUE, MIN..MAX, MIN.. or ..MAX, with sizes in B, KB, MB or GB "
+            + "and dates as YYYY, YYYY-MM or YYYY-MM-DD.\n"
+            + "Without parameters, every image is shown again.\n"
+            + "Example: " + COMMAND_WORD + " IMG_* ext/jpg size/2MB.. date/2018-06..2018-08";
+
+    public static final String MESSAGE_FOUND = "%d images found.\n";
+
+    private final ImageQuery query;
+
+    public FindCommand(ImageQuery query) {
+        this.query = requireNonNull(query);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        int found = model.findImages(query);
+        String result = query.isEmpty() ? String.format(Messages.MESSAGE_TOTAL_IMAGES_IN_DIR, found)
+                : String.format(MESSAGE_FOUND, found);
+        return new CommandResult(result
+                + String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH, model.getDirectoryImageList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindCommand // instanceof handles nulls
+                && query.equals(((FindCommand) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+}
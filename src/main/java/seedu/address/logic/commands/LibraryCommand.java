@@ -0,0 +1,82 @@
+//@@author benedictcss
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Library;
+import seedu.address.model.Model;
+
+/**
+ * Opens a directory and all the folders under it as one library of images.
+ */
+public class LibraryCommand extends Command {
+
+    public static final String COMMAND_WORD = "library";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Opens a directory and all the folders under it as one library of images.\n"
+            + "Parameters: [FILEPATH] (existing directory, the current directory if left out)\n"
+            + "Example: " + COMMAND_WORD + " Pictures/2018";
+
+    public static final String MESSAGE_FAILURE = "The system cannot find the path specified.";
+    public static final String MESSAGE_SCANNING = "Scanning the library %s, the images will be shown as soon as "
+            + "the scan completes.";
+    public static final String MESSAGE_OPENED = "Opened the library %s, checking for changes in the background.\n"
+            + "Folders with images: %d\n";
+
+    private final Path toDirectories;
+
+    public LibraryCommand(Path directories) {
+        this.toDirectories = requireNonNull(directories);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        File dir = toDirectories.isAbsolute() ? toDirectories.toFile()
+                : new File(model.getCurrDirectory().toString() + "/" + toDirectories.toString());
+        if (!dir.isDirectory()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        Path root;
+        try {
+            root = dir.toPath().toRealPath();
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.openLibrary(root);
+        Optional<Library> library = model.getLibrary().filter(opened -> opened.getRoot().equals(root));
+        if (!library.isPresent()) {
+            return new CommandResult(String.format(MESSAGE_SCANNING, root));
+        }
+        return new CommandResult(String.format(MESSAGE_OPENED, root, library.get().getFolderCounts().size())
+                + String.format(Messages.MESSAGE_TOTAL_IMAGES_IN_DIR, model.getTotalImagesInDir())
+                + String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH, model.getDirectoryImageList().size()));
+    }
+
+    public Path getPath() {
+        return toDirectories;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LibraryCommand // instanceof handles nulls
+                && toDirectories.equals(((LibraryCommand) other).toDirectories)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return toDirectories.hashCode();
+    }
+}
@@ -27,9 +27,11 @@ public class LogoutCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
-        model.setPhotoHandler(null);
-
         try {
+            // a login still going on in the background would log back in after this
+            model.getUserLoggedIn();
+            model.setPhotoHandler(null);
+
             if (PhotosLibraryClientFactory.checkUserLogin()) {
                 PhotosLibraryClientFactory.logoutUserIfPossible();
                 EventsCenter.getInstance().post(new LogoutStatusEvent());
@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_EMPTY_DIR;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_DIR;
 
-import java.io.File;
-import javax.activation.MimetypesFileTypeMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import seedu.address.commons.core.EventsCenter;
-import seedu.address.commons.events.ui.UpdateFilmReelEvent;
+import seedu.address.commons.util.DirectoryScanner;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 
@@ -22,44 +27,76 @@ public class LsCommand extends Command {
     public static final String COMMAND_WORD = "ls";
 
     public static final String MESSAGE_FAILURE = "Unable to list files in current directory";
+    public static final String MESSAGE_DIMENSIONS = " (%dx%d)";
+    public static final String MESSAGE_READING_DIMENSIONS = "Dimensions of the other images are being read.";
+
+    private static final long READING_WAIT_MILLIS = 200;
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         StringBuffer fileNames = new StringBuffer();
 
-        File dir = new File(model.getCurrDirectory().toString());
-
         try {
-            File[] fileList = dir.listFiles();
-            for (File file : fileList) {
-                if (file.isFile()) {
-
-                    String mimetype = new MimetypesFileTypeMap().getContentType(file);
-                    // only list if is image
-                    if ((mimetype.split("/")[0]).equals("image")) {
-                        fileNames.append(file.getName());
-                        fileNames.append("   \n");
-                    }
+            // only list images, with their dimensions, and directories
+            List<DirectoryScanner.Entry> entries = new ArrayList<>();
+            List<Path> unread = new ArrayList<>();
+            DirectoryScanner.scan(model.getCurrDirectory(), entry -> {
+                if (entry.isImage() || entry.isDirectory()) {
+                    entries.add(entry);
+                }
+                if (entry.isImage()
+                        && !model.getCachedImageMetadata(entry.getPath(), entry.getAttributes()).isPresent()) {
+                    unread.add(entry.getPath());
+                }
+            });
+            boolean isRead = unread.isEmpty() || isRead(model.readImageMetadata(unread));
 
-                } else if (file.isDirectory()) {
-                    fileNames.append(file.getName());
-                    fileNames.append("   \n");
+            for (DirectoryScanner.Entry entry : entries) {
+                fileNames.append(entry.getPath().getFileName());
+                if (entry.isImage()) {
+                    model.getCachedImageMetadata(entry.getPath(), entry.getAttributes()).ifPresent(metadata ->
+                            fileNames.append(String.format(MESSAGE_DIMENSIONS, metadata.getWidth(),
+                                    metadata.getHeight())));
                 }
+                fileNames.append("   \n");
+            }
+            if (!isRead) {
+                fileNames.append(MESSAGE_READING_DIMENSIONS);
             }
 
             if (fileNames.toString().isEmpty()) {
                 fileNames.append(MESSAGE_EMPTY_DIR);
             } else {
-                EventsCenter.getInstance().post(new UpdateFilmReelEvent(model.getDirectoryImageList()));
+                model.updateEntireImageList();
             }
 
             return new CommandResult(fileNames.toString());
-        } catch (NullPointerException e) {
+        } catch (IOException e) {
             return new CommandResult(MESSAGE_INVALID_FILE_DIR);
         } catch (Exception ex) {
             return new CommandResult(ex.getMessage());
         }
 
     }
+
+    /**
+     * Waits a moment for the metadata of the images to be read, so that the dimensions of a small directory are
+     * listed while the names of a large one are listed at once, its metadata being read in the background.
+     * @return true if the metadata is read.
+     */
+    private static boolean isRead(CompletableFuture<Void> reading) {
+        try {
+            reading.get(READING_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // images whose metadata cannot be read are listed without dimensions
+            return true;
+        }
+    }
 }
@@ -3,35 +3,42 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
 
-import javafx.scene.image.Image;
 import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.ui.ChangeImageEvent;
 import seedu.address.commons.events.ui.FilmReelSelectionChangeEvent;
+import seedu.address.commons.util.ProgressiveRenderer;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.google.RemoteAlbum;
+import seedu.address.model.google.RemoteImage;
 
 /**
- * Selects the image identified by the index number in the current batch.
+ * Selects the image identified by the index number in the current directory, moving to its batch if needed.
+ * While a remote album is shown in the film reel, the image is selected from it instead.
  */
 public class OpenCommand extends Command {
 
     public static final String COMMAND_WORD = "open";
-    public static final int BATCH_SIZE = 10;
-
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Opens the image identified by the index number in the current batch.\n"
-            + "Parameters: INDEX (1 - 10)\n"
+            + ": Opens the image identified by the index number in the current directory.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_OPEN_IMAGE_SUCCESS = "Selected image: %1$s";
+    public static final String MESSAGE_OPEN_FAILURE = "Unable to open %1$s, it may not be a supported image.";
+    public static final String MESSAGE_OPEN_REMOTE_FAILURE = "Unable to download %1$s, try g view again.";
+
+    private static final Logger logger = LogsCenter.getLogger(OpenCommand.class);
 
     private final Index targetIndex;
 
@@ -42,37 +49,67 @@ public class OpenCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
+        long start = System.nanoTime();
 
-        List<Path> dirImageList = model.getDirectoryImageList();
+        Optional<RemoteAlbum> remoteAlbum = model.getRemoteAlbum();
+        if (remoteAlbum.isPresent()) {
+            return openRemote(model, remoteAlbum.get(), start);
+        }
 
-        if (targetIndex.getZeroBased() >= model.numOfRemainingImagesInDir()) {
+        if (targetIndex.getZeroBased() >= model.getTotalImagesInDir()) {
             throw new CommandException(Messages.MESSAGE_INDEX_END_OF_IMAGE_LIST);
-        } else if (targetIndex.getZeroBased() >= BATCH_SIZE) {
-            throw new CommandException(Messages.MESSAGE_INDEX_EXCEED_MAX_BATCH_SIZE);
         }
 
-
-        Path openedImagePath = dirImageList.get(targetIndex.getZeroBased());
+        Path openedImagePath = model.getImage(targetIndex);
+        model.updateImageListBatchOf(targetIndex);
 
         try {
-            String openedImage = openedImagePath.toString();
-            FileInputStream fis = new FileInputStream(openedImage);
-            Image img = new Image(fis);
-
-            model.updateCurrentOriginalImage(img, openedImagePath);
+            // only the proxy is decoded here, the full resolution image is read once an operation needs it
+            BufferedImage img = model.updateCurrentOriginalImage(openedImagePath);
+            // a refinement of the previous canvas must not replace the newly opened image
+            ProgressiveRenderer.getInstance().cancel();
             EventsCenter.getInstance().post(new FilmReelSelectionChangeEvent(targetIndex.getZeroBased()));
             EventsCenter.getInstance().post(new ChangeImageEvent(img, "preview"));
             EventsCenter.getInstance().post(new ChangeImageEvent(img, "original"));
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
+            ProgressiveRenderer.getInstance().reportFirstPixel(start);
+        } catch (IOException e) {
+            logger.warning("Unable to open " + openedImagePath + ": " + e.getMessage());
+            throw new CommandException(String.format(MESSAGE_OPEN_FAILURE, openedImagePath.getFileName()));
         }
 
         return new CommandResult(String.format(MESSAGE_OPEN_IMAGE_SUCCESS, targetIndex.getOneBased())
-                + " of " + Math.min(OpenCommand.BATCH_SIZE, model.getDirectoryImageList().size()) + "\n"
+                + " of " + model.getTotalImagesInDir() + "\n"
                 + "Image opened: " + openedImagePath.getFileName().toString());
 
     }
 
+    /**
+     * Opens the image of the remote {@code album} at the target index, downloading only a rendition the size of its
+     * proxy.
+     */
+    private CommandResult openRemote(Model model, RemoteAlbum album, long start) throws CommandException {
+        if (targetIndex.getZeroBased() >= album.size()) {
+            throw new CommandException(Messages.MESSAGE_INDEX_END_OF_IMAGE_LIST);
+        }
+
+        RemoteImage image = album.get(targetIndex.getZeroBased());
+        try {
+            BufferedImage img = model.openRemoteImage(image);
+            ProgressiveRenderer.getInstance().cancel();
+            EventsCenter.getInstance().post(new FilmReelSelectionChangeEvent(targetIndex.getZeroBased()));
+            EventsCenter.getInstance().post(new ChangeImageEvent(img, "preview"));
+            EventsCenter.getInstance().post(new ChangeImageEvent(img, "original"));
+            ProgressiveRenderer.getInstance().reportFirstPixel(start);
+        } catch (IOException e) {
+            logger.warning("Unable to open " + image.getName() + ": " + e.getMessage());
+            throw new CommandException(String.format(MESSAGE_OPEN_REMOTE_FAILURE, image.getName()));
+        }
+
+        return new CommandResult(String.format(MESSAGE_OPEN_IMAGE_SUCCESS, targetIndex.getOneBased())
+                + " of " + album.size() + " in " + album.getName() + "\n"
+                + "Image opened: " + image.getName());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
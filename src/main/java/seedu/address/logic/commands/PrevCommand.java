@@ -22,7 +22,7 @@ public class PrevCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        if (model.getCurrBatchPointer() < OpenCommand.BATCH_SIZE) {
+        if (model.getCurrBatchPointer() < model.getBatchSize()) {
             throw new CommandException(Messages.MESSAGE_NO_MORE_PREV_IMAGES);
         }
 
@@ -30,7 +30,7 @@ public class PrevCommand extends Command {
 
         return new CommandResult((String.format(Messages.MESSAGE_TOTAL_IMAGES_IN_DIR, model.getTotalImagesInDir())
                 + (String.format(Messages.MESSAGE_CURRENT_BATCH_IN_IMAGE_LIST, model.getCurrBatchPointer() + 1,
-                model.getCurrBatchPointer() + Math.min(model.numOfRemainingImagesInDir(), OpenCommand.BATCH_SIZE))
+                model.getCurrBatchPointer() + Math.min(model.numOfRemainingImagesInDir(), model.getBatchSize()))
                 + (String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH, model.getDirectoryImageList().size())))));
     }
 }
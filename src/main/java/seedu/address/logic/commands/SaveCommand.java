@@ -27,6 +27,8 @@ public class SaveCommand extends Command {
             + "Parameters: fileName\n"
             + "Example: " + COMMAND_WORD + " modified.png";
     public static final String OUTPUT_FAILURE = "Saving file as %s failed!";
+    public static final String MESSAGE_NO_ORIGINAL_FILE = "%s is not on the hard disk, save it with a file name.\n"
+            + MESSAGE_USAGE;
     private String fileName;
     private String format;
     private boolean originalFile;
@@ -56,14 +58,17 @@ public class SaveCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
+        File saveFile;
         try {
-            File saveFile;
             if (!originalFile) {
                 saveFile = new File(model.getCurrDirectory().toString() + "/" + fileName);
                 if (saveFile.exists()) {
                     throw new CommandException(Messages.MESSAGE_DUPLICATED_IMAGE);
                 }
             } else {
+                if (model.getCurrentOriginalImage() == null) {
+                    throw new CommandException(String.format(MESSAGE_NO_ORIGINAL_FILE, model.getCurrentImageName()));
+                }
                 saveFile = model.getCurrentOriginalImage().toFile();
                 fileName = saveFile.getName();
                 String[] parts = saveFile.getName().split("\\.");
@@ -77,7 +82,7 @@ public class SaveCommand extends Command {
         } catch (IOException | InterruptedException e) {
             throw new CommandException(String.format(OUTPUT_FAILURE, fileName));
         }
-        model.updateEntireImageList();
+        model.updateImageList(saveFile.toPath());
         return new CommandResult(String.format("%s successfully saved!", fileName));
     }
 
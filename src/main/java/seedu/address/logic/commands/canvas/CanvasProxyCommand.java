@@ -0,0 +1,51 @@
+package seedu.address.logic.commands.canvas;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ImageMagickUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Handles the toggling of proxy previews.
+ * Commands are in the format : canvas proxy [ON/OFF] (case-insensitive).
+ * When turned on, transformations and the preview are computed on downscaled copies of the layers,
+ * and the full resolution image is only computed in the background or when saving.
+ */
+public class CanvasProxyCommand extends CanvasCommand {
+    public static final String TYPE = COMMAND_WORD + " proxy";
+
+    public static final String MESSAGE_USAGE = "Usage of canvas proxy: "
+            + "\n- " + TYPE + " [ON/OFF]: " + "Turns proxy previews on or off."
+            + "\n\tExample: " + TYPE + " off, previews the canvas at full resolution.";
+
+    public static final String OUTPUT_SUCCESS = "Proxy previews have been turned %s.";
+    public static final String OUTPUT_FAILURE = "Invalid operation %s!";
+
+    private static final Logger logger = LogsCenter.getLogger(CanvasProxyCommand.class);
+
+    public CanvasProxyCommand(String args) {
+        super(args);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (args.equalsIgnoreCase("on")) {
+            model.setCanvasProxy(true);
+            ImageMagickUtil.render(model.getCanvas(), logger, "preview");
+            return new CommandResult(String.format(OUTPUT_SUCCESS, args.toLowerCase()));
+        }
+        if (args.equalsIgnoreCase("off")) {
+            model.setCanvasProxy(false);
+            ImageMagickUtil.render(model.getCanvas(), logger, "preview");
+            return new CommandResult(String.format(OUTPUT_SUCCESS, args.toLowerCase()));
+        }
+        throw new CommandException(String.format(OUTPUT_FAILURE, args.toLowerCase())
+                + "\n\n"
+                + MESSAGE_USAGE
+        );
+    }
+}
@@ -5,8 +5,15 @@ package seedu.address.logic.commands.google;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_CONNECTION_FAILURE;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.google.api.gax.rpc.ApiException;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.DownloadProgressEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,6 +25,8 @@ import seedu.address.model.Model;
 public class GoogleDlCommand extends GoogleCommand {
 
     public static final String MESSAGE_SUCCESS = "%s downloaded into %s";
+    public static final String MESSAGE_ALBUM_STARTED = "Downloading the album %s into %s in the background...";
+    public static final String MESSAGE_ALBUM_FAILURES = "\n%d images could not be downloaded:";
     public static final String MESSAGE_FAILURE = "%s failed to download."
             + " Remember to type a valid name in the right format!";
     public static final String TYPE = "dl";
@@ -60,7 +69,8 @@ public class GoogleDlCommand extends GoogleCommand {
                     model.getPhotoHandler(true).downloadAlbumImage(albumName, parameter, currDir);
                 } else {
                     parameter = parameter.substring(START_INDEX, parameter.length() - 1);
-                    model.getPhotoHandler(true).downloadWholeAlbum(parameter, currDir);
+                    downloadWholeAlbum(model, parameter, currDir);
+                    return new CommandResult(String.format(MESSAGE_ALBUM_STARTED, parameter, currDir));
                 }
 
             } else if (parameter.startsWith("/i")) {
@@ -86,6 +96,37 @@ public class GoogleDlCommand extends GoogleCommand {
         return new CommandResult(String.format(MESSAGE_SUCCESS, parameter, model.getCurrDirectory().toString()));
     }
 
+    /**
+     * Starts downloading the album {@code albumName} into {@code currDir}, posting its progress to the status bar
+     * and a summary to the result display once it is over.
+     */
+    private static void downloadWholeAlbum(Model model, String albumName, String currDir) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        model.getPhotoHandler(true).downloadWholeAlbum(albumName, currDir, (target, isSuccess, completed, total) -> {
+            int failed = isSuccess ? failures.get() : failures.incrementAndGet();
+            EventsCenter.getInstance().post(new DownloadProgressEvent(albumName, completed, failed, total));
+        }).whenComplete((failed, error) -> {
+            model.updateEntireImageList();
+            String message = (error != null) ? String.format(MESSAGE_FAILURE, albumName)
+                    : getAlbumResultMessage(albumName, currDir, failed);
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(message));
+        });
+    }
+
+    /**
+     * Returns the message shown once an album was downloaded, listing the images that failed.
+     */
+    private static String getAlbumResultMessage(String albumName, String currDir, List<Path> failed) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, albumName, currDir));
+        if (!failed.isEmpty()) {
+            message.append(String.format(MESSAGE_ALBUM_FAILURES, failed.size()));
+            for (Path image : failed) {
+                message.append("\n").append(image.getFileName());
+            }
+        }
+        return message.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -5,29 +5,41 @@ package seedu.address.logic.commands.google;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_CONNECTION_FAILURE;
 
-import java.util.List;
-
 import com.google.api.gax.rpc.ApiException;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.google.PagedListing;
+import seedu.address.model.google.PhotoHandler;
 
 /**
- * Handles listing of files from Google Photos
+ * Handles listing of files from Google Photos, a screen at a time, showing the first names as soon as they arrive
  */
 public class GoogleLsCommand extends GoogleCommand {
 
     public static final String FAILURE_MESSAGE = "Failed to list";
+    public static final String EMPTY_MESSAGE = "Empty! No images to be displayed";
+    public static final String LOADING_MESSAGE = "\nRetrieving more...";
+    public static final String MORE_MESSAGE = "\nShowing %d to %d, type " + COMMAND_WORD + " ls more to see more";
+    public static final String STOPPED_MESSAGE = "Stopped listing.";
+    public static final String INCOMPLETE_MESSAGE = "\nThe rest could not be retrieved, type " + COMMAND_WORD
+            + " ls to try again";
     public static final String TYPE = "ls";
+    public static final String MORE = "more";
+    public static final String STOP = "stop";
     public static final String FULL_CMD = COMMAND_WORD + " " + TYPE;
     public static final String MESSAGE_USAGE = "Usage of google list (requires an internet connection): "
             + "\n- " + FULL_CMD + " Lists all photos in Google Photos, "
-            + "takes a longer amount of time depending on number of images in Google Photos."
+            + PagedListing.SCREEN_SIZE + " at a time, showing the first ones as soon as they arrive."
             + "\n- " + FULL_CMD + " /a: " + "Lists all albums in Google Photos"
             + "\n- " + FULL_CMD + " <ALBUM_NAME>: " + "Lists all photos in specified album from Google Photos"
-            + "\n\tExample: " + FULL_CMD + " <Vacation>, usage inclusive of <>";
+            + "\n\tExample: " + FULL_CMD + " <Vacation>, usage inclusive of <>"
+            + "\n- " + FULL_CMD + " " + MORE + ": " + "Lists the next photos or albums of the last listing"
+            + "\n- " + FULL_CMD + " " + STOP + ": " + "Stops retrieving the photos or albums being listed";
 
     public GoogleLsCommand(String parameter) {
         super(parameter);
@@ -38,26 +50,30 @@ public class GoogleLsCommand extends GoogleCommand {
             throws CommandException {
         requireNonNull(model);
 
-        List<String> printTarget;
-        StringBuilder toPrint = new StringBuilder();
+        String toPrint;
         try {
-            if (parameter.isEmpty()) {
-                printTarget = model.getPhotoHandler(true).returnAllImagesList();
+            PhotoHandler handler = model.getPhotoHandler(true);
+            PagedListing.ScreenListener listener = update ->
+                    EventsCenter.getInstance().post(new NewResultAvailableEvent(toText(update)));
+            PagedListing.Screen screen;
+            if (STOP.equals(parameter)) {
+                handler.stopListing();
+                return new CommandResult(STOPPED_MESSAGE);
+            } else if (MORE.equals(parameter)) {
+                screen = handler.listMore(listener);
+            } else if (parameter.isEmpty()) {
+                screen = handler.listImages(null, listener);
 
                 //Retrieve all names and call
             } else if ("/a".equals(parameter)) {
-                printTarget = model.getPhotoHandler(true).returnAllAlbumsList();
+                screen = handler.listAlbums(listener);
             } else {
-                parameter = parameter.substring(1, parameter.length() - 1);
-                printTarget = model.getPhotoHandler(true).returnAllImagesinAlbum(parameter);
-            }
-
-            for (String name : printTarget) {
-                toPrint.append(name + " \n");
+                screen = handler.listImages(parameter.substring(1, parameter.length() - 1), listener);
             }
 
-            if (toPrint.toString().isEmpty() && "/a".equals(parameter)) {
-                toPrint.append("Empty! No images to be displayed");
+            toPrint = toText(screen);
+            if (toPrint.isEmpty() && "/a".equals(parameter)) {
+                toPrint = EMPTY_MESSAGE;
             }
 
         } catch (ApiException api) {
@@ -68,7 +84,26 @@ public class GoogleLsCommand extends GoogleCommand {
             throw new CommandException(FAILURE_MESSAGE + "\n\n" + MESSAGE_USAGE);
         }
 
-        return new CommandResult(toPrint.toString());
+        return new CommandResult(toPrint);
+    }
+
+    /**
+     * Returns the names of {@code screen}, followed by what is left to list
+     */
+    static String toText(PagedListing.Screen screen) {
+        StringBuilder text = new StringBuilder();
+        for (String name : screen.getNames()) {
+            text.append(name + " \n");
+        }
+        if (screen.isLoading()) {
+            text.append(LOADING_MESSAGE);
+        } else if (screen.isFailed()) {
+            text.append(INCOMPLETE_MESSAGE);
+        } else if (screen.hasMore()) {
+            text.append(String.format(MORE_MESSAGE, screen.getFirstIndex() + 1,
+                    screen.getFirstIndex() + screen.getNames().size()));
+        }
+        return text.toString();
     }
 
     @Override
@@ -0,0 +1,127 @@
+package seedu.address.logic.commands.google;
+
+//@@author chivent
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_CONNECTION_FAILURE;
+
+import java.awt.image.BufferedImage;
+import java.util.logging.Logger;
+
+import com.google.api.gax.rpc.ApiException;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.ChangeImageEvent;
+import seedu.address.commons.util.ImageMagickUtil;
+import seedu.address.commons.util.ProgressiveRenderer;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.PreviewImage;
+
+/**
+ * Opens an image from Google Photos in a new canvas, or as a new layer of the current one, downloading it into
+ * memory rather than into the current directory
+ */
+public class GoogleOpenCommand extends GoogleCommand {
+
+    public static final String MESSAGE_SUCCESS = "Image opened from Google Photos: %s";
+    public static final String MESSAGE_LAYER_SUCCESS = "Layer added from Google Photos: %s";
+    public static final String MESSAGE_NO_CANVAS = "Open an image before adding a layer to it!";
+    public static final String MESSAGE_FAILURE = "%s failed to open."
+            + " Remember to type a valid name in the right format!";
+    public static final String TYPE = "open";
+    public static final String FULL_CMD = COMMAND_WORD + " " + TYPE;
+    public static final String LAYER_OPTION = "/layer";
+    public static final String MESSAGE_USAGE = "Usage of google open (requires an internet connection): "
+            + "\n- " + FULL_CMD + " /i<IMAGE_NAME>: " + "Opens specified image from Google Photos without saving it "
+            + "into the current directory"
+            + "\n\tExample: " + FULL_CMD + " /i<mountain.png>, usage inclusive of <> "
+            + "\n- " + FULL_CMD + " /a<ALBUM_NAME> /i<IMAGE_NAME>: " + "Opens specified image "
+            + "from specified album in Google Photos"
+            + "\n\tExample: " + FULL_CMD + " /a<Vacation> /i<mountain.png>, usage inclusive of <>"
+            + "\n- " + FULL_CMD + " ... " + LAYER_OPTION + ": " + "Adds the image as the top-most layer of the "
+            + "current canvas instead"
+            + "\n\tExample: " + FULL_CMD + " /i<mountain.png> " + LAYER_OPTION + ", usage inclusive of <>";
+
+    private static final Logger logger = LogsCenter.getLogger(GoogleOpenCommand.class);
+
+    /**
+     * Index to start from when parsing a image or album name
+     */
+    private static final int START_INDEX = 3;
+
+    public GoogleOpenCommand(String parameter) {
+        super(parameter);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        String imageName = parameter;
+        try {
+            String names = parameter.trim();
+            boolean isLayer = names.endsWith(" " + LAYER_OPTION);
+            if (isLayer) {
+                names = names.substring(0, names.length() - LAYER_OPTION.length()).trim();
+                if (model.getCanvas() == null) {
+                    throw new CommandException(MESSAGE_NO_CANVAS);
+                }
+            }
+
+            String albumName = null;
+            if (names.startsWith("/a")) {
+                String[] params = names.split(" /i<", 2);
+                if (params.length < 2) {
+                    throw new Exception(parameter);
+                }
+                albumName = params[0].substring(START_INDEX, params[0].length() - 1);
+                imageName = params[1].substring(0, params[1].length() - 1);
+            } else if (names.startsWith("/i")) {
+                imageName = names.substring(START_INDEX, names.length() - 1);
+            } else {
+                throw new Exception(parameter);
+            }
+
+            byte[] content = model.getPhotoHandler(true).fetchImage(albumName, imageName);
+            if (isLayer) {
+                model.addLayer(new PreviewImage(imageName, content));
+                ImageMagickUtil.render(model.getCanvas(), logger, "preview");
+                return new CommandResult(String.format(MESSAGE_LAYER_SUCCESS, imageName));
+            }
+
+            BufferedImage img = model.openDownloadedImage(imageName, content);
+            // a refinement of the previous canvas must not replace the newly opened image
+            ProgressiveRenderer.getInstance().cancel();
+            EventsCenter.getInstance().post(new ChangeImageEvent(img, "preview"));
+            EventsCenter.getInstance().post(new ChangeImageEvent(img, "original"));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, imageName));
+
+        } catch (ApiException api) {
+            throw new CommandException(MESSAGE_CONNECTION_FAILURE);
+        } catch (CommandException coEx) {
+            throw coEx;
+        } catch (Exception ex) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, imageName) + "\n\n" + MESSAGE_USAGE);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof GoogleOpenCommand)) { //this handles null as well.
+            return false;
+        }
+        return ((GoogleOpenCommand) other).parameter.equals(this.parameter);
+    }
+
+    @Override
+    public int hashCode() {
+        return parameter.hashCode();
+    }
+}
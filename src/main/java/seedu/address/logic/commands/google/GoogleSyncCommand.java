@@ -0,0 +1,128 @@
+package seedu.address.logic.commands.google;
+
+//@@author chivent
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_CONNECTION_FAILURE;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.api.gax.rpc.ApiException;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.DownloadProgressEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.google.AlbumSync;
+
+/**
+ * Brings the current directory up to date with an album in Google Photos, downloading only what changed
+ */
+public class GoogleSyncCommand extends GoogleCommand {
+
+    public static final String MESSAGE_STARTED = "Syncing the album %s into %s in the background...";
+    public static final String MESSAGE_SUCCESS = "Synced %s into %s: %d downloaded, %d unchanged, %d removed";
+    public static final String MESSAGE_FAILURES = "\n%d images could not be downloaded:";
+    public static final String MESSAGE_FAILURE = "%s failed to sync."
+            + " Remember to type a valid name in the right format!";
+    public static final String TYPE = "sync";
+    public static final String PRUNE_FLAG = "/prune";
+    public static final String FULL_CMD = COMMAND_WORD + " " + TYPE;
+    public static final String MESSAGE_USAGE = "Usage of google sync (requires an internet connection): "
+            + "\n- " + FULL_CMD + " /a<ALBUM_NAME>: " + "Downloads the images of specified album that are new or "
+            + "changed since it was last synced into the current directory"
+            + "\n\tExample: " + FULL_CMD + " /a<Vacation>, usage inclusive of <>"
+            + "\n- " + FULL_CMD + " /a<ALBUM_NAME> " + PRUNE_FLAG + ": " + "Also deletes the synced images that "
+            + "were removed from the album, unless they were edited since"
+            + "\n\tExample: " + FULL_CMD + " /a<Vacation> " + PRUNE_FLAG + ", usage inclusive of <>";
+
+    /**
+     * Index to start from when parsing an album name
+     */
+    private static final int START_INDEX = 3;
+
+    public GoogleSyncCommand(String parameter) {
+        super(parameter);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        String albumName = parameter;
+        try {
+            String params = parameter.trim();
+            boolean prune = params.endsWith(" " + PRUNE_FLAG);
+            if (prune) {
+                params = params.substring(0, params.length() - PRUNE_FLAG.length()).trim();
+            }
+            if (!params.startsWith("/a<") || !params.endsWith(">")) {
+                throw new Exception(parameter);
+            }
+            albumName = params.substring(START_INDEX, params.length() - 1);
+            String currDir = model.getCurrDirectory().toString();
+
+            syncAlbum(model, albumName, currDir, prune);
+            return new CommandResult(String.format(MESSAGE_STARTED, albumName, currDir));
+
+        } catch (ApiException api) {
+            throw new CommandException(MESSAGE_CONNECTION_FAILURE);
+        } catch (CommandException coEx) {
+            throw coEx;
+        } catch (Exception ex) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, albumName) + "\n\n" + MESSAGE_USAGE);
+        }
+    }
+
+    /**
+     * Starts syncing the album {@code albumName} into {@code currDir}, posting its progress to the status bar
+     * and a summary to the result display once it is over.
+     */
+    private static void syncAlbum(Model model, String albumName, String currDir, boolean prune) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        model.getPhotoHandler(true).syncAlbum(albumName, currDir, prune, (target, isSuccess, completed, total) -> {
+            int failed = isSuccess ? failures.get() : failures.incrementAndGet();
+            EventsCenter.getInstance().post(new DownloadProgressEvent(albumName, completed, failed, total));
+        }).whenComplete((result, error) -> {
+            model.updateEntireImageList();
+            String message = (error != null) ? String.format(MESSAGE_FAILURE, albumName)
+                    : getResultMessage(albumName, currDir, result);
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(message));
+        });
+    }
+
+    /**
+     * Returns the message shown once an album was synced, listing the images that failed.
+     */
+    static String getResultMessage(String albumName, String currDir, AlbumSync.Result result) {
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, albumName, currDir,
+                result.getDownloaded(), result.getUnchanged(), result.getPruned()));
+        if (!result.getFailed().isEmpty()) {
+            message.append(String.format(MESSAGE_FAILURES, result.getFailed().size()));
+            for (Path image : result.getFailed()) {
+                message.append("\n").append(image.getFileName());
+            }
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof GoogleSyncCommand)) { //this handles null as well.
+            return false;
+        }
+        return ((GoogleSyncCommand) other).parameter.equals(this.parameter);
+    }
+
+    @Override
+    public int hashCode() {
+        return parameter.hashCode();
+    }
+}
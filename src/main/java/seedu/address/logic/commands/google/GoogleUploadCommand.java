@@ -4,12 +4,23 @@ package seedu.address.logic.commands.google;
 
 import static java.util.Objects.requireNonNull;
 
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.google.api.gax.rpc.ApiException;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.events.ui.UploadProgressEvent;
+import seedu.address.commons.util.ImageMagickUtil;
+import seedu.address.commons.util.RasterUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.google.MediaUploader;
+import seedu.address.model.google.PhotoHandler;
 
 /**
  * Handles download and upload (to be added) of files to Google Photos
@@ -17,14 +28,23 @@ import seedu.address.model.Model;
 public class GoogleUploadCommand extends GoogleCommand {
     public static final String TYPE = "ul";
     public static final String FULL_CMD = COMMAND_WORD + " " + TYPE;
+    public static final String CANVAS = "canvas";
     public static final String MESSAGE_USAGE = "Usage of google upload (requires an internet connection): "
             + "\n- " + FULL_CMD + " <IMAGE_NAME>: Uploads specified image to Google Photos"
             + "\n\tExample: " + FULL_CMD + " <mountain.png>, usage inclusive of <> "
             + "\n- " + FULL_CMD + " all: Uploads all images in current directory to Google Photos, "
-            + "takes a longer amount of time depending on number of images to upload. \n\n"
-            + "!!NOTE: All photos uploaded from Piconso can be found in album 'Piconso Uploads'";
+            + "takes a longer amount of time depending on number of images to upload. "
+            + "\n- " + FULL_CMD + " " + CANVAS + " [<IMAGE_NAME>]: Uploads the current canvas, with every layer and "
+            + "edit, to Google Photos without saving it first, named after the opened image unless a name is given"
+            + "\n\tExample: " + FULL_CMD + " " + CANVAS + " <mountain edited.png>, usage inclusive of <> \n\n"
+            + "!!NOTE: All photos uploaded from Piconso can be found in album 'Piconso Uploads'. "
+            + "Images that were already uploaded are skipped";
 
     public static final String MESSAGE_ALL_DUPLICATE = "Failure to upload. %s already exist(s) in Google Photos.";
+    public static final String MESSAGE_ALL_STARTED = "Uploading the images in %s in the background...";
+    public static final String MESSAGE_NONE_UPLOADED = "Failure to upload. No images could be uploaded.";
+    public static final String MESSAGE_FAILURES = "\n\n%d images could not be uploaded:";
+    public static final String MESSAGE_NO_CANVAS = "Failure to upload. Open an image before uploading the canvas!";
     private static final String ADVICE = "\n\nYou'll need to use `g refresh` before you can see it by ls!";
     public static final String MESSAGE_SUCCESS = "Successfully uploaded to Google Photos: \n%s" + ADVICE;
     public static final String MESSAGE_DUPLICATE = "Upload success. Some of the images in the selected folder are "
@@ -43,9 +63,13 @@ public class GoogleUploadCommand extends GoogleCommand {
         String org = parameter;
         String message;
         try {
-            if (parameter.startsWith("all")) {
-                message = model.getPhotoHandler(true).uploadAll(model.getCurrDirectory().toString());
-                return returnUploadMessage(message);
+            if (parameter.startsWith(CANVAS)) {
+                parameter = parameter.substring(CANVAS.length()).trim();
+                return uploadCanvas(model, parameter);
+            } else if (parameter.startsWith("all")) {
+                Path currDir = model.getCurrDirectory();
+                uploadAll(model.getPhotoHandler(true), currDir);
+                return new CommandResult(String.format(MESSAGE_ALL_STARTED, currDir));
             } else {
                 parameter = parameter.substring(1, parameter.length() - 1);
                 message = model.getPhotoHandler(true).uploadImage(parameter, model.getCurrDirectory().toString());
@@ -63,6 +87,60 @@ public class GoogleUploadCommand extends GoogleCommand {
         }
     }
 
+    /**
+     * Uploads the composite of the current canvas, encoding it straight into the upload rather than into a file.
+     * @param name name to upload it as, wrapped in <>, or empty to name it after the opened image
+     */
+    private CommandResult uploadCanvas(Model model, String name) throws Exception {
+        if (model.getCanvas() == null) {
+            throw new CommandException(MESSAGE_NO_CANVAS);
+        }
+        String fileName = name.isEmpty() ? model.getCurrentImageName()
+                : name.substring(1, name.length() - 1);
+        int dot = fileName.lastIndexOf('.');
+        String format = (dot > 0) ? fileName.substring(dot + 1) : "png";
+        BufferedImage composite = ImageMagickUtil.processCanvas(model.getCanvas());
+        String savedName = model.getPhotoHandler(true).uploadEncoded(fileName, output ->
+                RasterUtil.encode(composite, format, output));
+        return returnUploadMessage(".all" + String.format(PhotoHandler.UPLOAD_FORMAT, fileName, savedName));
+    }
+
+    /**
+     * Starts uploading the images in {@code currDir}, posting its progress to the status bar and a summary to the
+     * result display once it is over.
+     */
+    private void uploadAll(PhotoHandler photoHandler, Path currDir) throws Exception {
+        String directoryName = String.valueOf(currDir.getFileName());
+        AtomicInteger failures = new AtomicInteger();
+        photoHandler.uploadAll(currDir.toString(), (file, isSuccess, completed, total) -> {
+            int failed = isSuccess ? failures.get() : failures.incrementAndGet();
+            EventsCenter.getInstance().post(new UploadProgressEvent(directoryName, completed, failed, total));
+        }).whenComplete((result, error) -> {
+            String message = (error != null) ? String.format(MESSAGE_FAILURE, currDir)
+                    : getAllResultMessage(photoHandler, result);
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(message));
+        });
+    }
+
+    /**
+     * Returns the message shown once a directory was uploaded, listing the images that failed.
+     */
+    private String getAllResultMessage(PhotoHandler photoHandler, MediaUploader.Result result) {
+        StringBuilder message = new StringBuilder();
+        if (result.getUploaded().isEmpty() && !result.getFailed().isEmpty()) {
+            message.append(MESSAGE_NONE_UPLOADED);
+        } else {
+            message.append(returnUploadMessage(photoHandler.formatUploadFeedback(result)).feedbackToUser);
+        }
+        if (!result.getFailed().isEmpty()) {
+            message.append(String.format(MESSAGE_FAILURES, result.getFailed().size()));
+            for (Path image : result.getFailed()) {
+                message.append("\n").append(image.getFileName());
+            }
+        }
+        return message.toString();
+    }
+
     /**
      * Parses and prepares a message to return to result display for uploading
      * @param uploaded duplicate list
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands.google;
+
+//@@author chivent
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_CONNECTION_FAILURE;
+
+import com.google.api.gax.rpc.ApiException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.google.RemoteAlbum;
+
+/**
+ * Browses an album in Google Photos in the film reel, without downloading its images
+ */
+public class GoogleViewCommand extends GoogleCommand {
+
+    public static final String MESSAGE_SUCCESS = "Showing the %d images of %s from Google Photos."
+            + " Use open to edit one, or cd to show the images of the current directory again.";
+    public static final String FAILURE_MESSAGE = "Failed to view %s."
+            + " Remember to type a valid name in the right format!";
+    public static final String TYPE = "view";
+    public static final String FULL_CMD = COMMAND_WORD + " " + TYPE;
+    public static final String MESSAGE_USAGE = "Usage of google view (requires an internet connection): "
+            + "\n- " + FULL_CMD + " <ALBUM_NAME>: " + "Shows the images of specified album from Google Photos in the "
+            + "film reel without downloading them. Opening one only downloads it in full once it is edited or saved"
+            + "\n\tExample: " + FULL_CMD + " <Vacation>, usage inclusive of <>";
+
+    public GoogleViewCommand(String parameter) {
+        super(parameter);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        String albumName = parameter;
+        try {
+            if (!parameter.startsWith("<") || !parameter.endsWith(">")) {
+                throw new Exception(parameter);
+            }
+            albumName = parameter.substring(1, parameter.length() - 1);
+            RemoteAlbum album = model.getPhotoHandler(true).getRemoteAlbum(albumName);
+            model.showRemoteAlbum(album);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, album.size(), albumName));
+
+        } catch (ApiException api) {
+            throw new CommandException(MESSAGE_CONNECTION_FAILURE + "\n\n" + MESSAGE_USAGE);
+        } catch (CommandException coEx) {
+            throw coEx;
+        } catch (Exception ex) {
+            throw new CommandException(String.format(FAILURE_MESSAGE, albumName) + "\n\n" + MESSAGE_USAGE);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof GoogleViewCommand)) { //this handles null as well.
+            return false;
+        }
+        return ((GoogleViewCommand) other).parameter.equals(this.parameter);
+    }
+
+    @Override
+    public int hashCode() {
+        return parameter.hashCode();
+    }
+}
@@ -1,14 +1,10 @@
 package seedu.address.logic.commands.layer;
 
 //@@author j-lum
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.embed.swing.SwingFXUtils;
-import javafx.scene.image.Image;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -30,12 +26,11 @@ public class LayerAddCommand extends LayerCommand {
     public static final String TYPE = COMMAND_WORD + " add";
     public static final String MESSAGE_USAGE = "Usage of layer add: "
             + "\n- " + TYPE + " [INDEX]: "
-            + "Adds the image identified by the index number in the current batch to a new layer."
+            + "Adds the image identified by the index number in the current directory to a new layer."
             + "\n\tExample: " + TYPE + " 2, adds the image with index 2 to the current canvas as the top-most layer.";
 
     public static final String OUTPUT_SUCCESS = "Layer added!";
     public static final String OUTPUT_FAILURE = "Invalid index provided or initial image not selected!";
-    private static final int BATCH_SIZE = 10;
 
     private static final Logger logger = LogsCenter.getLogger(LayerAddCommand.class);
 
@@ -49,13 +44,10 @@ public class LayerAddCommand extends LayerCommand {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         int i;
         Index index;
-        List<Path> dirImageList = model.getDirectoryImageList();
-        Image img;
-
         try {
             i = Integer.parseInt(args);
             index = Index.fromOneBased(i);
-            if (index.getZeroBased() >= dirImageList.size() || index.getZeroBased() >= BATCH_SIZE) {
+            if (index.getZeroBased() >= model.getTotalImagesInDir()) {
                 throw new NumberFormatException(Messages.MESSAGE_INDEX_END_OF_IMAGE_LIST);
             }
             index = Index.fromOneBased(i);
@@ -63,14 +55,11 @@ public class LayerAddCommand extends LayerCommand {
             throw new CommandException(OUTPUT_FAILURE);
         }
 
-        Path selectedImagePath = dirImageList.get(index.getZeroBased());
+        Path selectedImagePath = model.getImage(index);
 
         try {
-            String selectedImage = selectedImagePath.toString();
-            FileInputStream fis = new FileInputStream(selectedImage);
-            img = new Image(fis);
-            model.addLayer(new PreviewImage(SwingFXUtils.fromFXImage(img, null)));
-        } catch (FileNotFoundException e) {
+            model.addLayer(new PreviewImage(selectedImagePath));
+        } catch (IOException e) {
             throw new CommandException(OUTPUT_FAILURE);
         }
 
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands.layer;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ImageMagickUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.canvas.BlendMode;
+
+/**
+ * Sets the blend mode of the current layer.
+ * Commands are in the form - layer blend [MODE]
+ * The mode decides how the layer is combined with the layers below it.
+ */
+public class LayerBlendCommand extends LayerCommand {
+    public static final String TYPE = COMMAND_WORD + " blend";
+    public static final String MESSAGE_USAGE = "Usage of layer blend: "
+            + "\n- " + TYPE + " [MODE]: " + "Sets how the current layer is blended onto the layers below it"
+            + "\n\tModes: normal, multiply, screen, overlay, add, difference"
+            + "\n\tExample: " + TYPE + " multiply, darkens the layers below with the current layer";
+
+    public static final String OUTPUT_SUCCESS = "Layer blend mode is now %s.";
+    public static final String OUTPUT_FAILURE = "Invalid blend mode provided!";
+
+    private static final Logger logger = LogsCenter.getLogger(LayerBlendCommand.class);
+
+    public LayerBlendCommand(String args) {
+        super(args);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (args == null) {
+            throw new CommandException(OUTPUT_FAILURE);
+        }
+
+        BlendMode mode;
+        try {
+            mode = BlendMode.fromString(args.trim());
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(OUTPUT_FAILURE);
+        }
+        model.setCurrentLayerBlendMode(mode);
+
+        ImageMagickUtil.render(model.getCanvas(), logger, "preview");
+
+        return new CommandResult(String.format(OUTPUT_SUCCESS, mode));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands.layer;
+
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ImageMagickUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Sets the opacity of the current layer.
+ * Commands are in the form - layer opacity [PERCENT]
+ * The opacity is applied when the layer is blended onto the layers below it.
+ */
+public class LayerOpacityCommand extends LayerCommand {
+    public static final String TYPE = COMMAND_WORD + " opacity";
+    public static final String MESSAGE_USAGE = "Usage of layer opacity: "
+            + "\n- " + TYPE + " [PERCENT]: " + "Sets the opacity of the current layer, from 0 to 100"
+            + "\n\tExample: " + TYPE + " 50, makes the current layer half transparent";
+
+    public static final String OUTPUT_SUCCESS = "Layer opacity is now %d%%.";
+    public static final String OUTPUT_FAILURE = "Invalid opacity provided! It must be a whole number from 0 to 100.";
+
+    private static final Logger logger = LogsCenter.getLogger(LayerOpacityCommand.class);
+
+    public LayerOpacityCommand(String args) {
+        super(args);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (args == null) {
+            throw new CommandException(OUTPUT_FAILURE);
+        }
+
+        int percent;
+        try {
+            percent = Integer.parseInt(args.trim());
+        } catch (NumberFormatException e) {
+            throw new CommandException(OUTPUT_FAILURE);
+        }
+        if (percent < 0 || percent > 100) {
+            throw new CommandException(OUTPUT_FAILURE);
+        }
+        model.setCurrentLayerOpacity(percent / 100f);
+
+        ImageMagickUtil.render(model.getCanvas(), logger, "preview");
+
+        return new CommandResult(String.format(OUTPUT_SUCCESS, percent));
+    }
+}
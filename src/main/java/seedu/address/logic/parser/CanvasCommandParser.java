@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.ENTIRE_CANVAS_MESSAGE;
 import seedu.address.logic.commands.canvas.CanvasAutoResizeCommand;
 import seedu.address.logic.commands.canvas.CanvasBgcolorCommand;
 import seedu.address.logic.commands.canvas.CanvasCommand;
+import seedu.address.logic.commands.canvas.CanvasProxyCommand;
 import seedu.address.logic.commands.canvas.CanvasSizeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -39,6 +40,12 @@ public class CanvasCommandParser {
             }
             return new CanvasBgcolorCommand(argument);
         }
+        case "proxy": {
+            if (argument == null) {
+                throw new ParseException(CanvasProxyCommand.MESSAGE_USAGE);
+            }
+            return new CanvasProxyCommand(argument);
+        }
         case "size": {
             return new CanvasSizeCommand(argument);
         }
@@ -0,0 +1,16 @@
+package seedu.address.logic.parser;
+
+/**
+ * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
+ */
+public class CliSyntax {
+
+    /* Prefix definitions */
+    public static final Prefix PREFIX_NAME = new Prefix("name/");
+    public static final Prefix PREFIX_EXTENSION = new Prefix("ext/");
+    public static final Prefix PREFIX_SIZE = new Prefix("size/");
+    public static final Prefix PREFIX_WIDTH = new Prefix("width/");
+    public static final Prefix PREFIX_HEIGHT = new Prefix("height/");
+    public static final Prefix PREFIX_DATE = new Prefix("date/");
+
+}
@@ -0,0 +1,36 @@
+//@@author benedictcss
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.PerceptualHash;
+import seedu.address.logic.commands.DedupeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DuplicateFinder;
+
+/**
+ * Parses input arguments and creates a new DedupeCommand object
+ */
+public class DedupeCommandParser implements Parser<DedupeCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DedupeCommand
+     * and returns an DedupeCommand object for execution. No arguments use the default distance.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DedupeCommand parse(String args) throws ParseException {
+        String trimmed = args.trim();
+        if (trimmed.isEmpty()) {
+            return new DedupeCommand(DuplicateFinder.DEFAULT_MAX_DISTANCE);
+        }
+        try {
+            int maxDistance = Integer.parseInt(trimmed);
+            if (maxDistance >= 0 && maxDistance <= PerceptualHash.BITS) {
+                return new DedupeCommand(maxDistance);
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DedupeCommand.MESSAGE_USAGE));
+    }
+}
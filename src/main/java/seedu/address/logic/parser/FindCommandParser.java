@@ -0,0 +1,179 @@
+//@@author benedictcss
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXTENSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SIZE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WIDTH;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ImageQuery;
+
+/**
+ * Parses input arguments and creates a new FindCommand object
+ */
+public class FindCommandParser implements Parser<FindCommand> {
+
+    private static final String RANGE_SEPARATOR = "..";
+    private static final String[] SIZE_UNITS = {"GB", "MB", "KB", "B"};
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindCommand
+     * and returns an FindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_EXTENSION, PREFIX_SIZE,
+                PREFIX_WIDTH, PREFIX_HEIGHT, PREFIX_DATE);
+        try {
+            List<String> names = new ArrayList<>();
+            if (!argMultimap.getPreamble().isEmpty()) {
+                names.addAll(Arrays.asList(argMultimap.getPreamble().split("\\s+")));
+            }
+            names.addAll(getNonEmptyValues(argMultimap, PREFIX_NAME));
+            Set<String> extensions = new HashSet<>();
+            for (String extension : getNonEmptyValues(argMultimap, PREFIX_EXTENSION)) {
+                extensions.add(extension.startsWith(".") ? extension.substring(1) : extension);
+            }
+            return new FindCommand(new ImageQuery(names, extensions,
+                    parseRange(argMultimap.getValue(PREFIX_SIZE), FindCommandParser::parseSize),
+                    parseRange(argMultimap.getValue(PREFIX_WIDTH), FindCommandParser::parseLength),
+                    parseRange(argMultimap.getValue(PREFIX_HEIGHT), FindCommandParser::parseLength),
+                    parseRange(argMultimap.getValue(PREFIX_DATE), FindCommandParser::parseDate)));
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+    /**
+     * Returns the values of {@code prefix}, failing on an empty one.
+     */
+    private static List<String> getNonEmptyValues(ArgumentMultimap argMultimap, Prefix prefix)
+            throws ParseException {
+        List<String> values = argMultimap.getAllValues(prefix);
+        for (String value : values) {
+            if (value.isEmpty()) {
+                throw new ParseException("Empty " + prefix);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Parses {@code VALUE}, {@code MIN..MAX}, {@code MIN..} or {@code ..MAX} into an inclusive range, where every
+     * value stands for the interval given by {@code parser}. A missing range matches everything.
+     */
+    private static ImageQuery.Range parseRange(Optional<String> range, BoundParser parser) throws ParseException {
+        if (!range.isPresent()) {
+            return ImageQuery.Range.ALL;
+        }
+        String value = range.get().trim();
+        int separator = value.indexOf(RANGE_SEPARATOR);
+        if (separator < 0) {
+            long[] interval = parser.parse(value);
+            return new ImageQuery.Range(interval[0], interval[1]);
+        }
+        String min = value.substring(0, separator).trim();
+        String max = value.substring(separator + RANGE_SEPARATOR.length()).trim();
+        if (min.isEmpty() && max.isEmpty()) {
+            throw new ParseException("Empty range");
+        }
+        long from = min.isEmpty() ? Long.MIN_VALUE : parser.parse(min)[0];
+        long to = max.isEmpty() ? Long.MAX_VALUE : parser.parse(max)[1];
+        if (from > to) {
+            throw new ParseException("Range from " + min + " to " + max + " is empty");
+        }
+        return new ImageQuery.Range(from, to);
+    }
+
+    /**
+     * Parses a number of bytes with an optional unit of B, KB, MB or GB, e.g. {@code 2.5MB}.
+     */
+    private static long[] parseSize(String value) throws ParseException {
+        String upper = value.toUpperCase(Locale.ROOT);
+        long unit = 1;
+        for (int i = 0; i < SIZE_UNITS.length; i++) {
+            if (upper.endsWith(SIZE_UNITS[i])) {
+                unit = 1L << (10 * (SIZE_UNITS.length - 1 - i));
+                upper = upper.substring(0, upper.length() - SIZE_UNITS[i].length()).trim();
+                break;
+            }
+        }
+        try {
+            double amount = Double.parseDouble(upper);
+            if (amount < 0 || Double.isNaN(amount) || Double.isInfinite(amount)) {
+                throw new ParseException("Invalid size: " + value);
+            }
+            long bytes = Math.round(amount * unit);
+            return new long[] {bytes, bytes};
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid size: " + value);
+        }
+    }
+
+    /**
+     * Parses a length in pixels.
+     */
+    private static long[] parseLength(String value) throws ParseException {
+        try {
+            long pixels = Long.parseLong(value);
+            if (pixels < 0) {
+                throw new ParseException("Invalid length: " + value);
+            }
+            return new long[] {pixels, pixels};
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid length: " + value);
+        }
+    }
+
+    /**
+     * Parses {@code YYYY}, {@code YYYY-MM} or {@code YYYY-MM-DD} into the seconds from the start of that period to
+     * its last second, in the form of {@link ImageQuery}.
+     */
+    private static long[] parseDate(String value) throws ParseException {
+        try {
+            String[] parts = value.split("-");
+            LocalDate start;
+            LocalDate end;
+            if (parts.length == 1) {
+                start = LocalDate.of(Integer.parseInt(parts[0]), 1, 1);
+                end = start.plusYears(1);
+            } else if (parts.length == 2) {
+                start = LocalDate.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), 1);
+                end = start.plusMonths(1);
+            } else if (parts.length == 3) {
+                start = LocalDate.parse(value);
+                end = start.plusDays(1);
+            } else {
+                throw new ParseException("Invalid date: " + value);
+            }
+            return new long[] {start.atStartOfDay().toEpochSecond(ZoneOffset.UTC),
+                end.atStartOfDay().toEpochSecond(ZoneOffset.UTC) - 1};
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new ParseException("Invalid date: " + value);
+        }
+    }
+
+    /**
+     * Parses one value of a range into the interval of values it stands for.
+     */
+    @FunctionalInterface
+    private interface BoundParser {
+        long[] parse(String value) throws ParseException;
+    }
+}
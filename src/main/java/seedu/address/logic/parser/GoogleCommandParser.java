@@ -7,8 +7,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_GOOGLE_INVALID_FORMAT;
 import seedu.address.logic.commands.google.GoogleCommand;
 import seedu.address.logic.commands.google.GoogleDlCommand;
 import seedu.address.logic.commands.google.GoogleLsCommand;
+import seedu.address.logic.commands.google.GoogleOpenCommand;
 import seedu.address.logic.commands.google.GoogleRefreshCommand;
+import seedu.address.logic.commands.google.GoogleSyncCommand;
 import seedu.address.logic.commands.google.GoogleUploadCommand;
+import seedu.address.logic.commands.google.GoogleViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 //@@author chivent
@@ -47,6 +50,24 @@ public class GoogleCommandParser {
             }
             return new GoogleUploadCommand(commandParam);
         }
+        case "sync": {
+            if (commandParam.isEmpty()) {
+                throw new ParseException(MESSAGE_GOOGLE_INVALID_FORMAT + "\n\n" + GoogleSyncCommand.MESSAGE_USAGE);
+            }
+            return new GoogleSyncCommand(commandParam);
+        }
+        case "open": {
+            if (commandParam.isEmpty()) {
+                throw new ParseException(MESSAGE_GOOGLE_INVALID_FORMAT + "\n\n" + GoogleOpenCommand.MESSAGE_USAGE);
+            }
+            return new GoogleOpenCommand(commandParam);
+        }
+        case "view": {
+            if (commandParam.isEmpty()) {
+                throw new ParseException(MESSAGE_GOOGLE_INVALID_FORMAT + "\n\n" + GoogleViewCommand.MESSAGE_USAGE);
+            }
+            return new GoogleViewCommand(commandParam);
+        }
         case "refresh": {
             return new GoogleRefreshCommand();
         }
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.ENTIRE_LAYER_MESSAGE;
 
 import seedu.address.logic.commands.layer.LayerAddCommand;
+import seedu.address.logic.commands.layer.LayerBlendCommand;
 import seedu.address.logic.commands.layer.LayerCommand;
 import seedu.address.logic.commands.layer.LayerDeleteCommand;
+import seedu.address.logic.commands.layer.LayerOpacityCommand;
 import seedu.address.logic.commands.layer.LayerPositionCommand;
 import seedu.address.logic.commands.layer.LayerSelectCommand;
 import seedu.address.logic.commands.layer.LayerSwapCommand;
@@ -54,6 +56,18 @@ public class LayerCommandParser {
         case "position": {
             return new LayerPositionCommand(argument);
         }
+        case "opacity": {
+            if (argument == null) {
+                throw new ParseException(LayerOpacityCommand.MESSAGE_USAGE);
+            }
+            return new LayerOpacityCommand(argument);
+        }
+        case "blend": {
+            if (argument == null) {
+                throw new ParseException(LayerBlendCommand.MESSAGE_USAGE);
+            }
+            return new LayerBlendCommand(argument);
+        }
         case "swap": {
             if (argument == null) {
                 throw new ParseException(LayerSwapCommand.MESSAGE_USAGE);
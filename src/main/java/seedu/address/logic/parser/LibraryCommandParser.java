@@ -0,0 +1,32 @@
+//@@author benedictcss
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.LibraryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LibraryCommand object
+ */
+public class LibraryCommandParser {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LibraryCommand
+     * and returns an LibraryCommand object for execution. No arguments open the current directory.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LibraryCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new LibraryCommand(Paths.get("."));
+        }
+        try {
+            return new LibraryCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, LibraryCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
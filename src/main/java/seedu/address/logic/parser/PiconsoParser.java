@@ -10,8 +10,11 @@ import seedu.address.logic.commands.ApplyCommand;
 import seedu.address.logic.commands.CdCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CreateApplyCommand;
+import seedu.address.logic.commands.DedupeCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LibraryCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.LsCommand;
@@ -57,6 +60,15 @@ public class PiconsoParser {
         case CdCommand.COMMAND_WORD:
             return new CdCommandParser().parse(arguments);
 
+        case FindCommand.COMMAND_WORD:
+            return new FindCommandParser().parse(arguments);
+
+        case DedupeCommand.COMMAND_WORD:
+            return new DedupeCommandParser().parse(arguments);
+
+        case LibraryCommand.COMMAND_WORD:
+            return new LibraryCommandParser().parse(arguments);
+
         case NextCommand.COMMAND_WORD:
             return new NextCommand();
 
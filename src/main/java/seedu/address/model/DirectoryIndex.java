@@ -0,0 +1,236 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DirectoryScanner;
+import seedu.address.commons.util.ImageTypeClassifier;
+
+//@@author benedictcss
+/**
+ * A sorted index of the editable images in a directory, or in a whole directory tree once a {@link Library} is
+ * loaded into it.
+ * The index is built with one scan of the directory and then kept up to date one file at a time with
+ * {@link #refresh(Path)}, so a change to the directory costs a binary search instead of a rescan.
+ * A directory can also be scanned in the background with {@link #rebuildAsync(Path, int, Consumer)}, in which
+ * case the index holds the images found so far until the scan is complete, so that reading it never waits for
+ * the scan.
+ */
+public class DirectoryIndex {
+
+    private static final Logger logger = LogsCenter.getLogger(DirectoryIndex.class);
+
+    private static final ExecutorService scanner = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "directory-scanner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private List<Path> images = new ArrayList<>();
+    // incremented whenever the index is replaced, so that a scan started before does not overwrite it
+    private long scanGeneration;
+    // the files refreshed while the directory is scanned in the background, refreshed again in what the scan found
+    private final Set<Path> refreshedDuringScan = new HashSet<>();
+    private boolean isScanning;
+    private Path directory;
+    private boolean isRecursive;
+
+    /**
+     * Replaces the index with the images currently in {@code directory}.
+     * An unreadable directory results in an empty index.
+     */
+    public synchronized void rebuild(Path directory) {
+        this.directory = requireNonNull(directory);
+        isRecursive = false;
+        scanGeneration++;
+        isScanning = false;
+        refreshedDuringScan.clear();
+        images = listEditableImages(directory);
+    }
+
+    /**
+     * Replaces the index with the images in {@code directory}, which are listed in the background. The first
+     * {@code firstBatchSize} images found are handed to {@code firstBatch}, sorted among themselves, as soon as
+     * they are found, on the scanning thread, so that they can be shown before the whole directory is listed.
+     * Until the scan is complete, the index holds the images found so far, sorted, which are brought up to date
+     * each time their number reaches {@code firstBatchSize} and then doubles.
+     * @return a future completed once the scan is complete.
+     */
+    public synchronized CompletableFuture<Void> rebuildAsync(Path directory, int firstBatchSize,
+                                                            Consumer<List<Path>> firstBatch) {
+        this.directory = requireNonNull(directory);
+        requireNonNull(firstBatch);
+        isRecursive = false;
+        images = new ArrayList<>();
+        refreshedDuringScan.clear();
+        isScanning = true;
+        long generation = ++scanGeneration;
+        return CompletableFuture.runAsync(() -> scan(directory, generation, firstBatchSize, firstBatch), scanner);
+    }
+
+    /**
+     * Replaces the index with the images of every folder of {@code library}.
+     */
+    public synchronized void load(Library library) {
+        directory = library.getRoot();
+        isRecursive = true;
+        scanGeneration++;
+        isScanning = false;
+        refreshedDuringScan.clear();
+        images = new ArrayList<>(library.getImages());
+    }
+
+    /**
+     * Lists the editable images in {@code directory} as scan {@code generation}, without holding the index.
+     * The images found so far are put in the index each time their number reaches {@code firstBatchSize} and then
+     * doubles, so that the sorting stays linear in the number of images overall, and all of them once the scan is
+     * complete. An unreadable directory has no images.
+     */
+    private void scan(Path directory, long generation, int firstBatchSize, Consumer<List<Path>> firstBatch) {
+        int step = Math.max(1, firstBatchSize);
+        List<Path> found = new ArrayList<>();
+        try {
+            DirectoryScanner.scan(directory, entry -> {
+                if (!entry.isEditableImage()) {
+                    return;
+                }
+                found.add(entry.getPath());
+                if (found.size() % step == 0 && Integer.bitCount(found.size() / step) == 1) {
+                    publish(generation, found, false);
+                }
+                if (found.size() == firstBatchSize) {
+                    List<Path> batch = new ArrayList<>(found);
+                    Collections.sort(batch);
+                    firstBatch.accept(batch);
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Unable to list images in " + directory + ": " + e.getMessage());
+            found.clear();
+        }
+        publish(generation, found, true);
+    }
+
+    /**
+     * Makes {@code found}, sorted, the images of the index if it is still being rebuilt by scan {@code generation},
+     * refreshing again in it the files that were refreshed since the scan started.
+     */
+    private void publish(long generation, List<Path> found, boolean isComplete) {
+        List<Path> sorted = new ArrayList<>(found);
+        Collections.sort(sorted);
+        synchronized (this) {
+            if (generation != scanGeneration) {
+                return;
+            }
+            images = sorted;
+            refreshedDuringScan.forEach(this::update);
+            if (isComplete) {
+                isScanning = false;
+                refreshedDuringScan.clear();
+            }
+        }
+    }
+
+    /**
+     * Lists the editable images in {@code directory} with the {@link DirectoryScanner}.
+     * An unreadable directory has no images.
+     */
+    private static List<Path> listEditableImages(Path directory) {
+        try {
+            return DirectoryScanner.listEditableImages(directory);
+        } catch (IOException e) {
+            logger.warning("Unable to list images in " + directory + ": " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Brings the entry for {@code file} up to date: it is added if it is now an editable image in the indexed
+     * directory, or anywhere under it for a library, and removed if it no longer is.
+     * @return true if {@code file} was added or removed.
+     */
+    public synchronized boolean refresh(Path file) {
+        requireNonNull(file);
+        if (directory == null || file.getParent() == null) {
+            return false;
+        }
+        boolean isIndexed = isRecursive ? file.getParent().startsWith(directory)
+                : directory.equals(file.getParent());
+        if (!isIndexed) {
+            return false;
+        }
+        if (isScanning) {
+            refreshedDuringScan.add(file);
+        }
+        return update(file);
+    }
+
+    /**
+     * Adds {@code file} to the images if it is an editable image and removes it if it is not.
+     * @return true if {@code file} was added or removed.
+     */
+    private boolean update(Path file) {
+        int position = Collections.binarySearch(images, file);
+        boolean isImage = Files.isRegularFile(file) && ImageTypeClassifier.isEditableImage(file);
+        if (isImage && position < 0) {
+            images.add(-position - 1, file);
+            return true;
+        }
+        if (!isImage && position >= 0) {
+            images.remove(position);
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized int size() {
+        return images.size();
+    }
+
+    public synchronized boolean contains(Path file) {
+        return Collections.binarySearch(images, file) >= 0;
+    }
+
+    public synchronized Path get(int index) {
+        return images.get(index);
+    }
+
+    /**
+     * Returns the position of {@code file} in the index, or -1 if it is not in the index.
+     */
+    public synchronized int indexOf(Path file) {
+        return Math.max(-1, Collections.binarySearch(images, file));
+    }
+
+    /**
+     * Returns a copy of all the images of the index.
+     */
+    public synchronized List<Path> getAll() {
+        return new ArrayList<>(images);
+    }
+
+    /**
+     * Returns a copy of the images from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     */
+    public synchronized List<Path> subList(int fromIndex, int toIndex) {
+        return new ArrayList<>(images.subList(fromIndex, toIndex));
+    }
+}
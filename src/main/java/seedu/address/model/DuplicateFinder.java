@@ -0,0 +1,265 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BkTree;
+import seedu.address.commons.util.PerceptualHash;
+import seedu.address.storage.ImageHashStorage;
+
+//@@author benedictcss
+/**
+ * Finds groups of duplicate and near-duplicate images, such as the frames of a burst or re-exports of a photo.
+ * Every image is reduced to a {@link PerceptualHash}, decoded from a subsampled copy on a pool of worker threads,
+ * and images whose hashes differ in at most a given number of bits are grouped together, transitively.
+ * Hashes are looked up in a {@link BkTree}, so an image is only compared with the few images that may be near it.
+ * Hashes are kept by the path, size and modification time of an image, in memory and, if there is a storage, on the
+ * hard disk, so an image is only decoded again once it changes, and the hash of its earlier version is then dropped.
+ * The hash of each image is looked up and, if needed, made by its own task, so that neither the lookups nor the
+ * decoding hold up the other images.
+ */
+public class DuplicateFinder {
+
+    /** Largest distance between the hashes of two images that are still considered near-duplicates. */
+    public static final int DEFAULT_MAX_DISTANCE = 6;
+
+    private static final Logger logger = LogsCenter.getLogger(DuplicateFinder.class);
+    private static final ExecutorService workers = createWorkers(Runtime.getRuntime().availableProcessors());
+
+    private final ImageHashStorage storage;
+    private final Map<String, Long> hashes = new ConcurrentHashMap<>();
+    private final Map<String, String> keysByPath = new ConcurrentHashMap<>();
+    private boolean isLoaded;
+
+    /**
+     * Creates a finder whose hashes are loaded from and saved to {@code storage}, unless it is null.
+     */
+    public DuplicateFinder(ImageHashStorage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Hashes {@code images} in the background and completes with the groups of at least two images whose hashes
+     * are within {@code maxDistance} bits of another image of the group. Groups are in the order of their first
+     * image in {@code images}, and so are the images of a group. Images that cannot be decoded are left out.
+     */
+    public CompletableFuture<List<List<Path>>> findAsync(List<Path> images, int maxDistance) {
+        List<HashLookup> lookups = new ArrayList<>(images.size());
+        for (Path image : images) {
+            lookups.add(new HashLookup(image));
+        }
+        return CompletableFuture.runAsync(this::loadHashes, workers)
+                .thenCompose(loaded -> {
+                    List<CompletableFuture<Void>> tasks = new ArrayList<>(lookups.size());
+                    for (HashLookup lookup : lookups) {
+                        tasks.add(CompletableFuture.runAsync(lookup::lookUp, workers));
+                    }
+                    return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]));
+                })
+                .thenApplyAsync(done -> {
+                    if (lookups.stream().anyMatch(lookup -> lookup.isDecoded)) {
+                        saveHashes();
+                    }
+                    return group(lookups, maxDistance);
+                }, workers);
+    }
+
+    /**
+     * Returns the number of hashes known.
+     */
+    public int getHashCount() {
+        loadHashes();
+        return hashes.size();
+    }
+
+    /**
+     * Groups the images of {@code lookups} whose hashes are within {@code maxDistance} of each other. Each image
+     * is only looked up among the images before it, so every near pair is found once.
+     */
+    private static List<List<Path>> group(List<HashLookup> lookups, int maxDistance) {
+        BkTree<Integer> tree = new BkTree<>();
+        int[] parents = new int[lookups.size()];
+        for (int id = 0; id < lookups.size(); id++) {
+            parents[id] = id;
+            Long hash = lookups.get(id).hash;
+            if (hash == null) {
+                continue;
+            }
+            for (int near : tree.search(hash, maxDistance)) {
+                union(parents, near, id);
+            }
+            tree.add(hash, id);
+        }
+
+        Map<Integer, List<Path>> groups = new LinkedHashMap<>();
+        for (int id = 0; id < lookups.size(); id++) {
+            groups.computeIfAbsent(find(parents, id), key -> new ArrayList<>()).add(lookups.get(id).image);
+        }
+        List<List<Path>> found = new ArrayList<>();
+        for (List<Path> group : groups.values()) {
+            if (group.size() > 1) {
+                found.add(group);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the representative of the group of {@code id}, shortening the path to it on the way.
+     */
+    private static int find(int[] parents, int id) {
+        while (parents[id] != id) {
+            parents[id] = parents[parents[id]];
+            id = parents[id];
+        }
+        return id;
+    }
+
+    /**
+     * Merges the groups of {@code a} and {@code b}, keeping the representative that comes first, so that the
+     * representative of a group is its first image.
+     */
+    private static void union(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA < rootB) {
+            parents[rootB] = rootA;
+        } else if (rootB < rootA) {
+            parents[rootA] = rootB;
+        }
+    }
+
+    /**
+     * Loads the stored hashes, once.
+     */
+    private synchronized void loadHashes() {
+        if (isLoaded) {
+            return;
+        }
+        isLoaded = true;
+        if (storage == null) {
+            return;
+        }
+        try {
+            hashes.putAll(storage.readHashes());
+            for (String key : new ArrayList<>(hashes.keySet())) {
+                keysByPath.merge(getPath(key), key, (kept, other) -> {
+                    String newer = (getModifiedTime(kept) >= getModifiedTime(other)) ? kept : other;
+                    hashes.remove(newer.equals(kept) ? other : kept);
+                    return newer;
+                });
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Discarding stored image hashes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps {@code key} as the key of the current version of its image, and drops the hash of the version before.
+     */
+    private void updateKey(String key) {
+        String old = keysByPath.put(getPath(key), key);
+        if (old != null && !old.equals(key)) {
+            hashes.remove(old);
+        }
+    }
+
+    /**
+     * Returns the path of the image that {@code key} is the key of.
+     */
+    private static String getPath(String key) {
+        return key.substring(0, key.lastIndexOf('|', key.lastIndexOf('|') - 1));
+    }
+
+    /**
+     * Returns the modification time of the version of the image that {@code key} is the key of.
+     */
+    private static long getModifiedTime(String key) {
+        try {
+            return Long.parseLong(key.substring(key.lastIndexOf('|') + 1));
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Returns the key of the hash of {@code image} at its current {@code attributes}.
+     */
+    private static String getKey(Path image, BasicFileAttributes attributes) {
+        return image.toAbsolutePath().normalize() + "|" + attributes.size() + "|"
+                + attributes.lastModifiedTime().toMillis();
+    }
+
+    /**
+     * Saves the known hashes to the storage, if there is one.
+     */
+    private synchronized void saveHashes() {
+        if (storage == null) {
+            return;
+        }
+        try {
+            storage.saveHashes(new LinkedHashMap<>(hashes));
+        } catch (IOException e) {
+            logger.warning("Unable to save image hashes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a pool of {@code threads} daemon threads, so that a search does not keep the app from exiting.
+     */
+    private static ExecutorService createWorkers(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "duplicate-finder-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The hash of one image, null until it is known.
+     */
+    private class HashLookup {
+        private final Path image;
+        private volatile Long hash;
+        private volatile boolean isDecoded;
+
+        HashLookup(Path image) {
+            this.image = image;
+        }
+
+        /**
+         * Looks up the hash of the image, decoding and hashing the image if it is not known. Hashes are keyed by the
+         * path, size and modification time of the image, so a hash is only used for the exact file it was made of,
+         * and the hash of an earlier version of the image is dropped once the image is hashed again.
+         */
+        void lookUp() {
+            try {
+                String key = getKey(image, Files.readAttributes(image, BasicFileAttributes.class));
+                hash = hashes.get(key);
+                if (hash == null) {
+                    hash = PerceptualHash.dHash(image.toFile());
+                    isDecoded = true;
+                    hashes.put(key, hash);
+                    updateKey(key);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.fine("Unable to hash " + image + ": " + e.getMessage());
+            }
+        }
+    }
+}
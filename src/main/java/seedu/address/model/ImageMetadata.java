@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+//@@author benedictcss
+/**
+ * What is known about an image file without decoding its pixels: the fields of its header, a few EXIF tags,
+ * and the size, modification time and a hash of the file that tell whether it has changed since.
+ */
+public class ImageMetadata {
+
+    /** EXIF orientation of an image that is stored upright. */
+    public static final int ORIENTATION_NORMAL = 1;
+
+    private final String fileName;
+    private final int width;
+    private final int height;
+    private final String format;
+    private final int bitDepth;
+    private final int orientation;
+    private final String dateTaken;
+    private final long fileSize;
+    private final long lastModified;
+    private final String contentHash;
+
+    public ImageMetadata(String fileName, int width, int height, String format, int bitDepth, int orientation,
+                         String dateTaken, long fileSize, long lastModified, String contentHash) {
+        this.fileName = requireNonNull(fileName);
+        this.width = width;
+        this.height = height;
+        this.format = requireNonNull(format);
+        this.bitDepth = bitDepth;
+        this.orientation = orientation;
+        this.dateTaken = dateTaken;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.contentHash = requireNonNull(contentHash);
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public int getBitDepth() {
+        return bitDepth;
+    }
+
+    public int getOrientation() {
+        return orientation;
+    }
+
+    public Optional<String> getDateTaken() {
+        return Optional.ofNullable(dateTaken);
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Returns true if the metadata was read from a file with {@code fileSize} and {@code lastModified}, i.e. the
+     * file has most likely not changed since.
+     */
+    public boolean isCurrent(long fileSize, long lastModified) {
+        return this.fileSize == fileSize && this.lastModified == lastModified;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ImageMetadata)) {
+            return false;
+        }
+        ImageMetadata o = (ImageMetadata) other;
+        return fileName.equals(o.fileName) && width == o.width && height == o.height && format.equals(o.format)
+                && bitDepth == o.bitDepth && orientation == o.orientation && Objects.equals(dateTaken, o.dateTaken)
+                && fileSize == o.fileSize && lastModified == o.lastModified && contentHash.equals(o.contentHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileName, width, height, format, contentHash);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %dx%d %s, %d bit", fileName, width, height, format, bitDepth);
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ImageMetadataReader;
+import seedu.address.storage.ImageMetadataStorage;
+
+//@@author benedictcss
+/**
+ * The {@link ImageMetadata} of images, kept per folder so that the images of every folder of a library are
+ * indexed as well as those of the current directory.
+ * Metadata is read from an image's header the first time it is asked for and again only once the file's size or
+ * modification time changes. Headers are read without holding the index, so that they can be read in parallel.
+ * If the index has a storage, the metadata of a folder is loaded the first time one of its images is asked for
+ * and written back when another directory is opened or {@link #save()} is called.
+ */
+public class ImageMetadataIndex {
+
+    private static final Logger logger = LogsCenter.getLogger(ImageMetadataIndex.class);
+    private static final ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metadata-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ImageMetadataStorage storage;
+    private final Map<Path, Folder> folders = new HashMap<>();
+
+    /**
+     * Creates an index that is kept in memory only.
+     */
+    public ImageMetadataIndex() {
+        this.storage = null;
+    }
+
+    public ImageMetadataIndex(ImageMetadataStorage storage) {
+        this.storage = requireNonNull(storage);
+    }
+
+    /**
+     * Saves the metadata that changed and loads the stored metadata of {@code directory}, ahead of its images
+     * being asked for.
+     */
+    public synchronized void open(Path directory) {
+        requireNonNull(directory);
+        save();
+        getFolder(directory);
+    }
+
+    /**
+     * Returns the metadata of the image at {@code file}, reading its header if it is not known or has changed.
+     * @return the metadata, or an empty Optional if the file cannot be read or is not an image.
+     */
+    public Optional<ImageMetadata> get(Path file) {
+        requireNonNull(file);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            Optional<ImageMetadata> cached = getCached(file, attributes);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            ImageMetadata metadata = ImageMetadataReader.read(file);
+            put(file, metadata);
+            return Optional.of(metadata);
+        } catch (IOException e) {
+            remove(file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the metadata of the image at {@code file} if it is known and still current for the file's
+     * {@code attributes}, without reading the file.
+     */
+    public synchronized Optional<ImageMetadata> getCached(Path file, BasicFileAttributes attributes) {
+        if (file.getParent() == null) {
+            return Optional.empty();
+        }
+        ImageMetadata cached = getFolder(file.getParent()).entries.get(file.getFileName().toString());
+        return (cached != null && cached.isCurrent(attributes.size(), attributes.lastModifiedTime().toMillis()))
+                ? Optional.of(cached) : Optional.empty();
+    }
+
+    /**
+     * Reads the metadata of {@code files} that is not known or has changed in the background, and saves the index
+     * once it is read.
+     * @return a future completed once the metadata of every file is read.
+     */
+    public CompletableFuture<Void> readAsync(Collection<Path> files) {
+        Collection<Path> toRead = new ArrayList<>(files);
+        return CompletableFuture.runAsync(() -> {
+            toRead.forEach(this::get);
+            save();
+        }, reader);
+    }
+
+    /**
+     * Forgets the metadata of {@code file}, e.g. because it was deleted.
+     */
+    public synchronized void remove(Path file) {
+        Folder folder = (file.getParent() == null) ? null : folders.get(file.getParent());
+        if (folder != null && folder.entries.remove(file.getFileName().toString()) != null) {
+            folder.isDirty = true;
+        }
+    }
+
+    /**
+     * Writes the metadata of every folder that changed since it was loaded or saved to the storage.
+     */
+    public synchronized void save() {
+        if (storage == null) {
+            return;
+        }
+        for (Map.Entry<Path, Folder> folder : folders.entrySet()) {
+            if (!folder.getValue().isDirty) {
+                continue;
+            }
+            try {
+                storage.saveMetadata(folder.getKey(), folder.getValue().entries.values());
+                folder.getValue().isDirty = false;
+            } catch (IOException e) {
+                logger.warning("Unable to save metadata of " + folder.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of images whose metadata is known.
+     */
+    public synchronized int size() {
+        return folders.values().stream().mapToInt(folder -> folder.entries.size()).sum();
+    }
+
+    /**
+     * Keeps {@code metadata} as the metadata of the image at {@code file}.
+     */
+    private synchronized void put(Path file, ImageMetadata metadata) {
+        if (file.getParent() == null) {
+            return;
+        }
+        Folder folder = getFolder(file.getParent());
+        folder.entries.put(file.getFileName().toString(), metadata);
+        folder.isDirty = true;
+    }
+
+    /**
+     * Returns the metadata of the images in {@code directory}, loading it from the storage the first time.
+     */
+    private Folder getFolder(Path directory) {
+        Folder folder = folders.get(directory);
+        if (folder != null) {
+            return folder;
+        }
+        folder = new Folder();
+        folders.put(directory, folder);
+        if (storage != null) {
+            try {
+                folder.entries.putAll(storage.readMetadata(directory));
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Discarding stored metadata of " + directory + ": " + e.getMessage());
+            }
+        }
+        return folder;
+    }
+
+    /**
+     * The metadata of the images in one folder, by file name.
+     */
+    private static class Folder {
+        private final Map<String, ImageMetadata> entries = new HashMap<>();
+        private boolean isDirty;
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+//@@author benedictcss
+/**
+ * A search over the images of the current directory. An image matches if it matches every criterion that is set:
+ * any of the name patterns, any of the extensions, and each of the ranges.
+ * Names and extensions are matched case-insensitively. A name pattern containing {@code *} or {@code ?} is a glob
+ * over the whole file name, any other pattern matches the start of the file name.
+ * Dates are the local date and time an image was taken, or else last modified, in seconds as if it were UTC,
+ * i.e. {@code LocalDateTime.toEpochSecond(ZoneOffset.UTC)}.
+ */
+public class ImageQuery {
+
+    private final List<String> namePatterns;
+    private final Set<String> extensions;
+    private final Range size;
+    private final Range width;
+    private final Range height;
+    private final Range date;
+
+    public ImageQuery(List<String> namePatterns, Set<String> extensions, Range size, Range width, Range height,
+                      Range date) {
+        this.namePatterns = new ArrayList<>();
+        for (String pattern : namePatterns) {
+            this.namePatterns.add(pattern.toLowerCase());
+        }
+        this.extensions = new HashSet<>();
+        for (String extension : extensions) {
+            this.extensions.add(extension.toLowerCase());
+        }
+        this.size = requireNonNull(size);
+        this.width = requireNonNull(width);
+        this.height = requireNonNull(height);
+        this.date = requireNonNull(date);
+    }
+
+    public List<String> getNamePatterns() {
+        return Collections.unmodifiableList(namePatterns);
+    }
+
+    public Set<String> getExtensions() {
+        return Collections.unmodifiableSet(extensions);
+    }
+
+    public Range getSize() {
+        return size;
+    }
+
+    public Range getWidth() {
+        return width;
+    }
+
+    public Range getHeight() {
+        return height;
+    }
+
+    public Range getDate() {
+        return date;
+    }
+
+    /**
+     * Returns true if the query has no criteria, i.e. matches every image.
+     */
+    public boolean isEmpty() {
+        return namePatterns.isEmpty() && extensions.isEmpty() && size.isAll() && width.isAll() && height.isAll()
+                && date.isAll();
+    }
+
+    /**
+     * Returns true if the query needs the metadata of an image, i.e. matches on more than the file name.
+     */
+    public boolean needsMetadata() {
+        return !size.isAll() || !width.isAll() || !height.isAll() || !date.isAll();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ImageQuery)) {
+            return false;
+        }
+        ImageQuery query = (ImageQuery) other;
+        return namePatterns.equals(query.namePatterns) && extensions.equals(query.extensions)
+                && size.equals(query.size) && width.equals(query.width) && height.equals(query.height)
+                && date.equals(query.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namePatterns, extensions, size, width, height, date);
+    }
+
+    /**
+     * An inclusive range of values.
+     */
+    public static class Range {
+        public static final Range ALL = new Range(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        private final long min;
+        private final long max;
+
+        public Range(long min, long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public boolean isAll() {
+            return min == Long.MIN_VALUE && max == Long.MAX_VALUE;
+        }
+
+        public boolean contains(long value) {
+            return min <= value && value <= max;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Range // instanceof handles nulls
+                    && min == ((Range) other).min && max == ((Range) other).max); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(min, max);
+        }
+    }
+}
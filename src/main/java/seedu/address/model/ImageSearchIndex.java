@@ -0,0 +1,329 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+
+//@@author benedictcss
+/**
+ * An in-memory index of the images of the current directory that answers an {@link ImageQuery} without listing
+ * the directory or reading any file.
+ * Names are kept in a sorted array, so a prefix is a binary search and a glob only has to test the names that
+ * share its literal prefix. Sizes, dimensions and dates are kept in sorted columns, so a range is two binary
+ * searches. The columns need the metadata of every image and are only built when a query first asks for them.
+ * Image ids are positions in the sorted image list, so matches come out in the order of the list.
+ */
+public class ImageSearchIndex {
+
+    private static final DateTimeFormatter EXIF_DATE = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    private final Function<Path, Optional<ImageMetadata>> metadataReader;
+    private final Map<Path, Optional<ImageMetadata>> metadata = new HashMap<>();
+    private List<Path> images = Collections.emptyList();
+    private String[] sortedNames = new String[0];
+    private int[] nameIds = new int[0];
+    private Map<String, BitSet> extensions = new HashMap<>();
+    private Column sizes;
+    private Column widths;
+    private Column heights;
+    private Column dates;
+
+    /**
+     * Creates an index that reads the metadata of an image with {@code metadataReader} the first time a query on
+     * size, dimensions or date needs it.
+     */
+    public ImageSearchIndex(Function<Path, Optional<ImageMetadata>> metadataReader) {
+        this.metadataReader = requireNonNull(metadataReader);
+    }
+
+    /**
+     * Indexes {@code images}, which must be sorted. Metadata already read for an image is kept.
+     */
+    public synchronized void update(List<Path> images) {
+        if (images.equals(this.images)) {
+            return;
+        }
+        this.images = new ArrayList<>(images);
+        metadata.keySet().retainAll(new HashSet<>(images));
+        clearColumns();
+
+        Integer[] order = new Integer[images.size()];
+        String[] names = new String[images.size()];
+        extensions = new HashMap<>();
+        for (int id = 0; id < images.size(); id++) {
+            order[id] = id;
+            names[id] = images.get(id).getFileName().toString().toLowerCase();
+            int dot = names[id].lastIndexOf('.');
+            String extension = (dot < 0) ? "" : names[id].substring(dot + 1);
+            extensions.computeIfAbsent(extension, key -> new BitSet()).set(id);
+        }
+        Arrays.sort(order, (a, b) -> names[a].compareTo(names[b]));
+        sortedNames = new String[order.length];
+        nameIds = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedNames[i] = names[order[i]];
+            nameIds[i] = order[i];
+        }
+    }
+
+    /**
+     * Forgets the metadata of {@code file}, e.g. because it was modified, so that it is read again when needed.
+     */
+    public synchronized void invalidate(Path file) {
+        if (metadata.remove(file) != null) {
+            clearColumns();
+        }
+    }
+
+    /**
+     * Returns the indexed images that match {@code query}, in the order of the indexed list.
+     */
+    public synchronized List<Path> find(ImageQuery query) {
+        BitSet matches = new BitSet();
+        matches.set(0, images.size());
+        if (!query.getNamePatterns().isEmpty()) {
+            BitSet named = new BitSet();
+            for (String pattern : query.getNamePatterns()) {
+                named.or(findNames(pattern));
+            }
+            matches.and(named);
+        }
+        if (!query.getExtensions().isEmpty()) {
+            BitSet extended = new BitSet();
+            for (String extension : query.getExtensions()) {
+                extended.or(extensions.getOrDefault(extension, new BitSet()));
+            }
+            matches.and(extended);
+        }
+        if (query.needsMetadata() && !matches.isEmpty()) {
+            buildColumns();
+            and(matches, sizes, query.getSize());
+            and(matches, widths, query.getWidth());
+            and(matches, heights, query.getHeight());
+            and(matches, dates, query.getDate());
+        }
+
+        List<Path> found = new ArrayList<>(matches.cardinality());
+        for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+            found.add(images.get(id));
+        }
+        return found;
+    }
+
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Returns the date of an image in the form of {@link ImageQuery}: when it was taken if the header says so,
+     * otherwise when the file was last modified.
+     */
+    public static long getDate(ImageMetadata metadata) {
+        Optional<String> taken = metadata.getDateTaken();
+        if (taken.isPresent()) {
+            try {
+                return LocalDateTime.parse(taken.get(), EXIF_DATE).toEpochSecond(ZoneOffset.UTC);
+            } catch (DateTimeParseException e) {
+                // cameras without a clock write blanks or zeros, fall back to the modification time
+            }
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(metadata.getLastModified()), ZoneId.systemDefault())
+                .toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the ids of the images whose name matches {@code pattern}, a prefix or a glob.
+     */
+    private BitSet findNames(String pattern) {
+        int wildcard = firstWildcard(pattern);
+        String prefix = (wildcard < 0) ? pattern : pattern.substring(0, wildcard);
+        int from = lowerBound(sortedNames, prefix);
+        int to = lowerBound(sortedNames, prefix + Character.MAX_VALUE);
+        BitSet ids = new BitSet();
+        if (wildcard < 0) {
+            for (int i = from; i < to; i++) {
+                ids.set(nameIds[i]);
+            }
+            return ids;
+        }
+        Pattern glob = toRegex(pattern);
+        for (int i = from; i < to; i++) {
+            if (glob.matcher(sortedNames[i]).matches()) {
+                ids.set(nameIds[i]);
+            }
+        }
+        return ids;
+    }
+
+    private static int firstWildcard(String pattern) {
+        int star = pattern.indexOf('*');
+        int question = pattern.indexOf('?');
+        return (star < 0 || question < 0) ? Math.max(star, question) : Math.min(star, question);
+    }
+
+    /**
+     * Returns the regular expression of a glob, where {@code *} is any run of characters and {@code ?} any one.
+     */
+    private static Pattern toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int literalStart = 0;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' || c == '?') {
+                if (i > literalStart) {
+                    regex.append(Pattern.quote(glob.substring(literalStart, i)));
+                }
+                regex.append(c == '*' ? ".*" : ".");
+                literalStart = i + 1;
+            }
+        }
+        if (literalStart < glob.length()) {
+            regex.append(Pattern.quote(glob.substring(literalStart)));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    /**
+     * Returns the position of the first of the sorted {@code names} that is not before {@code key}.
+     */
+    private static int lowerBound(String[] names, String key) {
+        int low = 0;
+        int high = names.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (names[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Keeps in {@code matches} only the images whose value in {@code column} is within {@code range}.
+     */
+    private static void and(BitSet matches, Column column, ImageQuery.Range range) {
+        if (!range.isAll()) {
+            matches.and(column.find(range));
+        }
+    }
+
+    /**
+     * Drops the sorted columns, so that they are built again by the next query that needs them.
+     */
+    private void clearColumns() {
+        sizes = null;
+        widths = null;
+        heights = null;
+        dates = null;
+    }
+
+    /**
+     * Reads the metadata that is not known yet and builds the sorted columns, unless they are up to date.
+     * Images whose metadata cannot be read are left out of the columns, so they match no range.
+     */
+    private void buildColumns() {
+        if (sizes != null) {
+            return;
+        }
+        List<ImageMetadata> known = new ArrayList<>(images.size());
+        for (Path image : images) {
+            known.add(metadata.computeIfAbsent(image, metadataReader).orElse(null));
+        }
+        sizes = new Column(known, ImageMetadata::getFileSize);
+        widths = new Column(known, ImageMetadata::getWidth);
+        heights = new Column(known, ImageMetadata::getHeight);
+        dates = new Column(known, ImageSearchIndex::getDate);
+    }
+
+    /**
+     * The values of one field of the images, sorted, with the id of the image each value belongs to.
+     */
+    private static class Column {
+        private final long[] values;
+        private final int[] ids;
+
+        Column(List<ImageMetadata> metadata, ToLongFunction<ImageMetadata> field) {
+            List<Integer> order = new ArrayList<>(metadata.size());
+            long[] byId = new long[metadata.size()];
+            for (int id = 0; id < metadata.size(); id++) {
+                if (metadata.get(id) != null) {
+                    byId[id] = field.applyAsLong(metadata.get(id));
+                    order.add(id);
+                }
+            }
+            order.sort((a, b) -> Long.compare(byId[a], byId[b]));
+            values = new long[order.size()];
+            ids = new int[order.size()];
+            for (int i = 0; i < order.size(); i++) {
+                ids[i] = order.get(i);
+                values[i] = byId[ids[i]];
+            }
+        }
+
+        /**
+         * Returns the ids of the images whose value is within {@code range}.
+         */
+        BitSet find(ImageQuery.Range range) {
+            BitSet found = new BitSet();
+            int to = upperBound(range.getMax());
+            for (int i = lowerBound(range.getMin()); i < to; i++) {
+                found.set(ids[i]);
+            }
+            return found;
+        }
+
+        /**
+         * Returns the position of the first value that is not below {@code key}.
+         */
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the position of the first value that is above {@code key}.
+         */
+        private int upperBound(long key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+//@@author benedictcss
+/**
+ * The editable images in a directory tree, e.g. a photo library of year and month folders.
+ * A library remembers the modification time of every folder it was built from, so that scanning the tree again
+ * only has to list the folders that changed since.
+ */
+public class Library {
+
+    private final Path root;
+    private final Map<Path, Folder> folders;
+    private final List<Path> images;
+
+    /**
+     * Creates a library of {@code folders}, which must include {@code root} itself.
+     */
+    public Library(Path root, Collection<Folder> folders) {
+        this.root = requireNonNull(root);
+        this.folders = new TreeMap<>();
+        List<Path> allImages = new ArrayList<>();
+        for (Folder folder : folders) {
+            this.folders.put(folder.getPath(), folder);
+            allImages.addAll(folder.getImages());
+        }
+        Collections.sort(allImages);
+        this.images = Collections.unmodifiableList(allImages);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the images of every folder of the library, sorted by path.
+     */
+    public List<Path> getImages() {
+        return images;
+    }
+
+    /**
+     * Returns the folder of the library at {@code path}, if it is one.
+     */
+    public Optional<Folder> getFolder(Path path) {
+        return Optional.ofNullable(folders.get(path));
+    }
+
+    /**
+     * Returns the folders of the library, sorted by path.
+     */
+    public Collection<Folder> getFolders() {
+        return Collections.unmodifiableCollection(folders.values());
+    }
+
+    /**
+     * Returns the number of images directly inside each folder that has any, sorted by path.
+     */
+    public Map<Path, Integer> getFolderCounts() {
+        Map<Path, Integer> counts = new TreeMap<>();
+        for (Folder folder : folders.values()) {
+            if (!folder.getImages().isEmpty()) {
+                counts.put(folder.getPath(), folder.getImages().size());
+            }
+        }
+        return counts;
+    }
+
+    public int getFolderCount() {
+        return folders.size();
+    }
+
+    public int getImageCount() {
+        return images.size();
+    }
+
+    /**
+     * A folder of a library: its images and subfolders as they were when the folder was last modified.
+     */
+    public static class Folder {
+        private final Path path;
+        private final long lastModified;
+        private final List<Path> images;
+        private final List<Path> subfolders;
+
+        public Folder(Path path, long lastModified, List<Path> images, List<Path> subfolders) {
+            this.path = requireNonNull(path);
+            this.lastModified = lastModified;
+            this.images = Collections.unmodifiableList(new ArrayList<>(images));
+            this.subfolders = Collections.unmodifiableList(new ArrayList<>(subfolders));
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public List<Path> getImages() {
+            return images;
+        }
+
+        public List<Path> getSubfolders() {
+            return subfolders;
+        }
+    }
+}
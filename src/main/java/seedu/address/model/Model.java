@@ -1,15 +1,21 @@
 package seedu.address.model;
 
 import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
-import javafx.scene.image.Image;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalOperationException;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.canvas.BlendMode;
 import seedu.address.model.canvas.Canvas;
 import seedu.address.model.google.PhotoHandler;
+import seedu.address.model.google.RemoteAlbum;
+import seedu.address.model.google.RemoteImage;
 import seedu.address.model.transformation.Transformation;
 
 /**
@@ -28,10 +34,16 @@ public interface Model {
     void setPhotoHandler(PhotoHandler instance);
 
     /**
-     * Gets currently logged in user
+     * Gets currently logged in user, waiting for the login started at startup to be over
      */
     String getUserLoggedIn() throws CommandException;
 
+    /**
+     * Returns the login started at startup, completed with the handler of the account logged in, or null if none
+     * was. Google commands wait for it through {@link #getPhotoHandler(boolean)}; other commands do not.
+     */
+    CompletableFuture<PhotoHandler> getGoogleConnection();
+
     /**
      * Performs necessary set up for current model (test or actual)
      */
@@ -68,9 +80,11 @@ public interface Model {
     void redoAllPreviewImage();
 
     /**
-     * Updates the userPrefs current directory.
+     * Updates the userPrefs current directory. Its images are listed in the background, and the first batch found
+     * is shown in the film reel before the whole directory is listed.
+     * @return a future completed once the whole directory is listed and the film reel is told to show it.
      */
-    void updateCurrDirectory(Path newCurrDirectory);
+    CompletableFuture<Void> updateCurrDirectory(Path newCurrDirectory);
 
     /**
      * Retrieves the userPrefs current directory.
@@ -97,26 +111,98 @@ public interface Model {
      */
     int getCurrBatchPointer();
 
+    /**
+     * Returns the number of images in a batch.
+     */
+    int getBatchSize();
+
+    /**
+     * Returns the image at {@code index} of the whole image list of the current directory.
+     */
+    Path getImage(Index index);
+
+    /**
+     * Updates the batch pointer to the batch containing the image at {@code index} of the whole image list.
+     */
+    void updateImageListBatchOf(Index index);
+
     /**
      * Updates entire image list.
      */
     void updateEntireImageList();
 
     /**
-     * Updates the batch pointer to the next 10 images.
+     * Shows only the images of the current directory that match {@code query}: indexes, batches and the film reel
+     * refer to them until the next search. An empty query shows every image again.
+     * @return the number of images shown.
+     */
+    int findImages(ImageQuery query);
+
+    /**
+     * Looks for groups of duplicate and near-duplicate images in the current directory in the background and then
+     * shows only the images of the groups, group after group, the same way as the results of a search.
+     * Nothing is shown if another directory was opened in the meantime.
+     * @param maxDistance the number of bits in which the perceptual hashes of two near-duplicates may differ.
+     * @return a future completed with the groups found.
+     */
+    CompletableFuture<List<List<Path>>> findDuplicates(int maxDistance);
+
+    /**
+     * Makes the directory tree under {@code root} the current library: the image list holds the images of all
+     * its folders. A library scanned before is shown at once and then checked for changes in the background.
+     * @return a future completed with the library once the scan in the background is done.
+     */
+    CompletableFuture<Library> openLibrary(Path root);
+
+    /**
+     * Returns the library that is open, or an empty Optional if a single directory is being browsed.
+     */
+    Optional<Library> getLibrary();
+
+    /**
+     * Updates the entry of {@code file} in the image list, without rescanning the current directory.
+     * Must be called on the JavaFX application thread, where the image list is read.
+     */
+    void updateImageList(Path file);
+
+    /**
+     * Returns the metadata of the image at {@code file} if it is already known and still current for the file's
+     * {@code attributes}, without reading the file.
+     */
+    Optional<ImageMetadata> getCachedImageMetadata(Path file, BasicFileAttributes attributes);
+
+    /**
+     * Reads the metadata of the images at {@code files} from their headers in the background, without decoding them.
+     * @return a future completed once the metadata of every image is known.
+     */
+    CompletableFuture<Void> readImageMetadata(List<Path> files);
+
+    /**
+     * Saves the metadata read from the images of the current directory.
+     */
+    void saveImageMetadata();
+
+    /**
+     * Updates the batch pointer to the next batch of images.
      */
     void updateImageListNextBatch();
 
     /**
-     * Updates the batch pointer to the previous 10 images.
+     * Updates the batch pointer to the previous batch of images.
      */
     void updateImageListPrevBatch();
 
     /**
-     * Retrieves the current displayed original image.
+     * Retrieves the current displayed original image, or null if it was opened from Google Photos and is not on the
+     * hard disk.
      */
     Path getCurrentOriginalImage();
 
+    /**
+     * Retrieves the file name of the current displayed image, whether or not it is on the hard disk.
+     */
+    String getCurrentImageName();
+
     /**
      * Set the current displayed original image.
      */
@@ -129,8 +215,9 @@ public interface Model {
 
     /**
      * Retrieves the current displayed preview image.
+     * @throws IOException if it cannot be rendered at full resolution.
      */
-    Path getCurrentPreviewImagePath();
+    Path getCurrentPreviewImagePath() throws IOException;
 
     /**
      * update the preview image stored in the model
@@ -139,11 +226,49 @@ public interface Model {
     void updateCurrentPreviewImage(BufferedImage image);
 
     /**
-     * Update the current displayed original image.
-     * @param img
+     * update the preview image stored in the model with a proxy, deferring the full resolution image
+     * @param proxy - the proxy with the transformation applied
+     * @param transformation - the unscaled transformation to apply at full resolution
+     */
+    void updateCurrentPreviewProxy(BufferedImage proxy, Transformation transformation);
+
+    /**
+     * Update the current displayed original image, decoding only its proxy, and prefetch the images around it.
      * @param imgPath
+     * @return the proxy of the image, to be displayed.
+     * @throws IOException if the image cannot be read.
+     */
+    BufferedImage updateCurrentOriginalImage(Path imgPath) throws IOException;
+
+    /**
+     * Shows the images of {@code album}, which are not downloaded, in the film reel instead of those of the current
+     * directory, until the images of the current directory are shown again.
+     */
+    void showRemoteAlbum(RemoteAlbum album);
+
+    /**
+     * Returns the remote album shown in the film reel, or an empty Optional if local images are shown.
+     */
+    Optional<RemoteAlbum> getRemoteAlbum();
+
+    /**
+     * Update the current displayed original image to the remote {@code image}, downloading only a rendition the
+     * size of its proxy. The original is downloaded into a temporary file once an operation needs it. The image has
+     * no original file in the current directory, so it can only be saved under a new name.
+     * @return the proxy of the image, to be displayed.
+     * @throws IOException if the rendition cannot be downloaded.
+     */
+    BufferedImage openRemoteImage(RemoteImage image) throws IOException;
+
+    /**
+     * Update the current displayed original image to the image named {@code fileName}, decoded from its encoded
+     * {@code content}, e.g. as downloaded into memory. Nothing is written to the hard disk until an operation needs
+     * the image at full resolution, and it is then written to the cache rather than the current directory.
+     * The image has no original file, so it can only be saved under a new name.
+     * @return the proxy of the image, to be displayed.
+     * @throws IOException if {@code content} is not a supported image.
      */
-    void updateCurrentOriginalImage(Image img, Path imgPath);
+    BufferedImage openDownloadedImage(String fileName, byte[] content) throws IOException;
 
     /**
      * Update the current displayed original image for test.
@@ -173,6 +298,8 @@ public interface Model {
 
     void setCanvasAuto(boolean auto);
 
+    void setCanvasProxy(boolean proxy);
+
     int getCanvasHeight();
 
     int getCanvasWidth();
@@ -184,4 +311,8 @@ public interface Model {
     void refreshHistoryList();
 
     void setCurrentLayerPosition(int newX, int newY);
+
+    void setCurrentLayerOpacity(float opacity);
+
+    void setCurrentLayerBlendMode(BlendMode mode);
 }
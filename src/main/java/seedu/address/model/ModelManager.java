@@ -7,12 +7,25 @@ import static seedu.address.model.google.PhotosLibraryClientFactory.DATA_STORE;
 import static seedu.address.model.google.PhotosLibraryClientFactory.TEST_FILE;
 
 import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
-import javafx.embed.swing.SwingFXUtils;
-import javafx.scene.image.Image;
+import com.google.common.eventbus.Subscribe;
+
+import javafx.application.Platform;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
@@ -20,14 +33,28 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.ui.ChangeDirectoryEvent;
 import seedu.address.commons.events.ui.HistoryUpdateEvent;
 import seedu.address.commons.events.ui.LayerUpdateEvent;
+import seedu.address.commons.events.ui.LibraryScanProgressEvent;
 import seedu.address.commons.events.ui.UpdateFilmReelEvent;
+import seedu.address.commons.events.ui.ViewportChangedEvent;
+import seedu.address.commons.events.ui.ViewportFrameEvent;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalOperationException;
+import seedu.address.commons.util.DirectoryWatcher;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ImagePrefetcher;
+import seedu.address.commons.util.LibraryScanner;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.canvas.BlendMode;
 import seedu.address.model.canvas.Canvas;
+import seedu.address.model.canvas.ViewportCompositor;
 import seedu.address.model.google.PhotoHandler;
 import seedu.address.model.google.PhotosLibraryClientFactory;
+import seedu.address.model.google.RemoteAlbum;
+import seedu.address.model.google.RemoteImage;
 import seedu.address.model.transformation.Transformation;
+import seedu.address.storage.ImageHashStorage;
+import seedu.address.storage.ImageMetadataStorage;
+import seedu.address.storage.LibraryStorage;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -37,10 +64,27 @@ public class ModelManager extends ComponentManager implements Model {
 
     private List<Path> dirImageList;
     private Path currentOriginalImage;
-    private PhotoHandler photoLibrary;
+    private String currentImageName;
+    // the handler of the account logged in, once the login started at startup, if any, is over
+    private volatile CompletableFuture<PhotoHandler> googleConnection = CompletableFuture.completedFuture(null);
     private Canvas canvas;
 
     private final UserPrefs userPrefs;
+    // runs the results of background work on the JavaFX application thread, or at once in test mode
+    private final Executor uiThread;
+    private final ViewportCompositor viewportCompositor = new ViewportCompositor();
+    private final ImageMetadataIndex imageMetadataIndex;
+    private final ImageSearchIndex imageSearchIndex;
+    private final DuplicateFinder duplicateFinder;
+    private final LibraryStorage libraryStorage;
+    private final Map<Path, Library> libraries = new HashMap<>();
+    // incremented whenever another directory or library is opened, so that scans started before are not shown
+    private final AtomicLong libraryGeneration = new AtomicLong();
+    private volatile Library library;
+    private DirectoryWatcher directoryWatcher;
+    private ImagePrefetcher imagePrefetcher;
+    // shown in the film reel instead of the local images while it is not null
+    private volatile RemoteAlbum remoteAlbum;
 
     /**
      * Strictly for test mode. Initializes a ModelManager with the given addressBook and userPrefs.
@@ -53,9 +97,20 @@ public class ModelManager extends ComponentManager implements Model {
 
         this.userPrefs = userPrefs;
         this.userPrefs.initImageList();
+        uiThread = isTest ? Runnable::run : Platform::runLater;
+        imageMetadataIndex = isTest ? new ImageMetadataIndex()
+                : new ImageMetadataIndex(new ImageMetadataStorage(ImageMetadataStorage.DEFAULT_DIRECTORY));
+        imageMetadataIndex.open(userPrefs.getCurrDirectory());
+        imageSearchIndex = new ImageSearchIndex(imageMetadataIndex::get);
+        duplicateFinder = new DuplicateFinder(isTest ? null : new ImageHashStorage(ImageHashStorage.DEFAULT_FILE));
+        libraryStorage = isTest ? null : new LibraryStorage(LibraryStorage.DEFAULT_DIRECTORY);
         dirImageList = this.userPrefs.getCurrImageListBatch();
 
         setUpForGoogle(isTest);
+        if (!isTest) {
+            watchCurrDirectory();
+            imagePrefetcher = ImagePrefetcher.getInstance();
+        }
     }
 
     public ModelManager() {
@@ -98,13 +153,243 @@ public class ModelManager extends ComponentManager implements Model {
         return userPrefs.getCurrBatchPointer();
     }
 
+    @Override
+    public int getBatchSize() {
+        return userPrefs.getBatchSize();
+    }
+
+    @Override
+    public Path getImage(Index index) {
+        return userPrefs.getImage(index.getZeroBased());
+    }
+
+    /**
+     * Updates the batch pointer in {@code UserPrefs} to the batch containing {@code index}, scrolling the film reel
+     * if it changed.
+     */
+    @Override
+    public void updateImageListBatchOf(Index index) {
+        if (userPrefs.updateImageListBatchOf(index.getZeroBased())) {
+            updateFilmReel();
+        }
+    }
+
     /**
-     * Update entire image list in {@code UserPrefs}
+     * Update entire image list in {@code UserPrefs}.
+     * While the current directory is watched, the list is already kept up to date and is not rescanned.
+     * An open library is checked for changes in the background, since only its root is watched.
      */
     @Override
     public void updateEntireImageList() {
-        userPrefs.initImageList();
-        EventsCenter.getInstance().post(new UpdateFilmReelEvent(getDirectoryImageList()));
+        if (library != null) {
+            openLibrary(library.getRoot());
+            return;
+        }
+        if (directoryWatcher == null) {
+            userPrefs.initImageList();
+        }
+        updateFilmReel();
+    }
+
+    /**
+     * Answers {@code query} from the search index, which is only brought up to date with the image list when the
+     * list has changed since the last search.
+     */
+    @Override
+    public int findImages(ImageQuery query) {
+        if (query.isEmpty()) {
+            userPrefs.showAllImages();
+        } else {
+            imageSearchIndex.update(userPrefs.getAllImages());
+            userPrefs.showFoundImages(imageSearchIndex.find(query));
+        }
+        updateFilmReel();
+        return getTotalImagesInDir();
+    }
+
+    @Override
+    public CompletableFuture<List<List<Path>>> findDuplicates(int maxDistance) {
+        long generation = libraryGeneration.get();
+        return duplicateFinder.findAsync(userPrefs.getAllImages(), maxDistance).whenComplete((groups, error) -> {
+            if (error != null) {
+                logger.warning("Unable to look for duplicates: " + error.getMessage());
+                return;
+            }
+            uiThread.execute(() -> {
+                if (generation == libraryGeneration.get()) {
+                    userPrefs.showImageGroups(groups);
+                    updateFilmReel();
+                }
+            });
+        });
+    }
+
+    /**
+     * Shows the library of {@code root} at once if it was scanned before, in this session or an earlier one,
+     * and scans the tree in the background, posting its progress to the status bar.
+     * The scan is applied on the JavaFX application thread, and only if no other directory or library was opened
+     * in the meantime.
+     */
+    @Override
+    public CompletableFuture<Library> openLibrary(Path root) {
+        long generation = libraryGeneration.incrementAndGet();
+        Optional<Library> cached = getCachedLibrary(root);
+        cached.ifPresent(this::showLibrary);
+        return LibraryScanner.scanAsync(root, cached.orElse(null), (folders, images, isDone) ->
+                uiThread.execute(() -> {
+                    if (generation == libraryGeneration.get()) {
+                        raise(new LibraryScanProgressEvent(root.toString(), folders, images, isDone));
+                    }
+                })
+        ).whenComplete((scanned, error) -> {
+            if (error != null) {
+                logger.warning("Unable to scan the library " + root + ": " + error.getMessage());
+            } else {
+                cacheLibrary(scanned);
+            }
+            uiThread.execute(() -> {
+                if (generation != libraryGeneration.get()) {
+                    return;
+                }
+                if (error != null) {
+                    raise(new ChangeDirectoryEvent(getCurrDirectory().toString()));
+                } else {
+                    showLibrary(scanned);
+                }
+            });
+        });
+    }
+
+    @Override
+    public Optional<Library> getLibrary() {
+        return Optional.ofNullable(library);
+    }
+
+    /**
+     * Fills the image list with the images of {@code library} and watches its root.
+     * Must be called on the JavaFX application thread.
+     */
+    private void showLibrary(Library library) {
+        boolean isOpened = !library.getRoot().equals(getCurrDirectory()) || this.library == null;
+        this.library = library;
+        userPrefs.openLibrary(library);
+        if (isOpened) {
+            imageMetadataIndex.open(library.getRoot());
+            if (imagePrefetcher != null) {
+                imagePrefetcher.cancel();
+            }
+            if (directoryWatcher != null) {
+                directoryWatcher.watch(library.getRoot());
+            }
+        }
+        updateFilmReel();
+    }
+
+    /**
+     * Returns the library of {@code root} from the last scan, if there was one.
+     */
+    private Optional<Library> getCachedLibrary(Path root) {
+        synchronized (libraries) {
+            if (libraries.containsKey(root)) {
+                return Optional.of(libraries.get(root));
+            }
+        }
+        if (libraryStorage == null) {
+            return Optional.empty();
+        }
+        try {
+            Optional<Library> stored = libraryStorage.readLibrary(root);
+            stored.ifPresent(this::rememberLibrary);
+            return stored;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Discarding stored library of " + root + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Keeps {@code library} in memory and, outside of test mode, on the hard disk for the next session.
+     */
+    private void cacheLibrary(Library library) {
+        rememberLibrary(library);
+        if (libraryStorage == null) {
+            return;
+        }
+        try {
+            libraryStorage.saveLibrary(library);
+        } catch (IOException e) {
+            logger.warning("Unable to save the library of " + library.getRoot() + ": " + e.getMessage());
+        }
+    }
+
+    private void rememberLibrary(Library library) {
+        synchronized (libraries) {
+            libraries.put(library.getRoot(), library);
+        }
+    }
+
+    /**
+     * Updates the entry of {@code file} in {@code UserPrefs} and, if it is or was shown, moves, adds, removes or
+     * redraws it in the film reel, without sending the rest of the list.
+     */
+    @Override
+    public void updateImageList(Path file) {
+        imageSearchIndex.invalidate(file);
+        int removedIndex = userPrefs.indexOfImage(file);
+        boolean isAddedOrRemoved = userPrefs.refreshImage(file);
+        if (isAddedOrRemoved && !userPrefs.hasImage(file)) {
+            imageMetadataIndex.remove(file);
+        }
+        int insertedIndex = userPrefs.indexOfImage(file);
+        if ((removedIndex >= 0 || insertedIndex >= 0) && remoteAlbum == null) {
+            EventsCenter.getInstance().post(new UpdateFilmReelEvent(file, removedIndex, insertedIndex));
+        }
+    }
+
+    /**
+     * Shows every image of the current directory in the film reel, scrolled to the current batch, in place of the
+     * remote album shown, if any.
+     */
+    private void updateFilmReel() {
+        remoteAlbum = null;
+        EventsCenter.getInstance().post(new UpdateFilmReelEvent(userPrefs.getImageList(0, getTotalImagesInDir()),
+                getCurrBatchPointer(), userPrefs.getImageGroups()));
+    }
+
+    @Override
+    public Optional<ImageMetadata> getCachedImageMetadata(Path file, BasicFileAttributes attributes) {
+        return imageMetadataIndex.getCached(file, attributes);
+    }
+
+    @Override
+    public CompletableFuture<Void> readImageMetadata(List<Path> files) {
+        return imageMetadataIndex.readAsync(files);
+    }
+
+    @Override
+    public void saveImageMetadata() {
+        imageMetadataIndex.save();
+    }
+
+    /**
+     * Keeps the image list up to date with changes made to the current directory outside of the app.
+     */
+    private void watchCurrDirectory() {
+        try {
+            // the image list is only changed on the JavaFX application thread, where commands read it
+            directoryWatcher = new DirectoryWatcher(file -> uiThread.execute(() -> updateImageList(file)), () ->
+                    uiThread.execute(() -> {
+                        if (library != null) {
+                            openLibrary(library.getRoot());
+                            return;
+                        }
+                        userPrefs.initImageList();
+                        updateFilmReel();
+                    }));
+            directoryWatcher.watch(getCurrDirectory());
+        } catch (IOException e) {
+            logger.warning("Unable to watch the current directory, changes will need a rescan: " + e.getMessage());
+        }
     }
 
     /**
@@ -113,7 +398,8 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateImageListNextBatch() {
         userPrefs.updateImageListNextBatch();
-        EventsCenter.getInstance().post(new UpdateFilmReelEvent(getDirectoryImageList()));
+        updateFilmReel();
+        prefetchAround(currentOriginalImage);
     }
 
     /**
@@ -121,7 +407,31 @@ public class ModelManager extends ComponentManager implements Model {
      */
     public void updateImageListPrevBatch() {
         userPrefs.updateImageListPrevBatch();
-        EventsCenter.getInstance().post(new UpdateFilmReelEvent(getDirectoryImageList()));
+        updateFilmReel();
+        prefetchAround(currentOriginalImage);
+    }
+
+    /**
+     * Prefetches the proxies of the images next to {@code current}, if it is in the current directory, and the
+     * thumbnails of the batches before and after the current one. Nothing is prefetched in test mode.
+     */
+    private void prefetchAround(Path current) {
+        if (imagePrefetcher == null) {
+            return;
+        }
+        List<Path> neighbours = new ArrayList<>();
+        int index = (current == null) ? -1 : userPrefs.indexOfImage(current);
+        if (index >= 0) {
+            for (int distance = 1; distance <= ImagePrefetcher.NEIGHBOURS; distance++) {
+                neighbours.addAll(userPrefs.getImageList(index + distance, index + distance + 1));
+                neighbours.addAll(userPrefs.getImageList(index - distance, index - distance + 1));
+            }
+        }
+        int pointer = userPrefs.getCurrBatchPointer();
+        int batchSize = userPrefs.getBatchSize();
+        List<Path> batchImages = new ArrayList<>(userPrefs.getImageList(pointer + batchSize, pointer + 2 * batchSize));
+        batchImages.addAll(userPrefs.getImageList(pointer - batchSize, pointer));
+        imagePrefetcher.prefetch(neighbours, batchImages);
     }
 
     @Override
@@ -132,6 +442,12 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void setCurrentOriginalImage(Path path) {
         this.currentOriginalImage = path;
+        this.currentImageName = (path == null) ? null : path.getFileName().toString();
+    }
+
+    @Override
+    public String getCurrentImageName() {
+        return this.currentImageName;
     }
 
     /**
@@ -139,13 +455,72 @@ public class ModelManager extends ComponentManager implements Model {
      * reinitialize the previewImageManager with the new image
      */
     @Override
-    public void updateCurrentOriginalImage(Image img, Path imgPath) {
-        currentOriginalImage = imgPath;
-        PreviewImage selectedImage = new PreviewImage(SwingFXUtils.fromFXImage(img, null));
+    public BufferedImage updateCurrentOriginalImage(Path imgPath) throws IOException {
+        BufferedImage proxy = (imagePrefetcher == null) ? PreviewImage.decodeProxy(imgPath)
+                : imagePrefetcher.getProxy(imgPath);
+        PreviewImage selectedImage = new PreviewImage(imgPath, proxy);
+        setCurrentOriginalImage(imgPath);
         canvas = new Canvas(selectedImage);
 
         refreshHistoryList();
         refreshLayerList();
+        prefetchAround(imgPath);
+        return proxy;
+    }
+
+    @Override
+    public void showRemoteAlbum(RemoteAlbum album) {
+        remoteAlbum = album;
+        EventsCenter.getInstance().post(new UpdateFilmReelEvent(album.getPaths(), album.getImages()));
+    }
+
+    @Override
+    public Optional<RemoteAlbum> getRemoteAlbum() {
+        return Optional.ofNullable(remoteAlbum);
+    }
+
+    /**
+     * Update the current displayed original image to a remote image, of which only a rendition the size of the
+     * proxy is downloaded, and reinitialize the previewImageManager with it
+     */
+    @Override
+    public BufferedImage openRemoteImage(RemoteImage image) throws IOException {
+        BufferedImage proxy = image.fetchRendition(PreviewImage.PROXY_MAX_DIMENSION);
+        PreviewImage.SourceFetcher original = () -> {
+            PhotoHandler handler = awaitGoogleConnection();
+            if (handler == null) {
+                throw new IOException("Not logged in to download " + image.getName());
+            }
+            return image.fetchOriginal(handler);
+        };
+        PreviewImage selectedImage = new PreviewImage(image.getName(), image.getWidth(), image.getHeight(), proxy,
+                original);
+        // only fetched into a temporary file, so a plain save must not overwrite a file of the same name here
+        currentOriginalImage = null;
+        currentImageName = image.getName();
+        canvas = new Canvas(selectedImage);
+
+        refreshHistoryList();
+        refreshLayerList();
+        return proxy;
+    }
+
+    /**
+     * Update the current displayed original image to an image decoded from {@code content}, of which only the
+     * proxy is decoded, and reinitialize the previewImageManager with it
+     */
+    @Override
+    public BufferedImage openDownloadedImage(String fileName, byte[] content) throws IOException {
+        BufferedImage proxy = PreviewImage.decodeProxy(content);
+        PreviewImage selectedImage = new PreviewImage(fileName, content, proxy);
+        // never written to the current directory, so a plain save must not overwrite a file of the same name there
+        currentOriginalImage = null;
+        currentImageName = fileName;
+        canvas = new Canvas(selectedImage);
+
+        refreshHistoryList();
+        refreshLayerList();
+        return proxy;
     }
 
     /**
@@ -162,11 +537,12 @@ public class ModelManager extends ComponentManager implements Model {
     // @@author chivent
     @Override
     public void setPhotoHandler(PhotoHandler instance) {
-        photoLibrary = instance;
+        googleConnection = CompletableFuture.completedFuture(instance);
     }
 
     @Override
     public PhotoHandler getPhotoHandler(boolean subCommand) throws CommandException {
+        PhotoHandler photoLibrary = awaitGoogleConnection();
         if (photoLibrary == null) {
             if (subCommand) {
                 throw new CommandException("You are not logged in! Please login with `login` to proceed.");
@@ -179,18 +555,36 @@ public class ModelManager extends ComponentManager implements Model {
             } catch (Exception e) {
                 throw new CommandException(MESSAGE_CONNECTION_FAILURE);
             }
+            setPhotoHandler(photoLibrary);
         }
         return photoLibrary;
     }
 
     @Override
     public String getUserLoggedIn () throws CommandException {
-        if (photoLibrary == null) {
+        if (awaitGoogleConnection() == null) {
             return null;
         }
         return getPhotoHandler(false).identifyUser();
     }
 
+    @Override
+    public CompletableFuture<PhotoHandler> getGoogleConnection() {
+        return googleConnection;
+    }
+
+    /**
+     * Waits for the login started at startup to be over, if it is not yet, and returns the handler of the account
+     * logged in, or null if there is none.
+     */
+    private PhotoHandler awaitGoogleConnection() {
+        try {
+            return googleConnection.join();
+        } catch (CancellationException | CompletionException e) {
+            return null;
+        }
+    }
+
     @Override
     public void setUpForGoogle(boolean isTest) {
         if (isTest) {
@@ -203,15 +597,46 @@ public class ModelManager extends ComponentManager implements Model {
         } else {
             FileUtil.deleteIfAvaliable(TEST_FILE);
             if (!BLOCKER.exists()) {
-                try {
-                    photoLibrary = PhotosLibraryClientFactory.loginUserIfPossible();
-                } catch (Exception e) {
-                    logger.warning("Unable to log into user account");
-                }
+                connectToGoogle(ModelManager::loginAndWarmUp);
             }
         }
     }
 
+    /**
+     * Logs in with {@code login} on a background thread, so that startup and the commands that do not need Google
+     * Photos do not wait for it. Google commands wait for it to be over through {@link #getPhotoHandler(boolean)}.
+     */
+    void connectToGoogle(Supplier<PhotoHandler> login) {
+        googleConnection = CompletableFuture.supplyAsync(login, runnable -> {
+            Thread thread = new Thread(runnable, "google-login");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Logs into the account whose credentials were stored, if any, and opens the connection to Google Photos
+     * ahead of the first command.
+     * @return the handler of the account, or null if none could be logged into.
+     */
+    private static PhotoHandler loginAndWarmUp() {
+        PhotoHandler handler;
+        try {
+            handler = PhotosLibraryClientFactory.loginUserIfPossible();
+        } catch (Exception e) {
+            logger.warning("Unable to log into user account");
+            return null;
+        }
+        if (handler != null) {
+            try {
+                handler.warmUp();
+            } catch (RuntimeException e) {
+                logger.warning("Unable to connect to Google Photos ahead of time: " + e.getMessage());
+            }
+        }
+        return handler;
+    }
+
     //=========== Undo/Redo =================================================================================
     // @@author ihwk1996
     @Override
@@ -265,7 +690,7 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public Path getCurrentPreviewImagePath() {
+    public Path getCurrentPreviewImagePath() throws IOException {
         return getCurrentPreviewImage().getCurrentPath();
     }
 
@@ -279,14 +704,38 @@ public class ModelManager extends ComponentManager implements Model {
             logger.severe(e.getMessage());
         }
     }
+
+    @Override
+    public void updateCurrentPreviewProxy(BufferedImage proxy, Transformation transformation) {
+        canvas.getCurrentLayer().getImage().commitProxy(proxy, transformation);
+        refreshHistoryList();
+    }
     //=========== Update UserPrefs ==========================================================================
 
     // @@author benedictcss
     @Override
-    public void updateCurrDirectory(Path newCurrDirectory) {
-        this.userPrefs.updateUserPrefs(newCurrDirectory);
+    public CompletableFuture<Void> updateCurrDirectory(Path newCurrDirectory) {
+        long generation = libraryGeneration.incrementAndGet();
+        library = null;
+        remoteAlbum = null;
+        CompletableFuture<Void> scan = userPrefs.updateUserPrefs(newCurrDirectory, batch -> uiThread.execute(() -> {
+            if (generation == libraryGeneration.get()) {
+                EventsCenter.getInstance().post(new UpdateFilmReelEvent(batch));
+            }
+        }));
+        imageMetadataIndex.open(newCurrDirectory);
+        if (imagePrefetcher != null) {
+            imagePrefetcher.cancel();
+        }
+        if (directoryWatcher != null) {
+            directoryWatcher.watch(newCurrDirectory);
+        }
         EventsCenter.getInstance().post(new ChangeDirectoryEvent(getCurrDirectory().toString()));
-        EventsCenter.getInstance().post(new UpdateFilmReelEvent(getDirectoryImageList()));
+        return scan.whenComplete((done, error) -> uiThread.execute(() -> {
+            if (generation == libraryGeneration.get()) {
+                updateFilmReel();
+            }
+        }));
     }
 
     @Override
@@ -324,6 +773,14 @@ public class ModelManager extends ComponentManager implements Model {
         canvas.setCanvasAuto(auto);
     }
 
+    /**
+     * Turns rendering of the preview from proxies on/off.
+     * @param proxy - if true, the preview is rendered from downscaled proxies.
+     */
+    public void setCanvasProxy(boolean proxy) {
+        canvas.setProxyEnabled(proxy);
+    }
+
     /**
      * @return the height of the canvas.
      */
@@ -384,6 +841,14 @@ public class ModelManager extends ComponentManager implements Model {
         canvas.setCurrentLayerPosition(x, y);
     }
 
+    public void setCurrentLayerOpacity(float opacity) {
+        canvas.getCurrentLayer().setOpacity(opacity);
+    }
+
+    public void setCurrentLayerBlendMode(BlendMode mode) {
+        canvas.getCurrentLayer().setBlendMode(mode);
+    }
+
     /**
      * Swaps two layers.
      * @param to - Layer 1
@@ -414,6 +879,16 @@ public class ModelManager extends ComponentManager implements Model {
                         canvas.getLayerNames(), canvas.getCurrentLayerIndex()));
     }
 
+    @Subscribe
+    private void handleViewportChangedEvent(ViewportChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        if (canvas == null) {
+            return;
+        }
+        viewportCompositor.request(canvas, event.viewport, frame ->
+                raise(new ViewportFrameEvent(frame, event.target, event.viewport)));
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
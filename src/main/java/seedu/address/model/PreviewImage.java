@@ -1,15 +1,25 @@
 package seedu.address.model;
 
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 import javax.imageio.ImageIO;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ImageMagickUtil;
+import seedu.address.commons.util.RasterUtil;
 import seedu.address.model.transformation.Transformation;
 import seedu.address.model.transformation.TransformationSet;
 
@@ -17,12 +27,39 @@ import seedu.address.model.transformation.TransformationSet;
 
 /**
  * Wraps the image and transformation set for preview.
+ * Every state is cached at full resolution and as a proxy downscaled by {@code proxyScale}. A state committed
+ * through {@link #commitProxy(BufferedImage, Transformation)} only has its proxy until the full resolution
+ * version is rendered by a background worker, or on demand by {@link #getFullResolutionPath()}.
+ * A preview image opened from a file with {@link #PreviewImage(Path)} starts out the same way: only its proxy is
+ * decoded, and the file is copied into the cache once an operation needs the initial state at full resolution.
+ * An image that is not on the hard disk, such as one in Google Photos, is opened with a proxy decoded from a
+ * rendition scaled by its server, and its file is only fetched once it is needed at full resolution. One downloaded
+ * into memory is opened with {@link #PreviewImage(String, byte[])} and only written to the cache once it is needed
+ * at full resolution.
  */
 public class PreviewImage {
 
+    /** Longest side of a proxy; twice the size of the preview panel so that it stays sharp on HiDPI screens. */
+    public static final int PROXY_MAX_DIMENSION = 800;
+
     private static final String CACHE_PATH;
+    private static final String CACHE_EXTENSION = "png";
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final ExecutorService fullResolutionWorker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "full-resolution-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static FullResolutionRenderer fullResolutionRenderer = (source, transformation) ->
+            ImageMagickUtil.processImage(source, transformation, false);
+
     private final TransformationSet transformationSet;
+    // For each state, the transformation still to be applied at full resolution, or null if it is up to date.
+    private final ArrayList<PendingState> pendingStates = new ArrayList<>();
+    private final Object fullResolutionLock = new Object();
+    private final String initialExtension; // extension of the initial state, which may be a copy of the source
+    private double proxyScale;
+    private volatile long version; // changes whenever the current state changes
     private int height;
     private int width;
     private int currentIndex;
@@ -41,6 +78,8 @@ public class PreviewImage {
         this.currentIndex = -1;
         this.height = image.getHeight();
         this.width = image.getWidth();
+        this.proxyScale = getProxyScale(width, height);
+        this.initialExtension = CACHE_EXTENSION;
         commit(image);
         this.transformationSet = new TransformationSet();
     }
@@ -51,10 +90,78 @@ public class PreviewImage {
         this.currentIndex = -1;
         this.height = image.getHeight();
         this.width = image.getWidth();
+        this.proxyScale = getProxyScale(width, height);
+        this.initialExtension = CACHE_EXTENSION;
         commit(image);
         this.transformationSet = transformationSet;
     }
 
+    /**
+     * Opens the image file at {@code source} without decoding it in full: its size is read from the header and
+     * only the proxy is decoded, with subsampling.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public PreviewImage(Path source) throws IOException {
+        this(source, decodeProxy(source));
+    }
+
+    /**
+     * Opens the image file at {@code source} with a proxy that was already decoded by {@link #decodeProxy(Path)}.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public PreviewImage(Path source, BufferedImage proxy) throws IOException {
+        this(source.getFileName().toString(), RasterUtil.readSize(source.toFile()), proxy, new PendingState(source));
+    }
+
+    /**
+     * Opens the image named {@code fileName}, of {@code width} by {@code height} pixels, with a proxy decoded from a
+     * smaller rendition of it, e.g. one scaled by the server it is stored on. Its file is only fetched with
+     * {@code source} once an operation needs the initial state at full resolution.
+     * @throws IOException if the proxy cannot be cached.
+     */
+    public PreviewImage(String fileName, int width, int height, BufferedImage proxy, SourceFetcher source)
+            throws IOException {
+        this(fileName, new Dimension(width, height),
+                scaleToProxy(proxy, width, height, getProxyScale(width, height)), new PendingState(source));
+    }
+
+    /**
+     * Opens the image named {@code fileName} from its encoded {@code content}, e.g. as downloaded into memory, so
+     * that it never goes through the hard disk on the way in. Only the proxy is decoded, with subsampling, and
+     * {@code content} is only written to the cache, as is, once an operation needs the initial state at full
+     * resolution.
+     * @throws IOException if {@code content} is not a supported image, or the proxy cannot be cached.
+     */
+    public PreviewImage(String fileName, byte[] content) throws IOException {
+        this(fileName, content, decodeProxy(content));
+    }
+
+    /**
+     * Opens the image named {@code fileName} from its encoded {@code content}, with a proxy that was already decoded
+     * by {@link #decodeProxy(byte[])}.
+     * @throws IOException if {@code content} is not a supported image, or the proxy cannot be cached.
+     */
+    public PreviewImage(String fileName, byte[] content, BufferedImage proxy) throws IOException {
+        this(fileName, RasterUtil.readSize(content), proxy, new PendingState(cacheOnFetch(fileName, content)));
+    }
+
+    private PreviewImage(String fileName, Dimension size, BufferedImage proxy, PendingState initial)
+            throws IOException {
+        int dot = fileName.lastIndexOf('.');
+        this.layerId = System.currentTimeMillis();
+        this.currentSize = 1;
+        this.currentIndex = 0;
+        this.height = size.height;
+        this.width = size.width;
+        this.proxyScale = getProxyScale(width, height);
+        this.initialExtension = (dot > 0) ? fileName.substring(dot + 1).toLowerCase() : CACHE_EXTENSION;
+        this.pendingStates.add(initial);
+        this.transformationSet = new TransformationSet();
+        if (proxyScale != 1.0) {
+            ImageIO.write(proxy, CACHE_EXTENSION, getFile(0, true));
+        }
+    }
+
     public int getHeight() {
         return height;
     }
@@ -63,7 +170,7 @@ public class PreviewImage {
         return width;
     }
 
-    public int getCurrentIndex() {
+    public synchronized int getCurrentIndex() {
         return currentIndex;
     }
 
@@ -71,6 +178,45 @@ public class PreviewImage {
         return currentSize;
     }
 
+    /**
+     * Returns a number that changes whenever the current state changes, so that views of the image know when
+     * they are stale.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the factor by which an image of the given size is downscaled so that it fits
+     * within {@code PROXY_MAX_DIMENSION}. Images that already fit are not scaled.
+     */
+    public static double getProxyScale(int width, int height) {
+        return Math.min(1.0, (double) PROXY_MAX_DIMENSION / Math.max(width, height));
+    }
+
+    public double getProxyScale() {
+        return proxyScale;
+    }
+
+    /**
+     * Changes the scale of the proxies, so that layers of different sizes share the scale of their canvas.
+     * Only supported before any transformation is committed; the proxy of the initial state is regenerated.
+     */
+    public synchronized void setProxyScale(double proxyScale) {
+        if (this.proxyScale == proxyScale) {
+            return;
+        }
+        if (currentSize != 1) {
+            throw new IllegalStateException("The proxy scale can only be changed before any transformation.");
+        }
+        this.proxyScale = proxyScale;
+        try {
+            writeInitialProxy();
+        } catch (IOException e) {
+            logger.warning("Exception while caching :" + e.getMessage());
+        }
+    }
+
     /**
      * Check if have previous states to undo.
      */
@@ -93,6 +239,7 @@ public class PreviewImage {
             throw new NoUndoableStateException();
         }
         currentIndex--;
+        version++;
     }
 
     /**
@@ -103,6 +250,7 @@ public class PreviewImage {
             throw new NoRedoableStateException();
         }
         currentIndex++;
+        version++;
     }
 
     /**
@@ -113,6 +261,7 @@ public class PreviewImage {
             throw new NoUndoableStateException();
         }
         currentIndex = 0;
+        version++;
     }
 
     /**
@@ -123,28 +272,52 @@ public class PreviewImage {
             throw new NoRedoableStateException();
         }
         currentIndex = currentSize - 1;
+        version++;
     }
 
     /**
      * Determine if history needs to be purged before committing.
      */
-    public void commit(BufferedImage image) {
-        if (currentIndex == currentSize - 1) {
-            normalCommit(image);
-        } else {
-            purgeAndCommit(image);
+    public synchronized void commit(BufferedImage image) {
+        if (currentIndex != currentSize - 1) {
+            purge();
+        }
+        normalCommit(image, null);
+    }
+
+    /**
+     * Commits a state of which only the proxy is known. The full resolution version is rendered in the background
+     * by applying {@code transformation} to the full resolution version of the current state.
+     * @param proxy the current proxy with {@code transformation} applied.
+     * @param transformation the transformation that was applied, unscaled.
+     */
+    public synchronized void commitProxy(BufferedImage proxy, Transformation transformation) {
+        if (proxyScale == 1.0) {
+            commit(proxy);
+            return;
+        }
+        if (currentIndex != currentSize - 1) {
+            purge();
         }
+        PendingState pending = new PendingState(transformation);
+        normalCommit(proxy, pending);
+        renderInBackground(currentIndex);
     }
 
     /**
      * Increment size and current index, then cache the image.
+     * @param pending null if {@code image} is at full resolution, otherwise {@code image} is the proxy.
      */
-    private void normalCommit(BufferedImage image) {
+    private void normalCommit(BufferedImage image, PendingState pending) {
         try {
             currentSize++;
             currentIndex++;
-            File out = new File(CACHE_PATH + "/Layer" + layerId + "-" + currentIndex + ".png");
-            ImageIO.write(image, "png", out);
+            version++;
+            pendingStates.add(pending);
+            if (pending == null) {
+                ImageIO.write(image, CACHE_EXTENSION, getFile(currentIndex, false));
+            }
+            writeProxy(image, currentIndex);
         } catch (IOException e) {
             logger.warning("Exception while caching :" + e.getMessage());
         }
@@ -152,42 +325,320 @@ public class PreviewImage {
     }
 
     /**
-     * Purge redundant images, then do a normal commit.
+     * Writes the proxy of state {@code index}, downscaling {@code image} first if it is at full resolution.
+     */
+    private void writeProxy(BufferedImage image, int index) throws IOException {
+        if (proxyScale == 1.0) {
+            return;
+        }
+        BufferedImage proxy = (pendingStates.get(index) == null)
+                ? scaleToProxy(image, image.getWidth(), image.getHeight(), proxyScale) : image;
+        ImageIO.write(proxy, CACHE_EXTENSION, getFile(index, true));
+    }
+
+    /**
+     * Writes the proxy of the initial state.
+     */
+    private void writeInitialProxy() throws IOException {
+        if (proxyScale == 1.0) {
+            return;
+        }
+        PendingState initial = pendingStates.get(0);
+        File file = (initial != null && initial.hasSource()) ? initial.getSource().toFile() : getFile(0, false);
+        ImageIO.write(decodeProxy(file, width, height, proxyScale), CACHE_EXTENSION, getFile(0, true));
+    }
+
+    /**
+     * Decodes the proxy of the image file at {@code source}, or the whole image if it already fits within
+     * {@code PROXY_MAX_DIMENSION}.
+     * @throws IOException if the file cannot be read or is not a supported image.
+     */
+    public static BufferedImage decodeProxy(Path source) throws IOException {
+        Dimension size = RasterUtil.readSize(source.toFile());
+        return decodeProxy(source.toFile(), size.width, size.height, getProxyScale(size.width, size.height));
+    }
+
+    /**
+     * Decodes the proxy of the encoded image {@code content}, or the whole image if it already fits within
+     * {@code PROXY_MAX_DIMENSION}.
+     * @throws IOException if {@code content} is not a supported image.
+     */
+    public static BufferedImage decodeProxy(byte[] content) throws IOException {
+        Dimension size = RasterUtil.readSize(content);
+        return decodeProxy(content, size.width, size.height, getProxyScale(size.width, size.height));
+    }
+
+    /**
+     * Decodes the image at {@code file}, of {@code width} by {@code height} pixels, downscaled by {@code scale}.
+     * The image is decoded with the coarsest subsampling that still keeps at least as many pixels as the result,
+     * so a huge image is never decoded in full just to be scaled down.
+     */
+    private static BufferedImage decodeProxy(File file, int width, int height, double scale) throws IOException {
+        int subsampling = Math.max(1, (int) (1 / scale));
+        BufferedImage decoded = RasterUtil.readRegion(file, new Rectangle(0, 0, width, height), subsampling);
+        return scaleToProxy(decoded, width, height, scale);
+    }
+
+    /**
+     * Decodes the encoded image {@code content}, of {@code width} by {@code height} pixels, downscaled by
+     * {@code scale}, as {@link #decodeProxy(File, int, int, double)} does.
+     */
+    private static BufferedImage decodeProxy(byte[] content, int width, int height, double scale) throws IOException {
+        int subsampling = Math.max(1, (int) (1 / scale));
+        BufferedImage decoded = RasterUtil.readRegion(content, new Rectangle(0, 0, width, height), subsampling);
+        return scaleToProxy(decoded, width, height, scale);
+    }
+
+    /**
+     * Returns a fetcher that writes {@code content}, the encoded image named {@code fileName}, into the cache the
+     * first time it is called.
+     */
+    private static SourceFetcher cacheOnFetch(String fileName, byte[] content) {
+        int dot = fileName.lastIndexOf('.');
+        String extension = (dot > 0) ? fileName.substring(dot) : "." + CACHE_EXTENSION;
+        return () -> {
+            Path source = File.createTempFile("Source", extension, new File(CACHE_PATH)).toPath();
+            Files.write(source, content);
+            return source;
+        };
+    }
+
+    /**
+     * Scales {@code image} to the size of an image of {@code fullWidth} by {@code fullHeight} pixels downscaled by
+     * {@code scale}. An image that already has that size is returned as is.
+     */
+    private static BufferedImage scaleToProxy(BufferedImage image, int fullWidth, int fullHeight, double scale) {
+        int proxyWidth = Math.max(1, (int) Math.round(fullWidth * scale));
+        int proxyHeight = Math.max(1, (int) Math.round(fullHeight * scale));
+        if (image.getWidth() == proxyWidth && image.getHeight() == proxyHeight) {
+            return image;
+        }
+        BufferedImage proxy = new BufferedImage(proxyWidth, proxyHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = proxy.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, proxyWidth, proxyHeight, null);
+        g.dispose();
+        return proxy;
+    }
+
+    /**
+     * Purge redundant images.
      */
-    private void purgeAndCommit(BufferedImage image) {
+    private void purge() {
         int numDeleted = 0;
         for (int i = currentIndex + 1; i < currentSize; i++) {
-            File toDelete = new File(CACHE_PATH + "/Layer" + layerId + "-" + i + ".png");
-            toDelete.delete();
+            getFile(i, false).delete();
+            getFile(i, true).delete();
             numDeleted++;
         }
         // Reduce the current size depending on the number of images deleted.
         currentSize = currentSize - numDeleted;
+        pendingStates.subList(currentSize, pendingStates.size()).clear();
+    }
 
-        normalCommit(image);
+    /**
+     * Renders state {@code index} at full resolution if it is still the state described by {@code pending}.
+     * States are rendered in order, so the previous state is always available at full resolution.
+     * The initial state of an image opened from a file is copied as is, as decoding and encoding it would not
+     * change it.
+     * @throws IOException if the state cannot be rendered, e.g. because its source cannot be downloaded. The state
+     *     is left pending, so that it is rendered again the next time it is needed.
+     */
+    private void renderFullResolution(int index, PendingState pending) throws IOException {
+        synchronized (fullResolutionLock) {
+            synchronized (this) {
+                if (!isPending(index, pending)) {
+                    return;
+                }
+            }
+            try {
+                BufferedImage image = null;
+                if (pending.hasSource()) {
+                    // the initial state is never purged, so it can be copied without holding the lock
+                    Files.copy(pending.getSource(), getFile(index, false).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    image = fullResolutionRenderer.render(getFile(index - 1, false).toPath(), pending.transformation);
+                }
+                synchronized (this) {
+                    if (isPending(index, pending)) {
+                        if (image != null) {
+                            ImageIO.write(image, CACHE_EXTENSION, getFile(index, false));
+                        }
+                        pendingStates.set(index, null);
+                    }
+                }
+            } catch (IOException e) {
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while rendering at full resolution", e);
+            } catch (Exception e) {
+                throw new IOException("Unable to render at full resolution: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean isPending(int index, PendingState pending) {
+        return index < pendingStates.size() && pendingStates.get(index) == pending;
     }
 
     /**
-     * Get the current image state from cache.
+     * Renders every state up to {@code index} that is not yet available at full resolution.
+     * @throws IOException if one of them cannot be rendered.
      */
-    public BufferedImage getImage() {
-        BufferedImage imageFromCache = null;
-        try {
-            File in = new File(CACHE_PATH + "/Layer" + layerId + "-" + currentIndex + ".png");
-            imageFromCache = ImageIO.read(in);
-        } catch (IOException e) {
-            logger.warning("Error reading from cache.");
+    private void renderFullResolutionUpTo(int index) throws IOException {
+        for (int i = 0; i <= index; i++) {
+            PendingState pending;
+            synchronized (this) {
+                pending = i < pendingStates.size() ? pendingStates.get(i) : null;
+            }
+            if (pending != null) {
+                renderFullResolution(i, pending);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the current state is available at full resolution.
+     */
+    public synchronized boolean isFullResolutionReady() {
+        return pendingStates.get(currentIndex) == null;
+    }
+
+    /**
+     * Renders the current state at full resolution in the background, if it is still pending.
+     */
+    public void requestFullResolution() {
+        int index;
+        synchronized (this) {
+            index = currentIndex;
         }
+        renderInBackground(index);
+    }
+
+    /**
+     * Renders every state up to {@code index} at full resolution in the background. A failure is only logged, as
+     * the state is rendered again, and the failure reported, once an operation needs it.
+     */
+    private void renderInBackground(int index) {
+        fullResolutionWorker.submit(() -> {
+            try {
+                renderFullResolutionUpTo(index);
+            } catch (IOException e) {
+                logger.warning("Exception while rendering at full resolution: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Get the current image state from cache, at proxy resolution, without rendering it at full resolution.
+     * Images that are not downscaled are their own proxy, so the full resolution image is returned instead.
+     * @throws IOException if the proxy cannot be read, or the full resolution image cannot be rendered.
+     */
+    public BufferedImage getProxy() throws IOException {
+        double scale;
+        int index;
+        synchronized (this) {
+            scale = proxyScale;
+            index = currentIndex;
+        }
+        if (scale == 1.0) {
+            return getImage();
+        }
+        return RasterUtil.readImage(getFile(index, true));
+    }
+
+    /**
+     * Get the current image state from cache, at full resolution.
+     * An initial state that has not been copied into the cache yet is decoded from its source file instead.
+     * @throws IOException if the image cannot be read, or cannot be rendered or fetched at full resolution.
+     */
+    public BufferedImage getImage() throws IOException {
+        PendingState initial;
+        synchronized (this) {
+            PendingState pending = pendingStates.get(currentIndex);
+            initial = (pending != null && pending.hasSource()) ? pending : null;
+        }
+        Path path = (initial != null) ? initial.getSource() : getFullResolutionPath();
+        BufferedImage imageFromCache = RasterUtil.readImage(path.toFile());
         logger.info("Reading from cache successful.");
         return imageFromCache;
     }
 
     /**
-     * Get the current image path from cache.
+     * Get the current image path from cache, at full resolution.
+     * @throws IOException if the current state cannot be rendered at full resolution.
+     */
+    public Path getCurrentPath() throws IOException {
+        return getFullResolutionPath();
+    }
+
+    /**
+     * Get the path of the current proxy from cache.
+     * Images that are not downscaled are their own proxy, so the full resolution path is returned instead.
+     * @throws IOException if the image is its own proxy and the state cannot be rendered at full resolution.
+     */
+    public Path getProxyPath() throws IOException {
+        int index;
+        synchronized (this) {
+            index = currentIndex;
+        }
+        return getProxyPath(index);
+    }
+
+    /**
+     * Get the path of the proxy of state {@code index} from cache, e.g. of a state pinned by a snapshot of the
+     * canvas while the image keeps changing.
+     * @throws IOException if the image is its own proxy and the state cannot be rendered at full resolution.
      */
-    public Path getCurrentPath() {
-        File f = new File(CACHE_PATH + "/Layer" + layerId + "-" + currentIndex + ".png");
-        return f.toPath();
+    public Path getProxyPath(int index) throws IOException {
+        synchronized (this) {
+            if (proxyScale != 1.0) {
+                return getFile(index, true).toPath();
+            }
+        }
+        return getFullResolutionPath(index);
+    }
+
+    /**
+     * Get the path of the current state at full resolution, rendering it first if it is still pending.
+     * @throws IOException if the state cannot be rendered at full resolution.
+     */
+    public Path getFullResolutionPath() throws IOException {
+        int index;
+        synchronized (this) {
+            index = currentIndex;
+        }
+        return getFullResolutionPath(index);
+    }
+
+    /**
+     * Get the path of state {@code index} at full resolution, rendering it first if it is still pending.
+     * @throws IOException if the state cannot be rendered at full resolution.
+     */
+    public Path getFullResolutionPath(int index) throws IOException {
+        renderFullResolutionUpTo(index);
+        synchronized (this) {
+            if (index >= pendingStates.size() || pendingStates.get(index) != null) {
+                throw new IOException("State " + index + " is not available at full resolution");
+            }
+        }
+        return getFile(index, false).toPath();
+    }
+
+    private File getFile(int index, boolean isProxy) {
+        String extension = (index == 0 && !isProxy) ? initialExtension : CACHE_EXTENSION;
+        return new File(CACHE_PATH + "/Layer" + layerId + "-" + index + (isProxy ? "-proxy" : "") + "." + extension);
+    }
+
+    static FullResolutionRenderer getFullResolutionRenderer() {
+        return fullResolutionRenderer;
+    }
+
+    static void setFullResolutionRenderer(FullResolutionRenderer renderer) {
+        fullResolutionRenderer = renderer;
     }
 
     public TransformationSet getTransformationSet() {
@@ -226,6 +677,62 @@ public class PreviewImage {
         }
     }
 
+    /**
+     * Renders a transformation at full resolution.
+     */
+    @FunctionalInterface
+    interface FullResolutionRenderer {
+        BufferedImage render(Path source, Transformation transformation) throws Exception;
+    }
+
+    /**
+     * Fetches the file an image was opened from, e.g. by downloading it.
+     */
+    @FunctionalInterface
+    public interface SourceFetcher {
+        Path fetch() throws IOException;
+    }
+
+    /**
+     * A state that is only available as a proxy: either a transformation of the previous state, or the initial
+     * state of an image opened from a source file, which is fetched the first time it is needed.
+     */
+    private static class PendingState {
+        private final Transformation transformation;
+        private final SourceFetcher fetcher;
+        private Path source;
+
+        private PendingState(Transformation transformation) {
+            this.transformation = transformation;
+            this.fetcher = null;
+        }
+
+        private PendingState(Path source) {
+            this.transformation = null;
+            this.fetcher = () -> source;
+            this.source = source;
+        }
+
+        private PendingState(SourceFetcher fetcher) {
+            this.transformation = null;
+            this.fetcher = fetcher;
+        }
+
+        private boolean hasSource() {
+            return fetcher != null;
+        }
+
+        /**
+         * Returns the source file, fetching it the first time.
+         */
+        private synchronized Path getSource() throws IOException {
+            if (source == null) {
+                source = fetcher.fetch();
+            }
+            return source;
+        }
+    }
+
     public ArrayList<String> getTransformationsAsString() {
         ArrayList<String> output = new ArrayList<>();
         LinkedList<Transformation> sub =
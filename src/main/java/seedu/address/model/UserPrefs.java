@@ -1,27 +1,37 @@
 package seedu.address.model;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-
-import javax.activation.MimetypesFileTypeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.AppUtil;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
-    private static int currBatchPointer = 0;
+    /** Number of images in a batch unless configured otherwise. */
+    public static final int DEFAULT_BATCH_SIZE = 10;
 
     private GuiSettings guiSettings;
     private Path currDirectory = Paths.get(System.getProperty("user.home"));
-    private ArrayList<Path> imageList = new ArrayList<>();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    // the batch being browsed belongs to this session and is not saved with the preferences
+    private transient int currBatchPointer = 0;
+    private transient DirectoryIndex imageList = new DirectoryIndex();
+    // the images found by the last search, sorted, or null while every image is shown
+    private transient List<Path> foundImages;
+    // the group number of each found image if the search found groups of duplicates, otherwise null
+    private transient Map<Path, Integer> imageGroups;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -53,37 +63,124 @@ public class UserPrefs {
         initImageList();
     }
 
+    /**
+     * Update the current directory {@code currDirectory} with the new directory {@code newCurrDirectory}, listing
+     * its images in the background. The first batch found is handed to {@code firstBatch} before the whole
+     * directory is listed, and the list of images holds the images found so far until then, as described in
+     * {@link DirectoryIndex#rebuildAsync(Path, int, Consumer)}.
+     * @return a future completed once the whole directory is listed.
+     */
+    public CompletableFuture<Void> updateUserPrefs(Path newCurrDirectory, Consumer<List<Path>> firstBatch) {
+        this.currDirectory = newCurrDirectory;
+        foundImages = null;
+        imageGroups = null;
+        currBatchPointer = 0;
+        return imageList.rebuildAsync(currDirectory, getBatchSize(), firstBatch);
+    }
+
     /**
      * Update the list of images {@code imageList} with the images found in current directory
      * {@code currDirectory}
      */
     public void initImageList() {
-        File currFileDir = new File(currDirectory.toString());
-        File[] currFiles = currFileDir.listFiles();
-        ArrayList<Path> dirImageList = new ArrayList<>();
-        try {
-            for (File file : currFiles) {
-                if (file.isFile()) {
-                    String mimetype = new MimetypesFileTypeMap().getContentType(file);
-                    // only list if is image
-                    if ("image".equals(mimetype.split("/")[0]) && !"image/gif".equals(mimetype)) {
-                        dirImageList.add(file.toPath());
-                    }
-                }
+        imageList.rebuild(currDirectory);
+        foundImages = null;
+        imageGroups = null;
+        currBatchPointer = 0;
+    }
+
+    /**
+     * Makes the root of {@code library} the current directory and fills the list of images with the images of
+     * every folder of the library. The current batch is kept if the library was already open.
+     */
+    public void openLibrary(Library library) {
+        if (!library.getRoot().equals(currDirectory)) {
+            foundImages = null;
+            imageGroups = null;
+            currBatchPointer = 0;
+        }
+        this.currDirectory = library.getRoot();
+        imageList.load(library);
+    }
+
+    /**
+     * Updates the entry of {@code file} in the list of images, without rescanning the current directory.
+     * Like every other change to the list, it must be made on the thread that reads it.
+     * @return true if {@code file} was added to or removed from the list.
+     */
+    public boolean refreshImage(Path file) {
+        boolean isAddedOrRemoved = imageList.refresh(file);
+        if (isAddedOrRemoved && foundImages != null && !imageList.contains(file)) {
+            foundImages.remove(file);
+        }
+        return isAddedOrRemoved;
+    }
+
+    /**
+     * Shows only {@code images}, the sorted results of a search, in place of the whole list of images.
+     * Indexes, batches and the film reel all refer to the results until the search is cleared.
+     */
+    public void showFoundImages(List<Path> images) {
+        foundImages = new ArrayList<>(images);
+        imageGroups = null;
+        currBatchPointer = 0;
+    }
+
+    /**
+     * Shows only the images of {@code groups}, one group after another, in place of the whole list of images.
+     * Each image is numbered with its group, counting from 1, until the search is cleared.
+     */
+    public void showImageGroups(List<List<Path>> groups) {
+        foundImages = new ArrayList<>();
+        imageGroups = new HashMap<>();
+        for (int i = 0; i < groups.size(); i++) {
+            for (Path image : groups.get(i)) {
+                foundImages.add(image);
+                imageGroups.put(image, i + 1);
             }
-        } catch (NullPointerException e) {
-            e.printStackTrace();
         }
-        Collections.sort(dirImageList);
-        imageList = dirImageList;
         currBatchPointer = 0;
     }
 
     /**
-     * Returns the total number of images in {@code imageList}
+     * Shows the whole list of images again after a search.
+     */
+    public void showAllImages() {
+        foundImages = null;
+        imageGroups = null;
+        currBatchPointer = 0;
+    }
+
+    /**
+     * Returns the group number of each image shown, which is empty unless groups of duplicates are shown.
+     */
+    public Map<Path, Integer> getImageGroups() {
+        return (imageGroups == null) ? Collections.emptyMap() : Collections.unmodifiableMap(imageGroups);
+    }
+
+    public boolean isShowingFoundImages() {
+        return foundImages != null;
+    }
+
+    /**
+     * Returns every image of the current directory, whether or not a search is shown.
+     */
+    public List<Path> getAllImages() {
+        return imageList.getAll();
+    }
+
+    /**
+     * Returns true if {@code file} is in the list of images of the current directory.
+     */
+    public boolean hasImage(Path file) {
+        return imageList.contains(file);
+    }
+
+    /**
+     * Returns the total number of images in {@code imageList}, or of the images found if a search is shown
      */
     public int getTotalImagesInDir() {
-        return imageList.size();
+        return (foundImages == null) ? imageList.size() : foundImages.size();
     }
 
     /**
@@ -101,21 +198,86 @@ public class UserPrefs {
     }
 
     /**
-     * Update the {@code currBatchPointer} to the next 10 images
+     * Returns the number of images in a batch. Sizes below one in the preferences file fall back to the default.
+     */
+    public int getBatchSize() {
+        return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+    }
+
+    public void setBatchSize(int batchSize) {
+        AppUtil.checkArgument(batchSize > 0, "Batch size must be positive");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Update the {@code currBatchPointer} to the next batch of images
      */
     public void updateImageListNextBatch() {
-        currBatchPointer += 10;
+        currBatchPointer += getBatchSize();
     }
 
     /**
-     * Update the {@code currBatchPointer} to the prev 10 images
+     * Update the {@code currBatchPointer} to the prev batch of images
      */
     public void updateImageListPrevBatch() {
-        currBatchPointer -= 10;
+        currBatchPointer = Math.max(0, currBatchPointer - getBatchSize());
+    }
+
+    /**
+     * Update the {@code currBatchPointer} to the batch containing the image at {@code index} of the list.
+     * @return true if the batch changed.
+     */
+    public boolean updateImageListBatchOf(int index) {
+        int pointer = index - index % getBatchSize();
+        if (pointer == currBatchPointer) {
+            return false;
+        }
+        currBatchPointer = pointer;
+        return true;
+    }
+
+    /**
+     * Returns the image at {@code index} of the list.
+     */
+    public Path getImage(int index) {
+        return (foundImages == null) ? imageList.get(index) : foundImages.get(index);
+    }
+
+    /**
+     * Returns the position of {@code file} in the list of images, or -1 if it is not in the list.
+     */
+    public int indexOfImage(Path file) {
+        if (foundImages == null) {
+            return imageList.indexOf(file);
+        }
+        if (imageGroups != null) {
+            // groups are not sorted as a whole
+            return foundImages.indexOf(file);
+        }
+        return Math.max(-1, Collections.binarySearch(foundImages, file));
+    }
+
+    /**
+     * Returns the images from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, clamped to the list.
+     */
+    public List<Path> getImageList(int fromIndex, int toIndex) {
+        int total = getTotalImagesInDir();
+        int from = Math.max(0, Math.min(fromIndex, total));
+        return subList(from, Math.max(from, Math.min(toIndex, total)));
     }
 
     public List<Path> getCurrImageListBatch() {
-        return imageList.subList(currBatchPointer, Math.min(currBatchPointer + 10, getTotalImagesInDir()));
+        // images may have been deleted since the batch was selected
+        int total = getTotalImagesInDir();
+        return subList(Math.min(currBatchPointer, total), Math.min(currBatchPointer + getBatchSize(), total));
+    }
+
+    /**
+     * Returns a copy of the images shown from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     */
+    private List<Path> subList(int fromIndex, int toIndex) {
+        return (foundImages == null) ? imageList.subList(fromIndex, toIndex)
+                : new ArrayList<>(foundImages.subList(fromIndex, toIndex));
     }
     // @@author
 
@@ -130,18 +292,20 @@ public class UserPrefs {
 
         UserPrefs o = (UserPrefs) other;
 
-        return Objects.equals(guiSettings, o.guiSettings);
+        return Objects.equals(guiSettings, o.guiSettings)
+                && getBatchSize() == o.getBatchSize();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings);
+        return Objects.hash(guiSettings, getBatchSize());
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
+        sb.append("\nBatch size : " + getBatchSize());
         return sb.toString();
     }
 
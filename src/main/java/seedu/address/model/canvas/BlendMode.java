@@ -0,0 +1,39 @@
+package seedu.address.model.canvas;
+
+/**
+ * The ways in which a layer can be blended with the layers below it.
+ */
+public enum BlendMode {
+    NORMAL("Over"),
+    MULTIPLY("Multiply"),
+    SCREEN("Screen"),
+    OVERLAY("Overlay"),
+    ADD("LinearDodge"),
+    DIFFERENCE("Difference");
+
+    private final String composeOperator;
+
+    BlendMode(String composeOperator) {
+        this.composeOperator = composeOperator;
+    }
+
+    /**
+     * Returns the ImageMagick {@code -compose} operator with the same effect.
+     */
+    public String getComposeOperator() {
+        return composeOperator;
+    }
+
+    /**
+     * Returns the blend mode with the given name, ignoring case.
+     * @throws IllegalArgumentException if there is no such blend mode.
+     */
+    public static BlendMode fromString(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
@@ -25,19 +25,23 @@ public class Canvas {
     private Layer currentLayer;
     private Index currentLayerIndex;
     private Boolean isCanvasAuto;
+    private boolean isProxyEnabled;
+    private double proxyScale;
     private int layerNameCounts;
     private int height;
     private int width;
 
     /**
      * Constructor for a canvas that has the size of the initial image.
-     * Auto-resizing of the canvas defaults to false.
+     * Auto-resizing of the canvas defaults to false, and previews are rendered from proxies.
      * @param initial - The image which the first layer will be created with. The canvas will take the height and width
      *                of this image.
      */
     public Canvas(PreviewImage initial) {
-        height = initial.getImage().getHeight();
-        width = initial.getImage().getWidth();
+        height = initial.getHeight();
+        width = initial.getWidth();
+        proxyScale = PreviewImage.getProxyScale(width, height);
+        isProxyEnabled = true;
         addLayer(initial);
         layerNameCounts = 1;
         currentLayerIndex = Index.fromZeroBased(0);
@@ -66,7 +70,13 @@ public class Canvas {
         return names;
     }
 
+    /**
+     * Adds a layer with the given name. The proxies of the image are rescaled to the scale of the canvas.
+     * @param i - PreviewImage of the new Layer.
+     * @param name - Name of the new Layer.
+     */
     public void addLayer(PreviewImage i, String name) {
+        i.setProxyScale(proxyScale);
         layers.add(new Layer(i, name));
     }
 
@@ -76,7 +86,7 @@ public class Canvas {
      */
     public void addLayer(PreviewImage i) {
         layerNameCounts++;
-        layers.add(new Layer(i, String.format(LAYER_NAME, layerNameCounts)));
+        addLayer(i, String.format(LAYER_NAME, layerNameCounts));
     }
 
     /**
@@ -168,6 +178,21 @@ public class Canvas {
         this.isCanvasAuto = isCanvasAuto;
     }
 
+    public boolean isProxyEnabled() {
+        return isProxyEnabled;
+    }
+
+    public void setProxyEnabled(boolean isProxyEnabled) {
+        this.isProxyEnabled = isProxyEnabled;
+    }
+
+    /**
+     * Returns the factor by which the proxies of every layer are downscaled.
+     */
+    public double getProxyScale() {
+        return proxyScale;
+    }
+
     public String getBackgroundColor() {
         return backgroundColor;
     }
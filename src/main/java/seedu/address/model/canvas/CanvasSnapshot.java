@@ -0,0 +1,136 @@
+package seedu.address.model.canvas;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author j-lum
+/**
+ * The layout of a canvas at one point in time, so that the canvas can keep changing while a frame of it is
+ * rendered on another thread. The images of the layers are not copied, but the state each of them was in is
+ * pinned, so that a frame never mixes states when a layer is undone or edited during the render.
+ */
+public class CanvasSnapshot {
+
+    private final List<Layer> layers;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] stateIndices;
+    private final long[] versions;
+    private final float[] opacities;
+    private final BlendMode[] blendModes;
+    private final int width;
+    private final int height;
+    private final boolean isCanvasAuto;
+    private final boolean isProxyEnabled;
+    private final double proxyScale;
+    private final String backgroundColor;
+
+    public CanvasSnapshot(Canvas canvas) {
+        layers = Collections.unmodifiableList(new ArrayList<>(canvas.getLayers()));
+        xs = new int[layers.size()];
+        ys = new int[layers.size()];
+        stateIndices = new int[layers.size()];
+        versions = new long[layers.size()];
+        opacities = new float[layers.size()];
+        blendModes = new BlendMode[layers.size()];
+        for (int i = 0; i < layers.size(); i++) {
+            xs[i] = layers.get(i).getX();
+            ys[i] = layers.get(i).getY();
+            stateIndices[i] = layers.get(i).getImage().getCurrentIndex();
+            versions[i] = layers.get(i).getImage().getVersion();
+            opacities[i] = layers.get(i).getOpacity();
+            blendModes[i] = layers.get(i).getBlendMode();
+        }
+        width = canvas.getWidth();
+        height = canvas.getHeight();
+        isCanvasAuto = canvas.isCanvasAuto();
+        isProxyEnabled = canvas.isProxyEnabled();
+        proxyScale = canvas.getProxyScale();
+        backgroundColor = canvas.getBackgroundColor();
+    }
+
+    public List<Layer> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Returns the X position of the layer at {@code index} when the snapshot was taken.
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the Y position of the layer at {@code index} when the snapshot was taken.
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Returns the path of the proxy of the layer at {@code index}, in the state it was in when the snapshot was
+     * taken.
+     * @throws IOException if the layer is its own proxy and the state cannot be rendered at full resolution.
+     */
+    public Path getProxyPath(int index) throws IOException {
+        return layers.get(index).getImage().getProxyPath(stateIndices[index]);
+    }
+
+    /**
+     * Returns the path of the layer at {@code index} at full resolution, in the state it was in when the snapshot
+     * was taken, rendering it first if it is still pending.
+     * @throws IOException if the state cannot be rendered at full resolution.
+     */
+    public Path getFullResolutionPath(int index) throws IOException {
+        return layers.get(index).getImage().getFullResolutionPath(stateIndices[index]);
+    }
+
+    /**
+     * Returns the version of the image of the layer at {@code index} when the snapshot was taken, which a mipmap
+     * pyramid of the layer must have to show the pinned state.
+     */
+    public long getVersion(int index) {
+        return versions[index];
+    }
+
+    /**
+     * Returns the opacity of the layer at {@code index} when the snapshot was taken.
+     */
+    public float getOpacity(int index) {
+        return opacities[index];
+    }
+
+    /**
+     * Returns the blend mode of the layer at {@code index} when the snapshot was taken.
+     */
+    public BlendMode getBlendMode(int index) {
+        return blendModes[index];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public boolean isCanvasAuto() {
+        return isCanvasAuto;
+    }
+
+    public boolean isProxyEnabled() {
+        return isProxyEnabled;
+    }
+
+    public double getProxyScale() {
+        return proxyScale;
+    }
+
+    public String getBackgroundColor() {
+        return backgroundColor;
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.canvas;
 //@@author j-lum
 import static java.util.Objects.requireNonNull;
 
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
 import seedu.address.model.PreviewImage;
 import seedu.address.model.transformation.Transformation;
 
@@ -14,11 +17,15 @@ import seedu.address.model.transformation.Transformation;
 public class Layer {
 
     private final PreviewImage image;
+    private final MipmapPyramid pyramid = new MipmapPyramid();
+    private boolean isPyramidFullResolution;
     private int x;
     private int y;
     private int height;
     private int width;
     private String name;
+    private float opacity;
+    private BlendMode blendMode;
 
     //Constructs a new Layer that has a default position (0, 0).
     public Layer(PreviewImage image, String name) {
@@ -28,6 +35,8 @@ public class Layer {
         this.height = image.getHeight();
         this.width = image.getWidth();
         this.name = name;
+        this.opacity = 1f;
+        this.blendMode = BlendMode.NORMAL;
     }
 
     /**
@@ -85,6 +94,33 @@ public class Layer {
         return image;
     }
 
+    /**
+     * Returns the mipmap pyramid of the current state of the image, updating it first if the state changed.
+     * Until the state is ready at full resolution, the pyramid is built from its proxy and the full resolution
+     * state is rendered in the background, to be swapped in the next time the pyramid is asked for.
+     * @throws IOException if the state cannot be read.
+     */
+    public MipmapPyramid getPyramid() throws IOException {
+        synchronized (pyramid) {
+            long version = image.getVersion();
+            boolean isFullResolution = image.isFullResolutionReady();
+            if (pyramid.getVersion() == version && (isPyramidFullResolution || !isFullResolution)) {
+                return pyramid;
+            }
+            if (isFullResolution) {
+                pyramid.update(image.getImage(), version);
+            } else {
+                BufferedImage proxy = image.getProxy();
+                double scale = image.getProxyScale();
+                pyramid.update(proxy, (int) Math.round(proxy.getWidth() / scale),
+                        (int) Math.round(proxy.getHeight() / scale), version);
+                image.requestFullResolution();
+            }
+            isPyramidFullResolution = isFullResolution;
+            return pyramid;
+        }
+    }
+
     public String getName() {
         return name;
     }
@@ -93,4 +129,20 @@ public class Layer {
         this.name = name;
     }
 
+    public float getOpacity() {
+        return opacity;
+    }
+
+    public void setOpacity(float opacity) {
+        this.opacity = opacity;
+    }
+
+    public BlendMode getBlendMode() {
+        return blendMode;
+    }
+
+    public void setBlendMode(BlendMode blendMode) {
+        this.blendMode = requireNonNull(blendMode);
+    }
+
 }
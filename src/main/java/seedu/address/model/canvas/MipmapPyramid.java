@@ -0,0 +1,240 @@
+package seedu.address.model.canvas;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.RasterUtil;
+
+/**
+ * A power-of-two mipmap pyramid of a layer image, used to draw the layer at any zoom level without scaling
+ * the full resolution image. Level 0 is the image itself and every level above it is half the size of the one
+ * below, down to a single pixel.
+ * Levels are built lazily, tile by tile. When the image is updated, only the tiles that changed are marked
+ * dirty and rebuilt the next time their level is requested.
+ * Level 0 may be smaller than the image it stands for, e.g. a proxy shown until the full resolution image is
+ * ready, so the size of the image is kept separately.
+ */
+public class MipmapPyramid {
+
+    public static final int TILE_SIZE = 256;
+
+    private final List<BufferedImage> levels = new ArrayList<>();
+    // dirtyTiles.get(k) holds the tiles of level k that have to be rebuilt from level k - 1
+    private final List<BitSet> dirtyTiles = new ArrayList<>();
+    private long version = -1;
+    private int imageWidth;
+    private int imageHeight;
+
+    /**
+     * Replaces the image at level 0 with the full resolution image {@code base}.
+     * @see #update(BufferedImage, int, int, long)
+     */
+    public void update(BufferedImage base, long version) {
+        update(base, base.getWidth(), base.getHeight(), version);
+    }
+
+    /**
+     * Replaces the image at level 0. If the size did not change, only the tiles that differ from the previous
+     * image are invalidated in the levels above, otherwise the whole pyramid is.
+     * @param base the new image, which may be a downscaled version of the image it stands for.
+     * @param width the width of the image {@code base} stands for.
+     * @param height the height of the image {@code base} stands for.
+     * @param version the version of the image, as returned by {@link #getVersion()} afterwards.
+     */
+    public synchronized void update(BufferedImage base, int width, int height, long version) {
+        requireNonNull(base);
+        BufferedImage next = RasterUtil.toIntArgb(base);
+        BufferedImage previous = levels.isEmpty() ? null : levels.get(0);
+        this.version = version;
+        imageWidth = width;
+        imageHeight = height;
+
+        if (previous == null || previous.getWidth() != next.getWidth() || previous.getHeight() != next.getHeight()) {
+            levels.clear();
+            dirtyTiles.clear();
+            levels.add(next);
+            dirtyTiles.add(new BitSet());
+            return;
+        }
+
+        levels.set(0, next);
+        int[] before = RasterUtil.getPixels(previous);
+        int[] after = RasterUtil.getPixels(next);
+        int baseWidth = next.getWidth();
+        for (int ty = 0; ty < getTileCount(next.getHeight()); ty++) {
+            for (int tx = 0; tx < getTileCount(baseWidth); tx++) {
+                Rectangle tile = getTileBounds(next, tx, ty);
+                if (isTileChanged(before, after, baseWidth, tile)) {
+                    invalidate(tile);
+                }
+            }
+        }
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the width of the image the pyramid stands for, which level 0 may be smaller than.
+     */
+    public synchronized int getWidth() {
+        return imageWidth;
+    }
+
+    /**
+     * Returns the height of the image the pyramid stands for, which level 0 may be smaller than.
+     */
+    public synchronized int getHeight() {
+        return imageHeight;
+    }
+
+    /**
+     * Returns the number of levels of the pyramid, including level 0.
+     */
+    public synchronized int getLevelCount() {
+        if (levels.isEmpty()) {
+            return 0;
+        }
+        int count = 1;
+        int size = Math.max(levels.get(0).getWidth(), levels.get(0).getHeight());
+        while (size > 1) {
+            size = (size + 1) / 2;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the image at {@code level}, building the dirty tiles of that level and of the levels below first.
+     */
+    public synchronized BufferedImage getLevel(int level) {
+        if (level < 0 || level >= getLevelCount()) {
+            throw new IndexOutOfBoundsException("No such pyramid level: " + level);
+        }
+        if (level == 0) {
+            return levels.get(0);
+        }
+        BufferedImage source = getLevel(level - 1);
+        if (levels.size() <= level) {
+            int width = (source.getWidth() + 1) / 2;
+            int height = (source.getHeight() + 1) / 2;
+            levels.add(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB));
+            BitSet all = new BitSet();
+            all.set(0, getTileCount(width) * getTileCount(height));
+            dirtyTiles.add(all);
+        }
+        BufferedImage target = levels.get(level);
+        BitSet dirty = dirtyTiles.get(level);
+        int columns = getTileCount(target.getWidth());
+        for (int tile = dirty.nextSetBit(0); tile >= 0; tile = dirty.nextSetBit(tile + 1)) {
+            downsample(source, target, getTileBounds(target, tile % columns, tile / columns));
+        }
+        dirty.clear();
+        return target;
+    }
+
+    /**
+     * Returns the coarsest level that still has at least {@code scale} pixels per pixel of level 0,
+     * i.e. the level to draw from when the image is shown at {@code scale}.
+     */
+    public synchronized int chooseLevel(double scale) {
+        int level = 0;
+        while (level + 1 < getLevelCount() && scale * (1 << (level + 1)) <= 1.0) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Marks the tiles covering {@code region} of level 0 dirty in every level that has been built.
+     */
+    private void invalidate(Rectangle region) {
+        for (int level = 1; level < levels.size(); level++) {
+            BufferedImage image = levels.get(level);
+            int columns = getTileCount(image.getWidth());
+            int rows = getTileCount(image.getHeight());
+            int x1 = (region.x >> level) / TILE_SIZE;
+            int y1 = (region.y >> level) / TILE_SIZE;
+            int x2 = Math.min(((region.x + region.width - 1) >> level) / TILE_SIZE, columns - 1);
+            int y2 = Math.min(((region.y + region.height - 1) >> level) / TILE_SIZE, rows - 1);
+            for (int ty = y1; ty <= y2; ty++) {
+                dirtyTiles.get(level).set(ty * columns + x1, ty * columns + x2 + 1);
+            }
+        }
+    }
+
+    /**
+     * Fills {@code region} of {@code target} with the 2x2 box filtered pixels of {@code source}.
+     * Colours are weighted by alpha so that transparent pixels do not darken the edges of a layer.
+     */
+    private static void downsample(BufferedImage source, BufferedImage target, Rectangle region) {
+        int[] src = RasterUtil.getPixels(source);
+        int[] dst = RasterUtil.getPixels(target);
+        int sourceWidth = source.getWidth();
+        int lastX = sourceWidth - 1;
+        int lastY = source.getHeight() - 1;
+        int targetWidth = target.getWidth();
+
+        for (int y = region.y; y < region.y + region.height; y++) {
+            int row0 = Math.min(2 * y, lastY) * sourceWidth;
+            int row1 = Math.min(2 * y + 1, lastY) * sourceWidth;
+            for (int x = region.x; x < region.x + region.width; x++) {
+                int x0 = Math.min(2 * x, lastX);
+                int x1 = Math.min(2 * x + 1, lastX);
+                dst[y * targetWidth + x] = average(src[row0 + x0], src[row0 + x1], src[row1 + x0], src[row1 + x1]);
+            }
+        }
+    }
+
+    /**
+     * Returns the alpha weighted average of four ARGB pixels.
+     */
+    private static int average(int p0, int p1, int p2, int p3) {
+        int a0 = p0 >>> 24;
+        int a1 = p1 >>> 24;
+        int a2 = p2 >>> 24;
+        int a3 = p3 >>> 24;
+        int alpha = a0 + a1 + a2 + a3;
+        if (alpha == 0) {
+            return 0;
+        }
+        int r = (((p0 >> 16) & 0xff) * a0 + ((p1 >> 16) & 0xff) * a1 + ((p2 >> 16) & 0xff) * a2
+                + ((p3 >> 16) & 0xff) * a3) / alpha;
+        int g = (((p0 >> 8) & 0xff) * a0 + ((p1 >> 8) & 0xff) * a1 + ((p2 >> 8) & 0xff) * a2
+                + ((p3 >> 8) & 0xff) * a3) / alpha;
+        int b = ((p0 & 0xff) * a0 + (p1 & 0xff) * a1 + (p2 & 0xff) * a2 + (p3 & 0xff) * a3) / alpha;
+        return (((alpha + 2) / 4) << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Returns true if any pixel within {@code tile} differs between the two pixel arrays.
+     */
+    private static boolean isTileChanged(int[] before, int[] after, int width, Rectangle tile) {
+        for (int y = tile.y; y < tile.y + tile.height; y++) {
+            int start = y * width + tile.x;
+            for (int i = start; i < start + tile.width; i++) {
+                if (before[i] != after[i]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int getTileCount(int length) {
+        return (length + TILE_SIZE - 1) / TILE_SIZE;
+    }
+
+    private static Rectangle getTileBounds(BufferedImage image, int tx, int ty) {
+        int x = tx * TILE_SIZE;
+        int y = ty * TILE_SIZE;
+        return new Rectangle(x, y, Math.min(TILE_SIZE, image.getWidth() - x),
+                Math.min(TILE_SIZE, image.getHeight() - y));
+    }
+}
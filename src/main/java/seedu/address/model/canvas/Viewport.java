@@ -0,0 +1,55 @@
+package seedu.address.model.canvas;
+
+import java.util.Objects;
+
+/**
+ * Represents the part of a canvas that is shown in a panel.
+ * The zoom is relative to the zoom at which the whole canvas fits the panel, and the centre is given
+ * as a fraction of the width and height of the canvas, so that a viewport does not depend on the canvas size.
+ */
+public class Viewport {
+
+    public final double zoom;
+    public final double centerX;
+    public final double centerY;
+    public final int width;
+    public final int height;
+
+    /**
+     * @param zoom - 1 shows the whole canvas, 2 shows half of it, and so on.
+     * @param centerX - the point of the canvas shown in the middle of the panel, from 0 (left) to 1 (right).
+     * @param centerY - the point of the canvas shown in the middle of the panel, from 0 (top) to 1 (bottom).
+     * @param width - the width of the panel in pixels.
+     * @param height - the height of the panel in pixels.
+     */
+    public Viewport(double zoom, double centerX, double centerY, int width, int height) {
+        this.zoom = zoom;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Viewport)) {
+            return false;
+        }
+        Viewport viewport = (Viewport) other;
+        return zoom == viewport.zoom && centerX == viewport.centerX && centerY == viewport.centerY
+                && width == viewport.width && height == viewport.height;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(zoom, centerX, centerY, width, height);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.2fx at (%.3f, %.3f), %dx%d", zoom, centerX, centerY, width, height);
+    }
+}
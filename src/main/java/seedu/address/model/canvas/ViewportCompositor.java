@@ -0,0 +1,202 @@
+package seedu.address.model.canvas;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+
+//@@author j-lum
+/**
+ * Composites only the visible part of a canvas for a {@link Viewport}, drawing every layer from the level of
+ * its {@link MipmapPyramid} closest to the zoom. The cost of a frame depends on the size of the panel rather
+ * than the size of the canvas.
+ */
+public class ViewportCompositor {
+
+    private static final Logger logger = LogsCenter.getLogger(ViewportCompositor.class);
+    private static final Pattern RGB_FUNCTION = Pattern.compile(
+            "rgba?\\(\\s*(\\d+)\\s*,\\s*(\\d+)\\s*,\\s*(\\d+)\\s*(?:,\\s*([\\d.]+)\\s*)?\\)");
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "viewport-compositor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Composites {@code viewport} of {@code canvas} in the background and hands the frame to {@code callback}.
+     * Requests that are superseded by a newer one before they complete are dropped.
+     */
+    public void request(Canvas canvas, Viewport viewport, Consumer<BufferedImage> callback) {
+        CanvasSnapshot snapshot = new CanvasSnapshot(canvas);
+        long requestGeneration = generation.incrementAndGet();
+        worker.submit(() -> {
+            if (requestGeneration != generation.get()) {
+                return;
+            }
+            try {
+                BufferedImage frame = composite(snapshot, viewport);
+                if (frame != null && requestGeneration == generation.get()) {
+                    callback.accept(frame);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to composite viewport " + viewport + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Composites {@code viewport} of {@code canvas} on the calling thread.
+     * @return the frame, or null if a layer changed while it was composited.
+     * @throws IOException if a layer cannot be read.
+     */
+    public static BufferedImage composite(Canvas canvas, Viewport viewport) throws IOException {
+        return composite(new CanvasSnapshot(canvas), viewport);
+    }
+
+    /**
+     * Composites {@code viewport} of a snapshot of a canvas, with the same layout as {@code processCanvas}:
+     * layers at their offsets over the background, clipped to the canvas unless it auto-resizes.
+     * A layer is only drawn from a pyramid of the state the snapshot pinned. The pyramid of a layer is only kept
+     * for its current state, so if the layer was edited or undone since the snapshot was taken, the frame is
+     * dropped rather than mixing states: the change requests a frame of its own.
+     * @return the frame, or null if a layer is no longer in the state the snapshot pinned.
+     * @throws IOException if a layer cannot be read.
+     */
+    public static BufferedImage composite(CanvasSnapshot canvas, Viewport viewport) throws IOException {
+        List<MipmapPyramid> pyramids = new ArrayList<>();
+        List<Rectangle> layerBounds = new ArrayList<>();
+        Rectangle canvasBounds = canvas.isCanvasAuto() ? null
+                : new Rectangle(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < canvas.getLayers().size(); i++) {
+            MipmapPyramid pyramid = canvas.getLayers().get(i).getPyramid();
+            if (pyramid.getVersion() != canvas.getVersion(i)) {
+                return null;
+            }
+            Rectangle bounds = new Rectangle(canvas.getX(i), canvas.getY(i), pyramid.getWidth(), pyramid.getHeight());
+            pyramids.add(pyramid);
+            layerBounds.add(bounds);
+            if (canvas.isCanvasAuto()) {
+                canvasBounds = (canvasBounds == null) ? bounds : canvasBounds.union(bounds);
+            }
+        }
+
+        double scale = viewport.zoom * Math.min((double) viewport.width / canvasBounds.width,
+                (double) viewport.height / canvasBounds.height);
+        double left = canvasBounds.x + viewport.centerX * canvasBounds.width - viewport.width / (2 * scale);
+        double top = canvasBounds.y + viewport.centerY * canvasBounds.height - viewport.height / (2 * scale);
+
+        BufferedImage frame = new BufferedImage(viewport.width, viewport.height, BufferedImage.TYPE_INT_ARGB);
+        Rectangle clip = new Rectangle((int) Math.round((canvasBounds.x - left) * scale),
+                (int) Math.round((canvasBounds.y - top) * scale), (int) Math.round(canvasBounds.width * scale),
+                (int) Math.round(canvasBounds.height * scale));
+
+        Color background = parseColor(canvas.getBackgroundColor());
+        if (background != null) {
+            Graphics2D g = frame.createGraphics();
+            g.setColor(background);
+            g.fill(clip);
+            g.dispose();
+        }
+
+        for (int i = 0; i < pyramids.size(); i++) {
+            MipmapPyramid pyramid = pyramids.get(i);
+            // held so that the layer cannot be updated to another state while it is drawn
+            synchronized (pyramid) {
+                if (pyramid.getVersion() != canvas.getVersion(i)) {
+                    return null;
+                }
+                drawLayer(frame, clip, pyramid, layerBounds.get(i), canvas.getBlendMode(i), canvas.getOpacity(i),
+                        scale, left, top);
+            }
+        }
+        return frame;
+    }
+
+    /**
+     * Blends the visible part of a layer onto {@code frame}, scaled from the pyramid level closest to {@code scale}.
+     */
+    private static void drawLayer(BufferedImage frame, Rectangle clip, MipmapPyramid pyramid, Rectangle bounds,
+                                  BlendMode mode, float opacity, double scale, double left, double top) {
+        double visibleLeft = Math.max(0, left - bounds.x);
+        double visibleTop = Math.max(0, top - bounds.y);
+        double visibleRight = Math.min(bounds.width, left + frame.getWidth() / scale - bounds.x);
+        double visibleBottom = Math.min(bounds.height, top + frame.getHeight() / scale - bounds.y);
+        if (visibleLeft >= visibleRight || visibleTop >= visibleBottom) {
+            return;
+        }
+
+        // level 0 is a proxy while the full resolution image is not ready
+        double baseScale = (double) pyramid.getLevel(0).getWidth() / bounds.width;
+        BufferedImage level = pyramid.getLevel(pyramid.chooseLevel(scale / baseScale));
+        double levelScaleX = (double) level.getWidth() / bounds.width;
+        double levelScaleY = (double) level.getHeight() / bounds.height;
+        int sx1 = (int) Math.floor(visibleLeft * levelScaleX);
+        int sy1 = (int) Math.floor(visibleTop * levelScaleY);
+        int sx2 = Math.min(level.getWidth(), (int) Math.ceil(visibleRight * levelScaleX));
+        int sy2 = Math.min(level.getHeight(), (int) Math.ceil(visibleBottom * levelScaleY));
+
+        int dx1 = (int) Math.round((bounds.x + sx1 / levelScaleX - left) * scale);
+        int dy1 = (int) Math.round((bounds.y + sy1 / levelScaleY - top) * scale);
+        int dx2 = (int) Math.round((bounds.x + sx2 / levelScaleX - left) * scale);
+        int dy2 = (int) Math.round((bounds.y + sy2 / levelScaleY - top) * scale);
+        if (dx2 <= dx1 || dy2 <= dy1) {
+            return;
+        }
+
+        BufferedImage scaled = new BufferedImage(dx2 - dx1, dy2 - dy1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        // magnified pixels are shown as blocks so that detail can be inspected
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, (scale >= 1)
+                ? RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR
+                : RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(level, 0, 0, scaled.getWidth(), scaled.getHeight(), sx1, sy1, sx2, sy2, null);
+        g.dispose();
+        BlendKernel.composite(frame, clip, scaled, dx1, dy1, mode, opacity);
+    }
+
+    /**
+     * Parses an ImageMagick colour as set by {@code canvas bgcolor}: {@code none}, {@code #rgb}, {@code #rrggbb},
+     * {@code rgb(r,g,b)}, {@code rgba(r,g,b,a)} or a basic colour name.
+     * @return the colour, or null if it is transparent or not recognised.
+     */
+    public static Color parseColor(String color) {
+        String value = color.trim().toLowerCase();
+        try {
+            if (value.startsWith("#") && value.length() == 4) {
+                return new Color(Integer.parseInt(value.substring(1, 2), 16) * 17,
+                        Integer.parseInt(value.substring(2, 3), 16) * 17,
+                        Integer.parseInt(value.substring(3, 4), 16) * 17);
+            }
+            if (value.startsWith("#") && value.length() == 7) {
+                return new Color(Integer.parseInt(value.substring(1), 16));
+            }
+            Matcher matcher = RGB_FUNCTION.matcher(value);
+            if (matcher.matches()) {
+                float alpha = (matcher.group(4) == null) ? 1f : Float.parseFloat(matcher.group(4));
+                return new Color(Integer.parseInt(matcher.group(1)) / 255f, Integer.parseInt(matcher.group(2)) / 255f,
+                        Integer.parseInt(matcher.group(3)) / 255f, Math.min(1f, alpha));
+            }
+            if (!value.equals("none") && !value.equals("transparent")) {
+                return (Color) Color.class.getField(value.replace("-", "_")).get(null);
+            }
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            logger.info("Unrecognised background colour " + color + ", drawing a transparent background");
+        }
+        return null;
+    }
+}
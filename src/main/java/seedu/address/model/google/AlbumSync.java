@@ -0,0 +1,244 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import com.google.photos.library.v1.proto.MediaItem;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.MediaDownloader;
+import seedu.address.storage.SyncManifestStorage;
+
+//@@author chivent
+/**
+ * Brings a local directory up to date with an album in Google Photos, downloading only the items that are new,
+ * changed on Google Photos, or removed locally since they were last synced. What was synced is kept in a
+ * {@link SyncManifest} per directory, so syncing an album that has not changed costs the listing of the album and
+ * no downloads. Items removed from the album can be pruned, which deletes their files unless they were edited
+ * locally. Files that were not synced or were edited locally are never overwritten: new items, and new versions of
+ * edited items, are saved under a name no other file has.
+ */
+public class AlbumSync {
+
+    private static final Logger logger = LogsCenter.getLogger(AlbumSync.class);
+
+    private final SyncManifestStorage storage;
+    private final MediaDownloader downloader;
+    private final DownloadUrlResolver urlResolver;
+
+    /**
+     * Creates a sync that keeps its manifests in {@code storage}, or only for the session if it is null.
+     */
+    public AlbumSync(SyncManifestStorage storage) {
+        this(storage, MediaDownloader.getInstance(), PhotoHandler::getDownloadUrl);
+    }
+
+    AlbumSync(SyncManifestStorage storage, MediaDownloader downloader, DownloadUrlResolver urlResolver) {
+        this.storage = storage;
+        this.downloader = requireNonNull(downloader);
+        this.urlResolver = requireNonNull(urlResolver);
+    }
+
+    /**
+     * Syncs the album with id {@code albumId}, whose images are {@code listing} by name, into {@code directory}.
+     * Downloads run in the background and {@code listener} is told as each of them is over.
+     * @param prune whether to delete the files of items that are no longer in the album.
+     * @return a future completed with what was done once every download is over.
+     * @throws MalformedURLException if an item to download has no valid address.
+     */
+    public CompletableFuture<Result> sync(String albumId, Map<String, MediaItem> listing, Path directory,
+            boolean prune, MediaDownloader.ProgressListener listener) throws MalformedURLException {
+        SyncManifest manifest = readManifest(directory);
+        Set<String> usedNames = new HashSet<>();
+        for (SyncManifest.Entry entry : manifest.getEntries()) {
+            usedNames.add(entry.getFileName());
+        }
+
+        Set<String> listedIds = new HashSet<>();
+        Map<Path, URL> downloads = new LinkedHashMap<>();
+        Map<Path, SyncManifest.Entry> pending = new LinkedHashMap<>();
+        int unchanged = 0;
+        for (Map.Entry<String, MediaItem> listed : new TreeMap<>(listing).entrySet()) {
+            MediaItem item = listed.getValue();
+            listedIds.add(item.getId());
+            String version = SyncManifest.getRemoteVersion(item);
+            Optional<SyncManifest.Entry> synced = manifest.get(item.getId());
+            boolean isUnchangedLocally = synced.isPresent() && manifest.isUnchangedLocally(synced.get());
+            boolean isEditedLocally = synced.isPresent() && !isUnchangedLocally
+                    && Files.exists(manifest.getFile(synced.get()));
+            if (synced.isPresent() && synced.get().getRemoteVersion().equals(version)
+                    && (isUnchangedLocally || isEditedLocally)) {
+                unchanged++;
+                continue;
+            }
+            // a file edited locally is kept, and a new version of its item saved next to it
+            String fileName = (synced.isPresent() && !isEditedLocally) ? synced.get().getFileName()
+                    : getUnusedName(directory, usedNames, listed.getKey());
+            usedNames.add(fileName);
+            Path target = directory.resolve(fileName);
+            downloads.put(target, urlResolver.resolve(item));
+            pending.put(target, new SyncManifest.Entry(item.getId(), albumId, fileName, 0, 0, version));
+        }
+
+        int pruned = prune ? prune(manifest, albumId, listedIds) : 0;
+        if (downloads.isEmpty()) {
+            if (pruned > 0) {
+                saveManifest(manifest);
+            }
+            return CompletableFuture.completedFuture(new Result(0, unchanged, pruned, Collections.emptyList()));
+        }
+        int unchangedCount = unchanged;
+        return downloader.downloadAll(downloads, listener).thenApply(failed -> {
+            Set<Path> failedTargets = new HashSet<>(failed);
+            for (Map.Entry<Path, SyncManifest.Entry> download : pending.entrySet()) {
+                if (!failedTargets.contains(download.getKey())) {
+                    record(manifest, download.getKey(), download.getValue());
+                }
+            }
+            saveManifest(manifest);
+            return new Result(downloads.size() - failed.size(), unchangedCount, pruned, failed);
+        });
+    }
+
+    /**
+     * Forgets the items of the album with id {@code albumId} that are not in {@code listedIds}, deleting their
+     * files unless they were changed locally.
+     * @return the number of files deleted.
+     */
+    private static int prune(SyncManifest manifest, String albumId, Set<String> listedIds) {
+        int pruned = 0;
+        for (SyncManifest.Entry entry : manifest.getEntriesOfAlbum(albumId)) {
+            if (listedIds.contains(entry.getItemId())) {
+                continue;
+            }
+            if (manifest.isUnchangedLocally(entry)) {
+                try {
+                    Files.deleteIfExists(manifest.getFile(entry));
+                    pruned++;
+                } catch (IOException e) {
+                    logger.warning("Unable to delete " + entry.getFileName() + ": " + e.getMessage());
+                    continue;
+                }
+            }
+            manifest.remove(entry.getItemId());
+        }
+        return pruned;
+    }
+
+    /**
+     * Records in {@code manifest} that {@code entry} was just saved as {@code file}.
+     */
+    private static void record(SyncManifest manifest, Path file, SyncManifest.Entry entry) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            manifest.put(new SyncManifest.Entry(entry.getItemId(), entry.getAlbumId(), entry.getFileName(),
+                    attributes.size(), attributes.lastModifiedTime().toMillis(), entry.getRemoteVersion()));
+        } catch (IOException e) {
+            // the file is gone already, it will be downloaded again on the next sync
+            manifest.remove(entry.getItemId());
+        }
+    }
+
+    /**
+     * Returns {@code name}, or {@code name} with a number before its extension, such that neither a synced item nor
+     * a file in {@code directory} has that name.
+     */
+    private static String getUnusedName(Path directory, Set<String> usedNames, String name) {
+        int dot = name.lastIndexOf('.');
+        String base = (dot <= 0) ? name : name.substring(0, dot);
+        String extension = (dot <= 0) ? "" : name.substring(dot);
+        String candidate = name;
+        for (int i = 1; usedNames.contains(candidate) || Files.exists(directory.resolve(candidate)); i++) {
+            candidate = base + " (" + i + ")" + extension;
+        }
+        return candidate;
+    }
+
+    /**
+     * Returns the stored manifest of {@code directory}, or an empty one if there is none or it cannot be read.
+     */
+    private SyncManifest readManifest(Path directory) {
+        if (storage == null) {
+            return new SyncManifest(directory);
+        }
+        try {
+            return storage.readManifest(directory);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Discarding sync manifest of " + directory + ": " + e.getMessage());
+            return new SyncManifest(directory);
+        }
+    }
+
+    /**
+     * Stores {@code manifest}, only logging if it cannot be stored since the files themselves were synced.
+     */
+    private void saveManifest(SyncManifest manifest) {
+        if (storage == null) {
+            return;
+        }
+        try {
+            storage.saveManifest(manifest);
+        } catch (IOException e) {
+            logger.warning("Unable to save sync manifest of " + manifest.getDirectory() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the address the original bytes of a media item are downloaded from.
+     */
+    @FunctionalInterface
+    interface DownloadUrlResolver {
+        URL resolve(MediaItem item) throws MalformedURLException;
+    }
+
+    /**
+     * What a sync did.
+     */
+    public static class Result {
+        private final int downloaded;
+        private final int unchanged;
+        private final int pruned;
+        private final List<Path> failed;
+
+        public Result(int downloaded, int unchanged, int pruned, List<Path> failed) {
+            this.downloaded = downloaded;
+            this.unchanged = unchanged;
+            this.pruned = pruned;
+            this.failed = new ArrayList<>(failed);
+        }
+
+        public int getDownloaded() {
+            return downloaded;
+        }
+
+        public int getUnchanged() {
+            return unchanged;
+        }
+
+        public int getPruned() {
+            return pruned;
+        }
+
+        public List<Path> getFailed() {
+            return Collections.unmodifiableList(failed);
+        }
+    }
+}
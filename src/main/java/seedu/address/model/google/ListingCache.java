@@ -0,0 +1,348 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.google.photos.library.v1.proto.Album;
+import com.google.photos.library.v1.proto.MediaItem;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.storage.ListingStorage;
+
+//@@author chivent
+/**
+ * Keeps the listings of a Google Photos account, i.e. its albums, all its images and the images of each album, in
+ * memory and, if there is a storage, on the hard disk, so that they are only listed again once they are old.
+ * A listing older than {@link #TTL_MILLIS} is still used, but listed again in the background. Listings that are
+ * needed more recent, such as ones whose download addresses must still be valid, are listed right away.
+ * When the albums are listed again, the listings of the albums whose number of items or cover changed are
+ * dropped, so that they are listed again the next time they are needed.
+ */
+public class ListingCache {
+
+    /** Age after which a listing is listed again in the background. */
+    public static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+    static final String ALBUMS = "albums";
+    static final String LIBRARY = "library";
+    static final String ALBUM_PREFIX = "album:";
+
+    private static final Logger logger = LogsCenter.getLogger(ListingCache.class);
+    private static final Executor refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "listing-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * How recent a listing must be to be used.
+     */
+    public enum Freshness {
+        /** Any listing, however old. */
+        CACHED(Long.MAX_VALUE),
+        /** A listing whose download addresses, which expire after an hour, are still valid. */
+        DOWNLOADABLE(TimeUnit.MINUTES.toMillis(50)),
+        /** A listing from the last minute, such as when a name was not found in an older one. */
+        RECENT(TimeUnit.MINUTES.toMillis(1)),
+        /** A listing made now. */
+        LATEST(-1);
+
+        private final long maxAgeMillis;
+
+        Freshness(long maxAgeMillis) {
+            this.maxAgeMillis = maxAgeMillis;
+        }
+    }
+
+    private final String account;
+    private final ListingStorage storage;
+    private final Supplier<List<Album>> albumLister;
+    private final MediaItemLister mediaItemLister;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final Map<String, Listing<?>> listings = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> refreshing = new ConcurrentHashMap<>();
+    private volatile long invalidatedAt = Long.MIN_VALUE;
+
+    /**
+     * Creates a cache of the listings of {@code account}, listed with {@code albumLister} and
+     * {@code mediaItemLister}, which keeps them in {@code storage}, or only for the session if it is null.
+     */
+    public ListingCache(String account, ListingStorage storage, Supplier<List<Album>> albumLister,
+            MediaItemLister mediaItemLister) {
+        this(account, storage, albumLister, mediaItemLister, refresher, System::currentTimeMillis);
+    }
+
+    ListingCache(String account, ListingStorage storage, Supplier<List<Album>> albumLister,
+            MediaItemLister mediaItemLister, Executor executor, LongSupplier clock) {
+        this.account = requireNonNull(account);
+        this.storage = storage;
+        this.albumLister = requireNonNull(albumLister);
+        this.mediaItemLister = requireNonNull(mediaItemLister);
+        this.executor = requireNonNull(executor);
+        this.clock = requireNonNull(clock);
+    }
+
+    /**
+     * Returns the albums of the account, listed now unless the cached listing is as recent as {@code freshness}.
+     */
+    public Listing<Album> getAlbums(Freshness freshness) {
+        return get(ALBUMS, Album.parser(), albumLister, freshness);
+    }
+
+    /**
+     * Returns the images of the whole library, listed now unless the cached listing is as recent as
+     * {@code freshness}.
+     */
+    public Listing<MediaItem> getLibrary(Freshness freshness) {
+        return get(LIBRARY, MediaItem.parser(), () -> mediaItemLister.list(null), freshness);
+    }
+
+    /**
+     * Returns the images of the album with id {@code albumId}, listed now unless the cached listing is as recent as
+     * {@code freshness}.
+     */
+    public Listing<MediaItem> getAlbumItems(String albumId, Freshness freshness) {
+        requireNonNull(albumId);
+        return get(ALBUM_PREFIX + albumId, MediaItem.parser(), () -> mediaItemLister.list(albumId), freshness);
+    }
+
+    /**
+     * Returns the cached albums of the account, however old, without listing them.
+     */
+    public Optional<Listing<Album>> peekAlbums() {
+        return peek(ALBUMS, Album.parser());
+    }
+
+    /**
+     * Returns the cached images of the whole library, however old, without listing them.
+     */
+    public Optional<Listing<MediaItem>> peekLibrary() {
+        return peek(LIBRARY, MediaItem.parser());
+    }
+
+    /**
+     * Returns the cached images of the album with id {@code albumId}, however old, without listing them.
+     */
+    public Optional<Listing<MediaItem>> peekAlbumItems(String albumId) {
+        return peek(ALBUM_PREFIX + albumId, MediaItem.parser());
+    }
+
+    /**
+     * Keeps {@code albums} as the albums of the account, listed now by the caller.
+     */
+    public void putAlbums(List<Album> albums) {
+        store(ALBUMS, albums);
+    }
+
+    /**
+     * Keeps {@code items} as the images of the whole library, listed now by the caller.
+     */
+    public void putLibrary(List<MediaItem> items) {
+        store(LIBRARY, items);
+    }
+
+    /**
+     * Keeps {@code items} as the images of the album with id {@code albumId}, listed now by the caller.
+     */
+    public void putAlbumItems(String albumId, List<MediaItem> items) {
+        store(ALBUM_PREFIX + albumId, items);
+    }
+
+    /**
+     * Makes every listing made until now too old to be used, so that each is listed again when it is next needed.
+     */
+    public void invalidateAll() {
+        invalidatedAt = clock.getAsLong();
+    }
+
+    /**
+     * Returns the listing {@code key}, listed now with {@code lister} unless the cached one, read with
+     * {@code parser} if it is only stored, is as recent as {@code freshness}. A listing that is used although it
+     * is older than {@link #TTL_MILLIS} is listed again in the background.
+     */
+    private <T extends MessageLite> Listing<T> get(String key, Parser<T> parser, Supplier<List<T>> lister,
+            Freshness freshness) {
+        Listing<T> listing = getCached(key, parser);
+        if (listing != null && listing.getFetchedAt() >= invalidatedAt) {
+            long age = clock.getAsLong() - listing.getFetchedAt();
+            if (age <= freshness.maxAgeMillis) {
+                if (age > TTL_MILLIS) {
+                    refreshInBackground(key, lister);
+                }
+                return listing;
+            }
+        }
+        return list(key, lister);
+    }
+
+    /**
+     * Returns the listing {@code key} if it is cached and was not invalidated.
+     */
+    private <T extends MessageLite> Optional<Listing<T>> peek(String key, Parser<T> parser) {
+        Listing<T> listing = getCached(key, parser);
+        if (listing == null || listing.getFetchedAt() < invalidatedAt) {
+            return Optional.empty();
+        }
+        return Optional.of(listing);
+    }
+
+    /**
+     * Returns the listing {@code key} in memory, or as stored if it is not in memory, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends MessageLite> Listing<T> getCached(String key, Parser<T> parser) {
+        Listing<T> listing = (Listing<T>) listings.get(key);
+        if (listing != null || storage == null) {
+            return listing;
+        }
+        try {
+            Optional<Listing<T>> stored = storage.readListing(account, key, parser);
+            if (stored.isPresent()) {
+                listings.putIfAbsent(key, stored.get());
+                return (Listing<T>) listings.get(key);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Discarding stored listing " + key + ": " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Lists {@code key} with {@code lister} now, and keeps the listing.
+     */
+    private <T extends MessageLite> Listing<T> list(String key, Supplier<List<T>> lister) {
+        return store(key, lister.get());
+    }
+
+    /**
+     * Keeps {@code items}, listed now, as the listing {@code key}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends MessageLite> Listing<T> store(String key, List<T> items) {
+        Listing<T> listing = new Listing<>(items, clock.getAsLong());
+        Listing<?> previous = listings.put(key, listing);
+        if (ALBUMS.equals(key) && previous != null) {
+            dropChangedAlbums((Listing<Album>) previous, (Listing<Album>) listing);
+        }
+        if (storage != null) {
+            executor.execute(() -> save(key, listing));
+        }
+        return listing;
+    }
+
+    /**
+     * Drops the listings of the albums in {@code previous} that were removed or changed in {@code current}.
+     */
+    private void dropChangedAlbums(Listing<Album> previous, Listing<Album> current) {
+        Map<String, Album> currentAlbums = new HashMap<>();
+        for (Album album : current.getItems()) {
+            currentAlbums.put(album.getId(), album);
+        }
+        for (Album album : previous.getItems()) {
+            Album now = currentAlbums.get(album.getId());
+            if (now == null || now.getMediaItemsCount() != album.getMediaItemsCount()
+                    || !now.getCoverPhotoMediaItemId().equals(album.getCoverPhotoMediaItemId())) {
+                drop(ALBUM_PREFIX + album.getId());
+            }
+        }
+    }
+
+    /**
+     * Forgets the listing {@code key}, in memory and on the hard disk.
+     */
+    private void drop(String key) {
+        listings.remove(key);
+        if (storage == null) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                storage.deleteListing(account, key);
+            } catch (IOException e) {
+                logger.warning("Unable to delete listing " + key + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Lists {@code key} again on the executor, unless it is being listed already.
+     */
+    private <T extends MessageLite> void refreshInBackground(String key, Supplier<List<T>> lister) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                list(key, lister);
+            } catch (RuntimeException e) {
+                logger.warning("Unable to refresh listing " + key + ": " + e.getMessage());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    /**
+     * Stores {@code listing} as {@code key}, unless it was replaced in the meantime.
+     */
+    private void save(String key, Listing<? extends MessageLite> listing) {
+        if (listings.get(key) != listing) {
+            return;
+        }
+        try {
+            storage.saveListing(account, key, listing);
+        } catch (IOException e) {
+            logger.warning("Unable to save listing " + key + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists the images of an album, or of the whole library.
+     */
+    @FunctionalInterface
+    public interface MediaItemLister {
+        /**
+         * Returns the images of the album with id {@code albumId}, or of the whole library if it is null.
+         */
+        List<MediaItem> list(String albumId);
+    }
+
+    /**
+     * The items of a listing and when they were listed.
+     */
+    public static class Listing<T> {
+        private final List<T> items;
+        private final long fetchedAt;
+
+        public Listing(List<T> items, long fetchedAt) {
+            this.items = Collections.unmodifiableList(new ArrayList<>(items));
+            this.fetchedAt = fetchedAt;
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public long getFetchedAt() {
+            return fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.google.photos.library.v1.proto.NewMediaItem;
+import com.google.photos.library.v1.proto.NewMediaItemResult;
+import com.google.photos.library.v1.util.NewMediaItemFactory;
+import com.google.rpc.Code;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ImageTypeClassifier;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.storage.UploadLedgerStorage;
+
+//@@author chivent
+/**
+ * Uploads images to Google Photos. Files are recognised as images from their header, without decoding them, and
+ * the bytes of several images are uploaded at once on a bounded pool of worker threads. The uploaded images are
+ * then added to the library in batches of at most {@value #MAX_BATCH_SIZE}, the most a single request accepts.
+ * Images that were already uploaded to the same account, whatever their name, are skipped: uploads are kept in a
+ * ledger by the hash of their content, in memory and, if there is a storage, on the hard disk.
+ */
+public class MediaUploader {
+
+    /** Number of images whose bytes are uploaded at the same time. */
+    public static final int PARALLELISM = 4;
+    /** Most images that can be added to the library in one request. */
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(MediaUploader.class);
+    private static final ExecutorService workers = createWorkers(PARALLELISM);
+    private static final int HASH_BUFFER = 1 << 16;
+
+    private final UploadClient client;
+    private final UploadLedgerStorage storage;
+    private final Map<String, String> ledger = new ConcurrentHashMap<>();
+    private boolean isLoaded;
+
+    /**
+     * Creates an uploader that uploads through {@code client} and keeps its ledger in {@code storage}, or only for
+     * the session if it is null.
+     */
+    MediaUploader(UploadClient client, UploadLedgerStorage storage) {
+        this.client = requireNonNull(client);
+        this.storage = storage;
+    }
+
+    /**
+     * Uploads the images among {@code files} to the account {@code account} in the background. Files that are not
+     * images are left out. {@code listener} is told on a worker thread as the bytes of each file are uploaded, or
+     * the file is skipped or fails.
+     * @return a future completed with what was uploaded once every image was added to the library.
+     */
+    public CompletableFuture<Result> uploadAll(String account, List<Path> files, ProgressListener listener) {
+        requireNonNull(account);
+        requireNonNull(listener);
+        List<Path> toUpload = new ArrayList<>(files);
+        int total = toUpload.size();
+        AtomicInteger completed = new AtomicInteger();
+        List<CompletableFuture<Upload>> uploads = new ArrayList<>(total);
+        return CompletableFuture.runAsync(this::loadLedger, workers).thenCompose(loaded -> {
+            for (Path file : toUpload) {
+                uploads.add(CompletableFuture.supplyAsync(() -> {
+                    Upload upload = uploadBytes(account, file);
+                    listener.onProgress(file, upload.state != State.FAILED, completed.incrementAndGet(), total);
+                    return upload;
+                }, workers));
+            }
+            return CompletableFuture.allOf(uploads.toArray(new CompletableFuture<?>[0]));
+        }).thenApplyAsync(done -> {
+            List<Upload> results = new ArrayList<>(total);
+            for (CompletableFuture<Upload> upload : uploads) {
+                results.add(upload.join());
+            }
+            createMediaItems(results);
+            return new Result(results);
+        }, workers);
+    }
+
+    /**
+     * Uploads the bytes of {@code file} unless it is not an image or was already uploaded to {@code account}.
+     */
+    private Upload uploadBytes(String account, Path file) {
+        Upload upload = new Upload(file);
+        if (!ImageTypeClassifier.getImageTypeOfContent(file).isPresent()) {
+            upload.state = State.NOT_IMAGE;
+            return upload;
+        }
+        try {
+            upload.key = account + "|" + hashContent(file);
+            String savedName = ledger.get(upload.key);
+            if (savedName != null) {
+                upload.state = State.SKIPPED;
+                upload.savedName = savedName;
+                return upload;
+            }
+            upload.token = client.uploadBytes(file);
+            upload.state = State.BYTES_UPLOADED;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Unable to upload " + file.getFileName() + ": " + e.getMessage());
+            upload.state = State.FAILED;
+        }
+        return upload;
+    }
+
+    /**
+     * Adds the images of {@code uploads} whose bytes were uploaded to the library, {@value #MAX_BATCH_SIZE} at a
+     * time, and records those that were added in the ledger.
+     */
+    private void createMediaItems(List<Upload> uploads) {
+        Map<String, Upload> byToken = new LinkedHashMap<>();
+        for (Upload upload : uploads) {
+            if (upload.state == State.BYTES_UPLOADED) {
+                byToken.put(upload.token, upload);
+            }
+        }
+        if (byToken.isEmpty()) {
+            return;
+        }
+
+        List<Upload> pending = new ArrayList<>(byToken.values());
+        for (int start = 0; start < pending.size(); start += MAX_BATCH_SIZE) {
+            List<Upload> batch = pending.subList(start, Math.min(pending.size(), start + MAX_BATCH_SIZE));
+            List<NewMediaItem> items = new ArrayList<>(batch.size());
+            for (Upload upload : batch) {
+                items.add(NewMediaItemFactory.createNewMediaItem(upload.token));
+            }
+            try {
+                for (NewMediaItemResult result : client.batchCreate(items)) {
+                    Upload upload = byToken.get(result.getUploadToken());
+                    if (upload != null) {
+                        record(upload, result);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Unable to add " + batch.size() + " uploaded images: " + e.getMessage());
+            }
+        }
+        for (Upload upload : pending) {
+            if (upload.state == State.BYTES_UPLOADED) {
+                upload.state = State.FAILED;
+            }
+        }
+        saveLedger();
+    }
+
+    /**
+     * Records in {@code upload} and the ledger how adding it to the library went.
+     */
+    private void record(Upload upload, NewMediaItemResult result) {
+        int code = result.getStatus().getCode();
+        if (code == Code.OK_VALUE) {
+            upload.state = State.UPLOADED;
+            upload.savedName = result.getMediaItem().getFilename();
+        } else if (code == Code.ALREADY_EXISTS_VALUE) {
+            upload.state = State.SKIPPED;
+            upload.savedName = upload.file.getFileName().toString();
+        } else {
+            upload.state = State.FAILED;
+            return;
+        }
+        ledger.put(upload.key, upload.savedName);
+    }
+
+    /**
+     * Returns the SHA-1, in hexadecimal, of the whole content of {@code file}.
+     */
+    static String hashContent(Path file) throws IOException {
+        MessageDigest digest = StringUtil.newSha1();
+        byte[] buffer = new byte[HASH_BUFFER];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return StringUtil.toHex(digest.digest());
+    }
+
+    /**
+     * Returns the number of uploads in the ledger.
+     */
+    public int getLedgerSize() {
+        return ledger.size();
+    }
+
+    /**
+     * Loads the stored ledger the first time it is needed.
+     */
+    private synchronized void loadLedger() {
+        if (isLoaded || storage == null) {
+            return;
+        }
+        isLoaded = true;
+        try {
+            ledger.putAll(storage.readLedger());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Discarding upload ledger: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stores the ledger, only logging if it cannot be stored since the images themselves were uploaded.
+     */
+    private synchronized void saveLedger() {
+        if (storage == null) {
+            return;
+        }
+        try {
+            storage.saveLedger(new HashMap<>(ledger));
+        } catch (IOException e) {
+            logger.warning("Unable to save upload ledger: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a pool of {@code threads} daemon threads, which do not keep the application running.
+     */
+    private static ExecutorService createWorkers(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "media-uploader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Uploads images to an account in Google Photos.
+     */
+    interface UploadClient {
+        /**
+         * Uploads the bytes of {@code file} and returns the token to add them to the library with.
+         */
+        String uploadBytes(Path file) throws IOException;
+
+        /**
+         * Adds the uploaded {@code items}, no more than {@value #MAX_BATCH_SIZE}, to the library.
+         */
+        List<NewMediaItemResult> batchCreate(List<NewMediaItem> items);
+    }
+
+    /**
+     * Told as the upload of each file of {@link #uploadAll(String, List, ProgressListener)} is over.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called once the file {@code file} was uploaded, skipped or failed, as the {@code completed}th of
+         * {@code total} files.
+         */
+        void onProgress(Path file, boolean isSuccess, int completed, int total);
+    }
+
+    /**
+     * The stages of the upload of a file.
+     */
+    private enum State { NOT_IMAGE, SKIPPED, BYTES_UPLOADED, UPLOADED, FAILED }
+
+    /**
+     * The upload of one file.
+     */
+    private static class Upload {
+        private final Path file;
+        private State state;
+        private String key;
+        private String token;
+        private String savedName;
+
+        Upload(Path file) {
+            this.file = file;
+        }
+    }
+
+    /**
+     * What an upload did, with the images in the order they were given.
+     */
+    public static class Result {
+        private final List<Path> images = new ArrayList<>();
+        private final Map<Path, String> uploaded = new LinkedHashMap<>();
+        private final List<Path> skipped = new ArrayList<>();
+        private final List<Path> failed = new ArrayList<>();
+
+        private Result(List<Upload> uploads) {
+            for (Upload upload : uploads) {
+                if (upload.state == State.NOT_IMAGE) {
+                    continue;
+                }
+                images.add(upload.file);
+                if (upload.state == State.UPLOADED) {
+                    uploaded.put(upload.file, upload.savedName);
+                } else if (upload.state == State.SKIPPED) {
+                    skipped.add(upload.file);
+                } else {
+                    failed.add(upload.file);
+                }
+            }
+        }
+
+        /**
+         * Returns the files that are images, whatever happened to them.
+         */
+        public List<Path> getImages() {
+            return Collections.unmodifiableList(images);
+        }
+
+        /**
+         * Returns the images that were uploaded, with the name each was saved as.
+         */
+        public Map<Path, String> getUploaded() {
+            return Collections.unmodifiableMap(uploaded);
+        }
+
+        /**
+         * Returns the images that were already in the library.
+         */
+        public List<Path> getSkipped() {
+            return Collections.unmodifiableList(skipped);
+        }
+
+        public List<Path> getFailed() {
+            return Collections.unmodifiableList(failed);
+        }
+    }
+}
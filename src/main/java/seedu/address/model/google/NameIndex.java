@@ -0,0 +1,77 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+//@@author chivent
+/**
+ * Gives the albums or images of a Google Photos listing the names they are shown by. As names can be duplicates in
+ * Google Photos, a name that is taken gets a number before its extension, e.g. {@code IMG_0001 (2).JPG}. The next
+ * number to try is kept per name, so naming a listing in which thousands of items share a name takes time linear in
+ * its size, rather than trying every number from 1 again for each item. Items are kept in the order they were named,
+ * and can be looked up by name and by id.
+ */
+public class NameIndex<T> {
+
+    private final Map<String, T> itemsByName = new LinkedHashMap<>();
+    private final Map<String, String> namesById = new HashMap<>();
+    private final Map<String, Integer> nextNumbers = new HashMap<>();
+
+    /**
+     * Names {@code item}, whose id is {@code id}, after {@code title}, numbering it if the name is taken.
+     *
+     * @param extension extension at the end of {@code title} to number the name before, or null if there is none
+     * @return the name given to {@code item}
+     */
+    public String add(String title, String extension, String id, T item) {
+        requireNonNull(title);
+        requireNonNull(item);
+        String name = title;
+        if (itemsByName.containsKey(name)) {
+            String base = (extension == null) ? title : title.replace(extension, "");
+            String suffix = (extension == null) ? "" : extension;
+            String key = base + "\n" + suffix;
+            int number = nextNumbers.getOrDefault(key, 1);
+            do {
+                name = base + " (" + number + ")" + suffix;
+                number++;
+            } while (itemsByName.containsKey(name));
+            nextNumbers.put(key, number);
+        }
+        itemsByName.put(name, item);
+        if (id != null) {
+            namesById.put(id, name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the item named {@code name}, or null if there is none.
+     */
+    public T get(String name) {
+        return itemsByName.get(name);
+    }
+
+    /**
+     * Returns the name given to the item with id {@code id}.
+     */
+    public Optional<String> getName(String id) {
+        return Optional.ofNullable(namesById.get(id));
+    }
+
+    /**
+     * Returns the items by name, in the order they were named.
+     */
+    public Map<String, T> asMap() {
+        return Collections.unmodifiableMap(itemsByName);
+    }
+
+    public int size() {
+        return itemsByName.size();
+    }
+}
@@ -0,0 +1,280 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+//@@author chivent
+/**
+ * Shows a listing of Google Photos a screenful of names at a time, as its pages arrive. The first page of a screen
+ * is retrieved on the calling thread, so the start of the screen is shown after one request, and the rest of the
+ * screen is retrieved in the background, the screen being updated after every page. Retrieval pauses once the
+ * screen is full, until the next screen is asked for, and can be stopped at any time. Names are in the order of
+ * the listing, so the same listing is always shown in the same order.
+ */
+public class PagedListing<T> {
+
+    /** Most names shown at once. */
+    public static final int SCREEN_SIZE = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedListing.class);
+    private static final Executor loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "paged-listing");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PageSource<T> source;
+    private final Function<T, String> namer;
+    private final Consumer<List<T>> onComplete;
+    private final Executor executor;
+    private final int screenSize;
+    private final List<T> items = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private String pageToken = "";
+    private volatile boolean isComplete;
+    private boolean isLoading;
+    private volatile boolean isStopped;
+    // incremented whenever a screen is asked for or stopped, so that a screen retrieved before is never shown
+    private long screenGeneration;
+    private int screenStart;
+    private int screenEnd;
+
+    /**
+     * Creates a listing of the pages of {@code source}, showing the name {@code namer} gives each item, that gives
+     * every item to {@code onComplete} once the last page arrived.
+     */
+    public PagedListing(PageSource<T> source, Function<T, String> namer, Consumer<List<T>> onComplete) {
+        this(source, namer, onComplete, loader, SCREEN_SIZE);
+    }
+
+    PagedListing(PageSource<T> source, Function<T, String> namer, Consumer<List<T>> onComplete, Executor executor,
+            int screenSize) {
+        this.source = requireNonNull(source);
+        this.namer = requireNonNull(namer);
+        this.onComplete = requireNonNull(onComplete);
+        this.executor = requireNonNull(executor);
+        this.screenSize = screenSize;
+    }
+
+    /**
+     * Returns a listing of {@code names}, all known already.
+     */
+    public static PagedListing<String> of(List<String> names) {
+        List<String> all = new ArrayList<>(names);
+        return new PagedListing<>(pageToken -> new Page<>(all, ""), Function.identity(), items -> { });
+    }
+
+    /**
+     * Shows the next screen: returns it as soon as its first page arrived and, if it is not full yet, retrieves
+     * the rest of it in the background, telling {@code listener} after each page.
+     * @throws IllegalStateException if the previous screen is still being retrieved.
+     */
+    public Screen nextScreen(ScreenListener listener) {
+        requireNonNull(listener);
+        long generation;
+        synchronized (this) {
+            if (isLoading) {
+                throw new IllegalStateException("The previous screen is still being retrieved");
+            }
+            screenStart = screenEnd;
+            isLoading = true;
+            isStopped = false;
+            generation = ++screenGeneration;
+        }
+        try {
+            if (!isComplete && names.size() <= screenStart) {
+                retrievePage();
+            }
+        } catch (RuntimeException e) {
+            finishScreen();
+            throw e;
+        }
+        if (isScreenFull() || isComplete) {
+            finishScreen();
+            return getScreen(false);
+        }
+        executor.execute(() -> {
+            boolean isFailed = false;
+            try {
+                while (!isStopped && !isComplete && !isScreenFull()) {
+                    retrievePage();
+                    if (!isScreenFull() && !isComplete) {
+                        update(listener, generation, false);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Unable to retrieve the next page: " + e.getMessage());
+                isFailed = true;
+            }
+            finishScreen();
+            update(listener, generation, isFailed);
+        });
+        return getScreen(false);
+    }
+
+    /**
+     * Stops retrieving the current screen after the page being retrieved. Its listener is not told anything more,
+     * so that it does not overwrite what is shown instead, e.g. another listing.
+     */
+    public synchronized void stop() {
+        isStopped = true;
+        screenGeneration++;
+    }
+
+    public synchronized boolean isLoading() {
+        return isLoading;
+    }
+
+    /**
+     * Retrieves the next page and names its items.
+     */
+    private void retrievePage() {
+        Page<T> page = source.fetch(pageToken);
+        List<T> complete = null;
+        synchronized (this) {
+            for (T item : page.getItems()) {
+                items.add(item);
+                names.add(namer.apply(item));
+            }
+            pageToken = page.getNextPageToken();
+            if (pageToken.isEmpty()) {
+                isComplete = true;
+                complete = new ArrayList<>(items);
+            }
+        }
+        if (complete != null) {
+            onComplete.accept(complete);
+        }
+    }
+
+    private synchronized boolean isScreenFull() {
+        return names.size() - screenStart >= screenSize;
+    }
+
+    /**
+     * Ends the retrieval of the current screen.
+     */
+    private synchronized void finishScreen() {
+        screenEnd = Math.min(names.size(), screenStart + screenSize);
+        isLoading = false;
+    }
+
+    /**
+     * Tells {@code listener} the current screen, unless the screen retrieved as {@code generation} was stopped or
+     * replaced since. The listener is told while holding the listing, so that a {@link #stop()} returns only once
+     * any update being told is over.
+     */
+    private synchronized void update(ScreenListener listener, long generation, boolean isFailed) {
+        if (generation == screenGeneration) {
+            listener.onUpdate(getScreen(isFailed));
+        }
+    }
+
+    /**
+     * Returns the current screen as it is now.
+     */
+    private synchronized Screen getScreen(boolean isFailed) {
+        int end = Math.min(names.size(), screenStart + screenSize);
+        boolean hasMore = !isComplete || end < names.size();
+        return new Screen(new ArrayList<>(names.subList(screenStart, end)), screenStart, isLoading, hasMore,
+                isFailed);
+    }
+
+    /**
+     * Retrieves a page of a listing.
+     */
+    @FunctionalInterface
+    public interface PageSource<T> {
+        /**
+         * Returns the page starting at {@code pageToken}, which is empty for the first page.
+         */
+        Page<T> fetch(String pageToken);
+    }
+
+    /**
+     * Told as a screen that is retrieved in the background changes.
+     */
+    @FunctionalInterface
+    public interface ScreenListener {
+        void onUpdate(Screen screen);
+    }
+
+    /**
+     * The items of a page and the token of the next page, which is empty after the last page.
+     */
+    public static class Page<T> {
+        private final List<T> items;
+        private final String nextPageToken;
+
+        public Page(List<T> items, String nextPageToken) {
+            this.items = requireNonNull(items);
+            this.nextPageToken = requireNonNull(nextPageToken);
+        }
+
+        public List<T> getItems() {
+            return items;
+        }
+
+        public String getNextPageToken() {
+            return nextPageToken;
+        }
+    }
+
+    /**
+     * The names shown at once, from the {@code firstIndex}th name of the listing.
+     */
+    public static class Screen {
+        private final List<String> names;
+        private final int firstIndex;
+        private final boolean isLoading;
+        private final boolean hasMore;
+        private final boolean isFailed;
+
+        Screen(List<String> names, int firstIndex, boolean isLoading, boolean hasMore, boolean isFailed) {
+            this.names = Collections.unmodifiableList(names);
+            this.firstIndex = firstIndex;
+            this.isLoading = isLoading;
+            this.hasMore = hasMore;
+            this.isFailed = isFailed;
+        }
+
+        public List<String> getNames() {
+            return names;
+        }
+
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        /**
+         * Returns true if more names of this screen are being retrieved.
+         */
+        public boolean isLoading() {
+            return isLoading;
+        }
+
+        /**
+         * Returns true if there are names after this screen.
+         */
+        public boolean hasMore() {
+            return hasMore;
+        }
+
+        /**
+         * Returns true if retrieving the rest of this screen failed.
+         */
+        public boolean isFailed() {
+            return isFailed;
+        }
+    }
+}
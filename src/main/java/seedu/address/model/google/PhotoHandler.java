@@ -1,23 +1,29 @@
 package seedu.address.model.google;
 
+import static seedu.address.commons.core.Messages.MESSAGE_GOOGLE_LISTING_BUSY;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_ALBUM_REQUESTED;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_IMAGE_REQUESTED;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_GOOGLE_LISTING;
 
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import javax.imageio.ImageIO;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
+import com.google.auth.Credentials;
 import com.google.photos.library.v1.PhotosLibraryClient;
 import com.google.photos.library.v1.internal.InternalPhotosLibraryClient.ListAlbumsPagedResponse;
 import com.google.photos.library.v1.internal.InternalPhotosLibraryClient.ListMediaItemsPagedResponse;
@@ -25,16 +31,22 @@ import com.google.photos.library.v1.internal.InternalPhotosLibraryClient.SearchM
 import com.google.photos.library.v1.proto.Album;
 import com.google.photos.library.v1.proto.BatchCreateMediaItemsRequest;
 import com.google.photos.library.v1.proto.BatchCreateMediaItemsResponse;
+import com.google.photos.library.v1.proto.ListAlbumsRequest;
+import com.google.photos.library.v1.proto.ListMediaItemsRequest;
 import com.google.photos.library.v1.proto.MediaItem;
 import com.google.photos.library.v1.proto.NewMediaItem;
 import com.google.photos.library.v1.proto.NewMediaItemResult;
+import com.google.photos.library.v1.proto.SearchMediaItemsRequest;
 import com.google.photos.library.v1.upload.UploadMediaItemRequest;
 import com.google.photos.library.v1.upload.UploadMediaItemResponse;
 import com.google.photos.library.v1.util.NewMediaItemFactory;
 import com.google.rpc.Code;
-import com.google.rpc.Status;
 
+import seedu.address.commons.util.MediaDownloader;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.storage.ListingStorage;
+import seedu.address.storage.SyncManifestStorage;
+import seedu.address.storage.UploadLedgerStorage;
 
 //@@author chivent
 
@@ -47,15 +59,53 @@ public class PhotoHandler {
     public static final String WRONG_PATH = "%s does not exist in folder!";
     public static final String UPLOAD_FORMAT = "\n%s  >> saved as >>  %s";
 
+    private static final int ALBUM_PAGE_SIZE = 50;
+    private static final int MEDIA_ITEM_PAGE_SIZE = 100;
+
     private PhotosLibraryClient photosLibraryClient;
     private String user;
     private Map<String, Album> albumMap = new HashMap<>();
     private Map<String, MediaItem> imageMap = new HashMap<>();
     private Map<String, MediaItem> albumSpecificMap = new HashMap<>();
+    // the names of the albums and of all images, for completion
+    private NameIndex<Album> albumNames = new NameIndex<>();
+    private NameIndex<MediaItem> imageNames = new NameIndex<>();
+    private final ListingCache listingCache;
+    // the listings the maps above were built from, null for maps given at construction
+    private ListingCache.Listing<Album> albumListing;
+    private ListingCache.Listing<MediaItem> imageListing;
+    private ListingCache.Listing<MediaItem> albumSpecificListing;
+    // the listing being shown by ls
+    private PagedListing<?> shownListing;
+    private final AlbumSync albumSync =
+            new AlbumSync(new SyncManifestStorage(SyncManifestStorage.DEFAULT_DIRECTORY));
+    private final MediaUploader uploader;
+    private final ByteUploader byteUploader;
+    private final StreamUploader streamUploader;
 
     public PhotoHandler(PhotosLibraryClient client, String email) {
         photosLibraryClient = client;
         user = email;
+        listingCache = new ListingCache(String.valueOf(email), new ListingStorage(ListingStorage.DEFAULT_DIRECTORY),
+                this::listAllAlbums, this::listAllMediaItems);
+        byteUploader = this::uploadThroughClient;
+        streamUploader = new StreamUploader(StreamUploader.UPLOAD_ADDRESS, this::getCredentials);
+        uploader = new MediaUploader(new LibraryUploadClient(),
+                new UploadLedgerStorage(UploadLedgerStorage.DEFAULT_FILE));
+    }
+
+    /**
+     * Creates a handler that talks to a stand-in for Google Photos through {@code client}, and uploads the bytes of
+     * images, files included, through {@code streamUploader} as the client can only upload them to Google Photos
+     * itself. Listings and uploads are only remembered for the session.
+     */
+    PhotoHandler(PhotosLibraryClient client, String email, StreamUploader streamUploader) {
+        photosLibraryClient = client;
+        user = email;
+        listingCache = new ListingCache(String.valueOf(email), null, this::listAllAlbums, this::listAllMediaItems);
+        this.streamUploader = streamUploader;
+        byteUploader = file -> streamUploader.upload(file.getFileName().toString(), output -> Files.copy(file, output));
+        uploader = new MediaUploader(new LibraryUploadClient(), null);
     }
 
     public PhotoHandler(String email, Map<String, Album> albumMap, Map<String, MediaItem> imageMap) {
@@ -63,6 +113,12 @@ public class PhotoHandler {
         user = email;
         this.albumMap = albumMap;
         this.imageMap = imageMap;
+        albumNames = toNameIndex(albumMap);
+        imageNames = toNameIndex(imageMap);
+        listingCache = new ListingCache(String.valueOf(email), null, this::listAllAlbums, this::listAllMediaItems);
+        byteUploader = this::uploadThroughClient;
+        streamUploader = new StreamUploader(StreamUploader.UPLOAD_ADDRESS, this::getCredentials);
+        uploader = new MediaUploader(new LibraryUploadClient(), null);
     }
 
     //=========== Listing Images (ls command) ================================
@@ -73,8 +129,8 @@ public class PhotoHandler {
      * @return list of image names
      */
     public List<String> returnAllImagesList() {
-        if (imageMap.isEmpty()) {
-            retrieveAllImagesFromGoogle();
+        if (imageMap.isEmpty() || imageListing != null) {
+            retrieveAllImagesFromGoogle(ListingCache.Freshness.CACHED);
         }
         return new ArrayList<>(imageMap.keySet());
     }
@@ -86,8 +142,8 @@ public class PhotoHandler {
      */
     public List<String> returnAllAlbumsList() {
 
-        if (albumMap.isEmpty()) {
-            retrieveAllAlbumsFromGoogle();
+        if (albumMap.isEmpty() || albumListing != null) {
+            retrieveAllAlbumsFromGoogle(ListingCache.Freshness.CACHED);
         }
         return new ArrayList<>(albumMap.keySet());
     }
@@ -100,74 +156,294 @@ public class PhotoHandler {
      */
     public List<String> returnAllImagesinAlbum(String albumName) throws CommandException {
 
-        retrieveSpecificAlbumGoogle(albumName);
+        retrieveSpecificAlbumGoogle(albumName, ListingCache.Freshness.CACHED);
 
         return new ArrayList<>(albumSpecificMap.keySet());
     }
 
     /**
-     * Refreshes stored lists of album and image names.
+     * Returns the images of the album {@code albumName} to browse without downloading them, listed recently
+     * enough that their addresses are still valid
+     *
+     * @param albumName name of album to browse
+     * @return the remote album
+     */
+    public RemoteAlbum getRemoteAlbum(String albumName) throws CommandException {
+        retrieveSpecificAlbumGoogle(albumName, ListingCache.Freshness.DOWNLOADABLE);
+        List<RemoteImage> images = new ArrayList<>();
+        for (Map.Entry<String, MediaItem> entry : albumSpecificMap.entrySet()) {
+            images.add(RemoteImage.of(entry.getKey(), entry.getValue()));
+        }
+        return new RemoteAlbum(albumName, images);
+    }
+
+    /**
+     * Refreshes stored lists of album and image names, and makes every other listing be retrieved again
      */
     public void refreshLists() {
-        retrieveAllAlbumsFromGoogle();
-        retrieveAllImagesFromGoogle();
+        listingCache.invalidateAll();
+        retrieveAllAlbumsFromGoogle(ListingCache.Freshness.LATEST);
+        retrieveAllImagesFromGoogle(ListingCache.Freshness.LATEST);
+    }
+
+
+    /**
+     * Shows the first screen of the images in Google Photos, or in an album, right away if they were listed before
+     * and as their pages arrive otherwise
+     *
+     * @param albumName name of album to list, or null to list all images
+     * @param listener  told as the rest of the screen arrives
+     * @return the first screen of image names
+     */
+    public PagedListing.Screen listImages(String albumName, PagedListing.ScreenListener listener)
+            throws CommandException {
+        stopListing();
+        if (albumName == null) {
+            boolean isCached = listingCache.peekLibrary().isPresent();
+            if (isCached) {
+                retrieveAllImagesFromGoogle(ListingCache.Freshness.CACHED);
+            }
+            shownListing = (isCached || !imageMap.isEmpty()) ? PagedListing.of(new ArrayList<>(imageMap.keySet()))
+                    : new PagedListing<>(pageToken -> fetchMediaItemPage(null, pageToken), newImageNamer(),
+                            listingCache::putLibrary);
+        } else {
+            Album album = findAlbum(albumName);
+            if (listingCache.peekAlbumItems(album.getId()).isPresent()) {
+                retrieveSpecificAlbumGoogle(albumName, ListingCache.Freshness.CACHED);
+                shownListing = PagedListing.of(new ArrayList<>(albumSpecificMap.keySet()));
+            } else {
+                shownListing = new PagedListing<>(pageToken -> fetchMediaItemPage(album.getId(), pageToken),
+                        newImageNamer(), items -> listingCache.putAlbumItems(album.getId(), items));
+            }
+        }
+        return shownListing.nextScreen(listener);
+    }
+
+    /**
+     * Shows the first screen of the albums in Google Photos, right away if they were listed before and as their
+     * pages arrive otherwise
+     *
+     * @param listener told as the rest of the screen arrives
+     * @return the first screen of album names
+     */
+    public PagedListing.Screen listAlbums(PagedListing.ScreenListener listener) {
+        stopListing();
+        boolean isCached = listingCache.peekAlbums().isPresent();
+        if (isCached) {
+            retrieveAllAlbumsFromGoogle(ListingCache.Freshness.CACHED);
+        }
+        if (isCached || !albumMap.isEmpty()) {
+            shownListing = PagedListing.of(new ArrayList<>(albumMap.keySet()));
+        } else {
+            NameIndex<Album> named = new NameIndex<>();
+            Function<Album, String> namer = album -> named.add(album.getTitle(), null, album.getId(), album);
+            shownListing = new PagedListing<>(this::fetchAlbumPage, namer, listingCache::putAlbums);
+        }
+        return shownListing.nextScreen(listener);
+    }
+
+    /**
+     * Shows the screen after the one last shown
+     *
+     * @param listener told as the rest of the screen arrives
+     * @return the first names of the screen
+     */
+    public PagedListing.Screen listMore(PagedListing.ScreenListener listener) throws CommandException {
+        if (shownListing == null) {
+            throw new CommandException(MESSAGE_NO_GOOGLE_LISTING);
+        }
+        if (shownListing.isLoading()) {
+            throw new CommandException(MESSAGE_GOOGLE_LISTING_BUSY);
+        }
+        return shownListing.nextScreen(listener);
     }
 
+    /**
+     * Stops retrieving the screen being shown, if any
+     */
+    public void stopListing() {
+        if (shownListing != null) {
+            shownListing.stop();
+        }
+    }
 
     //=========== Retrieving Images from Google ================================
 
     /**
-     * Retrieves all albums in Google Photos
+     * Retrieves all albums in Google Photos, from the listing cache if it is as recent as {@code freshness}
      */
-    private void retrieveAllAlbumsFromGoogle() {
-        albumMap.clear();
-        ListAlbumsPagedResponse albums = photosLibraryClient.listAlbums();
-        for (Album album : albums.iterateAll()) {
-            albumMap.put(getUniqueName(albumMap, album.getTitle(), null), album);
+    private void retrieveAllAlbumsFromGoogle(ListingCache.Freshness freshness) {
+        ListingCache.Listing<Album> listing = listingCache.getAlbums(freshness);
+        if (listing == albumListing) {
+            return;
+        }
+        NameIndex<Album> albums = new NameIndex<>();
+        for (Album album : listing.getItems()) {
+            albums.add(album.getTitle(), null, album.getId(), album);
         }
+        albumNames = albums;
+        albumMap = albums.asMap();
+        albumListing = listing;
     }
 
     /**
-     * Retrieves all images in Google Photos
+     * Retrieves all images in Google Photos, from the listing cache if it is as recent as {@code freshness}
      */
-    private void retrieveAllImagesFromGoogle() {
-        imageMap.clear();
-        ListMediaItemsPagedResponse listMediaItems = photosLibraryClient.listMediaItems();
-        for (MediaItem item : listMediaItems.iterateAll()) {
-            //only store the item if it is an image
-            if (item.getMimeType().contains("image")) {
-                String mimeType = "." + item.getMimeType().replace("image/", "");
-                imageMap.put(getUniqueName(imageMap, item.getFilename(), mimeType), item);
-            }
+    private void retrieveAllImagesFromGoogle(ListingCache.Freshness freshness) {
+        ListingCache.Listing<MediaItem> listing = listingCache.getLibrary(freshness);
+        if (listing == imageListing) {
+            return;
         }
+        imageNames = toImageIndex(listing);
+        imageMap = imageNames.asMap();
+        imageListing = listing;
     }
 
     /**
-     * Retrieves all images in specified album
+     * Retrieves all images in specified album, from the listing cache if it is as recent as {@code freshness}
      *
      * @param albumName name of album to retrieve
      */
-    private void retrieveSpecificAlbumGoogle(String albumName) throws CommandException {
+    private void retrieveSpecificAlbumGoogle(String albumName, ListingCache.Freshness freshness)
+            throws CommandException {
+        Album album = findAlbum(albumName);
+
+        ListingCache.Listing<MediaItem> listing = listingCache.getAlbumItems(album.getId(), freshness);
+        if (listing == albumSpecificListing) {
+            return;
+        }
+        albumSpecificMap = toImageIndex(listing).asMap();
+        albumSpecificListing = listing;
+    }
+
+    /**
+     * Returns the album named {@code albumName}
+     *
+     * @throws CommandException if there is no such album
+     */
+    private Album findAlbum(String albumName) throws CommandException {
         Album album;
+        if (albumMap.isEmpty() || albumListing != null) {
+            retrieveAllAlbumsFromGoogle(ListingCache.Freshness.CACHED);
+        }
 
         // if album name not found, re-retrieve all albums (in case un-updated)
         if ((album = albumMap.get(albumName)) == null) {
-            retrieveAllAlbumsFromGoogle();
+            retrieveAllAlbumsFromGoogle(ListingCache.Freshness.RECENT);
             if ((album = albumMap.get(albumName)) == null) {
                 throw new CommandException(MESSAGE_INVALID_ALBUM_REQUESTED);
             }
         }
+        return album;
+    }
+
+    /**
+     * Returns the images of {@code listing} by unique name, in the order of the listing
+     */
+    private static NameIndex<MediaItem> toImageIndex(ListingCache.Listing<MediaItem> listing) {
+        NameIndex<MediaItem> images = new NameIndex<>();
+        for (MediaItem item : listing.getItems()) {
+            addImage(images, item);
+        }
+        return images;
+    }
+
+    /**
+     * Returns a function giving each image it is given a name that no image it was given before has
+     */
+    private static Function<MediaItem, String> newImageNamer() {
+        NameIndex<MediaItem> named = new NameIndex<>();
+        return item -> addImage(named, item);
+    }
 
-        albumSpecificMap.clear();
+    /**
+     * Names {@code item} in {@code images} after its file name, and returns the name it was given
+     */
+    private static String addImage(NameIndex<MediaItem> images, MediaItem item) {
+        String mimeType = "." + item.getMimeType().replace("image/", "");
+        return images.add(item.getFilename(), mimeType, item.getId(), item);
+    }
 
-        SearchMediaItemsPagedResponse listMediaItems = photosLibraryClient.searchMediaItems(album.getId());
-        for (MediaItem item : listMediaItems.iterateAll()) {
+    /**
+     * Returns an index of {@code items}, whose names are unique already
+     */
+    private static <T> NameIndex<T> toNameIndex(Map<String, T> items) {
+        NameIndex<T> index = new NameIndex<>();
+        for (Map.Entry<String, T> item : items.entrySet()) {
+            index.add(item.getKey(), null, null, item.getValue());
+        }
+        return index;
+    }
+
+    /**
+     * Retrieves the page of albums in Google Photos starting at {@code pageToken}
+     */
+    private PagedListing.Page<Album> fetchAlbumPage(String pageToken) {
+        ListAlbumsPagedResponse response = photosLibraryClient.listAlbums(ListAlbumsRequest.newBuilder()
+                .setPageSize(ALBUM_PAGE_SIZE).setPageToken(pageToken).build());
+        List<Album> albums = new ArrayList<>();
+        for (Album album : response.getPage().getValues()) {
+            albums.add(album);
+        }
+        return new PagedListing.Page<>(albums, Objects.toString(response.getNextPageToken(), ""));
+    }
+
+    /**
+     * Retrieves the page of images starting at {@code pageToken} of the album with id {@code albumId} in Google
+     * Photos, or of the whole library if it is null
+     */
+    private PagedListing.Page<MediaItem> fetchMediaItemPage(String albumId, String pageToken) {
+        Iterable<MediaItem> items;
+        String nextPageToken;
+        if (albumId == null) {
+            ListMediaItemsPagedResponse response = photosLibraryClient.listMediaItems(
+                    ListMediaItemsRequest.newBuilder().setPageSize(MEDIA_ITEM_PAGE_SIZE).setPageToken(pageToken)
+                            .build());
+            items = response.getPage().getValues();
+            nextPageToken = response.getNextPageToken();
+        } else {
+            SearchMediaItemsPagedResponse response = photosLibraryClient.searchMediaItems(
+                    SearchMediaItemsRequest.newBuilder().setAlbumId(albumId).setPageSize(MEDIA_ITEM_PAGE_SIZE)
+                            .setPageToken(pageToken).build());
+            items = response.getPage().getValues();
+            nextPageToken = response.getNextPageToken();
+        }
+        return new PagedListing.Page<>(filterImages(items), Objects.toString(nextPageToken, ""));
+    }
+
+    /**
+     * Lists all albums in Google Photos
+     */
+    private List<Album> listAllAlbums() {
+        List<Album> albums = new ArrayList<>();
+        ListAlbumsPagedResponse response = photosLibraryClient.listAlbums();
+        for (Album album : response.iterateAll()) {
+            albums.add(album);
+        }
+        return albums;
+    }
+
+    /**
+     * Lists the images of the album with id {@code albumId} in Google Photos, or of the whole library if it is null
+     */
+    private List<MediaItem> listAllMediaItems(String albumId) {
+        Iterable<MediaItem> items = (albumId == null) ? photosLibraryClient.listMediaItems().iterateAll()
+                : photosLibraryClient.searchMediaItems(albumId).iterateAll();
+        return filterImages(items);
+    }
+
+    /**
+     * Returns the images among {@code items}
+     */
+    private static List<MediaItem> filterImages(Iterable<MediaItem> items) {
+        List<MediaItem> images = new ArrayList<>();
+        for (MediaItem item : items) {
             //only store the item if it is an image
             if (item.getMimeType().contains("image")) {
-                String mimeType = "." + item.getMimeType().replace("image/", "");
-                albumSpecificMap.put(getUniqueName(albumSpecificMap, item.getFilename(), mimeType), item);
+                images.add(item);
             }
         }
+        return images;
     }
 
     //=========== Downloading Images from Google ================================
@@ -180,18 +456,7 @@ public class PhotoHandler {
      * @throws IOException thrown if input/output is invalid
      */
     public void downloadImage(String imageName, String currDir) throws CommandException, IOException {
-
-        MediaItem image;
-
-        // if image name not found, re-retrieve album (in case un-updated)
-        if ((image = imageMap.get(imageName)) == null) {
-            retrieveAllImagesFromGoogle();
-            if ((image = imageMap.get(imageName)) == null) {
-                throw new CommandException(MESSAGE_INVALID_IMAGE_REQUESTED);
-            }
-        }
-
-        saveImageInDir(image, currDir + "/" + imageName);
+        saveImageInDir(findImage(imageName), currDir + "/" + imageName);
     }
 
     /**
@@ -204,48 +469,123 @@ public class PhotoHandler {
      */
     public void downloadAlbumImage(String albumName, String imageName, String currDir)
             throws CommandException, IOException {
+        saveImageInDir(findAlbumImage(albumName, imageName), currDir + "/" + imageName);
+    }
 
+    /**
+     * Downloads an image from Google Photos into memory, exactly as it was uploaded, to be decoded straight away
+     *
+     * @param albumName album to look in, or null to look among all images
+     * @param imageName image to look for
+     * @return the encoded image
+     * @throws IOException thrown if the image could not be downloaded
+     */
+    public byte[] fetchImage(String albumName, String imageName) throws CommandException, IOException {
+        MediaItem image = (albumName == null) ? findImage(imageName) : findAlbumImage(albumName, imageName);
+        return MediaDownloader.getInstance().downloadBytes(getDownloadUrl(image));
+    }
+
+    /**
+     * Returns the image named {@code imageName} among all images, listing them again if it is not found
+     */
+    private MediaItem findImage(String imageName) throws CommandException {
         MediaItem image;
-        retrieveSpecificAlbumGoogle(albumName);
 
+        if (imageListing != null) {
+            retrieveAllImagesFromGoogle(ListingCache.Freshness.DOWNLOADABLE);
+        }
         // if image name not found, re-retrieve album (in case un-updated)
+        if ((image = imageMap.get(imageName)) == null) {
+            retrieveAllImagesFromGoogle(ListingCache.Freshness.RECENT);
+            if ((image = imageMap.get(imageName)) == null) {
+                throw new CommandException(MESSAGE_INVALID_IMAGE_REQUESTED);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns the image named {@code imageName} in the album {@code albumName}
+     */
+    private MediaItem findAlbumImage(String albumName, String imageName) throws CommandException {
+        MediaItem image;
+        retrieveSpecificAlbumGoogle(albumName, ListingCache.Freshness.DOWNLOADABLE);
+
         if ((image = albumSpecificMap.get(imageName)) == null) {
             throw new CommandException(MESSAGE_INVALID_IMAGE_REQUESTED);
         }
-
-        saveImageInDir(image, currDir + "/" + imageName);
+        return image;
     }
 
     /**
-     * Downloads all images from an album in Google Photos
+     * Downloads all images from an album in Google Photos in the background, several at a time
      *
      * @param albumName album to download
      * @param currDir   directory to save image in.
-     * @throws IOException thrown if input/output is invalid
+     * @param listener  told as the download of each image is over
+     * @return a future completed with the paths of the images that could not be downloaded
+     * @throws MalformedURLException thrown if an image has no valid address
      */
-    public void downloadWholeAlbum(String albumName, String currDir) throws IOException, CommandException {
+    public CompletableFuture<List<Path>> downloadWholeAlbum(String albumName, String currDir,
+            MediaDownloader.ProgressListener listener) throws CommandException, MalformedURLException {
 
-        retrieveSpecificAlbumGoogle(albumName);
+        retrieveSpecificAlbumGoogle(albumName, ListingCache.Freshness.DOWNLOADABLE);
 
+        Map<Path, URL> downloads = new LinkedHashMap<>();
         for (Map.Entry<String, MediaItem> entry : albumSpecificMap.entrySet()) {
             //only store the item if it is an image
             if (entry.getValue().getMimeType().contains("image")) {
-                saveImageInDir(entry.getValue(), currDir + "/" + entry.getKey());
+                downloads.put(Paths.get(currDir, entry.getKey()), getDownloadUrl(entry.getValue()));
             }
         }
+        return MediaDownloader.getInstance().downloadAll(downloads, listener);
     }
 
     /**
-     * Saves the specified image into the current opened directory
+     * Brings the directory up to date with an album in Google Photos in the background, downloading only the images
+     * that are new or changed since the album was last synced into it
+     *
+     * @param albumName album to sync
+     * @param currDir   directory to sync into.
+     * @param prune     whether to delete the images that were removed from the album
+     * @param listener  told as the download of each image is over
+     * @return a future completed with what the sync did
+     * @throws MalformedURLException thrown if an image has no valid address
+     */
+    public CompletableFuture<AlbumSync.Result> syncAlbum(String albumName, String currDir, boolean prune,
+            MediaDownloader.ProgressListener listener) throws CommandException, MalformedURLException {
+
+        retrieveSpecificAlbumGoogle(albumName, ListingCache.Freshness.LATEST);
+
+        return albumSync.sync(albumMap.get(albumName).getId(), new HashMap<>(albumSpecificMap), Paths.get(currDir),
+                prune, listener);
+    }
+
+    /**
+     * Saves the specified image into the current opened directory, exactly as it was uploaded
      *
      * @param image    MediaItem retrieved from Google Photos
      * @param pathName directory to save image in.
      * @throws IOException thrown if input/output is invalid
      */
     private void saveImageInDir(MediaItem image, String pathName) throws IOException {
-        String extensionType = image.getMimeType().split("/")[1];
-        BufferedImage newImage = ImageIO.read(new URL(image.getBaseUrl() + "=d"));
-        ImageIO.write(newImage, extensionType, new File(pathName));
+        MediaDownloader.getInstance().download(getDownloadUrl(image), Paths.get(pathName));
+    }
+
+    /**
+     * Returns the media item with id {@code id} as it is now, with a base address that is good for another hour,
+     * unlike that of an item listed a while ago
+     */
+    public MediaItem getMediaItem(String id) {
+        Objects.requireNonNull(photosLibraryClient);
+        return photosLibraryClient.getMediaItem(id);
+    }
+
+    /**
+     * Returns the address of the original bytes of {@code image}, with its metadata but without re-encoding
+     */
+    static URL getDownloadUrl(MediaItem image) throws MalformedURLException {
+        return new URL(image.getBaseUrl() + "=d");
     }
 
     //=========== Uploading Images from Google ================================
@@ -258,104 +598,135 @@ public class PhotoHandler {
      * @return name of image if it is a duplicate.
      */
     public String uploadImage(String imageName, String pathName) throws Exception {
-        if (!Files.exists(Paths.get(pathName + "/" + imageName))) {
+        Path image = Paths.get(pathName, imageName);
+        if (!Files.exists(image)) {
             throw new Exception(String.format(WRONG_PATH, imageName));
         }
+        Objects.requireNonNull(photosLibraryClient);
 
-        Map<Integer, String> uploads = uploadMediaItemsToGoogle(
-                Collections.singletonList(generateNewMediaImage(imageName, pathName)));
-        return formatUploadFeedback(uploads, Collections.singletonList(imageName));
+        MediaUploader.ProgressListener ignored = (file, isSuccess, completed, total) -> { };
+        MediaUploader.Result result = uploader.uploadAll(user, Collections.singletonList(image), ignored).join();
+        if (result.getImages().isEmpty() || !result.getFailed().isEmpty()) {
+            throw new Exception("Unable to upload images.");
+        }
+        return formatUploadFeedback(result);
     }
 
     /**
-     * Uploads all images in specified directory to Google Photos
+     * Uploads all images in specified directory to Google Photos in the background, several at a time
      *
-     * @param path directory to upload from
-     * @return names of non-duplicate images
+     * @param path     directory to upload from
+     * @param listener told as the upload of each file is over
+     * @return a future completed with what was uploaded
      */
-    public String uploadAll(String path) throws Exception {
-        List<NewMediaItem> newItems = new ArrayList<>();
-        List<String> imageNames = new ArrayList<>();
-
-        File dir = new File(path);
-
-        for (File file : Objects.requireNonNull(dir.listFiles())) {
-            if (file.isFile() && ImageIO.read(file) != null) {
-                imageNames.add(file.getName());
-                newItems.add(generateNewMediaImage(file.getName(), path));
+    public CompletableFuture<MediaUploader.Result> uploadAll(String path, MediaUploader.ProgressListener listener)
+            throws IOException {
+        Objects.requireNonNull(photosLibraryClient);
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(Paths.get(path))) {
+            for (Path entry : entries) {
+                if (Files.isRegularFile(entry)) {
+                    files.add(entry);
+                }
             }
         }
-
-        Map<Integer, String> uploads = uploadMediaItemsToGoogle(newItems);
-        return formatUploadFeedback(uploads, imageNames);
+        Collections.sort(files);
+        return uploader.uploadAll(user, files, listener);
     }
 
     /**
-     * Generates an upload token from an image name and file path
+     * Uploads an image that is encoded straight into the upload by {@code encoder}, without being written to disk,
+     * into the Piconso album. It is not recorded in the upload ledger, as it has no file to recognise it by
      *
-     * @param imageName name of image to be retrieved
-     * @param pathName  directory to upload from
-     * @return NewMediaItem generated from upload token
+     * @param fileName name to upload the image as
+     * @param encoder  writes the encoded image
+     * @return name the image was saved as
+     * @throws IOException thrown if the image could not be encoded or uploaded
+     */
+    public String uploadEncoded(String fileName, StreamUploader.BodyWriter encoder) throws IOException {
+        Objects.requireNonNull(photosLibraryClient);
+
+        String token = streamUploader.upload(fileName, encoder);
+        List<NewMediaItemResult> results = new LibraryUploadClient().batchCreate(
+                Collections.singletonList(NewMediaItemFactory.createNewMediaItem(token)));
+        if (results.isEmpty() || results.get(0).getStatus().getCode() != Code.OK_VALUE) {
+            throw new IOException("Unable to upload " + fileName);
+        }
+        return results.get(0).getMediaItem().getFilename();
+    }
+
+    /**
+     * Returns the credentials of the client of this handler, to authorise uploads made without it
      */
-    private NewMediaItem generateNewMediaImage(String imageName, String pathName) throws Exception {
-        String uploadToken;
+    private Credentials getCredentials() throws IOException {
+        return photosLibraryClient.getSettings().getCredentialsProvider().getCredentials();
+    }
 
-        //Get upload token
-        UploadMediaItemRequest uploadRequest = UploadMediaItemRequest.newBuilder().setFileName(imageName)
-                .setDataFile(new RandomAccessFile(pathName + "/" + imageName, "r")).build();
-        // Upload and capture the response
-        UploadMediaItemResponse uploadResponse = photosLibraryClient.uploadMediaItem(uploadRequest);
+    /**
+     * Uploads the bytes of {@code file} through the client of this handler
+     *
+     * @return the token to add them to the library with
+     */
+    private String uploadThroughClient(Path file) throws IOException {
+        UploadMediaItemResponse uploadResponse;
+        try (RandomAccessFile data = new RandomAccessFile(file.toFile(), "r")) {
+            UploadMediaItemRequest uploadRequest = UploadMediaItemRequest.newBuilder()
+                    .setFileName(file.getFileName().toString()).setDataFile(data).build();
+            uploadResponse = photosLibraryClient.uploadMediaItem(uploadRequest);
+        }
         if (uploadResponse.getError().isPresent()) {
-            UploadMediaItemResponse.Error error = uploadResponse.getError().get();
-            throw new Exception(error.getCause());
-        } else {
-            uploadToken = uploadResponse.getUploadToken().get();
-            if (!uploadToken.isEmpty()) {
-                return NewMediaItemFactory.createNewMediaItem(uploadToken);
-            } else {
-                throw new Exception("Unable to upload images.");
-            }
+            throw new IOException(uploadResponse.getError().get().getCause());
         }
+        String uploadToken = uploadResponse.getUploadToken().orElse("");
+        if (uploadToken.isEmpty()) {
+            throw new IOException("Unable to upload images.");
+        }
+        return uploadToken;
     }
 
     /**
-     * Uploads created NewMediaItems to Google Photos
-     *
-     * @param newItems list of NewMediaItems to pass to Google Photos
-     * @return array of nonDuplicate names
-     * @throws Exception when uploading error occurs
-     */
-    private Map<Integer, String> uploadMediaItemsToGoogle(List<NewMediaItem> newItems) throws Exception {
-        Map<Integer, String> nonDuplicates = new HashMap<>();
-        BatchCreateMediaItemsResponse response;
-        String albumId = retrievePiconsoAlbum();
-
-        // if album could not be retrieved, just upload photo
-        if (albumId.isEmpty()) {
-            response = photosLibraryClient.batchCreateMediaItemsCallable().call(
-                    BatchCreateMediaItemsRequest.newBuilder().addAllNewMediaItems(newItems).build());
-        } else {
-            response = photosLibraryClient.batchCreateMediaItems(albumId, newItems);
+     * Uploads the bytes of images, returning the token to add each to the library with.
+     */
+    @FunctionalInterface
+    private interface ByteUploader {
+        String upload(Path file) throws IOException;
+    }
+
+    /**
+     * Uploads through the client of this handler, into the Piconso album if it can be retrieved.
+     */
+    private class LibraryUploadClient implements MediaUploader.UploadClient {
+        @Override
+        public String uploadBytes(Path file) throws IOException {
+            return byteUploader.upload(file);
         }
 
-        int i = 0;
-        for (NewMediaItemResult itemsResponse : response.getNewMediaItemResultsList()) {
-            Status status = itemsResponse.getStatus();
-            if (status.getCode() != Code.OK_VALUE) {
-                if (status.getCode() != 6) {
-                    throw new Exception("An error occurred when uploading to Google Photos, please try again");
-                }
+        @Override
+        public List<NewMediaItemResult> batchCreate(List<NewMediaItem> items) {
+            BatchCreateMediaItemsResponse response;
+            String albumId = retrievePiconsoAlbum();
+
+            // if album could not be retrieved, just upload photo
+            if (albumId.isEmpty()) {
+                response = photosLibraryClient.batchCreateMediaItemsCallable().call(
+                        BatchCreateMediaItemsRequest.newBuilder().addAllNewMediaItems(items).build());
             } else {
-                nonDuplicates.put(i, itemsResponse.getMediaItem().getFilename());
+                response = photosLibraryClient.batchCreateMediaItems(albumId, items);
             }
-            i++;
+            return response.getNewMediaItemResultsList();
         }
-
-        return nonDuplicates;
     }
 
     //=========== Misc ================================
 
+    /**
+     * Opens the connection to Google Photos ahead of the first command, by listing a single album
+     */
+    public void warmUp() {
+        photosLibraryClient.listAlbums(ListAlbumsRequest.newBuilder().setPageSize(1).build());
+    }
+
     /**
      * Returns a string for user email
      *
@@ -366,33 +737,22 @@ public class PhotoHandler {
     }
 
     /**
-     * As Album/Image names can be duplicates in Google Photos, new names to display in CLI are appended with a
-     * suitable number to differentiate albums/images
+     * Formats the upload feedback message of {@code result}
      *
-     * @param map      Map to be comparing to
-     * @param title    Key to search for
-     * @param mimeType Extension of image
-     * @return new title to act as key in map
-     */
-    public String getUniqueName(Map map, String title, String mimeType) {
-        String newTitle = title;
-        String titleWithoutExtension;
-        String extension;
-
-        if (mimeType != null) {
-            titleWithoutExtension = newTitle.replace(mimeType, "");
-            extension = mimeType;
-        } else {
-            titleWithoutExtension = title;
-            extension = "";
-        }
-        int i = 1;
-        while (map.get(newTitle) != null) {
-            newTitle = titleWithoutExtension + " (" + i + ")" + extension;
-            i++;
+     * @param result what an upload did
+     * @return formatted feedback
+     */
+    public String formatUploadFeedback(MediaUploader.Result result) {
+        Map<Integer, String> uploads = new HashMap<>();
+        List<String> imageNames = new ArrayList<>();
+        for (Path image : result.getImages()) {
+            String savedName = result.getUploaded().get(image);
+            if (savedName != null) {
+                uploads.put(imageNames.size(), savedName);
+            }
+            imageNames.add(image.getFileName().toString());
         }
-
-        return newTitle;
+        return formatUploadFeedback(uploads, imageNames);
     }
 
     /**
@@ -430,10 +790,10 @@ public class PhotoHandler {
         try {
             // if album name not found, re-retrieve all albums (in case un-updated)
             if ((album = albumMap.get(PICONSO_ALBUM)) == null) {
-                retrieveAllAlbumsFromGoogle();
+                retrieveAllAlbumsFromGoogle(ListingCache.Freshness.RECENT);
                 if ((album = albumMap.get(PICONSO_ALBUM)) == null) {
                     album = photosLibraryClient.createAlbum(Album.newBuilder().setTitle(PICONSO_ALBUM).build());
-                    retrieveAllAlbumsFromGoogle();
+                    retrieveAllAlbumsFromGoogle(ListingCache.Freshness.LATEST);
                 }
             }
             id = album.getId();
@@ -0,0 +1,84 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author chivent
+/**
+ * An album in Google Photos that is browsed in the film reel without downloading its images. Each image is shown
+ * under a path that does not exist on the hard disk, made of the names of the album and of the image, so that the
+ * film reel can tell the images apart as it does local ones.
+ */
+public class RemoteAlbum {
+
+    /** Root of the paths the images of remote albums are shown under. */
+    public static final String ROOT = "Google Photos";
+
+    private static final String INVALID_CHARACTERS = "[\\\\/:*?\"<>|]";
+
+    private final String name;
+    private final Map<Path, RemoteImage> images = new LinkedHashMap<>();
+    private final List<RemoteImage> ordered;
+
+    /**
+     * Creates the album {@code name} of {@code images}, in the order they are given.
+     */
+    public RemoteAlbum(String name, List<RemoteImage> images) {
+        this.name = requireNonNull(name);
+        Path album = Paths.get(ROOT, toFileName(name));
+        for (RemoteImage image : images) {
+            String fileName = toFileName(image.getName());
+            Path path = album.resolve(fileName);
+            // names that only differ by characters that were replaced
+            for (int i = 1; this.images.containsKey(path); i++) {
+                path = album.resolve(fileName + " (" + i + ")");
+            }
+            this.images.put(path, image);
+        }
+        ordered = new ArrayList<>(this.images.values());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return images.size();
+    }
+
+    /**
+     * Returns the paths the images are shown under, in order.
+     */
+    public List<Path> getPaths() {
+        return new ArrayList<>(images.keySet());
+    }
+
+    /**
+     * Returns the images by the path they are shown under.
+     */
+    public Map<Path, RemoteImage> getImages() {
+        return Collections.unmodifiableMap(images);
+    }
+
+    /**
+     * Returns the {@code index}th image, counting from 0.
+     */
+    public RemoteImage get(int index) {
+        return ordered.get(index);
+    }
+
+    /**
+     * Returns {@code name} with the characters that are not allowed in file names replaced.
+     */
+    private static String toFileName(String name) {
+        String fileName = name.replaceAll(INVALID_CHARACTERS, "_").trim();
+        return fileName.isEmpty() ? "_" : fileName;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.google.api.gax.rpc.ApiException;
+import com.google.photos.library.v1.proto.MediaItem;
+
+import seedu.address.commons.util.MediaDownloader;
+import seedu.address.commons.util.RasterUtil;
+
+//@@author chivent
+/**
+ * An image in Google Photos that is browsed without being downloaded. Google Photos scales an image on its servers
+ * when its base address is followed by the size wanted, e.g. {@code =w256-h256}, so thumbnails and display-sized
+ * renditions only cost a fraction of the original, which is downloaded only once it is needed. Renditions are
+ * decoded in memory, without being written to disk.
+ */
+public class RemoteImage {
+
+    private final String id;
+    private final String name;
+    private final String baseUrl;
+    private final int width;
+    private final int height;
+
+    public RemoteImage(String id, String name, String baseUrl, int width, int height) {
+        this.id = requireNonNull(id);
+        this.name = requireNonNull(name);
+        this.baseUrl = requireNonNull(baseUrl);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the remote image of {@code item}, shown as {@code name}.
+     */
+    public static RemoteImage of(String name, MediaItem item) {
+        return new RemoteImage(item.getId(), name, item.getBaseUrl(),
+                (int) item.getMediaMetadata().getWidth(), (int) item.getMediaMetadata().getHeight());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the address of the image scaled by the server to fit within {@code size} by {@code size} pixels.
+     */
+    public URL getSizedUrl(int size) throws MalformedURLException {
+        return new URL(baseUrl + "=w" + size + "-h" + size);
+    }
+
+    /**
+     * Downloads and decodes the image scaled by the server to fit within {@code size} by {@code size} pixels.
+     */
+    public BufferedImage fetchRendition(int size) throws IOException {
+        return RasterUtil.readImage(MediaDownloader.getInstance().downloadBytes(getSizedUrl(size)));
+    }
+
+    /**
+     * Downloads the original of the image to a temporary file, deleted when the application exits. The base address
+     * of an image expires about an hour after it was listed, so the image is looked up again through
+     * {@code handler} first.
+     * @return the file the original was downloaded to.
+     */
+    public Path fetchOriginal(PhotoHandler handler) throws IOException {
+        MediaItem current;
+        try {
+            current = handler.getMediaItem(id);
+        } catch (ApiException e) {
+            throw new IOException("Unable to look up " + name + ": " + e.getMessage(), e);
+        }
+        int dot = name.lastIndexOf('.');
+        Path original = Files.createTempFile("original", (dot > 0) ? name.substring(dot) : "");
+        original.toFile().deleteOnExit();
+        MediaDownloader.getInstance().download(PhotoHandler.getDownloadUrl(current), original);
+        return original;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RemoteImage // instanceof handles nulls
+                && id.equals(((RemoteImage) other).id)
+                && name.equals(((RemoteImage) other).name));
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
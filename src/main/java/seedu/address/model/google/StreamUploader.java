@@ -0,0 +1,136 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import com.google.api.gax.core.CredentialsProvider;
+import com.google.auth.Credentials;
+
+//@@author chivent
+/**
+ * Uploads the bytes of an image to Google Photos as they are written, e.g. by an encoder, through the raw upload
+ * protocol, so that an image that only exists in memory never has to be written to disk to be uploaded. The client
+ * library can only upload from a file, so the request is made here, authorised with the credentials of the client.
+ * <p>
+ * The bytes are sent in chunks as they are written, without knowing their length beforehand, so an upload cannot be
+ * retried from where it failed: it fails as a whole, and the bytes have to be written again.
+ */
+public class StreamUploader {
+
+    /** Address the bytes of new media items are uploaded to. */
+    public static final String UPLOAD_ADDRESS = "https://photoslibrary.googleapis.com/v1/uploads";
+
+    private static final String FILE_NAME_HEADER = "X-Goog-Upload-File-Name";
+    private static final String PROTOCOL_HEADER = "X-Goog-Upload-Protocol";
+    private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+    private static final int READ_TIMEOUT_MILLIS = 60000;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final String address;
+    private final CredentialsProvider credentials;
+
+    /**
+     * Creates an uploader to {@code address}, authorising each request with the credentials of
+     * {@code credentials}, which are only asked for when an upload starts. Requests are not authorised if
+     * {@code credentials} is null.
+     */
+    StreamUploader(String address, CredentialsProvider credentials) {
+        this.address = requireNonNull(address);
+        this.credentials = credentials;
+    }
+
+    /**
+     * Uploads the bytes {@code body} writes as the content of the file {@code fileName}.
+     * @return the token to add them to the library with
+     * @throws IOException if {@code body} fails to write them, or the upload fails.
+     */
+    public String upload(String fileName, BodyWriter body) throws IOException {
+        requireNonNull(fileName);
+        requireNonNull(body);
+        HttpURLConnection connection = (HttpURLConnection) new URL(address).openConnection();
+        try {
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setChunkedStreamingMode(CHUNK_SIZE);
+            connection.setRequestProperty("Content-type", "application/octet-stream");
+            connection.setRequestProperty(FILE_NAME_HEADER, fileName);
+            connection.setRequestProperty(PROTOCOL_HEADER, "raw");
+            authorise(connection);
+            try (OutputStream output = connection.getOutputStream()) {
+                body.writeTo(output);
+            }
+            int code = connection.getResponseCode();
+            if (code != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Upload of " + fileName + " failed with " + code);
+            }
+            String token;
+            try (InputStream input = connection.getInputStream()) {
+                token = readAll(input).trim();
+            }
+            if (token.isEmpty()) {
+                throw new IOException("No upload token received for " + fileName);
+            }
+            return token;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Adds the headers that authorise a request to {@code connection}.
+     */
+    private void authorise(HttpURLConnection connection) throws IOException {
+        if (credentials == null) {
+            return;
+        }
+        Credentials current = credentials.getCredentials();
+        if (current == null) {
+            return;
+        }
+        Map<String, List<String>> metadata;
+        try {
+            metadata = current.getRequestMetadata(new URI(address));
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid upload address " + address, e);
+        }
+        for (Map.Entry<String, List<String>> header : metadata.entrySet()) {
+            for (String value : header.getValue()) {
+                connection.addRequestProperty(header.getKey(), value);
+            }
+        }
+    }
+
+    /**
+     * Reads the whole of {@code input} as text.
+     */
+    private static String readAll(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = input.read(buffer)) > 0) {
+            output.write(buffer, 0, read);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the bytes of an upload, e.g. by encoding an image straight into the request.
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream output) throws IOException;
+    }
+}
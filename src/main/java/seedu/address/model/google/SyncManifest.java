@@ -0,0 +1,169 @@
+package seedu.address.model.google;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.google.photos.library.v1.proto.MediaItem;
+
+//@@author chivent
+/**
+ * What was synced from Google Photos into one local directory: for each media item, the file it was saved as, the
+ * size and modification time the file had right after it was saved, and the version of the item on Google Photos.
+ * An item only needs to be downloaded again if its file was changed or removed locally, or the item changed on
+ * Google Photos.
+ */
+public class SyncManifest {
+
+    private final Path directory;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public SyncManifest(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    public SyncManifest(Path directory, Collection<Entry> entries) {
+        this(directory);
+        for (Entry entry : entries) {
+            put(entry);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Optional<Entry> get(String itemId) {
+        return Optional.ofNullable(entries.get(itemId));
+    }
+
+    public void put(Entry entry) {
+        entries.put(entry.getItemId(), entry);
+    }
+
+    public void remove(String itemId) {
+        entries.remove(itemId);
+    }
+
+    public Collection<Entry> getEntries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Returns the entries of the items that were synced from the album with id {@code albumId}.
+     */
+    public List<Entry> getEntriesOfAlbum(String albumId) {
+        List<Entry> found = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.getAlbumId().equals(albumId)) {
+                found.add(entry);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the file {@code entry} was saved as.
+     */
+    public Path getFile(Entry entry) {
+        return directory.resolve(entry.getFileName());
+    }
+
+    /**
+     * Returns true if the file of {@code entry} is still as it was right after it was saved.
+     */
+    public boolean isUnchangedLocally(Entry entry) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(getFile(entry), BasicFileAttributes.class);
+            return attributes.isRegularFile() && attributes.size() == entry.getSize()
+                    && attributes.lastModifiedTime().toMillis() == entry.getLastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the version of {@code item} on Google Photos. Items cannot be replaced, but their name can change and
+     * edits made in Google Photos change their dimensions.
+     */
+    public static String getRemoteVersion(MediaItem item) {
+        return item.getFilename() + "|" + item.getMediaMetadata().getCreationTime().getSeconds() + "|"
+                + item.getMediaMetadata().getWidth() + "x" + item.getMediaMetadata().getHeight();
+    }
+
+    /**
+     * A media item saved in the directory.
+     */
+    public static class Entry {
+        private final String itemId;
+        private final String albumId;
+        private final String fileName;
+        private final long size;
+        private final long lastModified;
+        private final String remoteVersion;
+
+        public Entry(String itemId, String albumId, String fileName, long size, long lastModified,
+                     String remoteVersion) {
+            this.itemId = requireNonNull(itemId);
+            this.albumId = requireNonNull(albumId);
+            this.fileName = requireNonNull(fileName);
+            this.size = size;
+            this.lastModified = lastModified;
+            this.remoteVersion = requireNonNull(remoteVersion);
+        }
+
+        public String getItemId() {
+            return itemId;
+        }
+
+        public String getAlbumId() {
+            return albumId;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getRemoteVersion() {
+            return remoteVersion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            Entry entry = (Entry) other;
+            return itemId.equals(entry.itemId) && albumId.equals(entry.albumId) && fileName.equals(entry.fileName)
+                    && size == entry.size && lastModified == entry.lastModified
+                    && remoteVersion.equals(entry.remoteVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(itemId, albumId, fileName, size, lastModified, remoteVersion);
+        }
+    }
+}
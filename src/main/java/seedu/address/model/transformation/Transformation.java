@@ -4,12 +4,20 @@ package seedu.address.model.transformation;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Represents a single transformation to a single layer in a canvas.
  */
 public class Transformation {
 
+    // Operations whose geometry argument is a radius or sigma in pixels, and so depends on the image size.
+    private static final List<String> PIXEL_GEOMETRY_OPERATIONS = Arrays.asList(
+            "blur", "motion-blur", "noise", "sharpen");
+    // Operations that give the same result on a downscaled image; resize takes a percentage.
+    private static final List<String> SCALE_INVARIANT_OPERATIONS = Arrays.asList(
+            "colorspace", "contrast", "resize", "rotate", "sigmoidal-contrast");
+
     private String operation;
     private String[] args;
 
@@ -44,6 +52,60 @@ public class Transformation {
         return operation;
     }
 
+    /**
+     * Returns true if the transformation can be previewed on a downscaled image with {@link #scale(double)}.
+     * Customised operations are opaque and have to be applied at full resolution.
+     */
+    public boolean isScalable() {
+        return PIXEL_GEOMETRY_OPERATIONS.contains(operation) || SCALE_INVARIANT_OPERATIONS.contains(operation);
+    }
+
+    /**
+     * Returns the equivalent transformation for an image downscaled by {@code factor}.
+     * Pixel radii and sigmas are scaled and rounded, but never rounded down to zero; angles are left untouched.
+     */
+    public Transformation scale(double factor) {
+        if (!PIXEL_GEOMETRY_OPERATIONS.contains(operation)) {
+            return this;
+        }
+        String[] scaledArgs = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            scaledArgs[i] = scaleGeometry(args[i], factor);
+        }
+        return new Transformation(operation, scaledArgs);
+    }
+
+    /**
+     * Scales the {@code radius[xsigma]} part of a geometry such as {@code 0x8} or {@code 10x5+45}.
+     */
+    private static String scaleGeometry(String geometry, double factor) {
+        int offset = geometry.indexOf('+');
+        String size = (offset < 0) ? geometry : geometry.substring(0, offset);
+        String suffix = (offset < 0) ? "" : geometry.substring(offset);
+        String[] lengths = size.split("x", -1);
+        StringBuilder scaled = new StringBuilder();
+        for (int i = 0; i < lengths.length; i++) {
+            if (i > 0) {
+                scaled.append('x');
+            }
+            scaled.append(scaleLength(lengths[i], factor));
+        }
+        return scaled + suffix;
+    }
+
+    /**
+     * Scales a single length in pixels, keeping non-zero lengths non-zero.
+     */
+    private static String scaleLength(String length, double factor) {
+        try {
+            int value = Integer.parseInt(length);
+            return (value == 0) ? length : String.valueOf(Math.max(1, Math.round(value * factor)));
+        } catch (NumberFormatException e) {
+            // left for the argument validation to reject
+            return length;
+        }
+    }
+
     @Override
     public boolean equals(Object object) {
         Transformation transformation = (Transformation) object;
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryFileUtil;
+
+/**
+ * Stores the perceptual hashes of images, so that images are only decoded for hashing once.
+ * Hashes are keyed by the path, size and modification time of an image, so they are not shared by an image that was
+ * edited.
+ */
+public class ImageHashStorage {
+
+    public static final Path DEFAULT_FILE = new File("hashes").toPath().resolve("dhash.bin");
+
+    private static final int MAGIC = 0x50484153;
+    private static final int VERSION = 2;
+
+    private final Path file;
+
+    public ImageHashStorage(Path file) {
+        this.file = requireNonNull(file);
+    }
+
+    /**
+     * Returns the stored hashes, keyed by image. Nothing is stored before the first save.
+     * @throws DataConversionException if the stored file is corrupt or of another version.
+     * @throws IOException if the stored file cannot be read.
+     */
+    public Map<String, Long> readHashes() throws DataConversionException, IOException {
+        return BinaryFileUtil.readBinaryFile(file, MAGIC, VERSION, input -> {
+            int count = input.readInt();
+            Map<String, Long> hashes = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                String key = input.readUTF();
+                hashes.put(key, input.readLong());
+            }
+            return Optional.of(hashes);
+        }).orElseGet(HashMap::new);
+    }
+
+    /**
+     * Replaces the stored hashes with {@code hashes}.
+     */
+    public void saveHashes(Map<String, Long> hashes) throws IOException {
+        BinaryFileUtil.saveBinaryFile(file, MAGIC, VERSION, output -> {
+            output.writeInt(hashes.size());
+            for (Map.Entry<String, Long> entry : hashes.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeLong(entry.getValue());
+            }
+        });
+    }
+}
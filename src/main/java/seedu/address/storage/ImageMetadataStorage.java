@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryFileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ImageMetadata;
+
+/**
+ * Stores the {@link ImageMetadata} of the images in each directory, so that their headers are not read again after a
+ * restart.
+ */
+public class ImageMetadataStorage {
+
+    public static final Path DEFAULT_DIRECTORY = new File("metadata").toPath();
+
+    private static final int MAGIC = 0x50494d44;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    public ImageMetadataStorage(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    /**
+     * Returns the stored metadata of the images in {@code imageDirectory}, keyed by file name. A directory that
+     * was never stored has no metadata.
+     * @throws DataConversionException if the stored file is corrupt or of another version.
+     * @throws IOException if the stored file cannot be read.
+     */
+    public Map<String, ImageMetadata> readMetadata(Path imageDirectory) throws DataConversionException,
+            IOException {
+        return BinaryFileUtil.readBinaryFile(getMetadataPath(imageDirectory), MAGIC, VERSION, input -> {
+            int count = input.readInt();
+            Map<String, ImageMetadata> metadata = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                String fileName = input.readUTF();
+                int width = input.readInt();
+                int height = input.readInt();
+                String format = input.readUTF();
+                int bitDepth = input.readUnsignedByte();
+                int orientation = input.readUnsignedByte();
+                String dateTaken = input.readUTF();
+                long fileSize = input.readLong();
+                long lastModified = input.readLong();
+                String contentHash = input.readUTF();
+                metadata.put(fileName, new ImageMetadata(fileName, width, height, format, bitDepth, orientation,
+                        dateTaken.isEmpty() ? null : dateTaken, fileSize, lastModified, contentHash));
+            }
+            return Optional.of(metadata);
+        }).orElseGet(HashMap::new);
+    }
+
+    /**
+     * Replaces the stored metadata of the images in {@code imageDirectory} with {@code metadata}.
+     */
+    public void saveMetadata(Path imageDirectory, Collection<ImageMetadata> metadata) throws IOException {
+        BinaryFileUtil.saveBinaryFile(getMetadataPath(imageDirectory), MAGIC, VERSION, output -> {
+            output.writeInt(metadata.size());
+            for (ImageMetadata m : metadata) {
+                output.writeUTF(m.getFileName());
+                output.writeInt(m.getWidth());
+                output.writeInt(m.getHeight());
+                output.writeUTF(m.getFormat());
+                output.writeByte(m.getBitDepth());
+                output.writeByte(m.getOrientation());
+                output.writeUTF(m.getDateTaken().orElse(""));
+                output.writeLong(m.getFileSize());
+                output.writeLong(m.getLastModified());
+                output.writeUTF(m.getContentHash());
+            }
+        });
+    }
+
+    /**
+     * Returns the file the metadata of {@code imageDirectory} is stored in.
+     */
+    Path getMetadataPath(Path imageDirectory) {
+        return directory.resolve(StringUtil.sha1Hex(imageDirectory.toAbsolutePath().normalize().toString()) + ".bin");
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryFileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Library;
+
+/**
+ * Stores the {@link Library} of each directory tree, so that re-entering a library after a restart only has to list
+ * the folders that changed.
+ * Folders and images are stored by name, relative to the folder that contains them.
+ */
+public class LibraryStorage {
+
+    public static final Path DEFAULT_DIRECTORY = new File("libraries").toPath();
+
+    private static final int MAGIC = 0x504c4942;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    public LibraryStorage(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    /**
+     * Returns the stored library of the tree under {@code root}, if there is one.
+     * @throws DataConversionException if the stored file is corrupt or of another version.
+     * @throws IOException if the stored file cannot be read.
+     */
+    public Optional<Library> readLibrary(Path root) throws DataConversionException, IOException {
+        requireNonNull(root);
+        return BinaryFileUtil.readBinaryFile(getLibraryPath(root), MAGIC, VERSION, input -> {
+            if (!input.readUTF().equals(root.toString())) {
+                // a different root with the same hash
+                return Optional.empty();
+            }
+            int folderCount = input.readInt();
+            List<Library.Folder> folders = new ArrayList<>(folderCount);
+            for (int i = 0; i < folderCount; i++) {
+                Path path = root.resolve(input.readUTF());
+                long lastModified = input.readLong();
+                List<Path> images = readNames(input, path);
+                List<Path> subfolders = readNames(input, path);
+                folders.add(new Library.Folder(path, lastModified, images, subfolders));
+            }
+            return Optional.of(new Library(root, folders));
+        });
+    }
+
+    /**
+     * Replaces the stored library of the tree under {@code library.getRoot()} with {@code library}.
+     */
+    public void saveLibrary(Library library) throws IOException {
+        BinaryFileUtil.saveBinaryFile(getLibraryPath(library.getRoot()), MAGIC, VERSION, output -> {
+            output.writeUTF(library.getRoot().toString());
+            output.writeInt(library.getFolderCount());
+            for (Library.Folder folder : library.getFolders()) {
+                output.writeUTF(library.getRoot().relativize(folder.getPath()).toString());
+                output.writeLong(folder.getLastModified());
+                writeNames(output, folder.getImages());
+                writeNames(output, folder.getSubfolders());
+            }
+        });
+    }
+
+    /**
+     * Reads a count followed by that many names, resolved against {@code parent}.
+     */
+    private static List<Path> readNames(DataInputStream input, Path parent) throws IOException {
+        int count = input.readInt();
+        List<Path> paths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            paths.add(parent.resolve(input.readUTF()));
+        }
+        return paths;
+    }
+
+    /**
+     * Writes the number of {@code paths} followed by their names.
+     */
+    private static void writeNames(DataOutputStream output, List<Path> paths) throws IOException {
+        output.writeInt(paths.size());
+        for (Path path : paths) {
+            output.writeUTF(path.getFileName().toString());
+        }
+    }
+
+    /**
+     * Returns the file the library of the tree under {@code root} is stored in.
+     */
+    Path getLibraryPath(Path root) {
+        return directory.resolve(StringUtil.sha1Hex(root.toAbsolutePath().normalize().toString()) + ".bin");
+    }
+}
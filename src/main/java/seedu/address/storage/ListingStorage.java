@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryFileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.google.ListingCache;
+
+/**
+ * Stores the listings of Google Photos accounts, so that the albums and images of a large library can be shown right
+ * after a restart without listing them again.
+ * Items are kept in the wire format of Google Photos.
+ */
+public class ListingStorage {
+
+    public static final Path DEFAULT_DIRECTORY = new File("listings").toPath();
+
+    private static final int MAGIC = 0x504c5354;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    public ListingStorage(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    /**
+     * Returns the stored listing {@code key} of {@code account}, whose items are read with {@code parser}, or an
+     * empty Optional if it is not stored.
+     * @throws DataConversionException if the stored file is corrupt or of another version.
+     * @throws IOException if the stored file cannot be read.
+     */
+    public <T extends MessageLite> Optional<ListingCache.Listing<T>> readListing(String account, String key,
+            Parser<T> parser) throws DataConversionException, IOException {
+        return BinaryFileUtil.readBinaryFile(getListingPath(account, key), MAGIC, VERSION, input -> {
+            if (!input.readUTF().equals(account) || !input.readUTF().equals(key)) {
+                // a different listing with the same hash
+                return Optional.empty();
+            }
+            long fetchedAt = input.readLong();
+            int count = input.readInt();
+            List<T> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                items.add(readItem(input, parser));
+            }
+            return Optional.of(new ListingCache.Listing<>(items, fetchedAt));
+        });
+    }
+
+    /**
+     * Replaces the stored listing {@code key} of {@code account} with {@code listing}.
+     */
+    public void saveListing(String account, String key, ListingCache.Listing<? extends MessageLite> listing)
+            throws IOException {
+        BinaryFileUtil.saveBinaryFile(getListingPath(account, key), MAGIC, VERSION, output -> {
+            output.writeUTF(account);
+            output.writeUTF(key);
+            output.writeLong(listing.getFetchedAt());
+            output.writeInt(listing.getItems().size());
+            for (MessageLite item : listing.getItems()) {
+                item.writeDelimitedTo(output);
+            }
+        });
+    }
+
+    /**
+     * Reads the next item of a listing with {@code parser}.
+     * @throws DataConversionException if the listing ends before the item or the item is corrupt.
+     */
+    private static <T extends MessageLite> T readItem(DataInputStream input, Parser<T> parser)
+            throws DataConversionException {
+        try {
+            T item = parser.parseDelimitedFrom(input);
+            if (item == null) {
+                throw new DataConversionException(new EOFException());
+            }
+            return item;
+        } catch (InvalidProtocolBufferException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Deletes the stored listing {@code key} of {@code account}, if there is one.
+     */
+    public void deleteListing(String account, String key) throws IOException {
+        Files.deleteIfExists(getListingPath(account, key));
+    }
+
+    /**
+     * Returns the file the listing {@code key} of {@code account} is stored in.
+     */
+    Path getListingPath(String account, String key) {
+        return directory.resolve(StringUtil.sha1Hex(account + "\n" + key) + ".bin");
+    }
+}
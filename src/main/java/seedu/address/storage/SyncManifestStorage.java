@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryFileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.google.SyncManifest;
+
+/**
+ * Stores the {@link SyncManifest} of each synced directory, so that syncing an album again after a restart only
+ * downloads what changed.
+ */
+public class SyncManifestStorage {
+
+    public static final Path DEFAULT_DIRECTORY = new File("sync").toPath();
+
+    private static final int MAGIC = 0x5053594e;
+    private static final int VERSION = 1;
+
+    private final Path directory;
+
+    public SyncManifestStorage(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    /**
+     * Returns the stored manifest of {@code syncedDirectory}, which is empty if nothing was synced into it.
+     * @throws DataConversionException if the stored file is corrupt or of another version.
+     * @throws IOException if the stored file cannot be read.
+     */
+    public SyncManifest readManifest(Path syncedDirectory) throws DataConversionException, IOException {
+        requireNonNull(syncedDirectory);
+        return BinaryFileUtil.readBinaryFile(getManifestPath(syncedDirectory), MAGIC, VERSION, input -> {
+            if (!input.readUTF().equals(syncedDirectory.toString())) {
+                // a different directory with the same hash
+                return Optional.<SyncManifest>empty();
+            }
+            int count = input.readInt();
+            List<SyncManifest.Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new SyncManifest.Entry(input.readUTF(), input.readUTF(), input.readUTF(),
+                        input.readLong(), input.readLong(), input.readUTF()));
+            }
+            return Optional.of(new SyncManifest(syncedDirectory, entries));
+        }).orElseGet(() -> new SyncManifest(syncedDirectory));
+    }
+
+    /**
+     * Replaces the stored manifest of {@code manifest.getDirectory()} with {@code manifest}.
+     */
+    public void saveManifest(SyncManifest manifest) throws IOException {
+        BinaryFileUtil.saveBinaryFile(getManifestPath(manifest.getDirectory()), MAGIC, VERSION, output -> {
+            output.writeUTF(manifest.getDirectory().toString());
+            output.writeInt(manifest.getEntries().size());
+            for (SyncManifest.Entry entry : manifest.getEntries()) {
+                output.writeUTF(entry.getItemId());
+                output.writeUTF(entry.getAlbumId());
+                output.writeUTF(entry.getFileName());
+                output.writeLong(entry.getSize());
+                output.writeLong(entry.getLastModified());
+                output.writeUTF(entry.getRemoteVersion());
+            }
+        });
+    }
+
+    /**
+     * Returns the file the manifest of {@code syncedDirectory} is stored in.
+     */
+    Path getManifestPath(Path syncedDirectory) {
+        return directory.resolve(StringUtil.sha1Hex(syncedDirectory.toAbsolutePath().normalize().toString())
+                + ".bin");
+    }
+}
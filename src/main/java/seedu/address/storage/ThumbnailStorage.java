@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.RasterUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Stores thumbnails of images on the hard disk so that they survive restarts.
+ * A thumbnail is keyed by the absolute path of its source image, its size, and the modification time and length
+ * of the source, so editing or replacing an image outside the app never shows a stale thumbnail.
+ * The thumbnails of an image at one size are kept in a folder of their own, so that storing a thumbnail deletes
+ * the ones of earlier versions of the image and the store does not grow with every edit.
+ * Thumbnails of remote images, such as those in Google Photos, are keyed by the id of the image instead.
+ */
+public class ThumbnailStorage {
+
+    public static final Path DEFAULT_DIRECTORY = new File("thumbnails").toPath();
+
+    private static final Logger logger = LogsCenter.getLogger(ThumbnailStorage.class);
+
+    private final Path directory;
+
+    public ThumbnailStorage(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the stored thumbnail of {@code source} at {@code size}, or an empty Optional if there is none or
+     * the source has changed since it was stored.
+     */
+    public Optional<BufferedImage> readThumbnail(Path source, int size) {
+        try {
+            return read(getThumbnailPath(source, size));
+        } catch (IOException e) {
+            logger.fine("Unable to read thumbnail of " + source + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the stored thumbnail of the remote image with id {@code remoteId} at {@code size}, or an empty
+     * Optional if there is none.
+     */
+    public Optional<BufferedImage> readRemoteThumbnail(String remoteId, int size) {
+        try {
+            return read(getRemoteThumbnailPath(remoteId, size));
+        } catch (IOException e) {
+            logger.fine("Unable to read thumbnail of " + remoteId + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the thumbnail stored in {@code file}, or an empty Optional if there is none.
+     */
+    private static Optional<BufferedImage> read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(RasterUtil.readImage(file.toFile()));
+    }
+
+    /**
+     * Stores {@code thumbnail} as the thumbnail of {@code source} at {@code size}, deleting the thumbnails of
+     * earlier versions of {@code source} at that size.
+     * The file is written under a temporary name and moved into place, so a concurrent reader never sees a
+     * partially written thumbnail.
+     */
+    public void saveThumbnail(Path source, int size, BufferedImage thumbnail) throws IOException {
+        Path file = getThumbnailPath(source, size);
+        write(file, thumbnail);
+        try (DirectoryStream<Path> versions = Files.newDirectoryStream(file.getParent(), "*.png")) {
+            for (Path version : versions) {
+                if (!version.equals(file)) {
+                    Files.deleteIfExists(version);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores {@code thumbnail} as the thumbnail of the remote image with id {@code remoteId} at {@code size}.
+     */
+    public void saveRemoteThumbnail(String remoteId, int size, BufferedImage thumbnail) throws IOException {
+        write(getRemoteThumbnailPath(remoteId, size), thumbnail);
+    }
+
+    /**
+     * Writes {@code thumbnail} to {@code file} under a temporary name and moves it into place.
+     */
+    private void write(Path file, BufferedImage thumbnail) throws IOException {
+        requireNonNull(thumbnail);
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "thumbnail", ".tmp");
+        try {
+            ImageIO.write(thumbnail, "png", temp.toFile());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the file the thumbnail of {@code source} at {@code size} is stored in, which is named after the
+     * version of {@code source} in the folder of the thumbnails of {@code source} at {@code size}.
+     * @throws IOException if the attributes of {@code source} cannot be read.
+     */
+    Path getThumbnailPath(Path source, int size) throws IOException {
+        requireNonNull(source);
+        BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        String key = String.format("%s|%d", source.toAbsolutePath().normalize(), size);
+        return directory.resolve(StringUtil.sha1Hex(key)).resolve(String.format("%d-%d.png",
+                attributes.lastModifiedTime().toMillis(), attributes.size()));
+    }
+
+    /**
+     * Returns the file the thumbnail of the remote image with id {@code remoteId} at {@code size} is stored in.
+     */
+    Path getRemoteThumbnailPath(String remoteId, int size) {
+        requireNonNull(remoteId);
+        return directory.resolve(StringUtil.sha1Hex(String.format("remote|%s|%d", remoteId, size)) + ".png");
+    }
+}
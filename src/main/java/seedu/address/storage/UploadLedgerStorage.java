@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryFileUtil;
+
+/**
+ * Stores which files were already uploaded to Google Photos, so that uploading a directory again after a restart only
+ * uploads the images that are new or were edited. Uploads are
+ * keyed by the account they were uploaded to and the hash of the whole content of the file, and map to the name the
+ * image was saved as.
+ */
+public class UploadLedgerStorage {
+
+    public static final Path DEFAULT_FILE = new File("uploads").toPath().resolve("ledger.bin");
+
+    private static final int MAGIC = 0x50554c47;
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    public UploadLedgerStorage(Path file) {
+        this.file = requireNonNull(file);
+    }
+
+    /**
+     * Returns the stored uploads, keyed by account and content hash. Nothing is stored before the first save.
+     * @throws DataConversionException if the stored file is corrupt or of another version.
+     * @throws IOException if the stored file cannot be read.
+     */
+    public Map<String, String> readLedger() throws DataConversionException, IOException {
+        return BinaryFileUtil.readBinaryFile(file, MAGIC, VERSION, input -> {
+            int count = input.readInt();
+            Map<String, String> uploads = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                String key = input.readUTF();
+                uploads.put(key, input.readUTF());
+            }
+            return Optional.of(uploads);
+        }).orElseGet(HashMap::new);
+    }
+
+    /**
+     * Replaces the stored uploads with {@code uploads}.
+     */
+    public void saveLedger(Map<String, String> uploads) throws IOException {
+        BinaryFileUtil.saveBinaryFile(file, MAGIC, VERSION, output -> {
+            output.writeInt(uploads.size());
+            for (Map.Entry<String, String> entry : uploads.entrySet()) {
+                output.writeUTF(entry.getKey());
+                output.writeUTF(entry.getValue());
+            }
+        });
+    }
+}
@@ -17,6 +17,7 @@ import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CdCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.LibraryCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.UserPrefs;
@@ -129,12 +130,12 @@ public class CommandBox extends UiPart<Region> {
         }
 
         String commandWord = getCommandWord(commandText.trim());
-        if (commandWord.equals(CdCommand.COMMAND_WORD)) {
+        if (commandWord.equals(CdCommand.COMMAND_WORD) || commandWord.equals(LibraryCommand.COMMAND_WORD)) {
             String arguments = getArguments(commandText.trim());
             if ("".equals(arguments)) {
                 return;
             }
-            searchDirectory(arguments);
+            searchDirectory(commandWord, arguments);
         }
     }
 
@@ -158,9 +159,9 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Searches if directories exists in the given {@code arguments}.
+     * Searches if directories exists in the given {@code arguments} of {@code commandWord}.
      */
-    private void searchDirectory(String arguments) {
+    private void searchDirectory(String commandWord, String arguments) {
         StringBuilder copyArgs = new StringBuilder();
 
         String[] directories = arguments.split("/");
@@ -181,7 +182,7 @@ public class CommandBox extends UiPart<Region> {
                     dirListWithSearchPrefix.add(dirListWithSearchPrefix.poll());
 
                     copyArgs.append(dirListWithSearchPrefix.peek());
-                    String newCommandText = "cd " + copyArgs + "/";
+                    String newCommandText = commandWord + " " + copyArgs + "/";
                     replaceText(newCommandText);
                     return;
                 }
@@ -195,7 +196,7 @@ public class CommandBox extends UiPart<Region> {
 
                 if (!dirListWithSearchPrefix.isEmpty()) {
                     copyArgs.append(dirListWithSearchPrefix.peek());
-                    String newCommandText = "cd " + copyArgs + "/";
+                    String newCommandText = commandWord + " " + copyArgs + "/";
                     replaceText(newCommandText);
                     return;
                 }
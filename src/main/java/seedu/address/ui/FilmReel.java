@@ -1,7 +1,8 @@
 package seedu.address.ui;
 
-import java.io.FileNotFoundException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -16,16 +17,24 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.FilmReelSelectionChangeEvent;
 import seedu.address.commons.events.ui.UpdateFilmReelEvent;
+import seedu.address.model.google.RemoteImage;
 
 //@@author chivent
 
 /**
  * Panel containing the list of images.
+ * The panel holds every image of the current directory, so that thousands of entries can be scrolled through,
+ * but the {@code ListView} only creates cells, and requests thumbnails, for the range that is visible.
+ * Batches are shown by scrolling to their first image, and cells are numbered across the whole directory.
+ * Images in a group of duplicates also show the number of their group.
+ * The panel can also hold the images of a remote album, whose cells show thumbnails downloaded from its server.
  */
 public class FilmReel extends UiPart<Region> {
     private static final String FXML = "FilmReelPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(HistoryListPanel.class);
     private ObservableList<Path> items = FXCollections.observableArrayList();
+    private Map<Path, Integer> groups = Collections.emptyMap();
+    private Map<Path, RemoteImage> remote = Collections.emptyMap();
 
     @FXML
     private ListView<Path> imageListView;
@@ -47,13 +56,64 @@ public class FilmReel extends UiPart<Region> {
     @Subscribe
     private void handleUpdateFilmReelEvent(UpdateFilmReelEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        items.removeAll();
-        items.setAll(event.paths);
+        if (event.isIncremental()) {
+            runOnFxThread(() -> applyChange(event.changed, event.removedIndex, event.insertedIndex));
+            return;
+        }
+        // background scans and searches finish on their worker threads
+        runOnFxThread(() -> showAll(event));
+    }
 
-        imageListView.scrollTo(0);
+    /**
+     * Replaces the items of the film reel with those of {@code event} and scrolls to its batch.
+     */
+    private void showAll(UpdateFilmReelEvent event) {
+        if (!groups.equals(event.groups) || !remote.equals(event.remote)) {
+            groups = event.groups;
+            remote = event.remote;
+            imageListView.refresh();
+        }
+        if (!items.equals(event.paths)) {
+            items.setAll(event.paths);
+        }
+
+        imageListView.scrollTo(Math.max(0, event.firstIndex));
         imageListView.getSelectionModel().clearSelection();
     }
 
+    /**
+     * Moves {@code changed} from {@code removedIndex} to {@code insertedIndex} of the items, either of which is
+     * negative if it was not or is no longer shown, so that the other cells, the scroll position and the selection
+     * are kept. An image modified in place is redrawn. Changes that do not match the items shown, e.g. while the
+     * first batch of a directory is shown before the rest, are dropped, since the whole list follows them.
+     */
+    private void applyChange(Path changed, int removedIndex, int insertedIndex) {
+        if (removedIndex >= 0 && (removedIndex >= items.size() || !items.get(removedIndex).equals(changed))) {
+            return;
+        }
+        if (removedIndex >= 0 && removedIndex == insertedIndex) {
+            imageListView.refresh();
+            return;
+        }
+        if (removedIndex >= 0) {
+            items.remove(removedIndex);
+        }
+        if (insertedIndex >= 0 && insertedIndex <= items.size()) {
+            items.add(insertedIndex, changed);
+        }
+    }
+
+    /**
+     * Runs {@code action} at once on the JavaFX application thread, or later from any other thread.
+     */
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
     /**
      * Event that triggers an image is selected with select
      *
@@ -73,19 +133,27 @@ public class FilmReel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Path} using a {@code FilmReelCard}.
      */
     class FilmReelCell extends ListCell<Path> {
+        private FilmReelCard card;
+
         @Override
         protected void updateItem(Path image, boolean empty) {
             super.updateItem(image, empty);
 
             if (empty || image == null) {
+                if (card != null) {
+                    card.cancel();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                try {
-                    setGraphic(new FilmReelCard(image, getIndex() + 1).getRoot());
-                } catch (FileNotFoundException e) {
-                    e.printStackTrace();
+                // the card is reused across items so that scrolling does not rebuild the FXML
+                Integer group = groups.get(image);
+                if (card == null) {
+                    card = new FilmReelCard(image, getIndex() + 1, group, remote.get(image));
+                } else {
+                    card.setImage(image, getIndex() + 1, group, remote.get(image));
                 }
+                setGraphic(card.getRoot());
             }
         }
     }
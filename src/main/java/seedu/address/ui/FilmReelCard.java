@@ -1,21 +1,34 @@
 package seedu.address.ui;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.awt.image.BufferedImage;
+import java.net.MalformedURLException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Region;
+import seedu.address.commons.util.RasterUtil;
+import seedu.address.commons.util.ThumbnailService;
+import seedu.address.model.google.RemoteImage;
 
 //@@author chivent
 
 /**
  * An UI component that displays information of a selected image.
+ * The image is shown as a thumbnail loaded in the background by the {@link ThumbnailService}; a card can be
+ * reused for another image with {@link #setImage(Path, int, Integer, RemoteImage)}, which cancels the pending
+ * thumbnail.
+ * The thumbnail of a remote image is downloaded already scaled by its server.
  */
 public class FilmReelCard extends UiPart<Region> {
 
@@ -27,6 +40,10 @@ public class FilmReelCard extends UiPart<Region> {
     private final ObjectProperty<Image> image = new SimpleObjectProperty<Image>(
             new Image("https://via.placeholder.com/500x500"));
 
+    private Path path;
+    private BufferedImage shownThumbnail;
+    private Future<?> pendingThumbnail;
+
     @FXML
     private ImageView imagePreview;
     @FXML
@@ -34,13 +51,84 @@ public class FilmReelCard extends UiPart<Region> {
     @FXML
     private Label pathName;
 
-    public FilmReelCard(Path path, int displayedIndex) throws FileNotFoundException {
+    /**
+     * Creates a card showing the image at {@code path} as described in
+     * {@link #setImage(Path, int, Integer, RemoteImage)}.
+     */
+    public FilmReelCard(Path path, int displayedIndex, Integer group, RemoteImage remote) {
         super(FXML);
-        FileInputStream fis = new FileInputStream(path.toString());
         imagePreview.imageProperty().bind(image);
-        image.setValue(new Image(fis));
-        name.setText(displayedIndex + "");
+        setImage(path, displayedIndex, group, remote);
+    }
+
+    /**
+     * Shows the image at {@code path} with {@code displayedIndex} on this card, replacing the image it showed.
+     * Must be called on the JavaFX application thread.
+     * @param group the number of the group of duplicates the image belongs to, or null if it is in none.
+     * @param remote the remote image shown under {@code path}, whose thumbnail is downloaded already scaled,
+     *               or null if it is a local image.
+     */
+    public void setImage(Path path, int displayedIndex, Integer group, RemoteImage remote) {
+        name.setText((group != null) ? displayedIndex + " [group " + group + "]" : displayedIndex + "");
         pathName.setText(path.toString());
+        boolean isSameImage = path.equals(this.path);
+        if (isSameImage && pendingThumbnail != null && !pendingThumbnail.isDone()) {
+            return;
+        }
+        // the same image is requested again in case it was modified, which the service notices from its mtime
+        if (!isSameImage) {
+            cancel();
+            this.path = path;
+            shownThumbnail = null;
+            image.setValue(null);
+        }
+        Consumer<BufferedImage> callback = thumbnail -> {
+            if (Platform.isFxApplicationThread()) {
+                show(path, thumbnail);
+            } else {
+                Platform.runLater(() -> show(path, thumbnail));
+            }
+        };
+        pendingThumbnail = (remote == null)
+                ? ThumbnailService.getInstance().request(path, ThumbnailService.THUMBNAIL_SIZE, callback)
+                : requestRemote(remote, callback);
+    }
+
+    /**
+     * Requests the thumbnail of {@code remote}, scaled by its server, for {@code callback}.
+     */
+    private static Future<?> requestRemote(RemoteImage remote, Consumer<BufferedImage> callback) {
+        try {
+            return ThumbnailService.getInstance().requestRemote(remote.getId(),
+                    remote.getSizedUrl(ThumbnailService.THUMBNAIL_SIZE), ThumbnailService.THUMBNAIL_SIZE, callback);
+        } catch (MalformedURLException e) {
+            // no thumbnail can be shown for an image without a valid address
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Cancels the thumbnail being loaded for this card, if any.
+     */
+    public void cancel() {
+        if (pendingThumbnail != null) {
+            pendingThumbnail.cancel(true);
+            pendingThumbnail = null;
+        }
+    }
+
+    /**
+     * Shows {@code thumbnail} if the card still displays the image at {@code source}.
+     */
+    private void show(Path source, BufferedImage thumbnail) {
+        if (!source.equals(path) || thumbnail == shownThumbnail) {
+            return;
+        }
+        shownThumbnail = thumbnail;
+        WritableImage fxImage = new WritableImage(thumbnail.getWidth(), thumbnail.getHeight());
+        fxImage.getPixelWriter().setPixels(0, 0, thumbnail.getWidth(), thumbnail.getHeight(),
+                PixelFormat.getIntArgbInstance(), RasterUtil.getPixels(thumbnail), 0, thumbnail.getWidth());
+        image.setValue(fxImage);
     }
 
     @Override
@@ -61,4 +149,3 @@ public class FilmReelCard extends UiPart<Region> {
                 && pathName.getText().equals(card.pathName.getText());
     }
 }
-
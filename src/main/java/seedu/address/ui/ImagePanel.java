@@ -1,5 +1,10 @@
 package seedu.address.ui;
 
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -10,16 +15,32 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.fxml.FXML;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ChangeImageEvent;
+import seedu.address.commons.events.ui.ViewportChangedEvent;
+import seedu.address.commons.events.ui.ViewportFrameEvent;
+import seedu.address.commons.util.RasterUtil;
+import seedu.address.model.canvas.Viewport;
 
 /**
  * An UI component that displays an Image.
+ * Frames are written into {@code WritableImage}s owned by the panel, one per frame size, so that the coarse and
+ * refined frames of a render, which differ in size, are each written over the previous frame of their size
+ * instead of being reallocated every time.
+ * The preview panel can be zoomed with the mouse wheel and panned by dragging; double-clicking shows the
+ * whole canvas again. While zoomed in, the panel shows frames composited for its viewport instead.
  */
 public class ImagePanel extends UiPart<Region> {
 
     private static final String FXML = "ImagePanel.fxml";
+    private static final String ZOOMABLE_PANEL = "preview";
+    private static final double ZOOM_STEP = Math.sqrt(2);
+    private static final double MAX_ZOOM = 256;
+    // coarse frames, refined frames and frames of a zoomed viewport
+    private static final int MAX_FRAME_SIZES = 3;
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     /**
@@ -30,6 +51,15 @@ public class ImagePanel extends UiPart<Region> {
 
     private final String name;
 
+    // in access order, so that the least recently shown frame size is dropped first
+    private final Map<Dimension, FrameBuffer> frames = new LinkedHashMap<>(MAX_FRAME_SIZES + 1, 0.75f, true);
+    private BufferedImage fitFrame;
+    private double zoom = 1;
+    private double centerX = 0.5;
+    private double centerY = 0.5;
+    private double dragX;
+    private double dragY;
+
     @FXML
     private ImageView imageView;
 
@@ -37,15 +67,194 @@ public class ImagePanel extends UiPart<Region> {
         super(FXML);
         this.name = name;
         imageView.imageProperty().bind(image);
+        if (ZOOMABLE_PANEL.equals(name)) {
+            enableZoomAndPan();
+        }
         registerAsAnEventHandler(this);
     }
 
+    /**
+     * Zooms with the mouse wheel around the cursor, pans by dragging and resets on double-click.
+     */
+    private void enableZoomAndPan() {
+        imageView.setOnScroll(event -> zoomAt(event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP,
+                event.getX(), event.getY()));
+        imageView.setOnMousePressed(event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        imageView.setOnMouseDragged(event -> {
+            pan(event.getX() - dragX, event.getY() - dragY);
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        imageView.setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                zoom = 1;
+                updateViewport();
+            }
+        });
+    }
+
+    /**
+     * Multiplies the zoom by {@code factor}, keeping the point of the canvas under ({@code x}, {@code y}) in place.
+     */
+    private void zoomAt(double factor, double x, double y) {
+        if (fitFrame == null) {
+            return;
+        }
+        double offsetX = x - imageView.getLayoutBounds().getWidth() / 2;
+        double offsetY = y - imageView.getLayoutBounds().getHeight() / 2;
+        double pointX = centerX + offsetX / (getFitDisplayWidth() * zoom);
+        double pointY = centerY + offsetY / (getFitDisplayHeight() * zoom);
+        zoom = Math.max(1, Math.min(MAX_ZOOM, zoom * factor));
+        centerX = clamp(pointX - offsetX / (getFitDisplayWidth() * zoom));
+        centerY = clamp(pointY - offsetY / (getFitDisplayHeight() * zoom));
+        updateViewport();
+    }
+
+    /**
+     * Moves the canvas by ({@code dx}, {@code dy}) screen pixels.
+     */
+    private void pan(double dx, double dy) {
+        if (zoom <= 1) {
+            return;
+        }
+        centerX = clamp(centerX - dx / (getFitDisplayWidth() * zoom));
+        centerY = clamp(centerY - dy / (getFitDisplayHeight() * zoom));
+        updateViewport();
+    }
+
+    /**
+     * Shows the whole canvas if the panel is not zoomed in, otherwise requests a frame for the current viewport.
+     */
+    private void updateViewport() {
+        if (zoom <= 1) {
+            zoom = 1;
+            centerX = 0.5;
+            centerY = 0.5;
+            if (fitFrame != null) {
+                present(fitFrame, null);
+            }
+            return;
+        }
+        raise(new ViewportChangedEvent(name, getViewport()));
+    }
+
+    /**
+     * Returns the current viewport, sized to the panel in physical pixels.
+     */
+    private Viewport getViewport() {
+        double outputScale = (imageView.getScene() == null || imageView.getScene().getWindow() == null)
+                ? 1 : imageView.getScene().getWindow().getOutputScaleX();
+        return new Viewport(zoom, centerX, centerY, (int) Math.round(imageView.getFitWidth() * outputScale),
+                (int) Math.round(imageView.getFitHeight() * outputScale));
+    }
+
+    /**
+     * Returns the width on screen of the whole canvas when it fits the panel.
+     */
+    private double getFitDisplayWidth() {
+        double aspect = (double) fitFrame.getWidth() / fitFrame.getHeight();
+        return Math.min(imageView.getFitWidth(), imageView.getFitHeight() * aspect);
+    }
+
+    private double getFitDisplayHeight() {
+        double aspect = (double) fitFrame.getWidth() / fitFrame.getHeight();
+        return getFitDisplayWidth() / aspect;
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+
+    /**
+     * Copies the changed region of {@code next} into the panel's frame of the same size, allocating that frame
+     * only if no frame of that size was shown recently. Must be called on the JavaFX application thread.
+     */
+    private void present(BufferedImage next, Rectangle dirty) {
+        int width = next.getWidth();
+        int height = next.getHeight();
+        FrameBuffer target = getFrameBuffer(width, height);
+        Rectangle region = dirty;
+
+        if (target.last == null) {
+            region = new Rectangle(0, 0, width, height);
+        } else if (region == null || target.frame != image.getValue()) {
+            // a dirty region is relative to the frame shown last, which may have been of another size
+            region = (target.last == next) ? new Rectangle(0, 0, width, height)
+                    : RasterUtil.getDirtyBounds(target.last, next);
+        }
+        target.last = next;
+        image.setValue(target.frame);
+
+        if (region == null) {
+            logger.fine("Frame unchanged, nothing to write");
+            return;
+        }
+        region = region.intersection(new Rectangle(0, 0, width, height));
+        if (region.isEmpty()) {
+            return;
+        }
+        target.frame.getPixelWriter().setPixels(region.x, region.y, region.width, region.height,
+                PixelFormat.getIntArgbInstance(), RasterUtil.getPixels(next), region.y * width + region.x, width);
+    }
+
+    /**
+     * Returns the frame of the given size, allocating it first if there is none, in which case the frame of the
+     * size shown least recently is dropped if there are too many.
+     */
+    private FrameBuffer getFrameBuffer(int width, int height) {
+        Dimension size = new Dimension(width, height);
+        FrameBuffer buffer = frames.get(size);
+        if (buffer == null) {
+            if (frames.size() >= MAX_FRAME_SIZES) {
+                frames.remove(frames.keySet().iterator().next());
+            }
+            buffer = new FrameBuffer(new WritableImage(width, height));
+            frames.put(size, buffer);
+        }
+        return buffer;
+    }
+
     @Subscribe
     private void handlePreviewImageEvent(ChangeImageEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         if (this.name.equals(event.target)) {
-            Platform.runLater(() -> image.setValue(event.image));
+            Platform.runLater(() -> {
+                fitFrame = event.image;
+                if (zoom <= 1) {
+                    present(event.image, event.dirty);
+                } else {
+                    // the canvas changed while zoomed in, so the viewport has to be composited again
+                    updateViewport();
+                }
+            });
+        }
+    }
+
+    @Subscribe
+    private void handleViewportFrameEvent(ViewportFrameEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (this.name.equals(event.target)) {
+            Platform.runLater(() -> {
+                // frames for a viewport the user has already moved away from are dropped
+                if (zoom > 1 && event.viewport.equals(getViewport())) {
+                    present(event.image, null);
+                }
+            });
         }
     }
 
+    /**
+     * A frame shown by the panel, with the image last written into it.
+     */
+    private static class FrameBuffer {
+        private final WritableImage frame;
+        private BufferedImage last;
+
+        FrameBuffer(WritableImage frame) {
+            this.frame = frame;
+        }
+    }
 }
@@ -9,11 +9,15 @@ import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ChangeDirectoryEvent;
+import seedu.address.commons.events.ui.DownloadProgressEvent;
+import seedu.address.commons.events.ui.LibraryScanProgressEvent;
 import seedu.address.commons.events.ui.LoginStatusEvent;
 import seedu.address.commons.events.ui.LogoutStatusEvent;
+import seedu.address.commons.events.ui.UploadProgressEvent;
 
 //@@author chivent
 
@@ -24,9 +28,14 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String LOGIN_STATUS_INITIAL = "Not connected to Google Photos";
     public static final String LOGIN_STATUS_UPDATED = "Connected to Google Photos as: %s";
+    public static final String LOGIN_STATUS_CONNECTING = "Connecting to Google Photos...";
     public static final String LOGOUT_MESSAGE = "User logged out";
+    public static final String DOWNLOAD_PROGRESS = "Downloading %s: %d of %d images";
+    public static final String UPLOAD_PROGRESS = "Uploading %s: %d of %d files";
 
     public static final String DIRECTORY_ERROR = "Unable to detect directory location";
+    public static final String LIBRARY_SCANNING = "Scanning %s: %d folders, %d images";
+    public static final String LIBRARY_DISPLAY = "%s (library of %d images in %d folders)";
 
     private static final Logger logger = LogsCenter.getLogger(StatusBarFooter.class);
 
@@ -38,6 +47,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar directoryDisplay;
 
+    // the login status to show again once a download or upload is over
+    private String loginText;
 
     public StatusBarFooter(String user, String currentDirectory) {
         super(FXML);
@@ -51,16 +62,37 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     private void setLoginStatus(String status) {
-        Platform.runLater(() -> loginStatus.setText(status));
+        loginText = status;
+        Platform.runLater(() -> {
+            loginStatus.setText(status);
+            loginStatus.setProgress(0);
+        });
     }
 
     private void setDirectoryDisplay(String status) {
-        Platform.runLater(() -> directoryDisplay.setText(status));
+        setDirectoryDisplay(status, 0);
+    }
+
+    /**
+     * Shows {@code status} in the directory display, with a progress bar unless {@code progress} is 0.
+     */
+    private void setDirectoryDisplay(String status, double progress) {
+        Platform.runLater(() -> {
+            directoryDisplay.setText(status);
+            directoryDisplay.setProgress(progress);
+        });
     }
 
     @Subscribe
     public void handleLoginStatusEvent(LoginStatusEvent event) {
-        if (event.loggedIn) {
+        if (event.connecting) {
+            loginText = LOGIN_STATUS_CONNECTING;
+            Platform.runLater(() -> {
+                loginStatus.setText(LOGIN_STATUS_CONNECTING);
+                loginStatus.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
+            });
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Connecting to google photos"));
+        } else if (event.loggedIn) {
             setLoginStatus(String.format(LOGIN_STATUS_UPDATED, event.user));
             logger.info(LogsCenter.getEventHandlingLogMessage(event, "User logged in as " + event.user));
         } else {
@@ -81,6 +113,50 @@ public class StatusBarFooter extends UiPart<Region> {
         }
     }
 
+    @Subscribe
+    public void handleLibraryScanProgressEvent(LibraryScanProgressEvent event) {
+        if (event.isDone) {
+            setDirectoryDisplay(String.format(LIBRARY_DISPLAY, event.root, event.images, event.folders));
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Library scanned: " + event.root));
+        } else {
+            setDirectoryDisplay(String.format(LIBRARY_SCANNING, event.root, event.folders, event.images),
+                    ProgressIndicator.INDETERMINATE_PROGRESS);
+        }
+    }
+
+    @Subscribe
+    public void handleDownloadProgressEvent(DownloadProgressEvent event) {
+        if (event.isDone()) {
+            setLoginStatus(loginText);
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Album downloaded: " + event.album));
+            return;
+        }
+        showTransferProgress(String.format(DOWNLOAD_PROGRESS, event.album, event.completed, event.total),
+                event.completed, event.total);
+    }
+
+    @Subscribe
+    public void handleUploadProgressEvent(UploadProgressEvent event) {
+        if (event.isDone()) {
+            setLoginStatus(loginText);
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Directory uploaded: " + event.directory));
+            return;
+        }
+        showTransferProgress(String.format(UPLOAD_PROGRESS, event.directory, event.completed, event.total),
+                event.completed, event.total);
+    }
+
+    /**
+     * Shows {@code status} in the login status, with a progress bar at {@code completed} of {@code total}.
+     */
+    private void showTransferProgress(String status, int completed, int total) {
+        double progress = Math.max(0.01, (double) completed / total);
+        Platform.runLater(() -> {
+            loginStatus.setText(status);
+            loginStatus.setProgress(progress);
+        });
+    }
+
     @Subscribe
     public void handleLogoutStatusEvent(LogoutStatusEvent event) {
         setLoginStatus(LOGIN_STATUS_INITIAL);
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.testutil.Assert;
+
+public class BinaryFileUtilTest {
+
+    private static final int MAGIC = 0x54455354;
+    private static final int VERSION = 1;
+    private static final BinaryFileUtil.BinaryReader<String> READ_STRING = input -> Optional.of(input.readUTF());
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path file;
+
+    @Before
+    public void setUp() {
+        file = testFolder.getRoot().toPath().resolve("cache").resolve("test.bin");
+    }
+
+    @Test
+    public void readBinaryFile_notStored_returnsEmpty() throws Exception {
+        assertFalse(BinaryFileUtil.readBinaryFile(file, MAGIC, VERSION, READ_STRING).isPresent());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        BinaryFileUtil.saveBinaryFile(file, MAGIC, VERSION, output -> output.writeUTF("contents"));
+        assertEquals("contents", BinaryFileUtil.readBinaryFile(file, MAGIC, VERSION, READ_STRING).get());
+        // only the file itself is left behind
+        assertEquals(1, testFolder.getRoot().toPath().resolve("cache").toFile().list().length);
+    }
+
+    @Test
+    public void readBinaryFile_otherVersion_throwsDataConversionException() throws Exception {
+        BinaryFileUtil.saveBinaryFile(file, MAGIC, VERSION + 1, output -> output.writeUTF("contents"));
+        Assert.assertThrows(DataConversionException.class, () ->
+                BinaryFileUtil.readBinaryFile(file, MAGIC, VERSION, READ_STRING));
+    }
+
+    @Test
+    public void readBinaryFile_cutShort_throwsDataConversionException() throws Exception {
+        BinaryFileUtil.saveBinaryFile(file, MAGIC, VERSION, output -> output.writeUTF("contents"));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+        Assert.assertThrows(DataConversionException.class, () ->
+                BinaryFileUtil.readBinaryFile(file, MAGIC, VERSION, READ_STRING));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void search_emptyTree_findsNothing() {
+        assertTrue(new BkTree<String>().search(0L, 64).isEmpty());
+    }
+
+    @Test
+    public void search_equalKeys_keptTogether() {
+        BkTree<String> tree = new BkTree<>();
+        tree.add(7L, "a");
+        tree.add(7L, "b");
+        tree.add(6L, "c");
+        assertEquals(3, tree.size());
+        assertEquals(2, tree.search(7L, 0).size());
+        assertEquals(3, tree.search(7L, 1).size());
+    }
+
+    @Test
+    public void search_matchesBruteForce() {
+        Random random = new Random(42);
+        long[] keys = new long[2000];
+        BkTree<Integer> tree = new BkTree<>();
+        for (int i = 0; i < keys.length; i++) {
+            // clustered keys, like the hashes of bursts, and spread out ones
+            keys[i] = (i % 2 == 0) ? random.nextLong() : keys[i - 1] ^ (1L << random.nextInt(64));
+            tree.add(keys[i], i);
+        }
+        for (int maxDistance : new int[] {0, 3, 10}) {
+            for (int query = 0; query < 50; query++) {
+                long key = keys[random.nextInt(keys.length)];
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < keys.length; i++) {
+                    if (PerceptualHash.distance(key, keys[i]) <= maxDistance) {
+                        expected.add(i);
+                    }
+                }
+                List<Integer> found = tree.search(key, maxDistance);
+                Collections.sort(found);
+                assertEquals(expected, found);
+            }
+        }
+    }
+}
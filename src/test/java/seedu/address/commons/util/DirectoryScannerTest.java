@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class DirectoryScannerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void scan_classifiesEntries() throws Exception {
+        testFolder.newFile("b.png");
+        testFolder.newFile("a.gif");
+        testFolder.newFile("notes.txt");
+        testFolder.newFolder("album.jpg");
+
+        List<DirectoryScanner.Entry> entries = new ArrayList<>();
+        DirectoryScanner.scan(testFolder.getRoot().toPath(), entries::add);
+        assertEquals(4, entries.size());
+        for (DirectoryScanner.Entry entry : entries) {
+            String name = entry.getPath().getFileName().toString();
+            // a directory is never an image, whatever its name
+            assertEquals(name.equals("album.jpg"), entry.isDirectory());
+            assertEquals(name.equals("b.png") || name.equals("a.gif"), entry.isImage());
+            assertEquals(name.equals("b.png"), entry.isEditableImage());
+        }
+    }
+
+    @Test
+    public void listEditableImages_sortedByName() throws Exception {
+        Path c = testFolder.newFile("c.jpg").toPath();
+        Path a = testFolder.newFile("a.png").toPath();
+        Path b = testFolder.newFile("b.TIF").toPath();
+        testFolder.newFile("d.gif");
+        assertEquals(Arrays.asList(a, b, c), DirectoryScanner.listEditableImages(testFolder.getRoot().toPath()));
+    }
+
+    @Test
+    public void listEditableImages_firstBatchHandedOverBeforeTheRest() throws Exception {
+        for (String name : new String[] {"e.png", "c.png", "a.png", "d.png", "b.png"}) {
+            testFolder.newFile(name);
+        }
+        List<List<Path>> batches = new ArrayList<>();
+        List<Path> images = DirectoryScanner.listEditableImages(testFolder.getRoot().toPath(), 2, batches::add);
+
+        assertEquals(5, images.size());
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertTrue(images.containsAll(batches.get(0)));
+        assertTrue(batches.get(0).get(0).compareTo(batches.get(0).get(1)) < 0);
+
+        // fewer images than a batch -> never handed over on their own
+        batches.clear();
+        DirectoryScanner.listEditableImages(testFolder.getRoot().toPath(), 10, batches::add);
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void scan_invalidDirectory_throwsIoException() throws Exception {
+        Path missing = testFolder.getRoot().toPath().resolve("missing");
+        Assert.assertThrows(NoSuchFileException.class, () -> DirectoryScanner.scan(missing, entry -> { }));
+
+        Path file = testFolder.newFile("file.png").toPath();
+        Assert.assertThrows(NotDirectoryException.class, () -> DirectoryScanner.listEditableImages(file));
+        assertTrue(file.toFile().isFile());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 20;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final BlockingQueue<Path> changes = new LinkedBlockingQueue<>();
+    private DirectoryWatcher watcher;
+
+    @Before
+    public void setUp() throws Exception {
+        watcher = new DirectoryWatcher(changes::add, () -> { });
+    }
+
+    @After
+    public void tearDown() {
+        watcher.close();
+    }
+
+    @Test
+    public void watch_reportsCreatedAndDeletedEntries() throws Exception {
+        Path directory = testFolder.newFolder("watched").toPath();
+        watcher.watch(directory);
+
+        Path created = Files.createFile(directory.resolve("a.png"));
+        assertTrue(awaitChange(created));
+        Files.delete(created);
+        assertTrue(awaitChange(created));
+    }
+
+    @Test
+    public void watch_otherDirectory_stopsReportingPrevious() throws Exception {
+        Path first = testFolder.newFolder("first").toPath();
+        Path second = testFolder.newFolder("second").toPath();
+        watcher.watch(first);
+        watcher.watch(second);
+
+        Files.createFile(first.resolve("ignored.png"));
+        Path created = Files.createFile(second.resolve("b.png"));
+        assertTrue(awaitChange(created));
+        assertTrue(changes.stream().noneMatch(path -> path.startsWith(first)));
+    }
+
+    /**
+     * Waits until {@code expected} is reported as changed, returning false if it is not within the timeout.
+     */
+    private boolean awaitChange(Path expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            Path change = changes.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (expected.equals(change)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ImageMetadata;
+import seedu.address.testutil.Assert;
+
+public class ImageMetadataReaderTest {
+
+    private static final String DATE = "2018:10:01 12:34:56";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_png() throws Exception {
+        File file = testFolder.newFile("image.png");
+        ImageIO.write(new BufferedImage(30, 20, BufferedImage.TYPE_INT_ARGB), "png", file);
+
+        ImageMetadata metadata = ImageMetadataReader.read(file.toPath());
+        assertEquals("image.png", metadata.getFileName());
+        assertEquals(30, metadata.getWidth());
+        assertEquals(20, metadata.getHeight());
+        assertEquals("png", metadata.getFormat());
+        assertEquals(8, metadata.getBitDepth());
+        assertEquals(ImageMetadata.ORIENTATION_NORMAL, metadata.getOrientation());
+        assertFalse(metadata.getDateTaken().isPresent());
+        assertEquals(file.length(), metadata.getFileSize());
+    }
+
+    @Test
+    public void read_jpegWithExif() throws Exception {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            Path file = writeJpegWithExif(createExif(order, 6));
+            ImageMetadata metadata = ImageMetadataReader.read(file);
+            assertEquals(16, metadata.getWidth());
+            assertEquals("jpeg", metadata.getFormat());
+            assertEquals(6, metadata.getOrientation());
+            assertEquals(DATE, metadata.getDateTaken().get());
+        }
+    }
+
+    @Test
+    public void read_notAnImage_throwsIoException() throws Exception {
+        Path file = testFolder.newFile("notes.png").toPath();
+        Files.write(file, "not an image".getBytes(StandardCharsets.US_ASCII));
+        Assert.assertThrows(IOException.class, () -> ImageMetadataReader.read(file));
+    }
+
+    @Test
+    public void parseExif_truncated_keepsDefaults() {
+        byte[] exif = createExif(ByteOrder.BIG_ENDIAN, 3);
+        byte[] truncated = new byte[12];
+        System.arraycopy(exif, 0, truncated, 0, truncated.length);
+        assertEquals(ImageMetadata.ORIENTATION_NORMAL, ImageMetadataReader.parseExif(truncated).getOrientation());
+    }
+
+    @Test
+    public void contentHash_changesWithContent() throws Exception {
+        File first = testFolder.newFile("first.png");
+        File second = testFolder.newFile("second.png");
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB);
+        ImageIO.write(image, "png", first);
+        image.setRGB(0, 0, 0xffffffff);
+        ImageIO.write(image, "png", second);
+        assertNotEquals(ImageMetadataReader.read(first.toPath()).getContentHash(),
+                ImageMetadataReader.read(second.toPath()).getContentHash());
+    }
+
+    /**
+     * Returns the TIFF structure of an EXIF segment with an orientation and a DateTimeOriginal tag.
+     */
+    private static byte[] createExif(ByteOrder order, int orientation) {
+        ByteBuffer tiff = ByteBuffer.allocate(76).order(order);
+        tiff.put(order == ByteOrder.BIG_ENDIAN ? (byte) 'M' : (byte) 'I');
+        tiff.put(order == ByteOrder.BIG_ENDIAN ? (byte) 'M' : (byte) 'I');
+        tiff.putShort((short) 42).putInt(8);
+        // IFD0: orientation and a pointer to the EXIF IFD at 38
+        tiff.putShort((short) 2);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putShort((short) 0x8769).putShort((short) 4).putInt(1).putInt(38);
+        tiff.putInt(0);
+        // EXIF IFD: the original date, stored at 56
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x9003).putShort((short) 2).putInt(20).putInt(56);
+        tiff.putInt(0);
+        tiff.put(DATE.getBytes(StandardCharsets.US_ASCII)).put((byte) 0);
+        return tiff.array();
+    }
+
+    /**
+     * Writes a 16x16 JPEG with {@code exif} in an APP1 segment right after the start of image marker.
+     */
+    private Path writeJpegWithExif(byte[] exif) throws IOException {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+        byte[] encoded = jpeg.toByteArray();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(encoded, 0, 2);
+        int length = 2 + 6 + exif.length;
+        output.write(new byte[] {(byte) 0xff, (byte) 0xe1, (byte) (length >> 8), (byte) length});
+        output.write("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        output.write(exif);
+        output.write(encoded, 2, encoded.length - 2);
+
+        File file = testFolder.newFile();
+        Files.write(file.toPath(), output.toByteArray());
+        return file.toPath();
+    }
+}
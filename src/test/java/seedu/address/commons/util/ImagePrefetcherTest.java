@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.PreviewImage;
+import seedu.address.storage.ThumbnailStorage;
+
+public class ImagePrefetcherTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getProxy_decodedOnceAndCached() throws Exception {
+        ImagePrefetcher prefetcher = createPrefetcher(ImagePrefetcher.MEMORY_BUDGET_BYTES);
+        Path source = writeImage("large.png", 1600, 400);
+
+        BufferedImage proxy = prefetcher.getProxy(source);
+        assertEquals(PreviewImage.PROXY_MAX_DIMENSION, proxy.getWidth());
+        assertEquals(200, proxy.getHeight());
+        assertSame(proxy, prefetcher.getProxy(source));
+
+        // modified since it was cached -> decoded again
+        assertTrue(source.toFile().setLastModified(source.toFile().lastModified() - 10000));
+        assertFalse(prefetcher.isCached(source));
+    }
+
+    @Test
+    public void prefetch_decodesNeighboursAndThumbnails() throws Exception {
+        ThumbnailStorage storage = new ThumbnailStorage(testFolder.newFolder("thumbnails").toPath());
+        ImagePrefetcher prefetcher = new ImagePrefetcher(new ThumbnailService(storage, 1,
+                ThumbnailService.MEMORY_BUDGET_BYTES), ImagePrefetcher.MEMORY_BUDGET_BYTES);
+        Path first = writeImage("1.png", 40, 30);
+        Path second = writeImage("2.png", 40, 30);
+        Path batchImage = writeImage("3.png", 40, 30);
+
+        prefetcher.prefetch(Arrays.asList(first, second), Collections.singletonList(batchImage));
+        awaitCondition(() -> prefetcher.isCached(first) && prefetcher.isCached(second)
+                && storage.readThumbnail(batchImage, ThumbnailService.THUMBNAIL_SIZE).isPresent());
+    }
+
+    @Test
+    public void prefetch_unreadableImageSkipped() throws Exception {
+        ImagePrefetcher prefetcher = createPrefetcher(ImagePrefetcher.MEMORY_BUDGET_BYTES);
+        Path notImage = testFolder.newFile("notes.png").toPath();
+        Path image = writeImage("image.png", 40, 30);
+
+        prefetcher.prefetch(Arrays.asList(notImage, image), Collections.emptyList());
+        awaitCondition(() -> prefetcher.isCached(image));
+        assertFalse(prefetcher.isCached(notImage));
+    }
+
+    @Test
+    public void memoryCache_evictsLeastRecentlyUsed() throws Exception {
+        // room for two 16x16 proxies
+        ImagePrefetcher prefetcher = createPrefetcher(2 * 16 * 16 * 4);
+        Path first = writeImage("1.png", 16, 16);
+        Path second = writeImage("2.png", 16, 16);
+        Path third = writeImage("3.png", 16, 16);
+        prefetcher.getProxy(first);
+        prefetcher.getProxy(second);
+        prefetcher.getProxy(first);
+        prefetcher.getProxy(third);
+
+        assertTrue(prefetcher.isCached(first));
+        assertFalse(prefetcher.isCached(second));
+        assertTrue(prefetcher.isCached(third));
+    }
+
+    private ImagePrefetcher createPrefetcher(long memoryBudget) throws Exception {
+        ThumbnailStorage storage = new ThumbnailStorage(testFolder.newFolder().toPath());
+        return new ImagePrefetcher(new ThumbnailService(storage, 1, ThumbnailService.MEMORY_BUDGET_BYTES),
+                memoryBudget);
+    }
+
+    /**
+     * Waits up to ten seconds for {@code condition} to hold.
+     */
+    private static void awaitCondition(Condition condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.holds()) {
+            assertTrue("Prefetching did not complete in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Writes a blank {@code width} by {@code height} PNG into the temporary folder.
+     */
+    private Path writeImage(String name, int width, int height) throws Exception {
+        File file = testFolder.newFile(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", file);
+        return file.toPath();
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean holds() throws Exception;
+    }
+}
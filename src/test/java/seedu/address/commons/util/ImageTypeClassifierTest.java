@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImageTypeClassifierTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getImageType_byExtension() {
+        assertEquals(Optional.of("image/png"), ImageTypeClassifier.getImageType(Paths.get("a.png")));
+        assertEquals(Optional.of("image/jpeg"), ImageTypeClassifier.getImageType(Paths.get("dir", "a.JPG")));
+        assertEquals(Optional.of("image/gif"), ImageTypeClassifier.getImageType(Paths.get("a.gif")));
+
+        // not an image extension -> empty, without opening the file
+        assertFalse(ImageTypeClassifier.getImageType(Paths.get("missing.txt")).isPresent());
+    }
+
+    @Test
+    public void getImageType_noExtension_sniffsContent() throws Exception {
+        Path png = testFolder.newFile("png").toPath();
+        Files.write(png, new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'});
+        assertEquals(Optional.of("image/png"), ImageTypeClassifier.getImageType(png));
+
+        Path text = testFolder.newFile("README").toPath();
+        Files.write(text, "hello".getBytes());
+        assertFalse(ImageTypeClassifier.getImageType(text).isPresent());
+
+        // unreadable -> not an image
+        assertFalse(ImageTypeClassifier.getImageType(testFolder.getRoot().toPath().resolve("missing")).isPresent());
+    }
+
+    @Test
+    public void sniff() {
+        assertEquals(Optional.of("image/jpeg"), ImageTypeClassifier.sniff(new byte[] {(byte) 0xff, (byte) 0xd8,
+            (byte) 0xff, (byte) 0xe0}, 4));
+        assertEquals(Optional.of("image/tiff"), ImageTypeClassifier.sniff(new byte[] {'M', 'M', 0, 0x2a}, 4));
+        assertEquals(Optional.of("image/bmp"), ImageTypeClassifier.sniff(new byte[] {'B', 'M', 0, 0}, 4));
+
+        // every sniffed type is listed under its extension as well
+        assertEquals(ImageTypeClassifier.getImageTypeOfExtension("bmp"),
+                ImageTypeClassifier.sniff(new byte[] {'B', 'M', 0, 0}, 4));
+        assertEquals(ImageTypeClassifier.getImageTypeOfExtension("tif"),
+                ImageTypeClassifier.sniff(new byte[] {'I', 'I', 0x2a, 0}, 4));
+
+        // too short -> not an image
+        assertFalse(ImageTypeClassifier.sniff(new byte[] {'G', 'I', 'F', '8'}, 3).isPresent());
+    }
+
+    @Test
+    public void isEditableImage() {
+        assertTrue(ImageTypeClassifier.isEditableImage(Paths.get("a.jpeg")));
+        assertFalse(ImageTypeClassifier.isEditableImage(Paths.get("a.gif")));
+        assertFalse(ImageTypeClassifier.isEditableImage(Paths.get("a.json")));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.Library;
+import seedu.address.testutil.Assert;
+
+public class LibraryScannerTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path root;
+    private Path january;
+    private Path december;
+
+    @Before
+    public void setUp() throws Exception {
+        root = testFolder.getRoot().toPath();
+        january = Files.createDirectories(root.resolve("2018").resolve("01"));
+        december = Files.createDirectories(root.resolve("2017").resolve("12"));
+        Files.createFile(root.resolve("cover.png"));
+        Files.createFile(january.resolve("b.jpg"));
+        Files.createFile(january.resolve("a.png"));
+        Files.createFile(january.resolve("notes.txt"));
+        Files.createFile(december.resolve("party.tif"));
+        Files.createFile(december.resolve("animated.gif"));
+    }
+
+    @Test
+    public void scan_wholeTreeSorted() throws Exception {
+        List<Boolean> reports = Collections.synchronizedList(new ArrayList<>());
+        Library library = LibraryScanner.scan(root, null, (folders, images, isDone) -> {
+            reports.add(isDone);
+            if (isDone) {
+                assertEquals(5, folders);
+                assertEquals(4, images);
+            }
+        });
+
+        // sorted by path, so folders named by year come before the images of the root
+        assertEquals(Arrays.asList(december.resolve("party.tif"), january.resolve("a.png"),
+                january.resolve("b.jpg"), root.resolve("cover.png")), library.getImages());
+        assertEquals(5, library.getFolderCount());
+
+        Map<Path, Integer> expectedCounts = new TreeMap<>();
+        expectedCounts.put(root, 1);
+        expectedCounts.put(december, 1);
+        expectedCounts.put(january, 2);
+        assertEquals(expectedCounts, library.getFolderCounts());
+
+        // the last report is the completed scan
+        assertEquals(Boolean.TRUE, reports.get(reports.size() - 1));
+    }
+
+    @Test
+    public void scan_previousLibrary_onlyChangedFoldersListed() throws Exception {
+        Library previous = LibraryScanner.scan(root, null, (folders, images, isDone) -> { });
+
+        Path created = Files.createFile(january.resolve("c.png"));
+        // file systems with a coarse clock may not have moved the modification time on
+        Files.setLastModifiedTime(january, FileTime.fromMillis(
+                previous.getFolder(january).get().getLastModified() + 1000));
+
+        Library library = LibraryScanner.scan(root, previous, (folders, images, isDone) -> { });
+        assertTrue(library.getImages().contains(created));
+        assertEquals(5, library.getImageCount());
+        assertNotSame(previous.getFolder(january).get(), library.getFolder(january).get());
+        assertSame(previous.getFolder(december).get(), library.getFolder(december).get());
+    }
+
+    @Test
+    public void scan_missingRoot_throwsIoException() {
+        Assert.assertThrows(NoSuchFileException.class, () ->
+                LibraryScanner.scan(root.resolve("missing"), null, (folders, images, isDone) -> { }));
+    }
+}
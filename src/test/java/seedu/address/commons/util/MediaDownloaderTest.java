@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class MediaDownloaderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void download_replacesTargetWithSourceBytes() throws Exception {
+        byte[] bytes = new byte[3 * 1024 * 1024 + 17];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        Path source = Files.write(testFolder.getRoot().toPath().resolve("source.jpg"), bytes);
+        Path target = Files.write(testFolder.newFolder("album").toPath().resolve("photo.jpg"), new byte[] {1});
+
+        new MediaDownloader(1, 1, 0, URL::openConnection).download(source.toUri().toURL(), target);
+        assertArrayEquals(bytes, Files.readAllBytes(target));
+        // no temporary file left behind
+        assertEquals(1, Files.list(target.getParent()).count());
+    }
+
+    @Test
+    public void download_transientFailures_retried() throws Exception {
+        Path source = Files.write(testFolder.getRoot().toPath().resolve("source.jpg"), new byte[] {4, 2});
+        Path target = testFolder.getRoot().toPath().resolve("photo.jpg");
+        AtomicInteger attempts = new AtomicInteger();
+        MediaDownloader downloader = new MediaDownloader(1, 3, 1, url -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("Connection reset");
+            }
+            return url.openConnection();
+        });
+
+        downloader.download(source.toUri().toURL(), target);
+        assertEquals(3, attempts.get());
+        assertArrayEquals(new byte[] {4, 2}, Files.readAllBytes(target));
+
+        // still failing after the last attempt -> throws, target untouched
+        attempts.set(-10);
+        Files.write(target, new byte[] {7});
+        Assert.assertThrows(IOException.class, () -> downloader.download(source.toUri().toURL(), target));
+        assertEquals(-7, attempts.get());
+        assertArrayEquals(new byte[] {7}, Files.readAllBytes(target));
+    }
+
+    @Test
+    public void downloadBytes_readsSourceIntoMemory() throws Exception {
+        byte[] bytes = new byte[200 * 1024 + 3];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 7);
+        }
+        Path source = Files.write(testFolder.getRoot().toPath().resolve("source.jpg"), bytes);
+        AtomicInteger attempts = new AtomicInteger();
+        MediaDownloader downloader = new MediaDownloader(1, 2, 1, url -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new IOException("Connection reset");
+            }
+            return url.openConnection();
+        });
+
+        assertArrayEquals(bytes, downloader.downloadBytes(source.toUri().toURL()));
+        assertEquals(2, attempts.get());
+        // nothing written next to the source
+        assertEquals(1, Files.list(testFolder.getRoot().toPath()).count());
+    }
+
+    @Test
+    public void downloadAll_reportsProgressAndFailures() throws Exception {
+        Path album = testFolder.newFolder("album").toPath();
+        Map<Path, URL> downloads = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            Path source = Files.write(testFolder.getRoot().toPath().resolve(i + ".jpg"), new byte[] {(byte) i});
+            downloads.put(album.resolve(i + ".jpg"), source.toUri().toURL());
+        }
+        Path missing = album.resolve("missing.jpg");
+        downloads.put(missing, testFolder.getRoot().toPath().resolve("missing.jpg").toUri().toURL());
+
+        List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+        MediaDownloader.ProgressListener listener = (target, isSuccess, completed, total) -> {
+            assertEquals(21, total);
+            assertTrue(isSuccess != target.equals(missing));
+            progress.add(completed);
+        };
+        List<Path> failed = new MediaDownloader(4, 1, 0, URL::openConnection).downloadAll(downloads, listener).get();
+
+        assertEquals(Collections.singletonList(missing), failed);
+        assertEquals(21, progress.size());
+        assertTrue(progress.contains(21));
+        assertFalse(Files.exists(missing));
+        assertArrayEquals(new byte[] {5}, Files.readAllBytes(album.resolve("5.jpg")));
+    }
+}
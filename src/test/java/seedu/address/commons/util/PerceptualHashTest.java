@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+public class PerceptualHashTest {
+
+    private static final File TEST_IMAGE = Paths.get("src", "test", "resources", "testimgs", "test1.png").toFile();
+
+    @Test
+    public void dHash_sameImage_sameHash() throws Exception {
+        assertEquals(PerceptualHash.dHash(TEST_IMAGE), PerceptualHash.dHash(TEST_IMAGE));
+    }
+
+    @Test
+    public void dHash_resized_nearHash() throws Exception {
+        BufferedImage image = RasterUtil.readImage(TEST_IMAGE);
+        BufferedImage half = new BufferedImage(image.getWidth() / 2, image.getHeight() / 2,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = half.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(image, 0, 0, half.getWidth(), half.getHeight(), null);
+        g.dispose();
+
+        long hash = PerceptualHash.dHash(image);
+        assertTrue(PerceptualHash.distance(hash, PerceptualHash.dHash(half)) <= 6);
+
+        // inverted -> every comparison flips
+        BufferedImage inverted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        int[] source = RasterUtil.getPixels(RasterUtil.toIntArgb(image));
+        int[] target = RasterUtil.getPixels(inverted);
+        for (int i = 0; i < source.length; i++) {
+            target[i] = source[i] ^ 0x00ffffff;
+        }
+        assertTrue(PerceptualHash.distance(hash, PerceptualHash.dHash(inverted)) > 32);
+    }
+
+    @Test
+    public void dHash_smallerThanGrid() {
+        BufferedImage tiny = new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB);
+        tiny.setRGB(0, 0, 0xffffffff);
+        tiny.setRGB(0, 1, 0xffffffff);
+        tiny.setRGB(1, 0, 0xff000000);
+        tiny.setRGB(1, 1, 0xff000000);
+        // the left column is brighter than the right one
+        assertEquals(0x1010101010101010L, PerceptualHash.dHash(tiny));
+    }
+
+    @Test
+    public void distance() {
+        assertEquals(0, PerceptualHash.distance(42L, 42L));
+        assertEquals(64, PerceptualHash.distance(0L, -1L));
+        assertEquals(2, PerceptualHash.distance(0b1010L, 0b0000L));
+    }
+}
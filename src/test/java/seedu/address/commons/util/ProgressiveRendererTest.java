@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.ChangeImageEvent;
+import seedu.address.model.PreviewImage;
+import seedu.address.model.canvas.Canvas;
+import seedu.address.model.canvas.CanvasSnapshot;
+import seedu.address.testutil.UndoRedoCommandTestUtil;
+
+public class ProgressiveRendererTest {
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveRendererTest.class);
+
+    private final List<ChangeImageEvent> events = new ArrayList<>();
+
+    @Test
+    public void renderCoarse() throws Exception {
+        BufferedImage image = new BufferedImage(1600, 800, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(1599, 799, 0xff00ff00);
+        Canvas canvas = new Canvas(new PreviewImage(image));
+        canvas.setBackgroundColor("#f00");
+
+        BufferedImage coarse = ProgressiveRenderer.renderCoarse(new CanvasSnapshot(canvas));
+        assertEquals(ProgressiveRenderer.COARSE_MAX_DIMENSION, coarse.getWidth());
+        assertEquals(ProgressiveRenderer.COARSE_MAX_DIMENSION / 2, coarse.getHeight());
+        // the transparent layer shows the background
+        assertEquals(0xffff0000, coarse.getRGB(0, 0));
+    }
+
+    @Test
+    public void renderCoarse_layerUndoneAfterSnapshot_snapshotStateRendered() throws Exception {
+        PreviewImage previewImage = new PreviewImage(filled(1600, 800, 0xff00ff00));
+        previewImage.commit(filled(1600, 800, 0xffff0000));
+        CanvasSnapshot snapshot = new CanvasSnapshot(new Canvas(previewImage));
+
+        previewImage.undo();
+
+        assertEquals(0xffff0000, ProgressiveRenderer.renderCoarse(snapshot).getRGB(0, 0));
+    }
+
+    @Test
+    public void renderPostsCoarseFrameFirst() {
+        Canvas canvas = new Canvas(new PreviewImage(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB)));
+        EventsCenter.getInstance().registerHandler(this);
+
+        ProgressiveRenderer.getInstance().render(canvas, logger, "test");
+
+        assertFalse(events.isEmpty());
+        ChangeImageEvent first = events.get(0);
+        assertEquals("test", first.target);
+        assertTrue(first.image.getWidth() <= ProgressiveRenderer.COARSE_MAX_DIMENSION);
+        assertTrue(ProgressiveRenderer.getInstance().getLastTimeToFirstPixel() >= 0);
+    }
+
+    /**
+     * Returns an image of the given size filled with {@code argb}.
+     */
+    private static BufferedImage filled(int width, int height, int argb) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return image;
+    }
+
+    @Subscribe
+    public void handleChangeImageEvent(ChangeImageEvent event) {
+        events.add(event);
+    }
+
+    @After
+    public void cleanUp() {
+        ProgressiveRenderer.getInstance().cancel();
+        UndoRedoCommandTestUtil.clearCache();
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class RasterUtilTest {
+
+    private static final File TEST_IMAGE = Paths.get("src", "test", "resources", "testimgs", "test1.png").toFile();
+
+    @Test
+    public void readImage() throws Exception {
+        BufferedImage image = RasterUtil.readImage(TEST_IMAGE);
+        assertEquals(BufferedImage.TYPE_INT_ARGB, image.getType());
+        assertEquals(image.getWidth() * image.getHeight(), RasterUtil.getPixels(image).length);
+
+        // not an image -> throws IOException
+        Assert.assertThrows(IOException.class, () -> RasterUtil.readImage(
+                Paths.get("src", "test", "data", "ConfigUtilTest", "TypicalConfig.json").toFile()));
+    }
+
+    @Test
+    public void readSize() throws Exception {
+        BufferedImage image = RasterUtil.readImage(TEST_IMAGE);
+        assertEquals(new Dimension(image.getWidth(), image.getHeight()), RasterUtil.readSize(TEST_IMAGE));
+    }
+
+    @Test
+    public void readSubsampled() throws Exception {
+        BufferedImage image = RasterUtil.readImage(TEST_IMAGE);
+        BufferedImage subsampled = RasterUtil.readSubsampled(TEST_IMAGE, 64);
+        assertEquals(BufferedImage.TYPE_INT_ARGB, subsampled.getType());
+        assertTrue(Math.max(subsampled.getWidth(), subsampled.getHeight()) <= 64);
+
+        // already small enough -> decoded as is
+        BufferedImage whole = RasterUtil.readSubsampled(TEST_IMAGE, 10000);
+        assertEquals(image.getWidth(), whole.getWidth());
+        assertEquals(image.getHeight(), whole.getHeight());
+    }
+
+    @Test
+    public void readRegion() throws Exception {
+        BufferedImage image = RasterUtil.readImage(TEST_IMAGE);
+        BufferedImage region = RasterUtil.readRegion(TEST_IMAGE, new Rectangle(10, 20, 30, 40), 1);
+        assertEquals(BufferedImage.TYPE_INT_ARGB, region.getType());
+        assertEquals(30, region.getWidth());
+        assertEquals(40, region.getHeight());
+        assertEquals(image.getRGB(15, 25), region.getRGB(5, 5));
+
+        // subsampled -> every other pixel kept
+        BufferedImage subsampled = RasterUtil.readRegion(TEST_IMAGE, new Rectangle(10, 20, 30, 40), 2);
+        assertEquals(15, subsampled.getWidth());
+        assertEquals(image.getRGB(14, 26), subsampled.getRGB(2, 3));
+
+        // partly outside the image -> clipped
+        BufferedImage clipped = RasterUtil.readRegion(TEST_IMAGE,
+                new Rectangle(image.getWidth() - 5, image.getHeight() - 5, 20, 20), 1);
+        assertEquals(5, clipped.getWidth());
+        assertEquals(5, clipped.getHeight());
+
+        // entirely outside the image -> throws IOException
+        Assert.assertThrows(IOException.class, () -> RasterUtil.readRegion(TEST_IMAGE,
+                new Rectangle(image.getWidth(), 0, 10, 10), 1));
+    }
+
+    @Test
+    public void toIntArgb() {
+        BufferedImage argb = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        assertSame(argb, RasterUtil.toIntArgb(argb));
+
+        BufferedImage rgb = new BufferedImage(4, 4, BufferedImage.TYPE_3BYTE_BGR);
+        rgb.setRGB(1, 2, 0x123456);
+        BufferedImage converted = RasterUtil.toIntArgb(rgb);
+        assertEquals(BufferedImage.TYPE_INT_ARGB, converted.getType());
+        assertEquals(0xff123456, converted.getRGB(1, 2));
+    }
+
+    @Test
+    public void encode_alphaInJpeg_compositedOntoWhite() throws Exception {
+        BufferedImage argb = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        argb.setRGB(0, 0, 0xff000000);
+
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        RasterUtil.encode(argb, "jpg", jpeg);
+        BufferedImage decoded = RasterUtil.readImage(jpeg.toByteArray());
+        assertEquals(4, decoded.getWidth());
+        // transparent pixels are white, opaque ones keep their colour, within the loss of JPEG
+        assertTrue((decoded.getRGB(3, 3) & 0xff) > 0xe0);
+        assertTrue((decoded.getRGB(0, 0) & 0xff) < 0x80);
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        RasterUtil.encode(argb, "png", png);
+        assertEquals(0, RasterUtil.readImage(png.toByteArray()).getRGB(3, 3) >>> 24);
+
+        Assert.assertThrows(IOException.class, () -> RasterUtil.encode(argb, "nope", new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void getPixels_subimage_copiedAtItsOffset() {
+        BufferedImage image = new BufferedImage(6, 5, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(2, 3, 0xff123456);
+        BufferedImage subimage = image.getSubimage(1, 2, 3, 2);
+        assertTrue(RasterUtil.isPacked(image));
+        assertFalse(RasterUtil.isPacked(subimage));
+
+        int[] pixels = RasterUtil.getPixels(subimage);
+        assertEquals(6, pixels.length);
+        assertEquals(0xff123456, pixels[1 * 3 + 1]);
+        assertEquals(0xff123456, RasterUtil.getPixels(RasterUtil.toIntArgb(subimage))[1 * 3 + 1]);
+    }
+
+    @Test
+    public void getDirtyBounds() {
+        BufferedImage previous = new BufferedImage(10, 8, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage next = new BufferedImage(10, 8, BufferedImage.TYPE_INT_ARGB);
+
+        // identical frames -> no dirty region
+        assertNull(RasterUtil.getDirtyBounds(previous, next));
+
+        next.setRGB(2, 3, 0xffffffff);
+        assertEquals(new Rectangle(2, 3, 1, 1), RasterUtil.getDirtyBounds(previous, next));
+
+        next.setRGB(7, 5, 0xff000000);
+        next.setRGB(0, 4, 0xff00ff00);
+        assertEquals(new Rectangle(0, 3, 8, 3), RasterUtil.getDirtyBounds(previous, next));
+
+        // different sizes -> throws IllegalArgumentException
+        Assert.assertThrows(IllegalArgumentException.class, () -> RasterUtil.getDirtyBounds(previous,
+                new BufferedImage(3, 3, BufferedImage.TYPE_INT_ARGB)));
+    }
+}
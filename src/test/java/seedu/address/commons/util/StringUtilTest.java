@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -155,5 +156,17 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for toHex and sha1Hex --------------------------------------
+
+    @Test
+    public void toHex() {
+        assertEquals("", StringUtil.toHex(new byte[0]));
+        assertEquals("00ff7f80", StringUtil.toHex(new byte[] {0, (byte) 0xff, 0x7f, (byte) 0x80}));
+    }
+
+    @Test
+    public void sha1Hex() {
+        assertEquals("a9993e364706816aba3e25717850c26c9cd0d89d", StringUtil.sha1Hex("abc"));
+    }
 
 }
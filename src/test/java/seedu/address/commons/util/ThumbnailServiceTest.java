@@ -0,0 +1,123 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.ThumbnailStorage;
+
+public class ThumbnailServiceTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void createThumbnail_fitsSize() throws Exception {
+        Path source = writeImage("wide.png", 1000, 400);
+        BufferedImage thumbnail = ThumbnailService.createThumbnail(source, 100);
+        assertEquals(100, thumbnail.getWidth());
+        assertEquals(40, thumbnail.getHeight());
+
+        // already small enough -> kept as is
+        Path small = writeImage("small.png", 30, 20);
+        assertEquals(30, ThumbnailService.createThumbnail(small, 100).getWidth());
+    }
+
+    @Test
+    public void request_decodesStoresAndCaches() throws Exception {
+        Path source = writeImage("source.png", 600, 600);
+        ThumbnailStorage storage = new ThumbnailStorage(testFolder.newFolder("thumbnails").toPath());
+        ThumbnailService service = new ThumbnailService(storage, 1, ThumbnailService.MEMORY_BUDGET_BYTES);
+
+        BufferedImage first = awaitThumbnail(service, source, 64);
+        assertTrue(first.getWidth() <= 64);
+        assertTrue(storage.readThumbnail(source, 64).isPresent());
+
+        // second request is served from memory, on the calling thread
+        AtomicReference<BufferedImage> cached = new AtomicReference<>();
+        service.request(source, 64, cached::set);
+        assertEquals(first, cached.get());
+    }
+
+    @Test
+    public void requestRemote_downloadsStoresAndCaches() throws Exception {
+        Path rendition = writeImage("rendition.png", 256, 128);
+        ThumbnailStorage storage = new ThumbnailStorage(testFolder.newFolder("thumbnails").toPath());
+        AtomicInteger downloads = new AtomicInteger();
+        ThumbnailService.RemoteFetcher fetcher = (source, target) -> {
+            downloads.incrementAndGet();
+            Files.copy(Paths.get(source.getPath()), target, StandardCopyOption.REPLACE_EXISTING);
+        };
+        ThumbnailService service = new ThumbnailService(storage, 1, ThumbnailService.MEMORY_BUDGET_BYTES, fetcher);
+        URL url = rendition.toUri().toURL();
+
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicReference<BufferedImage> first = new AtomicReference<>();
+        service.requestRemote("id", url, 256, image -> {
+            first.set(image);
+            delivered.countDown();
+        });
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(256, first.get().getWidth());
+        assertTrue(storage.readRemoteThumbnail("id", 256).isPresent());
+
+        // second request is served from memory, without downloading again
+        AtomicReference<BufferedImage> cached = new AtomicReference<>();
+        service.requestRemote("id", url, 256, cached::set);
+        assertEquals(first.get(), cached.get());
+        assertEquals(1, downloads.get());
+    }
+
+    @Test
+    public void memoryCache_evictsLeastRecentlyUsed() throws Exception {
+        ThumbnailStorage storage = new ThumbnailStorage(testFolder.newFolder("thumbnails").toPath());
+        // room for two 16x16 thumbnails
+        ThumbnailService service = new ThumbnailService(storage, 1, 2 * 16 * 16 * 4);
+        for (int i = 0; i < 3; i++) {
+            awaitThumbnail(service, writeImage(i + ".png", 16, 16), 16);
+        }
+        assertEquals(2, service.getMemoryCount());
+    }
+
+    /**
+     * Requests the thumbnail of {@code source} and waits for it to be delivered.
+     */
+    private static BufferedImage awaitThumbnail(ThumbnailService service, Path source, int size) throws Exception {
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicReference<BufferedImage> thumbnail = new AtomicReference<>();
+        service.request(source, size, image -> {
+            thumbnail.set(image);
+            delivered.countDown();
+        });
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertNotNull(thumbnail.get());
+        return thumbnail.get();
+    }
+
+    /**
+     * Writes a blank {@code width} by {@code height} PNG into the temporary folder.
+     */
+    private Path writeImage(String name, int width, int height) throws Exception {
+        File file = testFolder.newFile(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", file);
+        return file.toPath();
+    }
+}
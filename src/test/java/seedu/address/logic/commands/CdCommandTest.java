@@ -49,17 +49,17 @@ public class CdCommandTest {
         assertCdToDirectorySuccess(currDirectory);
 
         // change to testimgs10
-        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("testimgs10").normalize());
+        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("testimgs10").normalize()).join();
         assertCdToDirectorySuccess(nextDirectory);
         assertTrue(Paths.get(nextDir).normalize().equals(model.getCurrDirectory()));
 
         // change to previous directory
-        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("..").normalize());
+        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("..").normalize()).join();
         assertCdToDirectorySuccess(prevDirectory);
         assertTrue(Paths.get(currDir).normalize().equals(model.getCurrDirectory()));
 
         // change to previous directory
-        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("..").normalize());
+        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("..").normalize()).join();
         assertCdToDirectorySuccess(prevDirectory);
         assertTrue(Paths.get(prevDir).normalize().equals(model.getCurrDirectory()));
 
@@ -117,7 +117,7 @@ public class CdCommandTest {
         if (os.contains("win")) {
             // cd commands to change drive on windows
             Path absWinPath = Paths.get("C://Users");
-            expectedModel.updateCurrDirectory(absWinPath);
+            expectedModel.updateCurrDirectory(absWinPath).join();
 
             CdCommand command = new CdCommand(absWinPath);
             assertCdToDirectorySuccess(command);
@@ -126,7 +126,7 @@ public class CdCommandTest {
         if (os.contains("mac")) {
             // cd commands to change drive on mac
             Path absMacPath = Paths.get("/Volumes");
-            expectedModel.updateCurrDirectory(absMacPath);
+            expectedModel.updateCurrDirectory(absMacPath).join();
 
             CdCommand command = new CdCommand(absMacPath);
             assertCdToDirectorySuccess(command);
@@ -135,7 +135,7 @@ public class CdCommandTest {
         if (os.contains("nux") || os.contains("ubuntu")) {
             // cd commands to change drive on mac
             Path absUbuPath = Paths.get("/home");
-            expectedModel.updateCurrDirectory(absUbuPath);
+            expectedModel.updateCurrDirectory(absUbuPath).join();
 
             CdCommand command = new CdCommand(absUbuPath);
             assertCdToDirectorySuccess(command);
@@ -149,8 +149,7 @@ public class CdCommandTest {
         // directory exists
         String expectedMessage = expectedModel.getCurrDirectory().toString() + "\n"
                 + String.format(Messages.MESSAGE_TOTAL_IMAGES_IN_DIR, expectedModel.getTotalImagesInDir())
-                + String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH,
-                Math.min(expectedModel.getDirectoryImageList().size(), OpenCommand.BATCH_SIZE));
+                + String.format(Messages.MESSAGE_CURRENT_IMAGES_IN_BATCH, expectedModel.getDirectoryImageList().size());
 
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
     }
@@ -5,12 +5,15 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_DIR;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.ModelGenerator.getModelWithTestImgDirectory;
 
+import java.awt.Dimension;
 import java.io.File;
+import java.io.IOException;
 import javax.activation.MimetypesFileTypeMap;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import seedu.address.commons.util.RasterUtil;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 
@@ -34,7 +37,14 @@ public class LsCommandTest {
                 String mimetype = new MimetypesFileTypeMap().getContentType(file);
                 // only list if is image
                 if ((mimetype.split("/")[0]).equals("image")) {
-                    expectedMessage.append(file.getName()).append("   \n");
+                    expectedMessage.append(file.getName());
+                    try {
+                        Dimension size = RasterUtil.readSize(file);
+                        expectedMessage.append(String.format(LsCommand.MESSAGE_DIMENSIONS, size.width, size.height));
+                    } catch (IOException e) {
+                        // unreadable images are listed without dimensions
+                    }
+                    expectedMessage.append("   \n");
                 }
 
             } else if (file.isDirectory()) {
@@ -56,7 +66,7 @@ public class LsCommandTest {
 
     @Test
     public void executeDirectoryEmpty() {
-        model.updateCurrDirectory(model.getCurrDirectory().resolve("emptydir").normalize());
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("emptydir").normalize()).join();
         File emptydir = model.getCurrDirectory().toFile();
         if (!emptydir.exists()) {
             emptydir.mkdirs();
@@ -66,7 +76,7 @@ public class LsCommandTest {
 
     @Test
     public void executeInvalidDirectory() {
-        model.updateCurrDirectory(model.getCurrDirectory().resolve("invalid").normalize());
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("invalid").normalize()).join();
         assertExecutionSuccess(MESSAGE_INVALID_FILE_DIR);
     }
 
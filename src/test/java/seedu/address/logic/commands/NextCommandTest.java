@@ -36,7 +36,7 @@ public class NextCommandTest {
 
     @Test
     public void executeNextBatchSuccess() {
-        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10"));
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).join();
         assertEquals(model.getTotalImagesInDir(), 14);
 
         assertExecutionSuccess();
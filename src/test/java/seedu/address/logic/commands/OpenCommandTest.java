@@ -48,11 +48,15 @@ public class OpenCommandTest {
     }
 
     @Test
-    public void executeIndexExceedsBatchSizeFailure() {
-        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10"));
+    public void executeIndexOutsideCurrentBatchMovesToItsBatch() {
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).join();
+        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("testimgs10")).join();
         assertEquals(model.getTotalImagesInDir(), 14);
+        expectedModel.updateImageListNextBatch();
 
-        assertExecutionFailure(INDEX_ELEVEN_IMAGE, Messages.MESSAGE_INDEX_EXCEED_MAX_BATCH_SIZE);
+        assertExecutionSuccess(INDEX_ELEVEN_IMAGE);
+        assertEquals(10, model.getCurrBatchPointer());
+        assertEquals(4, model.getDirectoryImageList().size());
     }
 
     @Test
@@ -82,10 +86,10 @@ public class OpenCommandTest {
      * is raised with the correct index.
      */
     private void assertExecutionSuccess(Index index) {
-        Path expectedImagePath = expectedModel.getDirectoryImageList().get(index.getZeroBased());
+        Path expectedImagePath = expectedModel.getImage(index);
         OpenCommand openCommand = new OpenCommand(index);
         String expectedMessage = String.format(OpenCommand.MESSAGE_OPEN_IMAGE_SUCCESS, index.getOneBased())
-                + " of " + Math.min(OpenCommand.BATCH_SIZE, model.getDirectoryImageList().size()) + "\n"
+                + " of " + expectedModel.getTotalImagesInDir() + "\n"
                 + "Image opened: " + expectedImagePath.getFileName().toString();
 
         assertCommandSuccess(openCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -37,7 +37,7 @@ public class PrevCommandTest {
 
     @Test
     public void executePrevBatchSuccess() {
-        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10"));
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).join();
         assertEquals(model.getTotalImagesInDir(), 14);
 
         // Directory image list does not change if prev fails
@@ -1,21 +1,33 @@
 package seedu.address.logic.commands;
 
 import static junit.framework.TestCase.fail;
+import static org.junit.Assert.assertArrayEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.photos.library.v1.proto.MediaItem;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.google.FakePhotosLibrary;
+import seedu.address.model.google.RemoteImage;
 import seedu.address.testutil.ModelGenerator;
 
 
 public class SaveCommandTest {
 
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
     private Model model = ModelGenerator.getModelWithTestImg();
 
     @Test
@@ -59,4 +71,23 @@ public class SaveCommandTest {
             }
         }
     }
+
+    @Test
+    public void saveRemoteImage_sameNamedLocalFileKept() throws Exception {
+        Model model = ModelGenerator.getDefaultModel();
+        model.updateCurrDirectory(testFolder.getRoot().toPath()).join();
+        try (FakePhotosLibrary library = new FakePhotosLibrary(FakePhotosLibrary.Conditions.IDEAL)) {
+            library.populate(1, 1, 16);
+            MediaItem item = library.getItems().get(0);
+            model.setPhotoHandler(library.createHandler("user"));
+            Path local = testFolder.newFile(item.getFilename()).toPath();
+            byte[] localContent = FakePhotosLibrary.createImage(16, 1);
+            Files.write(local, localContent);
+
+            model.openRemoteImage(RemoteImage.of(item.getFilename(), item));
+            assertCommandFailure(new SaveCommand(), model, new CommandHistory(),
+                    String.format(SaveCommand.MESSAGE_NO_ORIGINAL_FILE, item.getFilename()));
+            assertArrayEquals(localContent, Files.readAllBytes(local));
+        }
+    }
 }
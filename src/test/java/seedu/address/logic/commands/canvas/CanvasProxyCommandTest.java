@@ -0,0 +1,58 @@
+package seedu.address.logic.commands.canvas;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.testutil.ModelGenerator;
+
+class CanvasProxyCommandTest {
+
+    @Test
+    public void executeTurnOnSuccess() {
+        String args = "on";
+        Model model = ModelGenerator.getDefaultModel();
+        Model expectedModel = ModelGenerator.getDefaultModel();
+        expectedModel.getCanvas().setProxyEnabled(true);
+        CommandHistory ch = new CommandHistory();
+        assertCommandSuccess(
+                new CanvasProxyCommand(args),
+                model,
+                ch,
+                String.format(CanvasProxyCommand.OUTPUT_SUCCESS, args),
+                expectedModel);
+    }
+
+    @Test
+    public void executeTurnOffSuccess() {
+        String args = "off";
+        Model model = ModelGenerator.getDefaultModel();
+        Model expectedModel = ModelGenerator.getDefaultModel();
+        expectedModel.getCanvas().setProxyEnabled(false);
+        CommandHistory ch = new CommandHistory();
+        assertCommandSuccess(
+                new CanvasProxyCommand(args),
+                model,
+                ch,
+                String.format(CanvasProxyCommand.OUTPUT_SUCCESS, args),
+                expectedModel);
+    }
+
+    @Test
+    public void executeInvalidCommandFailure() {
+        String args = "invalid";
+        Model model = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+        assertCommandFailure(
+                new CanvasProxyCommand(args),
+                model,
+                ch,
+                String.format(CanvasProxyCommand.OUTPUT_FAILURE, args)
+                        + "\n\n"
+                        + CanvasProxyCommand.MESSAGE_USAGE
+        );
+    }
+}
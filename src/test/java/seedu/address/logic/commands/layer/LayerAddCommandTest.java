@@ -54,13 +54,14 @@ public class LayerAddCommandTest extends GuiUnitTest {
     }
 
     @Test
-    public void executeIndexExceedsBatchSizeFailure() {
-        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10"));
+    public void executeIndexOutsideCurrentBatchSuccess() {
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).join();
+        expectedModel.updateCurrDirectory(expectedModel.getCurrDirectory().resolve("testimgs10")).join();
         assertEquals(model.getTotalImagesInDir(), 14);
-        String outOfBoundsIndex = Integer.toString(INDEX_ELEVEN_IMAGE.getOneBased());
-        assertExecutionFailure(outOfBoundsIndex, LayerAddCommand.OUTPUT_FAILURE);
+        assertExecutionSuccess(INDEX_ELEVEN_IMAGE);
 
-        assertExecutionFailure(INDEX_ELEVEN_IMAGE, LayerAddCommand.OUTPUT_FAILURE);
+        // beyond the last image of the directory
+        assertExecutionFailure(Integer.toString(model.getTotalImagesInDir() + 1), LayerAddCommand.OUTPUT_FAILURE);
     }
 
     /**
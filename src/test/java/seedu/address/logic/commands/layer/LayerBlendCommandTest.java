@@ -0,0 +1,50 @@
+package seedu.address.logic.commands.layer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.canvas.BlendMode;
+import seedu.address.testutil.ModelGenerator;
+
+class LayerBlendCommandTest {
+
+    @Test
+    public void executeValidModeSuccess() {
+        Model model = ModelGenerator.getDefaultModel();
+        Model expectedModel = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+        assertCommandSuccess(
+                new LayerBlendCommand("Screen"),
+                model,
+                ch,
+                String.format(LayerBlendCommand.OUTPUT_SUCCESS, "screen"),
+                expectedModel);
+        assertEquals(BlendMode.SCREEN, model.getCanvas().getCurrentLayer().getBlendMode());
+    }
+
+    @Test
+    public void executeNullModeFailure() {
+        Model model = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+
+        assertCommandFailure(
+                new LayerBlendCommand(null),
+                model,
+                ch,
+                LayerBlendCommand.OUTPUT_FAILURE
+        );
+    }
+
+    @Test
+    public void executeUnknownModeFailure() {
+        Model model = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+
+        assertCommandFailure(new LayerBlendCommand("dissolve"), model, ch, LayerBlendCommand.OUTPUT_FAILURE);
+    }
+}
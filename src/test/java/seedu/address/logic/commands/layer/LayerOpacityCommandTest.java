@@ -0,0 +1,51 @@
+package seedu.address.logic.commands.layer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.testutil.ModelGenerator;
+
+class LayerOpacityCommandTest {
+
+    @Test
+    public void executeValidOpacitySuccess() {
+        Model model = ModelGenerator.getDefaultModel();
+        Model expectedModel = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+        assertCommandSuccess(
+                new LayerOpacityCommand("40"),
+                model,
+                ch,
+                String.format(LayerOpacityCommand.OUTPUT_SUCCESS, 40),
+                expectedModel);
+        assertEquals(0.4f, model.getCanvas().getCurrentLayer().getOpacity(), 1e-6);
+    }
+
+    @Test
+    public void executeNullOpacityFailure() {
+        Model model = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+
+        assertCommandFailure(
+                new LayerOpacityCommand(null),
+                model,
+                ch,
+                LayerOpacityCommand.OUTPUT_FAILURE
+        );
+    }
+
+    @Test
+    public void executeOutOfRangeOpacityFailure() {
+        Model model = ModelGenerator.getDefaultModel();
+        CommandHistory ch = new CommandHistory();
+
+        assertCommandFailure(new LayerOpacityCommand("101"), model, ch, LayerOpacityCommand.OUTPUT_FAILURE);
+        assertCommandFailure(new LayerOpacityCommand("-1"), model, ch, LayerOpacityCommand.OUTPUT_FAILURE);
+        assertCommandFailure(new LayerOpacityCommand("half"), model, ch, LayerOpacityCommand.OUTPUT_FAILURE);
+    }
+}
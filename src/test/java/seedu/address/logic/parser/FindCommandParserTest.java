@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.ImageQuery;
+
+public class FindCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+    private FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_noArgs_showsEverything() {
+        assertParseSuccess(parser, "  ", new FindCommand(new ImageQuery(Collections.emptyList(),
+                Collections.emptySet(), ImageQuery.Range.ALL, ImageQuery.Range.ALL, ImageQuery.Range.ALL,
+                ImageQuery.Range.ALL)));
+    }
+
+    @Test
+    public void parse_allCriteria() {
+        long june = LocalDate.of(2018, 6, 1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        long september = LocalDate.of(2018, 9, 1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        ImageQuery expected = new ImageQuery(Arrays.asList("IMG_*", "holiday"), new HashSet<>(Arrays.asList("jpg",
+                "png")), new ImageQuery.Range(2L * 1024 * 1024, Long.MAX_VALUE),
+                new ImageQuery.Range(1920, 1920), new ImageQuery.Range(Long.MIN_VALUE, 1080),
+                new ImageQuery.Range(june, september - 1));
+        assertParseSuccess(parser, " IMG_* name/holiday ext/jpg ext/.png size/2MB.. width/1920 height/..1080 "
+                + "date/2018-06..2018-08", new FindCommand(expected));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " size/2XB", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " width/-5", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " date/2018-13", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " date/..", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " size/5MB..1MB", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " ext/", MESSAGE_INVALID_FORMAT);
+    }
+}
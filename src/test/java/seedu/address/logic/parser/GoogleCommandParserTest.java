@@ -9,8 +9,11 @@ import org.junit.Test;
 
 import seedu.address.logic.commands.google.GoogleDlCommand;
 import seedu.address.logic.commands.google.GoogleLsCommand;
+import seedu.address.logic.commands.google.GoogleOpenCommand;
 import seedu.address.logic.commands.google.GoogleRefreshCommand;
+import seedu.address.logic.commands.google.GoogleSyncCommand;
 import seedu.address.logic.commands.google.GoogleUploadCommand;
+import seedu.address.logic.commands.google.GoogleViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 //@@author chivent
@@ -27,6 +30,10 @@ public class GoogleCommandParserTest {
         // List all images in an album
         assertEqualsGoogleLs("<Albums>");
 
+        // Next screen, and stop listing
+        assertEqualsGoogleLs("more");
+        assertEqualsGoogleLs("stop");
+
         // Invalid list
         assertEqualsGoogleLs("<A");
     }
@@ -66,6 +73,47 @@ public class GoogleCommandParserTest {
         }
     }
 
+    @Test
+    public void parseCommandSync() throws ParseException {
+        // Sync album
+        assertEqualsGoogleSync("/a<Album>");
+
+        // Sync album and remove deleted images
+        assertEqualsGoogleSync("/a<Album> /prune");
+
+        //Assert invalid
+        try {
+            assertEqualsGoogleSync("");
+        } catch (ParseException ex) {
+            assertEquals(ex.getMessage(), MESSAGE_GOOGLE_INVALID_FORMAT + "\n\n" + GoogleSyncCommand.MESSAGE_USAGE);
+        }
+    }
+
+    @Test
+    public void parseCommandView() throws ParseException {
+        assertEquals(new GoogleViewCommand("<Album>"), parser.parse(GoogleViewCommand.TYPE + " <Album>"));
+
+        //Assert invalid
+        try {
+            parser.parse(GoogleViewCommand.TYPE);
+        } catch (ParseException ex) {
+            assertEquals(ex.getMessage(), MESSAGE_GOOGLE_INVALID_FORMAT + "\n\n" + GoogleViewCommand.MESSAGE_USAGE);
+        }
+    }
+
+    @Test
+    public void parseCommandOpen() throws ParseException {
+        assertEquals(new GoogleOpenCommand("/a<Album> /i<Image.png> /layer"),
+                parser.parse(GoogleOpenCommand.TYPE + " /a<Album> /i<Image.png> /layer"));
+
+        //Assert invalid
+        try {
+            parser.parse(GoogleOpenCommand.TYPE);
+        } catch (ParseException ex) {
+            assertEquals(ex.getMessage(), MESSAGE_GOOGLE_INVALID_FORMAT + "\n\n" + GoogleOpenCommand.MESSAGE_USAGE);
+        }
+    }
+
     @Test
     public void parseCommandRefresh() throws ParseException {
         assertTrue(parser.parse(GoogleRefreshCommand.TYPE) instanceof GoogleRefreshCommand);
@@ -104,6 +152,12 @@ public class GoogleCommandParserTest {
         assertEquals(expected, parser.parse(commandFormat));
     }
 
+    private void assertEqualsGoogleSync(String commandParameter) throws ParseException {
+        String commandFormat = GoogleSyncCommand.TYPE + " " + commandParameter;
+        GoogleSyncCommand expected = new GoogleSyncCommand(commandParameter);
+        assertEquals(expected, parser.parse(commandFormat));
+    }
+
     private void assertEqualsGoogleUl(String commandParameter) throws ParseException {
         String commandFormat = GoogleUploadCommand.TYPE + " " + commandParameter;
         GoogleUploadCommand expected = new GoogleUploadCommand(commandParameter);
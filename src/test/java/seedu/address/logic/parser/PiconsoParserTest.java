@@ -14,8 +14,10 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.CdCommand;
+import seedu.address.logic.commands.DedupeCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LibraryCommand;
 import seedu.address.logic.commands.LoginCommand;
 import seedu.address.logic.commands.LogoutCommand;
 import seedu.address.logic.commands.LsCommand;
@@ -31,6 +33,7 @@ import seedu.address.logic.commands.google.GoogleRefreshCommand;
 import seedu.address.logic.commands.google.GoogleUploadCommand;
 import seedu.address.logic.commands.layer.LayerCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DuplicateFinder;
 
 public class PiconsoParserTest {
     @Rule
@@ -68,6 +71,15 @@ public class PiconsoParserTest {
                 CdCommand.COMMAND_WORD + " "));
     }
 
+    @Test
+    public void parseCommandLibrary() throws Exception {
+        LibraryCommand command = (LibraryCommand) parser.parseCommand(LibraryCommand.COMMAND_WORD + " Pictures");
+        assertEquals(new LibraryCommand(Paths.get("Pictures")), command);
+
+        // no directory -> current directory
+        assertEquals(new LibraryCommand(Paths.get(".")), parser.parseCommand(LibraryCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommandNextCommandWordReturnsNextCommand() throws Exception {
         assertTrue(parser.parseCommand(NextCommand.COMMAND_WORD) instanceof NextCommand);
@@ -151,6 +163,19 @@ public class PiconsoParserTest {
         assertTrue(parser.parseCommand(LoginCommand.COMMAND_WORD + " s") instanceof LoginCommand);
     }
 
+    @Test
+    public void parseCommandDedupe() throws Exception {
+        assertEquals(new DedupeCommand(10), parser.parseCommand(DedupeCommand.COMMAND_WORD + " 10"));
+
+        // no distance -> default distance
+        assertEquals(new DedupeCommand(DuplicateFinder.DEFAULT_MAX_DISTANCE),
+                parser.parseCommand(DedupeCommand.COMMAND_WORD));
+
+        // distance beyond the bits of a hash -> rejected
+        assertThrows(ParseException.class, () -> parser.parseCommand(DedupeCommand.COMMAND_WORD + " 65"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(DedupeCommand.COMMAND_WORD + " many"));
+    }
+
     @Test
     public void parseCommandUnrecognisedInputThrowsParseException() throws Exception {
         thrown.expect(ParseException.class);
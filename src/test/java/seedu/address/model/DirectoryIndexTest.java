@@ -0,0 +1,152 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryIndexTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private DirectoryIndex index;
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = testFolder.getRoot().toPath();
+        testFolder.newFile("b.png");
+        testFolder.newFile("d.jpg");
+        testFolder.newFile("notes.txt");
+        index = new DirectoryIndex();
+        index.rebuild(directory);
+    }
+
+    @Test
+    public void rebuild() {
+        assertEquals(2, index.size());
+        assertEquals(Arrays.asList(directory.resolve("b.png"), directory.resolve("d.jpg")), index.subList(0, 2));
+
+        // missing directory -> empty index
+        index.rebuild(directory.resolve("missing"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void rebuildAsync_firstBatchHandedOverThenWholeDirectoryIndexed() throws Exception {
+        List<List<Path>> batches = new ArrayList<>();
+        CompletableFuture<Void> scan = index.rebuildAsync(directory, 1, batches::add);
+
+        scan.get();
+        assertEquals(Arrays.asList(directory.resolve("b.png"), directory.resolve("d.jpg")), index.getAll());
+        assertEquals(1, batches.size());
+        assertTrue(index.contains(batches.get(0).get(0)));
+
+        // rebuilt again before the scan is read -> the last directory is indexed
+        index.rebuildAsync(directory.resolve("missing"), 1, batch -> { });
+        index.rebuild(directory);
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void rebuildAsync_readWhileScanning_imagesFoundSoFarWithoutWaiting() throws Exception {
+        CountDownLatch firstBatchFound = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        CompletableFuture<Void> scan = index.rebuildAsync(directory, 1, batch -> {
+            firstBatchFound.countDown();
+            try {
+                resume.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        firstBatchFound.await();
+
+        // the scan is held up after its first image -> only that image is read, at once
+        assertEquals(1, index.size());
+        Path created = testFolder.newFile("c.png").toPath();
+        assertTrue(index.refresh(created));
+
+        resume.countDown();
+        scan.get();
+        // refreshed during the scan -> kept in what the scan found
+        assertEquals(Arrays.asList(directory.resolve("b.png"), created, directory.resolve("d.jpg")),
+                index.getAll());
+    }
+
+    @Test
+    public void indexOf() {
+        assertEquals(0, index.indexOf(directory.resolve("b.png")));
+        assertEquals(1, index.indexOf(directory.resolve("d.jpg")));
+
+        // not indexed -> -1
+        assertEquals(-1, index.indexOf(directory.resolve("c.png")));
+        assertEquals(-1, index.indexOf(directory.resolve("notes.txt")));
+    }
+
+    @Test
+    public void refresh_createdImage_insertedInOrder() throws Exception {
+        Path created = testFolder.newFile("c.png").toPath();
+        assertTrue(index.refresh(created));
+        assertEquals(Arrays.asList(directory.resolve("b.png"), created, directory.resolve("d.jpg")),
+                index.subList(0, 3));
+
+        // already indexed -> unchanged
+        assertFalse(index.refresh(created));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void refresh_deletedImage_removed() throws Exception {
+        Path deleted = directory.resolve("b.png");
+        Files.delete(deleted);
+        assertTrue(index.refresh(deleted));
+        assertFalse(index.contains(deleted));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void refresh_ignoresOtherFiles() throws Exception {
+        // not an editable image
+        assertFalse(index.refresh(testFolder.newFile("e.gif").toPath()));
+        assertFalse(index.refresh(directory.resolve("notes.txt")));
+
+        // in another directory
+        Path nested = testFolder.newFolder("nested").toPath().resolve("f.png");
+        Files.createFile(nested);
+        assertFalse(index.refresh(nested));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void load_libraryRefreshedInSubfolders() throws Exception {
+        Path year = testFolder.newFolder("2018").toPath();
+        Path image = Files.createFile(year.resolve("a.png"));
+        index.load(new Library(directory, Arrays.asList(
+                new Library.Folder(directory, 0, Arrays.asList(directory.resolve("b.png")), Arrays.asList(year)),
+                new Library.Folder(year, 0, Arrays.asList(image), Arrays.asList()))));
+        assertEquals(Arrays.asList(year.resolve("a.png"), directory.resolve("b.png")), index.subList(0, 2));
+
+        // image created in a subfolder of the library -> indexed
+        Path created = Files.createFile(year.resolve("c.png"));
+        assertTrue(index.refresh(created));
+        assertEquals(1, index.indexOf(created));
+
+        // rebuilt -> only the directory itself again
+        index.rebuild(directory);
+        assertFalse(index.refresh(created));
+    }
+}
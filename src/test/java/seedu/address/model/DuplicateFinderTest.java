@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.ImageHashStorage;
+
+public class DuplicateFinderTest {
+
+    private static final Path TEST_IMAGES = Paths.get("src", "test", "resources", "testimgs", "testimgs10");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void findAsync_copies_grouped() throws Exception {
+        List<Path> images = new ArrayList<>();
+        for (String name : new String[] {"original - Copy.png", "original.png", "test2 - Copy.png", "test2.png",
+            "test3.png"}) {
+            images.add(TEST_IMAGES.resolve(name));
+        }
+        DuplicateFinder finder = new DuplicateFinder(null);
+
+        List<List<Path>> groups = finder.findAsync(images, 0).get();
+        assertEquals(Arrays.asList(images.subList(0, 2), images.subList(2, 4)), groups);
+    }
+
+    @Test
+    public void findAsync_notImages_leftOut() throws Exception {
+        Path text = testFolder.newFile("a.png").toPath();
+        Files.write(text, "not an image".getBytes());
+        DuplicateFinder finder = new DuplicateFinder(null);
+        assertTrue(finder.findAsync(Arrays.asList(text, text), DuplicateFinder.DEFAULT_MAX_DISTANCE).get()
+                .isEmpty());
+    }
+
+    @Test
+    public void findAsync_hashesStored() throws Exception {
+        ImageHashStorage storage = new ImageHashStorage(testFolder.getRoot().toPath().resolve("dhash.bin"));
+        List<Path> images = Arrays.asList(TEST_IMAGES.resolve("test4.png"), TEST_IMAGES.resolve("test5.png"));
+        new DuplicateFinder(storage).findAsync(images, 0).get();
+
+        assertEquals(2, storage.readHashes().size());
+
+        // next session -> hashes known without decoding
+        DuplicateFinder reloaded = new DuplicateFinder(storage);
+        assertEquals(2, reloaded.getHashCount());
+    }
+
+    @Test
+    public void findAsync_imageEdited_hashedAgain() throws Exception {
+        ImageHashStorage storage = new ImageHashStorage(testFolder.getRoot().toPath().resolve("dhash.bin"));
+        Path image = testFolder.getRoot().toPath().resolve("a.png");
+        Files.copy(TEST_IMAGES.resolve("test4.png"), image);
+        Path copy = Files.copy(TEST_IMAGES.resolve("test4.png"), testFolder.getRoot().toPath().resolve("b.png"));
+        DuplicateFinder finder = new DuplicateFinder(storage);
+        assertEquals(1, finder.findAsync(Arrays.asList(image, copy), 0).get().size());
+
+        // edited into a different picture -> hashed again rather than matched by its old hash
+        Files.copy(TEST_IMAGES.resolve("test5.png"), image, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(image, FileTime.fromMillis(Files.getLastModifiedTime(copy).toMillis() + 5000));
+        assertTrue(finder.findAsync(Arrays.asList(image, copy), 0).get().isEmpty());
+
+        // hash of the old version dropped -> one hash per image, in memory and stored
+        assertEquals(2, finder.getHashCount());
+        assertEquals(2, storage.readHashes().size());
+        assertEquals(2, new DuplicateFinder(storage).getHashCount());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.ImageMetadataStorage;
+
+public class ImageMetadataIndexTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directory;
+    private ImageMetadataStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = testFolder.newFolder("images").toPath();
+        storage = new ImageMetadataStorage(testFolder.newFolder("metadata").toPath());
+    }
+
+    @Test
+    public void get_cachedUntilFileChanges() throws Exception {
+        Path image = writeImage("a.png", 12, 8);
+        ImageMetadataIndex index = new ImageMetadataIndex(storage);
+        index.open(directory);
+
+        ImageMetadata first = index.get(image).get();
+        assertEquals(12, first.getWidth());
+        assertSame(first, index.get(image).get());
+
+        writeImage("a.png", 6, 4);
+        Files.setLastModifiedTime(image, FileTime.fromMillis(first.getLastModified() + 5000));
+        assertEquals(6, index.get(image).get().getWidth());
+
+        // not an image -> empty and forgotten
+        Files.write(image, new byte[] {1, 2, 3});
+        assertFalse(index.get(image).isPresent());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void open_savesAndLoadsStoredMetadata() throws Exception {
+        Path image = writeImage("a.png", 12, 8);
+        ImageMetadataIndex index = new ImageMetadataIndex(storage);
+        index.open(directory);
+        ImageMetadata metadata = index.get(image).get();
+        index.open(testFolder.newFolder("other").toPath());
+
+        ImageMetadataIndex reloaded = new ImageMetadataIndex(storage);
+        reloaded.open(directory);
+        assertEquals(1, reloaded.size());
+        assertEquals(metadata, reloaded.get(image).get());
+    }
+
+    @Test
+    public void get_fileInSubfolder_cachedAndSavedWithItsFolder() throws Exception {
+        Path image = writeImage("a.png", 12, 8);
+        ImageMetadataIndex index = new ImageMetadataIndex(storage);
+        index.open(directory.getParent());
+
+        ImageMetadata metadata = index.get(image).get();
+        assertSame(metadata, index.get(image).get());
+        index.save();
+
+        ImageMetadataIndex reloaded = new ImageMetadataIndex(storage);
+        assertEquals(metadata, reloaded.getCached(image,
+                Files.readAttributes(image, BasicFileAttributes.class)).get());
+    }
+
+    @Test
+    public void readAsync_readsInBackground() throws Exception {
+        Path image = writeImage("a.png", 12, 8);
+        ImageMetadataIndex index = new ImageMetadataIndex();
+        BasicFileAttributes attributes = Files.readAttributes(image, BasicFileAttributes.class);
+        assertFalse(index.getCached(image, attributes).isPresent());
+
+        index.readAsync(Collections.singletonList(image)).get();
+        assertEquals(12, index.getCached(image, attributes).get().getWidth());
+    }
+
+    @Test
+    public void remove() throws Exception {
+        Path image = writeImage("a.png", 12, 8);
+        ImageMetadataIndex index = new ImageMetadataIndex();
+        index.open(directory);
+        index.get(image);
+        index.remove(image);
+        assertEquals(0, index.size());
+    }
+
+    /**
+     * Writes a blank {@code width} by {@code height} PNG into the image directory.
+     */
+    private Path writeImage(String name, int width, int height) throws Exception {
+        File file = directory.resolve(name).toFile();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", file);
+        return file.toPath();
+    }
+}
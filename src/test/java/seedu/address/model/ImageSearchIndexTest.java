@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImageSearchIndexTest {
+
+    private static final Path DIRECTORY = Paths.get("photos");
+    private static final Path BEACH = DIRECTORY.resolve("IMG_0001.jpg");
+    private static final Path CITY = DIRECTORY.resolve("IMG_0002.PNG");
+    private static final Path SCAN = DIRECTORY.resolve("scan 1.tif");
+    private static final Path UNREADABLE = DIRECTORY.resolve("zz.jpg");
+
+    private final Map<Path, ImageMetadata> metadata = new HashMap<>();
+    private final AtomicInteger reads = new AtomicInteger();
+    private ImageSearchIndex index;
+
+    @Before
+    public void setUp() {
+        metadata.put(BEACH, new ImageMetadata("IMG_0001.jpg", 4000, 3000, "jpeg", 8, 1, "2018:07:14 10:00:00",
+                3_000_000L, 0L, "a"));
+        metadata.put(CITY, new ImageMetadata("IMG_0002.PNG", 1920, 1080, "png", 8, 1, null, 500_000L,
+                LocalDateTime.of(2017, 12, 31, 23, 0).toInstant(ZoneOffset.UTC).toEpochMilli(), "b"));
+        metadata.put(SCAN, new ImageMetadata("scan 1.tif", 2480, 3508, "tiff", 16, 1, "0000:00:00 00:00:00",
+                12_000_000L, 0L, "c"));
+        index = new ImageSearchIndex(path -> {
+            reads.incrementAndGet();
+            return Optional.ofNullable(metadata.get(path));
+        });
+        index.update(Arrays.asList(BEACH, CITY, SCAN, UNREADABLE));
+    }
+
+    @Test
+    public void find_names() {
+        // prefix, case-insensitive
+        assertEquals(Arrays.asList(BEACH, CITY), index.find(names("img_")));
+        // glob over the whole name
+        assertEquals(Arrays.asList(CITY), index.find(names("*2.png")));
+        assertEquals(Arrays.asList(BEACH, CITY), index.find(names("IMG_000?.*")));
+        // several patterns -> any of them
+        assertEquals(Arrays.asList(BEACH, SCAN), index.find(names("scan", "*1.jpg")));
+        // regular expression characters are literal
+        assertTrue(index.find(names("img.")).isEmpty());
+        // names only -> no metadata read
+        assertEquals(0, reads.get());
+    }
+
+    @Test
+    public void find_extensions() {
+        assertEquals(Arrays.asList(BEACH, UNREADABLE), index.find(query(Collections.emptyList(),
+                Arrays.asList("JPG"), ImageQuery.Range.ALL, ImageQuery.Range.ALL, ImageQuery.Range.ALL)));
+    }
+
+    @Test
+    public void find_ranges() {
+        // images without metadata match no range
+        assertEquals(Arrays.asList(CITY), index.find(query(Collections.emptyList(), Collections.emptyList(),
+                new ImageQuery.Range(0, 1_000_000), ImageQuery.Range.ALL, ImageQuery.Range.ALL)));
+        assertEquals(Arrays.asList(BEACH, SCAN), index.find(query(Collections.emptyList(), Collections.emptyList(),
+                ImageQuery.Range.ALL, new ImageQuery.Range(2000, Long.MAX_VALUE), ImageQuery.Range.ALL)));
+
+        // date taken, or else the modification time
+        long start2018 = LocalDateTime.of(2018, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        assertEquals(Arrays.asList(BEACH), index.find(query(Arrays.asList("img"), Collections.emptyList(),
+                ImageQuery.Range.ALL, ImageQuery.Range.ALL, new ImageQuery.Range(start2018, Long.MAX_VALUE))));
+
+        // metadata is read once per image
+        assertEquals(4, reads.get());
+    }
+
+    @Test
+    public void invalidate_metadataReadAgain() {
+        ImageQuery large = query(Collections.emptyList(), Collections.emptyList(),
+                new ImageQuery.Range(10_000_000, Long.MAX_VALUE), ImageQuery.Range.ALL, ImageQuery.Range.ALL);
+        assertEquals(Arrays.asList(SCAN), index.find(large));
+
+        metadata.put(CITY, new ImageMetadata("IMG_0002.PNG", 1920, 1080, "png", 8, 1, null, 20_000_000L, 1L, "d"));
+        index.invalidate(CITY);
+        assertEquals(Arrays.asList(CITY, SCAN), index.find(large));
+        assertEquals(5, reads.get());
+    }
+
+    @Test
+    public void update_largeIndex() {
+        List<Path> images = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            images.add(DIRECTORY.resolve(String.format("IMG_%06d.jpg", i)));
+        }
+        index.update(images);
+        assertEquals(100_000, index.size());
+        assertEquals(1000, index.find(names("img_012")).size());
+        assertEquals(10, index.find(names("IMG_0999*9.jpg")).size());
+    }
+
+    private static ImageQuery names(String... patterns) {
+        return query(Arrays.asList(patterns), Collections.emptyList(), ImageQuery.Range.ALL, ImageQuery.Range.ALL,
+                ImageQuery.Range.ALL);
+    }
+
+    private static ImageQuery query(List<String> names, List<String> extensions, ImageQuery.Range size,
+                                    ImageQuery.Range width, ImageQuery.Range date) {
+        return new ImageQuery(names, new HashSet<>(extensions), size, width, ImageQuery.Range.ALL, date);
+    }
+}
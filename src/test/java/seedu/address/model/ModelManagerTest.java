@@ -6,14 +6,26 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.ui.HistoryUpdateEvent;
 import seedu.address.commons.events.ui.LayerUpdateEvent;
+import seedu.address.commons.events.ui.UpdateFilmReelEvent;
 import seedu.address.commons.exceptions.IllegalOperationException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.google.PhotoHandler;
 import seedu.address.model.transformation.Transformation;
 import seedu.address.testutil.ModelGenerator;
 import seedu.address.testutil.PreviewImageGenerator;
@@ -29,6 +41,9 @@ public class ModelManagerTest {
     @Rule
     public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -118,4 +133,187 @@ public class ModelManagerTest {
         model.addLayer(second);
         assertEquals(eventsCollectorRule.eventsCollector.getMostRecent().getClass(), LayerUpdateEvent.class);
     }
+
+    @Test
+    public void imageListPaging() throws Exception {
+        Model model = ModelGenerator.getModelWithTestImgDirectory();
+        Model other = ModelGenerator.getModelWithTestImgDirectory();
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).get();
+        other.updateCurrDirectory(other.getCurrDirectory().resolve("testimgs10")).get();
+        assertEquals(UserPrefs.DEFAULT_BATCH_SIZE, model.getBatchSize());
+
+        // the batch pointer belongs to each model
+        model.updateImageListNextBatch();
+        assertEquals(10, model.getCurrBatchPointer());
+        assertEquals(0, other.getCurrBatchPointer());
+
+        // indexes count across the whole directory
+        Index twelfth = Index.fromOneBased(12);
+        assertEquals(model.getDirectoryImageList().get(1), model.getImage(twelfth));
+        assertEquals(other.getImage(twelfth), model.getImage(twelfth));
+
+        // moving to the batch of an image scrolls the film reel to it
+        other.updateImageListBatchOf(twelfth);
+        assertEquals(10, other.getCurrBatchPointer());
+        UpdateFilmReelEvent event = (UpdateFilmReelEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(14, event.paths.size());
+        assertEquals(10, event.firstIndex);
+
+        // already in that batch -> nothing posted
+        eventsCollectorRule.eventsCollector.reset();
+        other.updateImageListBatchOf(Index.fromOneBased(14));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void findImages() throws Exception {
+        Model model = ModelGenerator.getModelWithTestImgDirectory();
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).get();
+        ImageQuery copies = new ImageQuery(Arrays.asList("*copy*"), Collections.emptySet(), ImageQuery.Range.ALL,
+                ImageQuery.Range.ALL, ImageQuery.Range.ALL, ImageQuery.Range.ALL);
+
+        // indexes and the film reel refer to the images found
+        assertEquals(7, model.findImages(copies));
+        assertEquals(7, model.getTotalImagesInDir());
+        assertEquals(model.getCurrDirectory().resolve("test1 - Copy.jpg"), model.getImage(Index.fromOneBased(2)));
+        UpdateFilmReelEvent event = (UpdateFilmReelEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(7, event.paths.size());
+
+        // empty query -> every image again
+        assertEquals(14, model.findImages(new ImageQuery(Collections.emptyList(), Collections.emptySet(),
+                ImageQuery.Range.ALL, ImageQuery.Range.ALL, ImageQuery.Range.ALL, ImageQuery.Range.ALL)));
+
+        // changing directory clears the search
+        model.findImages(copies);
+        model.updateCurrDirectory(model.getCurrDirectory()).get();
+        assertEquals(14, model.getTotalImagesInDir());
+    }
+
+    @Test
+    public void findDuplicates() throws Exception {
+        Model model = ModelGenerator.getModelWithTestImgDirectory();
+        model.updateCurrDirectory(model.getCurrDirectory().resolve("testimgs10")).get();
+        Path original = model.getCurrDirectory().resolve("original.png");
+
+        // every image has a copy -> each group holds an image and its copy, next to each other
+        List<List<Path>> groups = model.findDuplicates(0).get();
+        assertEquals(14, model.getTotalImagesInDir());
+        int index = groups.get(0).indexOf(original);
+        assertEquals(model.getCurrDirectory().resolve("original - Copy.png"), groups.get(0).get(1 - index));
+        UpdateFilmReelEvent event = (UpdateFilmReelEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Integer.valueOf(1), event.groups.get(original));
+        assertEquals(index, model.getDirectoryImageList().indexOf(original));
+
+        // changing directory clears the groups
+        model.updateCurrDirectory(model.getCurrDirectory()).get();
+        event = (UpdateFilmReelEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event.groups.isEmpty());
+    }
+
+    @Test
+    public void updateImageList_onlyChangePosted() throws Exception {
+        Path root = testFolder.getRoot().toPath();
+        Path a = Files.createFile(root.resolve("a.png"));
+        Path b = root.resolve("b.png");
+        Path c = Files.createFile(root.resolve("c.png"));
+        Model model = ModelGenerator.getModelWithTestImgDirectory();
+        model.updateCurrDirectory(root).get();
+
+        // added -> inserted in order
+        Files.createFile(b);
+        model.updateImageList(b);
+        assertFilmReelChange(b, -1, 1);
+
+        // removed -> removed from where it was
+        Files.delete(a);
+        model.updateImageList(a);
+        assertFilmReelChange(a, 0, -1);
+
+        // modified -> redrawn in place
+        model.updateImageList(c);
+        assertFilmReelChange(c, 1, 1);
+
+        // never shown -> nothing posted
+        eventsCollectorRule.eventsCollector.reset();
+        model.updateImageList(root.resolve("notes.txt"));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    /**
+     * Asserts that the last event posted moves {@code changed} from {@code removedIndex} to {@code insertedIndex}
+     * of the film reel.
+     */
+    private void assertFilmReelChange(Path changed, int removedIndex, int insertedIndex) {
+        UpdateFilmReelEvent event = (UpdateFilmReelEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(event.isIncremental());
+        assertEquals(changed, event.changed);
+        assertEquals(removedIndex, event.removedIndex);
+        assertEquals(insertedIndex, event.insertedIndex);
+    }
+
+    @Test
+    public void openLibrary() throws Exception {
+        Path root = testFolder.getRoot().toPath();
+        Path month = Files.createDirectories(root.resolve("2018").resolve("10"));
+        Files.createFile(root.resolve("a.png"));
+        Files.createFile(month.resolve("b.png"));
+
+        Model model = ModelGenerator.getModelWithTestImgDirectory();
+        Library library = model.openLibrary(root).get();
+        assertEquals(library, model.getLibrary().get());
+        assertEquals(root, model.getCurrDirectory());
+        assertEquals(2, model.getTotalImagesInDir());
+        assertEquals(month.resolve("b.png"), model.getImage(Index.fromOneBased(1)));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof UpdateFilmReelEvent);
+
+        // opened again -> shown at once from the last scan
+        Files.createFile(month.resolve("c.png"));
+        model.updateCurrDirectory(month);
+        assertFalse(model.getLibrary().isPresent());
+        CompletableFuture<Library> rescan = model.openLibrary(root);
+        assertEquals(root, model.getLibrary().get().getRoot());
+        assertEquals(root, model.getCurrDirectory());
+        rescan.get();
+        assertEquals(3, model.getTotalImagesInDir());
+    }
+
+    @Test
+    public void connectToGoogle_awaitedByGoogleCommandsOnly() throws Exception {
+        ModelManager model = new ModelManager(new UserPrefs(), true);
+        CountDownLatch release = new CountDownLatch(1);
+        PhotoHandler handler = new PhotoHandler(null, "user");
+        model.connectToGoogle(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return handler;
+        });
+
+        // other commands go on while logging in
+        assertFalse(model.getGoogleConnection().isDone());
+        model.getTotalImagesInDir();
+
+        release.countDown();
+        assertEquals(handler, model.getPhotoHandler(true));
+        assertEquals("user", model.getUserLoggedIn());
+
+        // logged out -> the login is forgotten
+        model.setPhotoHandler(null);
+        assertNull(model.getUserLoggedIn());
+        thrown.expect(CommandException.class);
+        model.getPhotoHandler(true);
+    }
+
+    @Test
+    public void batchSize() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setBatchSize(25);
+        assertEquals(25, userPrefs.getBatchSize());
+        assertFalse(userPrefs.equals(new UserPrefs()));
+
+        thrown.expect(IllegalArgumentException.class);
+        userPrefs.setBatchSize(0);
+    }
 }
@@ -32,23 +32,13 @@ import seedu.address.model.google.PhotoHandler;
 public class PhotoHandlerTest {
 
     private String user = "user";
-    private String extension = ".png";
     private String dummyName = "fake.png";
     private PhotoHandler photoHandler;
-    private Map<String, String> dummyMap = new HashMap<>();
     private Map<String, Album> albumMap = new HashMap<>();
     private Map<String, MediaItem> imageMap = new HashMap<>();
 
     @Before
     public void setUp() {
-        dummyMap.put("item 1.png", "1");
-        dummyMap.put("item 2 (1).png", "2a");
-        dummyMap.put("item 2.png", "2");
-        dummyMap.put("item 3 (1).png", "3a");
-        dummyMap.put("item 3 (2).png", "3b");
-        dummyMap.put("item 3.png", "3");
-        dummyMap.put("Album 1", "3");
-
         albumSetup();
         imageSetup();
         photoHandler = new PhotoHandler(user, albumMap, imageMap);
@@ -152,7 +142,7 @@ public class PhotoHandlerTest {
         //Upload all images no PhotoLibraryClientInstance
         try {
             Path path = Paths.get("src", "test", "resources", "testimgs");
-            photoHandler.uploadAll(path.toString());
+            photoHandler.uploadAll(path.toString(), (file, isSuccess, completed, total) -> { });
         } catch (Exception ex) {
             compare = ex;
         }
@@ -183,7 +173,7 @@ public class PhotoHandlerTest {
         //------------ Dl Album ----------------------
         //Album - Invalid download
         try {
-            photoHandler.downloadWholeAlbum(dummyName, "/sda/");
+            photoHandler.downloadWholeAlbum(dummyName, "/sda/", (target, isSuccess, completed, total) -> { });
         } catch (Exception ex) {
             compare = ex;
         }
@@ -246,28 +236,6 @@ public class PhotoHandlerTest {
         assertEquals(expected, photoHandler.formatUploadFeedback(uploads, Arrays.asList(images)));
     }
 
-    @Test
-    public void getUniqueName() {
-        // try non existing item
-        assertEquals("item.png", photoHandler.getUniqueName(dummyMap, "item.png", extension));
-
-        // try existing item
-        assertEquals("item 1 (1).png", photoHandler.getUniqueName(dummyMap, "item 1.png", extension));
-
-        // try existing 2 items
-        assertEquals("item 2 (2).png", photoHandler.getUniqueName(dummyMap, "item 2.png", extension));
-
-        // try existing 3 items
-        assertEquals("item 3 (3).png", photoHandler.getUniqueName(dummyMap, "item 3.png", extension));
-
-        // try existing item () name
-        assertEquals("item 3 (1) (1).png", photoHandler.getUniqueName(dummyMap, "item 3 (1).png", extension));
-
-        // test without extension
-        assertEquals("Album", photoHandler.getUniqueName(dummyMap, "Album", null));
-        assertEquals("Album 1 (1)", photoHandler.getUniqueName(dummyMap, "Album 1", null));
-    }
-
     /**
      * Setup of albumMap
      */
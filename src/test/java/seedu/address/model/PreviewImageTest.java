@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -8,11 +9,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.UndoRedoCommandTestUtil.clearCache;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
 
 import org.junit.After;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import seedu.address.model.canvas.Layer;
+import seedu.address.model.canvas.MipmapPyramid;
 import seedu.address.model.transformation.Transformation;
 import seedu.address.testutil.PreviewImageGenerator;
 
@@ -22,6 +33,9 @@ public class PreviewImageTest {
     private static final int ORIGINAL_IMAGE_HEIGHT = 354;
     private static final int ORIGINAL_IMAGE_WIDTH = 458;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void getHeightAndWidth() {
         PreviewImage previewImage = PreviewImageGenerator.getDefaultPreviewImage();
@@ -30,14 +44,14 @@ public class PreviewImageTest {
     }
 
     @Test
-    public void getImageTest() {
+    public void getImageTest() throws IOException {
         PreviewImage previewImage = PreviewImageGenerator.getDefaultPreviewImage();
         BufferedImage image = previewImage.getImage();
         assertNotNull(image);
     }
 
     @Test
-    public void getPathTest() {
+    public void getPathTest() throws IOException {
         PreviewImage previewImage = PreviewImageGenerator.getDefaultPreviewImage();
         Path path = previewImage.getCurrentPath();
         assertNotNull(path);
@@ -54,6 +68,195 @@ public class PreviewImageTest {
         assertEquals(blurTransformationString, blurTransformation.toString());
     }
 
+    @Test
+    public void proxyScale() throws IOException {
+        // fits within the proxy size -> proxy is the full resolution image
+        PreviewImage previewImage = PreviewImageGenerator.getDefaultPreviewImage();
+        assertEquals(1.0, previewImage.getProxyScale(), 0);
+        assertEquals(previewImage.getCurrentPath(), previewImage.getProxyPath());
+
+        // larger than the proxy size -> downscaled proxy
+        previewImage = new PreviewImage(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB));
+        assertEquals(0.5, previewImage.getProxyScale(), 0);
+        BufferedImage proxy = readImage(previewImage.getProxyPath());
+        assertEquals(800, proxy.getWidth());
+        assertEquals(600, proxy.getHeight());
+    }
+
+    @Test
+    public void openFromFileFullResolutionCopiedOnDemand() throws IOException {
+        Path source = temporaryFolder.getRoot().toPath().resolve("large.png");
+        BufferedImage large = new BufferedImage(1700, 900, BufferedImage.TYPE_INT_ARGB);
+        large.setRGB(1000, 500, 0xff123456);
+        ImageIO.write(large, "png", source.toFile());
+
+        PreviewImage previewImage = new PreviewImage(source);
+        assertPreviewImageState(previewImage, 0, 1);
+        assertEquals(1700, previewImage.getWidth());
+        assertEquals(900, previewImage.getHeight());
+        assertFalse(previewImage.isFullResolutionReady());
+        BufferedImage proxy = readImage(previewImage.getProxyPath());
+        assertEquals(800, proxy.getWidth());
+        assertEquals(424, proxy.getHeight());
+
+        // decoded from the source, without copying it into the cache
+        assertEquals(0xff123456, previewImage.getImage().getRGB(1000, 500));
+        assertFalse(previewImage.isFullResolutionReady());
+
+        Path fullResolution = previewImage.getFullResolutionPath();
+        assertTrue(previewImage.isFullResolutionReady());
+        assertFalse(source.equals(fullResolution));
+        assertEquals(0xff123456, readImage(fullResolution).getRGB(1000, 500));
+
+        // not an image -> throws IOException
+        Path text = temporaryFolder.newFile("notes.txt").toPath();
+        assertThrows(IOException.class, () -> new PreviewImage(text));
+    }
+
+    @Test
+    public void openRemoteSourceFetchedOnDemand() throws IOException {
+        Path source = temporaryFolder.getRoot().toPath().resolve("remote.png");
+        BufferedImage large = new BufferedImage(1600, 1000, BufferedImage.TYPE_INT_ARGB);
+        large.setRGB(900, 600, 0xff654321);
+        ImageIO.write(large, "png", source.toFile());
+        AtomicInteger fetches = new AtomicInteger();
+
+        // a rendition scaled by the server, one pixel off the size of the proxy
+        BufferedImage rendition = new BufferedImage(800, 501, BufferedImage.TYPE_INT_ARGB);
+        PreviewImage previewImage = new PreviewImage("remote.png", 1600, 1000, rendition, () -> {
+            fetches.incrementAndGet();
+            return source;
+        });
+        assertEquals(1600, previewImage.getWidth());
+        BufferedImage proxy = readImage(previewImage.getProxyPath());
+        assertEquals(800, proxy.getWidth());
+        assertEquals(500, proxy.getHeight());
+        assertEquals(0, fetches.get());
+
+        // fetched once, when needed at full resolution
+        assertEquals(0xff654321, previewImage.getImage().getRGB(900, 600));
+        Path fullResolution = previewImage.getFullResolutionPath();
+        assertEquals(0xff654321, readImage(fullResolution).getRGB(900, 600));
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void openFromMemoryCachedOnDemand() throws IOException {
+        BufferedImage large = new BufferedImage(1200, 1600, BufferedImage.TYPE_INT_ARGB);
+        large.setRGB(700, 1500, 0xff2468ac);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        ImageIO.write(large, "png", encoded);
+        byte[] content = encoded.toByteArray();
+
+        PreviewImage previewImage = new PreviewImage("downloaded.png", content);
+        assertPreviewImageState(previewImage, 0, 1);
+        assertEquals(1200, previewImage.getWidth());
+        assertFalse(previewImage.isFullResolutionReady());
+        BufferedImage proxy = readImage(previewImage.getProxyPath());
+        assertEquals(600, proxy.getWidth());
+        assertEquals(800, proxy.getHeight());
+
+        // written to the cache as is once needed at full resolution
+        Path fullResolution = previewImage.getFullResolutionPath();
+        assertTrue(previewImage.isFullResolutionReady());
+        assertArrayEquals(content, Files.readAllBytes(fullResolution));
+        assertEquals(0xff2468ac, readImage(fullResolution).getRGB(700, 1500));
+
+        // not an image -> throws IOException
+        assertThrows(IOException.class, () -> new PreviewImage("notes.txt", new byte[] {1, 2, 3}));
+    }
+
+    @Test
+    public void commitProxyFullResolutionRenderedOnDemand() throws IOException {
+        PreviewImage.FullResolutionRenderer original = PreviewImage.getFullResolutionRenderer();
+        AtomicInteger renderCount = new AtomicInteger();
+        PreviewImage.setFullResolutionRenderer((source, transformation) -> {
+            renderCount.incrementAndGet();
+            return new BufferedImage(1000, 900, BufferedImage.TYPE_INT_ARGB);
+        });
+        try {
+            PreviewImage previewImage = new PreviewImage(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB));
+            previewImage.commitProxy(new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB),
+                    PreviewImageGenerator.getATransformation());
+            assertPreviewImageState(previewImage, 1, 2);
+            assertEquals(800, readImage(previewImage.getProxyPath()).getWidth());
+
+            BufferedImage fullResolution = readImage(previewImage.getFullResolutionPath());
+            assertTrue(previewImage.isFullResolutionReady());
+            assertEquals(1000, fullResolution.getWidth());
+            assertEquals(1, renderCount.get());
+
+            // undone proxy states are discarded and never rendered
+            previewImage.undo();
+            previewImage.commit(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB));
+            assertTrue(previewImage.isFullResolutionReady());
+            assertEquals(1, renderCount.get());
+        } finally {
+            PreviewImage.setFullResolutionRenderer(original);
+        }
+    }
+
+    @Test
+    public void fullResolutionFailureReported() throws IOException {
+        PreviewImage.FullResolutionRenderer original = PreviewImage.getFullResolutionRenderer();
+        PreviewImage.setFullResolutionRenderer((source, transformation) -> {
+            throw new IllegalStateException("convert failed");
+        });
+        try {
+            PreviewImage previewImage = new PreviewImage(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB));
+            previewImage.commitProxy(new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB),
+                    PreviewImageGenerator.getATransformation());
+            assertThrows(IOException.class, previewImage::getFullResolutionPath);
+            assertThrows(IOException.class, previewImage::getImage);
+            assertFalse(previewImage.isFullResolutionReady());
+        } finally {
+            PreviewImage.setFullResolutionRenderer(original);
+        }
+
+        // a source that cannot be downloaded -> reported, and fetched again the next time
+        AtomicInteger fetches = new AtomicInteger();
+        PreviewImage.SourceFetcher offline = () -> {
+            fetches.incrementAndGet();
+            throw new IOException("offline");
+        };
+        PreviewImage remote = new PreviewImage("remote.png", 1600, 1000,
+                new BufferedImage(800, 500, BufferedImage.TYPE_INT_ARGB), offline);
+        assertThrows(IOException.class, remote::getImage);
+        assertThrows(IOException.class, remote::getFullResolutionPath);
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    public void layerPyramidBuiltFromProxyUntilFullResolutionReady() throws Exception {
+        PreviewImage.FullResolutionRenderer original = PreviewImage.getFullResolutionRenderer();
+        CountDownLatch rendering = new CountDownLatch(1);
+        PreviewImage.setFullResolutionRenderer((source, transformation) -> {
+            rendering.await();
+            return new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB);
+        });
+        try {
+            PreviewImage previewImage = new PreviewImage(new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_ARGB));
+            previewImage.commitProxy(new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB),
+                    PreviewImageGenerator.getATransformation());
+            Layer layer = new Layer(previewImage, "Layer 1");
+
+            // full resolution still rendering -> proxy at level 0, standing for the full size
+            MipmapPyramid pyramid = layer.getPyramid();
+            assertEquals(800, pyramid.getLevel(0).getWidth());
+            assertEquals(1600, pyramid.getWidth());
+            assertEquals(1200, pyramid.getHeight());
+
+            rendering.countDown();
+            previewImage.getFullResolutionPath();
+            assertTrue(previewImage.isFullResolutionReady());
+
+            // ready -> swapped in
+            assertEquals(1600, layer.getPyramid().getLevel(0).getWidth());
+        } finally {
+            PreviewImage.setFullResolutionRenderer(original);
+        }
+    }
+
     @Test
     public void commitDefaultPreviewImageState() {
         PreviewImage previewImage = PreviewImageGenerator.getDefaultPreviewImage();
@@ -218,6 +421,17 @@ public class PreviewImageTest {
         }
     }
 
+    /**
+     * Reads the cached image at {@code path}.
+     */
+    private BufferedImage readImage(Path path) {
+        try {
+            return ImageIO.read(path.toFile());
+        } catch (IOException e) {
+            throw new AssertionError("Cached image should be readable.", e);
+        }
+    }
+
     @After
     public void cleanUp() {
         clearCache();
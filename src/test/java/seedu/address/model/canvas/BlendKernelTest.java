@@ -0,0 +1,123 @@
+package seedu.address.model.canvas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+class BlendKernelTest {
+
+    @Test
+    public void normalOpaqueReplaces() {
+        assertPixel(0xff123456, blend(0xff808080, 0xff123456, BlendMode.NORMAL, 1f));
+    }
+
+    @Test
+    public void normalOverTransparentKeepsSource() {
+        assertPixel(0x80ff0000, blend(0x00000000, 0x80ff0000, BlendMode.NORMAL, 1f));
+    }
+
+    @Test
+    public void opacityScalesSource() {
+        assertPixel(0xff808080, blend(0xff000000, 0xffffffff, BlendMode.NORMAL, 0.5f));
+        assertPixel(0xff000000, blend(0xff000000, 0xffffffff, BlendMode.NORMAL, 0f));
+    }
+
+    @Test
+    public void multiply() {
+        assertPixel(0xff404040, blend(0xff808080, 0xff808080, BlendMode.MULTIPLY, 1f));
+        assertPixel(0xff00ff00, blend(0xff00ffff, 0xffffff00, BlendMode.MULTIPLY, 1f));
+    }
+
+    @Test
+    public void screen() {
+        assertPixel(0xffc0c0c0, blend(0xff808080, 0xff808080, BlendMode.SCREEN, 1f));
+    }
+
+    @Test
+    public void overlay() {
+        // dark backdrop -> multiplied, light backdrop -> screened
+        assertPixel(0xff333333, blend(0xff333333, 0xff808080, BlendMode.OVERLAY, 1f));
+        assertPixel(0xffcccccc, blend(0xffcccccc, 0xff808080, BlendMode.OVERLAY, 1f));
+        assertPixel(0xff000000, blend(0xff333333, 0xff000000, BlendMode.OVERLAY, 1f));
+    }
+
+    @Test
+    public void add() {
+        assertPixel(0xffc8c8c8, blend(0xff646464, 0xff646464, BlendMode.ADD, 1f));
+        // saturates at white
+        assertPixel(0xffffffff, blend(0xffc8c8c8, 0xff646464, BlendMode.ADD, 1f));
+    }
+
+    @Test
+    public void difference() {
+        assertPixel(0xff969696, blend(0xffc8c8c8, 0xff323232, BlendMode.DIFFERENCE, 1f));
+        assertPixel(0xff969696, blend(0xff323232, 0xffc8c8c8, BlendMode.DIFFERENCE, 1f));
+    }
+
+    @Test
+    public void blendModeAppliesOnlyOverBackdrop() {
+        // multiply over a transparent backdrop is the source itself
+        assertPixel(0xff808080, blend(0x00000000, 0xff808080, BlendMode.MULTIPLY, 1f));
+    }
+
+    @Test
+    public void compositeRespectsOffsetAndClip() {
+        BufferedImage dst = new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage src = new BufferedImage(3, 3, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 3; y++) {
+            for (int x = 0; x < 3; x++) {
+                src.setRGB(x, y, 0xffffffff);
+            }
+        }
+
+        BlendKernel.composite(dst, new Rectangle(0, 0, 3, 4), src, 2, -1, BlendMode.NORMAL, 1f);
+        assertPixel(0xffffffff, dst.getRGB(2, 0));
+        assertPixel(0xffffffff, dst.getRGB(2, 1));
+        assertPixel(0x00000000, dst.getRGB(2, 2));
+        // outside the clip
+        assertPixel(0x00000000, dst.getRGB(3, 0));
+        assertPixel(0x00000000, dst.getRGB(1, 0));
+
+        // entirely outside -> nothing changes
+        BlendKernel.composite(dst, null, src, 10, 10, BlendMode.NORMAL, 1f);
+        assertPixel(0x00000000, dst.getRGB(3, 3));
+    }
+
+    @Test
+    public void invalidOpacityThrows() {
+        BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        assertThrows(IllegalArgumentException.class, () ->
+                BlendKernel.composite(image, null, image, 0, 0, BlendMode.NORMAL, 1.5f));
+    }
+
+    @Test
+    public void blendModeFromString() {
+        assertEquals(BlendMode.MULTIPLY, BlendMode.fromString("Multiply"));
+        assertEquals("multiply", BlendMode.MULTIPLY.toString());
+        assertThrows(IllegalArgumentException.class, () -> BlendMode.fromString("dissolve"));
+    }
+
+    /**
+     * Blends a single {@code src} pixel onto a single {@code dst} pixel and returns the result.
+     */
+    private static int blend(int dst, int src, BlendMode mode, float opacity) {
+        int[] pixels = {dst};
+        BlendKernel.composite(pixels, 0, 1, new int[] {src}, 0, 1, 1, 1, mode, opacity);
+        return pixels[0];
+    }
+
+    /**
+     * Asserts that every channel of {@code actual} is within 1 of {@code expected}.
+     */
+    private static void assertPixel(int expected, int actual) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            int e = (expected >>> shift) & 0xff;
+            int a = (actual >>> shift) & 0xff;
+            assertEquals(e, a, 1, String.format("expected %08x but was %08x", expected, actual));
+        }
+    }
+}
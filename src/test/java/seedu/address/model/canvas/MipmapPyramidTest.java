@@ -0,0 +1,89 @@
+package seedu.address.model.canvas;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.RasterUtil;
+
+class MipmapPyramidTest {
+
+    @Test
+    public void getLevelHalvesSize() {
+        MipmapPyramid pyramid = new MipmapPyramid();
+        pyramid.update(new BufferedImage(600, 300, BufferedImage.TYPE_INT_ARGB), 0);
+
+        // 600, 300, 150, 75, 38, 19, 10, 5, 3, 2, 1
+        assertEquals(11, pyramid.getLevelCount());
+        assertEquals(300, pyramid.getLevel(1).getWidth());
+        assertEquals(150, pyramid.getLevel(1).getHeight());
+        assertEquals(38, pyramid.getLevel(4).getWidth());
+        assertEquals(1, pyramid.getLevel(10).getWidth());
+        assertEquals(1, pyramid.getLevel(10).getHeight());
+    }
+
+    @Test
+    public void getLevelUniformImageKeepsColour() {
+        BufferedImage image = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+        Arrays.fill(RasterUtil.getPixels(image), 0xff336699);
+        MipmapPyramid pyramid = new MipmapPyramid();
+        pyramid.update(image, 0);
+
+        assertEquals(0xff336699, pyramid.getLevel(3).getRGB(10, 10));
+    }
+
+    @Test
+    public void updateRebuildsDirtyTilesOnly() {
+        BufferedImage image = createNoise(700, 500, 1);
+        MipmapPyramid pyramid = new MipmapPyramid();
+        pyramid.update(image, 0);
+        pyramid.getLevel(4);
+
+        BufferedImage changed = RasterUtil.toIntArgb(createNoise(700, 500, 1));
+        for (int y = 300; y < 320; y++) {
+            for (int x = 600; x < 650; x++) {
+                changed.setRGB(x, y, 0xffff0000);
+            }
+        }
+        pyramid.update(changed, 1);
+
+        MipmapPyramid rebuilt = new MipmapPyramid();
+        rebuilt.update(changed, 1);
+        assertEquals(1, pyramid.getVersion());
+        for (int level = 1; level <= 4; level++) {
+            assertArrayEquals(RasterUtil.getPixels(rebuilt.getLevel(level)),
+                    RasterUtil.getPixels(pyramid.getLevel(level)));
+        }
+    }
+
+    @Test
+    public void chooseLevel() {
+        MipmapPyramid pyramid = new MipmapPyramid();
+        pyramid.update(new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_ARGB), 0);
+
+        assertEquals(0, pyramid.chooseLevel(2));
+        assertEquals(0, pyramid.chooseLevel(1));
+        assertEquals(1, pyramid.chooseLevel(0.5));
+        assertEquals(1, pyramid.chooseLevel(0.3));
+        assertEquals(2, pyramid.chooseLevel(0.25));
+        assertEquals(10, pyramid.chooseLevel(0.0001));
+    }
+
+    /**
+     * Returns an image filled with random pixels.
+     */
+    private static BufferedImage createNoise(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = RasterUtil.getPixels(image);
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.canvas;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PreviewImage;
+import seedu.address.testutil.UndoRedoCommandTestUtil;
+
+class ViewportCompositorTest {
+
+    private static final int RED = 0xffff0000;
+    private static final int BLUE = 0xff0000ff;
+
+    @Test
+    public void compositeWholeCanvas() throws IOException {
+        Canvas canvas = new Canvas(new PreviewImage(createHalves(200, 100)));
+        BufferedImage frame = ViewportCompositor.composite(canvas, new Viewport(1, 0.5, 0.5, 100, 50));
+
+        assertEquals(100, frame.getWidth());
+        assertEquals(50, frame.getHeight());
+        assertEquals(RED, frame.getRGB(10, 25));
+        assertEquals(BLUE, frame.getRGB(90, 25));
+    }
+
+    @Test
+    public void compositeZoomedViewportShowsVisiblePartOnly() throws IOException {
+        Canvas canvas = new Canvas(new PreviewImage(createHalves(200, 100)));
+        // zoomed in twice on the centre of the left half -> only red is visible
+        BufferedImage frame = ViewportCompositor.composite(canvas, new Viewport(2, 0.25, 0.5, 100, 50));
+        assertEquals(RED, frame.getRGB(0, 0));
+        assertEquals(RED, frame.getRGB(99, 49));
+    }
+
+    @Test
+    public void compositeOutsideCanvasIsTransparent() throws IOException {
+        Canvas canvas = new Canvas(new PreviewImage(createHalves(200, 100)));
+        canvas.setBackgroundColor("#0f0");
+        canvas.setCurrentLayerPosition(100, 0);
+        // the layer is moved half out of the canvas, the background shows in the left half
+        BufferedImage frame = ViewportCompositor.composite(canvas, new Viewport(1, 0.5, 0.5, 200, 200));
+        assertEquals(0xff00ff00, frame.getRGB(50, 100));
+        assertEquals(RED, frame.getRGB(150, 100));
+        // above the canvas
+        assertEquals(0, frame.getRGB(100, 10));
+    }
+
+    @Test
+    public void compositeSnapshotOfChangedLayerIsDropped() throws IOException {
+        Canvas canvas = new Canvas(new PreviewImage(createHalves(200, 100)));
+        CanvasSnapshot snapshot = new CanvasSnapshot(canvas);
+        canvas.getCurrentLayer().getImage().commit(createHalves(100, 200));
+
+        assertNull(ViewportCompositor.composite(snapshot, new Viewport(1, 0.5, 0.5, 100, 50)));
+        // a snapshot of the new state is composited
+        assertEquals(RED, ViewportCompositor.composite(canvas, new Viewport(1, 0.5, 0.5, 100, 50))
+                .getRGB(10, 25));
+    }
+
+    @Test
+    public void parseColor() {
+        assertNull(ViewportCompositor.parseColor("none"));
+        assertNull(ViewportCompositor.parseColor("not-a-colour"));
+        assertEquals(new Color(0, 255, 0), ViewportCompositor.parseColor("#0f0"));
+        assertEquals(new Color(0x12, 0x34, 0x56), ViewportCompositor.parseColor("#123456"));
+        assertEquals(new Color(0, 255, 0, 179), ViewportCompositor.parseColor("rgba(0,255,0,0.7)"));
+        assertEquals(Color.RED, ViewportCompositor.parseColor("red"));
+    }
+
+    /**
+     * Returns an image with a red left half and a blue right half.
+     */
+    private static BufferedImage createHalves(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x < width / 2) ? RED : BLUE);
+            }
+        }
+        return image;
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        UndoRedoCommandTestUtil.clearCache();
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.photos.library.v1.proto.MediaItem;
+import com.google.photos.library.v1.proto.MediaMetadata;
+import com.google.protobuf.Timestamp;
+
+import seedu.address.commons.util.MediaDownloader;
+import seedu.address.storage.SyncManifestStorage;
+
+//@@author chivent
+public class AlbumSyncTest {
+
+    private static final String ALBUM_ID = "album";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path remote;
+    private Path directory;
+    private AtomicInteger downloads;
+    private AlbumSync sync;
+
+    @Before
+    public void setUp() throws Exception {
+        remote = testFolder.newFolder("remote").toPath();
+        directory = testFolder.newFolder("photos").toPath();
+        downloads = new AtomicInteger();
+        SyncManifestStorage storage = new SyncManifestStorage(testFolder.getRoot().toPath().resolve("sync"));
+        sync = new AlbumSync(storage, MediaDownloader.getInstance(), item -> {
+            downloads.incrementAndGet();
+            return remote.resolve(item.getId()).toUri().toURL();
+        });
+    }
+
+    @Test
+    public void sync_unchangedAlbum_downloadsNothing() throws Exception {
+        Map<String, MediaItem> listing = new HashMap<>();
+        listing.put("beach.png", createItem("1", "beach.png", new byte[] {1, 2}));
+        listing.put("cat.png", createItem("2", "cat.png", new byte[] {3}));
+
+        AlbumSync.Result first = sync(listing, false);
+        assertEquals(2, first.getDownloaded());
+        assertEquals(0, first.getUnchanged());
+        assertArrayEquals(new byte[] {1, 2}, Files.readAllBytes(directory.resolve("beach.png")));
+
+        downloads.set(0);
+        AlbumSync.Result second = sync(listing, false);
+        assertEquals(0, second.getDownloaded());
+        assertEquals(2, second.getUnchanged());
+        assertEquals(0, downloads.get());
+    }
+
+    @Test
+    public void sync_changedOrMissingItems_downloadedAgain() throws Exception {
+        Map<String, MediaItem> listing = new HashMap<>();
+        listing.put("beach.png", createItem("1", "beach.png", new byte[] {1, 2}));
+        listing.put("cat.png", createItem("2", "cat.png", new byte[] {3}));
+        listing.put("dog.png", createItem("3", "dog.png", new byte[] {4}));
+        sync(listing, false);
+
+        // deleted locally
+        Files.delete(directory.resolve("cat.png"));
+        // edited in Google Photos
+        MediaItem dog = createItem("3", "dog.png", new byte[] {5, 6});
+        listing.put("dog.png", dog.toBuilder().setMediaMetadata(dog.getMediaMetadata().toBuilder().setWidth(8))
+                .build());
+
+        AlbumSync.Result result = sync(listing, false);
+        assertEquals(2, result.getDownloaded());
+        assertEquals(1, result.getUnchanged());
+        assertArrayEquals(new byte[] {3}, Files.readAllBytes(directory.resolve("cat.png")));
+        assertArrayEquals(new byte[] {5, 6}, Files.readAllBytes(directory.resolve("dog.png")));
+    }
+
+    @Test
+    public void sync_editedLocally_notOverwritten() throws Exception {
+        Map<String, MediaItem> listing = new HashMap<>();
+        listing.put("beach.png", createItem("1", "beach.png", new byte[] {1, 2}));
+        listing.put("cat.png", createItem("2", "cat.png", new byte[] {3}));
+        sync(listing, false);
+
+        Files.write(directory.resolve("beach.png"), new byte[] {9, 9, 9});
+        Files.write(directory.resolve("cat.png"), new byte[] {8, 8});
+        // also edited in Google Photos
+        MediaItem cat = createItem("2", "cat.png", new byte[] {5, 6});
+        listing.put("cat.png", cat.toBuilder().setMediaMetadata(cat.getMediaMetadata().toBuilder().setWidth(8))
+                .build());
+
+        downloads.set(0);
+        AlbumSync.Result result = sync(listing, false);
+        assertEquals(1, result.getDownloaded());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(1, downloads.get());
+        assertArrayEquals(new byte[] {9, 9, 9}, Files.readAllBytes(directory.resolve("beach.png")));
+        assertArrayEquals(new byte[] {8, 8}, Files.readAllBytes(directory.resolve("cat.png")));
+        assertArrayEquals(new byte[] {5, 6}, Files.readAllBytes(directory.resolve("cat (1).png")));
+
+        // the new version is synced from now on
+        assertEquals(2, sync(listing, false).getUnchanged());
+    }
+
+    @Test
+    public void sync_existingFile_notOverwritten() throws Exception {
+        Files.write(directory.resolve("beach.png"), new byte[] {7});
+        Map<String, MediaItem> listing = new HashMap<>();
+        listing.put("beach.png", createItem("1", "beach.png", new byte[] {1, 2}));
+
+        sync(listing, false);
+        assertArrayEquals(new byte[] {7}, Files.readAllBytes(directory.resolve("beach.png")));
+        assertArrayEquals(new byte[] {1, 2}, Files.readAllBytes(directory.resolve("beach (1).png")));
+        assertEquals(1, sync(listing, false).getUnchanged());
+    }
+
+    @Test
+    public void sync_prune_deletesRemovedItems() throws Exception {
+        Map<String, MediaItem> listing = new HashMap<>();
+        listing.put("beach.png", createItem("1", "beach.png", new byte[] {1, 2}));
+        listing.put("cat.png", createItem("2", "cat.png", new byte[] {3}));
+        listing.put("dog.png", createItem("3", "dog.png", new byte[] {4}));
+        sync(listing, false);
+
+        listing.remove("cat.png");
+        listing.remove("dog.png");
+        // without pruning, removed items are kept
+        assertEquals(0, sync(listing, false).getPruned());
+        assertTrue(Files.exists(directory.resolve("cat.png")));
+
+        // edited locally, so it is kept
+        Files.write(directory.resolve("dog.png"), new byte[] {8, 8});
+        Files.setLastModifiedTime(directory.resolve("dog.png"), FileTime.fromMillis(0));
+
+        AlbumSync.Result result = sync(listing, true);
+        assertEquals(1, result.getPruned());
+        assertEquals(1, result.getUnchanged());
+        assertFalse(Files.exists(directory.resolve("cat.png")));
+        assertTrue(Files.exists(directory.resolve("dog.png")));
+        assertTrue(Files.exists(directory.resolve("beach.png")));
+    }
+
+    private AlbumSync.Result sync(Map<String, MediaItem> listing, boolean prune) throws Exception {
+        return sync.sync(ALBUM_ID, listing, directory, prune, (target, isSuccess, completed, total) -> { })
+                .get();
+    }
+
+    /**
+     * Returns an item named {@code fileName} whose bytes on Google Photos are {@code bytes}.
+     */
+    private MediaItem createItem(String id, String fileName, byte[] bytes) throws Exception {
+        Files.write(remote.resolve(id), bytes);
+        return MediaItem.newBuilder().setId(id).setFilename(fileName).setMimeType("image/png")
+                .setMediaMetadata(MediaMetadata.newBuilder().setWidth(4).setHeight(3)
+                        .setCreationTime(Timestamp.newBuilder().setSeconds(1000))).build();
+    }
+}
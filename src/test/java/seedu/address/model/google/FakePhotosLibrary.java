@@ -0,0 +1,648 @@
+package seedu.address.model.google;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.FixedTransportChannelProvider;
+import com.google.photos.library.v1.PhotosLibraryClient;
+import com.google.photos.library.v1.PhotosLibrarySettings;
+import com.google.photos.library.v1.proto.Album;
+import com.google.photos.library.v1.proto.BatchCreateMediaItemsRequest;
+import com.google.photos.library.v1.proto.BatchCreateMediaItemsResponse;
+import com.google.photos.library.v1.proto.CreateAlbumRequest;
+import com.google.photos.library.v1.proto.GetMediaItemRequest;
+import com.google.photos.library.v1.proto.ListAlbumsRequest;
+import com.google.photos.library.v1.proto.ListAlbumsResponse;
+import com.google.photos.library.v1.proto.ListMediaItemsRequest;
+import com.google.photos.library.v1.proto.ListMediaItemsResponse;
+import com.google.photos.library.v1.proto.MediaItem;
+import com.google.photos.library.v1.proto.MediaMetadata;
+import com.google.photos.library.v1.proto.NewMediaItem;
+import com.google.photos.library.v1.proto.NewMediaItemResult;
+import com.google.photos.library.v1.proto.PhotosLibraryGrpc;
+import com.google.photos.library.v1.proto.SearchMediaItemsRequest;
+import com.google.photos.library.v1.proto.SearchMediaItemsResponse;
+import com.google.rpc.Code;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+//@@author chivent
+/**
+ * A stand-in for Google Photos that runs in the same process, so that listing, downloading and uploading can be
+ * tested and measured offline. The library is served to a real {@link PhotosLibraryClient} over an in-process gRPC
+ * channel, in pages of the same default and largest sizes as the real one, and the bytes of images are served and
+ * received over HTTP on the loopback interface, at the addresses the media items point to. Every request can be
+ * slowed down, throttled and failed as set by its {@link Conditions}.
+ */
+public class FakePhotosLibrary implements AutoCloseable {
+
+    public static final int DEFAULT_ALBUM_PAGE_SIZE = 20;
+    public static final int MAX_ALBUM_PAGE_SIZE = 50;
+    public static final int DEFAULT_MEDIA_ITEM_PAGE_SIZE = 25;
+    public static final int MAX_MEDIA_ITEM_PAGE_SIZE = 100;
+
+    private static final AtomicInteger serverCount = new AtomicInteger();
+    private static final Pattern MEDIA_PATH = Pattern.compile("/media/([^=/]+)=(d|w(\\d+)-h(\\d+))");
+    private static final String FILE_NAME_HEADER = "X-Goog-Upload-File-Name";
+    private static final int TRANSFER_CHUNK = 16 * 1024;
+
+    private final List<Album> albums = new ArrayList<>();
+    private final List<MediaItem> items = new ArrayList<>();
+    private final Map<String, List<MediaItem>> itemsByAlbum = new HashMap<>();
+    private final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+    private final Map<String, String> uploadedNames = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> uploadedContents = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> renditions = new ConcurrentHashMap<>();
+    // images of a populated library share their content, so it is only measured once
+    private final Map<byte[], Dimension> dimensions = new IdentityHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicInteger libraryRequests = new AtomicInteger();
+    private final AtomicInteger mediaRequests = new AtomicInteger();
+    private final Random random;
+    private final Server server;
+    private final HttpServer mediaServer;
+    private final ExecutorService mediaWorkers;
+    private final String serverName;
+    private final List<ManagedChannel> channels = Collections.synchronizedList(new ArrayList<>());
+    private final List<PhotosLibraryClient> clients = Collections.synchronizedList(new ArrayList<>());
+    private volatile Conditions conditions;
+
+    /**
+     * Starts an empty library served under {@code conditions}.
+     */
+    public FakePhotosLibrary(Conditions conditions) throws IOException {
+        this.conditions = conditions;
+        random = new Random(conditions.seed);
+        serverName = "fake-photos-library-" + serverCount.incrementAndGet();
+        server = InProcessServerBuilder.forName(serverName).addService(new LibraryService()).build().start();
+        mediaWorkers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, serverName + "-media");
+            thread.setDaemon(true);
+            return thread;
+        });
+        mediaServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        mediaServer.createContext("/media/", this::serveMedia);
+        mediaServer.createContext("/upload", this::receiveUpload);
+        mediaServer.setExecutor(mediaWorkers);
+        mediaServer.start();
+    }
+
+    //=========== Building the library ================================
+
+    /**
+     * Adds {@code albumCount} albums of {@code imagesPerAlbum} images each, all with the same content of
+     * {@code dimension} by {@code dimension} pixels of noise, which hardly compresses.
+     */
+    public synchronized void populate(int albumCount, int imagesPerAlbum, int dimension) throws IOException {
+        byte[] content = createImage(dimension, random.nextLong());
+        for (int a = 0; a < albumCount; a++) {
+            Album album = addAlbum("Album " + a);
+            for (int i = 0; i < imagesPerAlbum; i++) {
+                // every album has an IMG_0000.png, as cameras number their photos
+                addImage(album.getId(), String.format("IMG_%04d.png", i), content);
+            }
+        }
+    }
+
+    /**
+     * Adds an empty album titled {@code title}, which need not be unique.
+     */
+    public synchronized Album addAlbum(String title) {
+        Album album = Album.newBuilder().setId("album" + nextId.incrementAndGet()).setTitle(title).build();
+        albums.add(album);
+        itemsByAlbum.put(album.getId(), new ArrayList<>());
+        return album;
+    }
+
+    /**
+     * Adds the image {@code fileName} of {@code content} to the library and, unless {@code albumId} is null, to the
+     * album with that id.
+     */
+    public synchronized MediaItem addImage(String albumId, String fileName, byte[] content) {
+        String id = "item" + nextId.incrementAndGet();
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        Dimension dimension = dimensions.computeIfAbsent(content, FakePhotosLibrary::readDimension);
+        MediaItem item = MediaItem.newBuilder().setId(id).setFilename(fileName)
+                .setMimeType("image/" + ("jpg".equals(extension) ? "jpeg" : extension))
+                .setBaseUrl(getMediaAddress() + id)
+                .setMediaMetadata(MediaMetadata.newBuilder().setWidth(dimension.width).setHeight(dimension.height))
+                .build();
+        contents.put(id, content);
+        items.add(item);
+        if (albumId != null) {
+            itemsByAlbum.get(albumId).add(item);
+        }
+        return item;
+    }
+
+    /**
+     * Returns an image of {@code dimension} by {@code dimension} pixels of noise drawn from {@code seed}, as a PNG.
+     */
+    public static byte[] createImage(int dimension, long seed) throws IOException {
+        Random noise = new Random(seed);
+        BufferedImage image = new BufferedImage(dimension, dimension, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < dimension; y++) {
+            for (int x = 0; x < dimension; x++) {
+                image.setRGB(x, y, noise.nextInt(1 << 24));
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+
+    public synchronized List<Album> getAlbums() {
+        return new ArrayList<>(albums);
+    }
+
+    public synchronized List<MediaItem> getItems() {
+        return new ArrayList<>(items);
+    }
+
+    /**
+     * Returns the content of the image with id {@code id}, or null if there is none.
+     */
+    public byte[] getContent(String id) {
+        return contents.get(id);
+    }
+
+    //=========== Connecting to the library ================================
+
+    /**
+     * Returns a new client talking to this library, closed with the library.
+     */
+    public PhotosLibraryClient createClient() throws IOException {
+        ManagedChannel channel = InProcessChannelBuilder.forName(serverName).build();
+        channels.add(channel);
+        PhotosLibrarySettings settings = PhotosLibrarySettings.newBuilder()
+                .setCredentialsProvider(NoCredentialsProvider.create())
+                .setTransportChannelProvider(FixedTransportChannelProvider.create(GrpcTransportChannel.create(channel)))
+                .build();
+        PhotosLibraryClient client = PhotosLibraryClient.initialize(settings);
+        clients.add(client);
+        return client;
+    }
+
+    /**
+     * Returns a handler for the account {@code email} talking to this library through a client of its own. The
+     * handler only remembers listings and uploads for as long as it lives.
+     */
+    public PhotoHandler createHandler(String email) throws IOException {
+        return new PhotoHandler(createClient(), email, new StreamUploader(getUploadAddress(), null));
+    }
+
+    public Conditions getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Serves the requests from now on under {@code conditions}, drawing failures from its seed again.
+     */
+    public void setConditions(Conditions conditions) {
+        synchronized (random) {
+            random.setSeed(conditions.seed);
+            this.conditions = conditions;
+        }
+    }
+
+    /**
+     * Returns the number of requests made to the library API, including those that were failed on purpose.
+     */
+    public int getLibraryRequestCount() {
+        return libraryRequests.get();
+    }
+
+    /**
+     * Returns the number of requests made for the bytes of images, including uploads.
+     */
+    public int getMediaRequestCount() {
+        return mediaRequests.get();
+    }
+
+    @Override
+    public void close() {
+        for (PhotosLibraryClient client : clients) {
+            client.close();
+        }
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow();
+        }
+        server.shutdownNow();
+        mediaServer.stop(0);
+        mediaWorkers.shutdownNow();
+    }
+
+    private String getMediaAddress() {
+        return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + mediaServer.getAddress().getPort() + "/media/";
+    }
+
+    private String getUploadAddress() {
+        return "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + mediaServer.getAddress().getPort() + "/upload";
+    }
+
+    //=========== Serving the library ================================
+
+    /**
+     * Waits for the latency of a request, and returns whether it should fail.
+     */
+    private boolean delayAndDecideFailure() {
+        Conditions current = conditions;
+        long delay;
+        boolean isFailed;
+        synchronized (random) {
+            delay = current.latencyMillis + ((current.jitterMillis > 0) ? random.nextInt(current.jitterMillis + 1) : 0);
+            isFailed = random.nextDouble() < current.errorRate;
+        }
+        sleep(delay);
+        return isFailed;
+    }
+
+    /**
+     * Sleeps for {@code millis} milliseconds, keeping the thread interrupted if it is interrupted.
+     */
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the size of the pages served when {@code requested} items are asked for, as the real API does.
+     */
+    private static int getPageSize(int requested, int defaultSize, int maxSize) {
+        return (requested <= 0) ? defaultSize : Math.min(requested, maxSize);
+    }
+
+    /**
+     * Returns the page of {@code source} of {@code pageSize} items starting at {@code pageToken}, or null after
+     * telling {@code observer} the token is invalid.
+     */
+    private static <T> List<T> page(List<T> source, String pageToken, int pageSize, StreamObserver<?> observer) {
+        int start;
+        try {
+            start = pageToken.isEmpty() ? 0 : Integer.parseInt(pageToken);
+        } catch (NumberFormatException e) {
+            start = -1;
+        }
+        if (start < 0 || start > source.size()) {
+            observer.onError(Status.INVALID_ARGUMENT.withDescription("Invalid page token").asRuntimeException());
+            return null;
+        }
+        return new ArrayList<>(source.subList(start, Math.min(source.size(), start + pageSize)));
+    }
+
+    /**
+     * Returns the token of the page after the one of {@code pageSize} items starting at {@code pageToken}, or an
+     * empty string if it was the last one.
+     */
+    private static String nextPageToken(String pageToken, int pageSize, int total) {
+        int next = (pageToken.isEmpty() ? 0 : Integer.parseInt(pageToken)) + pageSize;
+        return (next < total) ? String.valueOf(next) : "";
+    }
+
+    /**
+     * Serves the library API, with pages, latency and failures like the real one.
+     */
+    private class LibraryService extends PhotosLibraryGrpc.PhotosLibraryImplBase {
+
+        /**
+         * Counts a request and waits for its latency, then returns whether it was failed, after telling
+         * {@code observer} so.
+         */
+        private boolean fail(StreamObserver<?> observer) {
+            libraryRequests.incrementAndGet();
+            if (delayAndDecideFailure()) {
+                observer.onError(Status.UNAVAILABLE.withDescription("Injected failure").asRuntimeException());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void listAlbums(ListAlbumsRequest request, StreamObserver<ListAlbumsResponse> observer) {
+            if (fail(observer)) {
+                return;
+            }
+            List<Album> all = getAlbums();
+            int pageSize = getPageSize(request.getPageSize(), DEFAULT_ALBUM_PAGE_SIZE, MAX_ALBUM_PAGE_SIZE);
+            List<Album> page = page(all, request.getPageToken(), pageSize, observer);
+            if (page == null) {
+                return;
+            }
+            observer.onNext(ListAlbumsResponse.newBuilder().addAllAlbums(page)
+                    .setNextPageToken(nextPageToken(request.getPageToken(), pageSize, all.size())).build());
+            observer.onCompleted();
+        }
+
+        @Override
+        public void listMediaItems(ListMediaItemsRequest request, StreamObserver<ListMediaItemsResponse> observer) {
+            if (fail(observer)) {
+                return;
+            }
+            List<MediaItem> all = getItems();
+            int pageSize = getPageSize(request.getPageSize(), DEFAULT_MEDIA_ITEM_PAGE_SIZE, MAX_MEDIA_ITEM_PAGE_SIZE);
+            List<MediaItem> page = page(all, request.getPageToken(), pageSize, observer);
+            if (page == null) {
+                return;
+            }
+            observer.onNext(ListMediaItemsResponse.newBuilder().addAllMediaItems(page)
+                    .setNextPageToken(nextPageToken(request.getPageToken(), pageSize, all.size())).build());
+            observer.onCompleted();
+        }
+
+        @Override
+        public void searchMediaItems(SearchMediaItemsRequest request,
+                StreamObserver<SearchMediaItemsResponse> observer) {
+            if (fail(observer)) {
+                return;
+            }
+            List<MediaItem> all;
+            synchronized (FakePhotosLibrary.this) {
+                List<MediaItem> inAlbum = itemsByAlbum.get(request.getAlbumId());
+                all = (inAlbum == null) ? null : new ArrayList<>(inAlbum);
+            }
+            if (all == null) {
+                observer.onError(Status.NOT_FOUND.withDescription("No such album").asRuntimeException());
+                return;
+            }
+            int pageSize = getPageSize(request.getPageSize(), DEFAULT_MEDIA_ITEM_PAGE_SIZE, MAX_MEDIA_ITEM_PAGE_SIZE);
+            List<MediaItem> page = page(all, request.getPageToken(), pageSize, observer);
+            if (page == null) {
+                return;
+            }
+            observer.onNext(SearchMediaItemsResponse.newBuilder().addAllMediaItems(page)
+                    .setNextPageToken(nextPageToken(request.getPageToken(), pageSize, all.size())).build());
+            observer.onCompleted();
+        }
+
+        @Override
+        public void getMediaItem(GetMediaItemRequest request, StreamObserver<MediaItem> observer) {
+            if (fail(observer)) {
+                return;
+            }
+            MediaItem found = null;
+            for (MediaItem item : getItems()) {
+                if (item.getId().equals(request.getMediaItemId())) {
+                    found = item;
+                }
+            }
+            if (found == null) {
+                observer.onError(Status.NOT_FOUND.withDescription("No such media item").asRuntimeException());
+                return;
+            }
+            observer.onNext(found);
+            observer.onCompleted();
+        }
+
+        @Override
+        public void createAlbum(CreateAlbumRequest request, StreamObserver<Album> observer) {
+            if (fail(observer)) {
+                return;
+            }
+            observer.onNext(addAlbum(request.getAlbum().getTitle()));
+            observer.onCompleted();
+        }
+
+        @Override
+        public void batchCreateMediaItems(BatchCreateMediaItemsRequest request,
+                StreamObserver<BatchCreateMediaItemsResponse> observer) {
+            if (fail(observer)) {
+                return;
+            }
+            String albumId = request.getAlbumId();
+            if (!albumId.isEmpty() && !itemsByAlbum.containsKey(albumId)) {
+                observer.onError(Status.NOT_FOUND.withDescription("No such album").asRuntimeException());
+                return;
+            }
+            BatchCreateMediaItemsResponse.Builder response = BatchCreateMediaItemsResponse.newBuilder();
+            for (NewMediaItem newItem : request.getNewMediaItemsList()) {
+                String token = newItem.getSimpleMediaItem().getUploadToken();
+                String fileName = uploadedNames.remove(token);
+                byte[] content = uploadedContents.remove(token);
+                NewMediaItemResult.Builder result = NewMediaItemResult.newBuilder().setUploadToken(token);
+                if (fileName == null) {
+                    result.setStatus(com.google.rpc.Status.newBuilder().setCode(Code.INVALID_ARGUMENT_VALUE));
+                } else {
+                    result.setStatus(com.google.rpc.Status.newBuilder().setCode(Code.OK_VALUE))
+                            .setMediaItem(addImage(albumId.isEmpty() ? null : albumId, fileName, content));
+                }
+                response.addNewMediaItemResults(result);
+            }
+            observer.onNext(response.build());
+            observer.onCompleted();
+        }
+    }
+
+    /**
+     * Serves the original, or a rendition scaled to fit within the size asked for, of an image.
+     */
+    private void serveMedia(HttpExchange exchange) throws IOException {
+        mediaRequests.incrementAndGet();
+        try {
+            Matcher matcher = MEDIA_PATH.matcher(exchange.getRequestURI().getPath());
+            if (delayAndDecideFailure()) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_UNAVAILABLE, -1);
+                return;
+            }
+            byte[] original = matcher.matches() ? contents.get(matcher.group(1)) : null;
+            if (original == null) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_FOUND, -1);
+                return;
+            }
+            byte[] content = original;
+            if (!"d".equals(matcher.group(2))) {
+                int size = Math.min(Integer.parseInt(matcher.group(3)), Integer.parseInt(matcher.group(4)));
+                content = renditions.computeIfAbsent(matcher.group(1) + "=" + size, key -> scale(original, size));
+            }
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, content.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                transfer(new ByteArrayInputStream(content), body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Receives the bytes of an image, and answers with the token to add them to the library with.
+     */
+    private void receiveUpload(HttpExchange exchange) throws IOException {
+        mediaRequests.incrementAndGet();
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            try (InputStream body = exchange.getRequestBody()) {
+                transfer(body, content);
+            }
+            String fileName = exchange.getRequestHeaders().getFirst(FILE_NAME_HEADER);
+            if (delayAndDecideFailure()) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_UNAVAILABLE, -1);
+                return;
+            }
+            if (fileName == null) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_REQUEST, -1);
+                return;
+            }
+            String token = "upload" + nextId.incrementAndGet();
+            uploadedNames.put(token, fileName);
+            uploadedContents.put(token, content.toByteArray());
+            byte[] response = token.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Copies {@code input} to {@code output} no faster than the bandwidth of the current conditions.
+     */
+    private void transfer(InputStream input, OutputStream output) throws IOException {
+        long bytesPerSecond = conditions.bytesPerSecond;
+        long start = System.nanoTime();
+        long transferred = 0;
+        byte[] buffer = new byte[TRANSFER_CHUNK];
+        int read;
+        while ((read = input.read(buffer)) > 0) {
+            output.write(buffer, 0, read);
+            transferred += read;
+            if (bytesPerSecond > 0) {
+                long due = TimeUnit.SECONDS.toNanos(transferred) / bytesPerSecond;
+                sleep(TimeUnit.NANOSECONDS.toMillis(due - (System.nanoTime() - start)));
+            }
+        }
+    }
+
+    /**
+     * Returns {@code content} scaled down to fit within {@code size} by {@code size} pixels, as a PNG.
+     */
+    private static byte[] scale(byte[] content, int size) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(content));
+            double factor = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+            int width = Math.max(1, (int) (image.getWidth() * factor));
+            int height = Math.max(1, (int) (image.getHeight() * factor));
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            scaled.getGraphics().drawImage(image, 0, 0, width, height, null);
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(scaled, "png", png);
+            return png.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the size of the image {@code content} from its header, or 0 by 0 if it is not an image.
+     */
+    private static Dimension readDimension(byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return new Dimension();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return new Dimension();
+        }
+    }
+
+    /**
+     * Returns everything left in {@code input}.
+     */
+    private static byte[] readAll(InputStream input) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[TRANSFER_CHUNK];
+        int read;
+        while ((read = input.read(buffer)) > 0) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * How requests to the library are served: how long each waits before it is answered, at most how fast bytes are
+     * transferred, and how often requests fail as if the service were unavailable.
+     */
+    public static class Conditions {
+        /** Requests are answered at once, as fast as possible, and never fail. */
+        public static final Conditions IDEAL = new Conditions(0, 0, 0, 0, 1);
+
+        public final long latencyMillis;
+        public final int jitterMillis;
+        public final long bytesPerSecond;
+        public final double errorRate;
+        public final long seed;
+
+        /**
+         * Creates conditions in which requests wait {@code latencyMillis} plus up to {@code jitterMillis}
+         * milliseconds, bytes are transferred at {@code bytesPerSecond} per request, or as fast as possible if it is
+         * 0, and a share {@code errorRate} of requests fail, drawn at random from {@code seed}.
+         */
+        public Conditions(long latencyMillis, int jitterMillis, long bytesPerSecond, double errorRate, long seed) {
+            this.latencyMillis = latencyMillis;
+            this.jitterMillis = jitterMillis;
+            this.bytesPerSecond = bytesPerSecond;
+            this.errorRate = errorRate;
+            this.seed = seed;
+        }
+
+        @Override
+        public String toString() {
+            String bandwidth = (bytesPerSecond == 0) ? "unlimited" : (bytesPerSecond / 1024) + "KB/s";
+            return String.format("latency %d+%dms, bandwidth %s, error rate %.1f%%", latencyMillis, jitterMillis,
+                    bandwidth, errorRate * 100);
+        }
+    }
+}
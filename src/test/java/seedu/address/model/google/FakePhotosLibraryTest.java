@@ -0,0 +1,140 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.photos.library.v1.PhotosLibraryClient;
+import com.google.photos.library.v1.proto.ListMediaItemsRequest;
+import com.google.photos.library.v1.proto.MediaItem;
+
+//@@author chivent
+public class FakePhotosLibraryTest {
+
+    private static final int DIMENSION = 16;
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private FakePhotosLibrary library;
+
+    @Before
+    public void setUp() throws Exception {
+        library = new FakePhotosLibrary(FakePhotosLibrary.Conditions.IDEAL);
+        library.populate(3, 120, DIMENSION);
+    }
+
+    @After
+    public void tearDown() {
+        library.close();
+    }
+
+    @Test
+    public void listMediaItems_pagedAsRealApi() throws Exception {
+        PhotosLibraryClient client = library.createClient();
+
+        List<MediaItem> firstPage = client.listMediaItems().getPage().getResponse().getMediaItemsList();
+        assertEquals(FakePhotosLibrary.DEFAULT_MEDIA_ITEM_PAGE_SIZE, firstPage.size());
+
+        int requests = library.getLibraryRequestCount();
+        int count = 0;
+        for (MediaItem item : client.listMediaItems(ListMediaItemsRequest.newBuilder().setPageSize(1000).build())
+                .iterateAll()) {
+            count++;
+        }
+        assertEquals(360, count);
+        // larger pages are cut down to the largest size allowed
+        assertEquals(4, library.getLibraryRequestCount() - requests);
+    }
+
+    @Test
+    public void handler_listsDownloadsAndUploads() throws Exception {
+        PhotoHandler handler = library.createHandler("user");
+
+        assertEquals(3, handler.returnAllAlbumsList().size());
+        List<String> names = handler.returnAllImagesinAlbum("Album 1");
+        assertEquals(120, names.size());
+        assertTrue(names.contains("IMG_0119.png"));
+        assertEquals(360, handler.returnAllImagesList().size());
+        assertTrue(handler.returnAllImagesList().contains("IMG_0000 (2).png"));
+
+        Path directory = testFolder.newFolder("downloads").toPath();
+        handler.downloadAlbumImage("Album 2", "IMG_0005.png", directory.toString());
+        byte[] expected = library.getContent(library.getItems().get(0).getId());
+        assertArrayEquals(expected, Files.readAllBytes(directory.resolve("IMG_0005.png")));
+
+        Path upload = testFolder.newFile("upload.png").toPath();
+        Files.write(upload, FakePhotosLibrary.createImage(DIMENSION, 7));
+        MediaUploader.ProgressListener ignored = (file, isSuccess, completed, total) -> { };
+        MediaUploader.Result result = handler.uploadAll(upload.getParent().toString(), ignored)
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(1, result.getUploaded().size());
+        MediaItem uploaded = library.getItems().get(library.getItems().size() - 1);
+        assertEquals("upload.png", uploaded.getFilename());
+        assertArrayEquals(Files.readAllBytes(upload), library.getContent(uploaded.getId()));
+        // uploads go into the album of Piconso, created on the first upload
+        assertTrue(handler.returnAllAlbumsList().contains(PhotoHandler.PICONSO_ALBUM));
+    }
+
+    @Test
+    public void handler_fetchesAndUploadsInMemory() throws Exception {
+        PhotoHandler handler = library.createHandler("user");
+
+        int requests = library.getMediaRequestCount();
+        byte[] fetched = handler.fetchImage("Album 1", "IMG_0003.png");
+        assertArrayEquals(library.getContent(library.getItems().get(0).getId()), fetched);
+        assertArrayEquals(fetched, handler.fetchImage(null, "IMG_0003 (1).png"));
+        assertEquals(2, library.getMediaRequestCount() - requests);
+
+        byte[] encoded = FakePhotosLibrary.createImage(DIMENSION, 11);
+        String savedName = handler.uploadEncoded("canvas.png", output -> output.write(encoded));
+        assertEquals("canvas.png", savedName);
+        MediaItem uploaded = library.getItems().get(library.getItems().size() - 1);
+        assertArrayEquals(encoded, library.getContent(uploaded.getId()));
+    }
+
+    @Test
+    public void failedDownload_retried() throws Exception {
+        PhotoHandler handler = library.createHandler("user");
+        handler.returnAllImagesinAlbum("Album 0");
+        // the first request drawn from this seed fails, the second does not
+        library.setConditions(new FakePhotosLibrary.Conditions(0, 0, 0, 0.8, 2));
+
+        Path directory = testFolder.newFolder("downloads").toPath();
+        int requests = library.getMediaRequestCount();
+        handler.downloadAlbumImage("Album 0", "IMG_0001.png", directory.toString());
+        assertEquals(2, library.getMediaRequestCount() - requests);
+        assertTrue(Files.exists(directory.resolve("IMG_0001.png")));
+    }
+
+    @Test
+    public void remoteImage_servedScaled() throws Exception {
+        MediaItem item = library.getItems().get(0);
+        RemoteImage image = RemoteImage.of(item.getFilename(), item);
+        assertEquals(DIMENSION, image.getWidth());
+        assertEquals(DIMENSION / 2, image.fetchRendition(DIMENSION / 2).getWidth());
+        assertFalse(library.getMediaRequestCount() == 0);
+    }
+
+    @Test
+    public void remoteImage_originalFetchedThroughCurrentAddress() throws Exception {
+        MediaItem item = library.getItems().get(0);
+        // listed long ago, so its base address has expired
+        RemoteImage image = new RemoteImage(item.getId(), item.getFilename(), "http://127.0.0.1:1/expired/",
+                DIMENSION, DIMENSION);
+        Path original = image.fetchOriginal(library.createHandler("user"));
+        assertArrayEquals(library.getContent(item.getId()), Files.readAllBytes(original));
+    }
+}
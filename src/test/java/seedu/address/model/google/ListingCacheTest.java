@@ -0,0 +1,122 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.photos.library.v1.proto.Album;
+import com.google.photos.library.v1.proto.MediaItem;
+
+import seedu.address.model.google.ListingCache.Freshness;
+import seedu.address.storage.ListingStorage;
+
+//@@author chivent
+public class ListingCacheTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(1));
+    private final AtomicInteger albumListings = new AtomicInteger();
+    private final AtomicInteger itemListings = new AtomicInteger();
+    private final List<Album> albums = new ArrayList<>();
+    private ListingStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new ListingStorage(testFolder.getRoot().toPath().resolve("listings"));
+        albums.add(Album.newBuilder().setId("a").setTitle("Vacation").setMediaItemsCount(1).build());
+        albums.add(Album.newBuilder().setId("b").setTitle("Pets").setMediaItemsCount(1).build());
+    }
+
+    @Test
+    public void getLibrary_freshListing_notListedAgain() {
+        ListingCache cache = createCache();
+        ListingCache.Listing<MediaItem> first = cache.getLibrary(Freshness.CACHED);
+        assertEquals(1, itemListings.get());
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(5));
+        assertSame(first, cache.getLibrary(Freshness.CACHED));
+        assertSame(first, cache.getLibrary(Freshness.DOWNLOADABLE));
+        assertEquals(1, itemListings.get());
+
+        // forced
+        cache.getLibrary(Freshness.LATEST);
+        assertEquals(2, itemListings.get());
+    }
+
+    @Test
+    public void getLibrary_staleListing_usedAndRefreshed() {
+        ListingCache cache = createCache();
+        ListingCache.Listing<MediaItem> first = cache.getLibrary(Freshness.CACHED);
+
+        now.addAndGet(ListingCache.TTL_MILLIS + 1);
+        // used as is, listed again in the background
+        assertSame(first, cache.getLibrary(Freshness.CACHED));
+        assertEquals(2, itemListings.get());
+
+        // too old to download from, listed now
+        now.addAndGet(TimeUnit.HOURS.toMillis(1));
+        cache.getLibrary(Freshness.DOWNLOADABLE);
+        assertEquals(3, itemListings.get());
+    }
+
+    @Test
+    public void getLibrary_stored_notListedAfterRestart() {
+        ListingCache.Listing<MediaItem> first = createCache().getLibrary(Freshness.CACHED);
+
+        ListingCache restarted = createCache();
+        ListingCache.Listing<MediaItem> stored = restarted.getLibrary(Freshness.CACHED);
+        assertEquals(first.getItems(), stored.getItems());
+        assertEquals(first.getFetchedAt(), stored.getFetchedAt());
+        assertEquals(1, itemListings.get());
+
+        // invalidated listings are listed again
+        now.incrementAndGet();
+        restarted.invalidateAll();
+        restarted.getLibrary(Freshness.CACHED);
+        assertEquals(2, itemListings.get());
+    }
+
+    @Test
+    public void getAlbums_changedAlbum_listedAgain() {
+        ListingCache cache = createCache();
+        cache.getAlbumItems("a", Freshness.CACHED);
+        cache.getAlbumItems("b", Freshness.CACHED);
+        cache.getAlbums(Freshness.CACHED);
+        assertEquals(2, itemListings.get());
+
+        albums.set(0, albums.get(0).toBuilder().setMediaItemsCount(2).build());
+        cache.getAlbums(Freshness.LATEST);
+        assertEquals(2, albumListings.get());
+
+        cache.getAlbumItems("a", Freshness.CACHED);
+        cache.getAlbumItems("b", Freshness.CACHED);
+        assertEquals(3, itemListings.get());
+    }
+
+    /**
+     * Returns a cache that counts its listings, refreshes in the calling thread and reads the time from {@code now}.
+     */
+    private ListingCache createCache() {
+        return new ListingCache("user", storage, () -> {
+            albumListings.incrementAndGet();
+            return new ArrayList<>(albums);
+        }, albumId -> {
+            itemListings.incrementAndGet();
+            return Collections.singletonList(MediaItem.newBuilder().setId(String.valueOf(albumId))
+                    .setFilename("beach.png").setMimeType("image/png").build());
+        }, Runnable::run, now::get);
+    }
+}
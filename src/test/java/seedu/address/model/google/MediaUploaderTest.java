@@ -0,0 +1,141 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.photos.library.v1.proto.MediaItem;
+import com.google.photos.library.v1.proto.NewMediaItem;
+import com.google.photos.library.v1.proto.NewMediaItemResult;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+
+import seedu.address.storage.UploadLedgerStorage;
+
+//@@author chivent
+public class MediaUploaderTest {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path directory;
+    private FakeClient client;
+    private UploadLedgerStorage storage;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = testFolder.newFolder("photos").toPath();
+        client = new FakeClient();
+        storage = new UploadLedgerStorage(testFolder.getRoot().toPath().resolve("ledger.bin"));
+    }
+
+    @Test
+    public void uploadAll_batchesOfAtMostFifty() throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            files.add(createImage("image" + i + ".png", i));
+        }
+        files.add(Files.write(directory.resolve("notes.png"), "not an image".getBytes()));
+        List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+
+        MediaUploader.Result result = new MediaUploader(client, null)
+                .uploadAll("user", files, (file, isSuccess, completed, total) -> progress.add(completed)).get();
+        assertEquals(120, result.getImages().size());
+        assertEquals(120, result.getUploaded().size());
+        assertEquals("image7.png", result.getUploaded().get(files.get(7)));
+        assertEquals(Arrays.asList(50, 50, 20), client.batchSizes);
+        assertEquals(121, progress.size());
+    }
+
+    @Test
+    public void uploadAll_alreadyUploaded_skipped() throws Exception {
+        Path beach = createImage("beach.png", 1);
+        Path cat = createImage("cat.png", 2);
+        new MediaUploader(client, storage).uploadAll("user", Arrays.asList(beach, cat), (f, s, c, t) -> { }).get();
+        assertEquals(2, client.uploadedBytes.size());
+
+        // renamed, same content
+        Path renamed = Files.move(beach, directory.resolve("beach-copy.png"));
+        Path dog = createImage("dog.png", 3);
+        client.uploadedBytes.clear();
+        MediaUploader.Result result = new MediaUploader(client, storage)
+                .uploadAll("user", Arrays.asList(renamed, cat, dog), (f, s, c, t) -> { }).get();
+        assertEquals(Collections.singleton("dog.png"), client.uploadedBytes);
+        assertEquals(Arrays.asList(renamed, cat), result.getSkipped());
+        assertEquals(1, result.getUploaded().size());
+
+        // another account
+        client.uploadedBytes.clear();
+        new MediaUploader(client, storage).uploadAll("other", Collections.singletonList(cat), (f, s, c, t) -> { })
+                .get();
+        assertEquals(Collections.singleton("cat.png"), client.uploadedBytes);
+    }
+
+    @Test
+    public void uploadAll_failuresAndDuplicates_reported() throws Exception {
+        Path broken = createImage("broken.png", 1);
+        Path existing = createImage("existing.png", 2);
+        Path fine = createImage("fine.png", 3);
+        MediaUploader uploader = new MediaUploader(client, null);
+
+        List<Path> files = Arrays.asList(broken, existing, fine);
+        MediaUploader.Result result = uploader.uploadAll("user", files, (f, s, c, t) -> { }).get();
+        assertEquals(Collections.singletonList(broken), result.getFailed());
+        assertEquals(Collections.singletonList(existing), result.getSkipped());
+        assertEquals(Collections.singleton(fine), result.getUploaded().keySet());
+        assertEquals(2, uploader.getLedgerSize());
+    }
+
+    private Path createImage(String name, int content) throws IOException {
+        byte[] bytes = Arrays.copyOf(PNG_HEADER, PNG_HEADER.length + 1);
+        bytes[PNG_HEADER.length] = (byte) content;
+        return Files.write(directory.resolve(name), bytes);
+    }
+
+    /**
+     * Uploads nothing, fails to upload "broken.png" and finds "existing.png" in the library already.
+     */
+    private static class FakeClient implements MediaUploader.UploadClient {
+        private final Set<String> uploadedBytes = Collections.synchronizedSet(new HashSet<>());
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public String uploadBytes(Path file) throws IOException {
+            String name = file.getFileName().toString();
+            if (name.equals("broken.png")) {
+                throw new IOException("Connection reset");
+            }
+            uploadedBytes.add(name);
+            return name;
+        }
+
+        @Override
+        public List<NewMediaItemResult> batchCreate(List<NewMediaItem> items) {
+            batchSizes.add(items.size());
+            List<NewMediaItemResult> results = new ArrayList<>();
+            for (NewMediaItem item : items) {
+                String token = item.getSimpleMediaItem().getUploadToken();
+                int code = token.equals("existing.png") ? Code.ALREADY_EXISTS_VALUE : Code.OK_VALUE;
+                results.add(NewMediaItemResult.newBuilder().setUploadToken(token)
+                        .setStatus(Status.newBuilder().setCode(code))
+                        .setMediaItem(MediaItem.newBuilder().setFilename(token)).build());
+            }
+            return results;
+        }
+    }
+}
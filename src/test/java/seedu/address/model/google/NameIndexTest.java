@@ -0,0 +1,92 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+
+//@@author chivent
+public class NameIndexTest {
+
+    private static final String EXTENSION = ".png";
+
+    private final NameIndex<String> index = new NameIndex<>();
+
+    @Test
+    public void add_duplicateTitles_numberedBeforeExtension() {
+        assertEquals("item.png", index.add("item.png", EXTENSION, "1", "a"));
+        assertEquals("item (1).png", index.add("item.png", EXTENSION, "2", "b"));
+        assertEquals("item (2).png", index.add("item.png", EXTENSION, "3", "c"));
+
+        assertEquals("Album", index.add("Album", null, "4", "d"));
+        assertEquals("Album (1)", index.add("Album", null, "5", "e"));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    public void add_numberedNameTaken_skipsIt() {
+        index.add("item.png", EXTENSION, null, "a");
+        index.add("item (1).png", EXTENSION, null, "b");
+        assertEquals("item (2).png", index.add("item.png", EXTENSION, null, "c"));
+        assertEquals("item (1) (1).png", index.add("item (1).png", EXTENSION, null, "d"));
+    }
+
+    @Test
+    public void add_titlesCollidingWithNumberedNames() {
+        // titles that collide with each other's numbered names, in an awkward order
+        String[][] titlesAndNames = {{"x.png", "x.png"}, {"x (2).png", "x (2).png"}, {"x.png", "x (1).png"},
+            {"x (1).png", "x (1) (1).png"}, {"x.png", "x (3).png"}, {"x.png", "x (4).png"},
+            {"x (1).png", "x (1) (2).png"}, {"y.png", "y.png"}, {"x (3).png", "x (3) (1).png"},
+            {"x.png", "x (5).png"}};
+        for (String[] titleAndName : titlesAndNames) {
+            assertEquals(titleAndName[1], index.add(titleAndName[0], EXTENSION, null, titleAndName[0]));
+        }
+    }
+
+    @Test
+    public void add_someNumbersTaken_nextFreeNumber() {
+        for (String name : new String[] {"item 1.png", "item 2 (1).png", "item 2.png", "item 3 (1).png",
+            "item 3 (2).png", "item 3.png"}) {
+            index.add(name, EXTENSION, null, name);
+        }
+        index.add("Album 1", null, null, "Album 1");
+
+        assertEquals("item.png", index.add("item.png", EXTENSION, null, "a"));
+        assertEquals("item 1 (1).png", index.add("item 1.png", EXTENSION, null, "b"));
+        assertEquals("item 2 (2).png", index.add("item 2.png", EXTENSION, null, "c"));
+        assertEquals("item 3 (3).png", index.add("item 3.png", EXTENSION, null, "d"));
+        assertEquals("item 3 (1) (1).png", index.add("item 3 (1).png", EXTENSION, null, "e"));
+        assertEquals("Album", index.add("Album", null, null, "f"));
+        assertEquals("Album 1 (1)", index.add("Album 1", null, null, "g"));
+    }
+
+    @Test
+    public void add_manyDuplicates_allNamed() {
+        for (int i = 0; i < 50000; i++) {
+            index.add("IMG_0001.JPG", ".JPG", String.valueOf(i), "item");
+        }
+        assertEquals(50000, index.size());
+        assertEquals(Optional.of("IMG_0001 (49999).JPG"), index.getName("49999"));
+    }
+
+    @Test
+    public void getName_byId() {
+        index.add("item.png", EXTENSION, "id1", "a");
+        index.add("item.png", EXTENSION, "id2", "b");
+        assertEquals(Optional.of("item (1).png"), index.getName("id2"));
+        assertFalse(index.getName("id3").isPresent());
+        assertEquals("b", index.get("item (1).png"));
+    }
+
+    @Test
+    public void asMap_inOrderNamed() {
+        index.add("b.png", EXTENSION, null, "1");
+        index.add("a.png", EXTENSION, null, "2");
+        index.add("b.png", EXTENSION, null, "3");
+        assertEquals(Arrays.asList("b.png", "a.png", "b (1).png"), new ArrayList<>(index.asMap().keySet()));
+    }
+}
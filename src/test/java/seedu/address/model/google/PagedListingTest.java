@@ -0,0 +1,165 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+//@@author chivent
+public class PagedListingTest {
+
+    private static final int SCREEN_SIZE = 4;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<Runnable> background = new ArrayList<>();
+    private final List<PagedListing.Screen> updates = new ArrayList<>();
+    private final List<String> fetchedTokens = new ArrayList<>();
+    private List<String> completed;
+
+    @Test
+    public void nextScreen_firstPage_returnedBeforeRestIsRetrieved() {
+        PagedListing<String> listing = createListing(pages("a", "b"), pages("c", "d"), pages("e"));
+
+        PagedListing.Screen first = listing.nextScreen(updates::add);
+        assertEquals(Arrays.asList("a", "b"), first.getNames());
+        assertTrue(first.isLoading());
+        assertEquals(Collections.singletonList(""), fetchedTokens);
+
+        runBackground();
+        PagedListing.Screen full = updates.get(updates.size() - 1);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), full.getNames());
+        assertFalse(full.isLoading());
+        assertTrue(full.hasMore());
+        // retrieval pauses once the screen is full
+        assertEquals(Arrays.asList("", "1"), fetchedTokens);
+        assertEquals(null, completed);
+    }
+
+    @Test
+    public void nextScreen_lastScreen_completesListing() {
+        PagedListing<String> listing = createListing(pages("a", "b", "c", "d"), pages("e"));
+        PagedListing.Screen first = listing.nextScreen(updates::add);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), first.getNames());
+        assertFalse(first.isLoading());
+        assertTrue(background.isEmpty());
+
+        PagedListing.Screen second = listing.nextScreen(updates::add);
+        assertEquals(Collections.singletonList("e"), second.getNames());
+        assertEquals(SCREEN_SIZE, second.getFirstIndex());
+        assertFalse(second.hasMore());
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), completed);
+    }
+
+    @Test
+    public void nextScreen_pageLongerThanScreen_restShownNext() {
+        PagedListing<String> listing = createListing(pages("a", "b", "c", "d", "e", "f"));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), listing.nextScreen(updates::add).getNames());
+
+        PagedListing.Screen second = listing.nextScreen(updates::add);
+        assertEquals(Arrays.asList("e", "f"), second.getNames());
+        assertFalse(second.hasMore());
+        assertEquals(1, fetchedTokens.size());
+    }
+
+    @Test
+    public void nextScreen_stillLoading_throwsIllegalStateException() {
+        PagedListing<String> listing = createListing(pages("a"), pages("b"));
+        listing.nextScreen(updates::add);
+
+        thrown.expect(IllegalStateException.class);
+        listing.nextScreen(updates::add);
+    }
+
+    @Test
+    public void stop_whileLoading_stopsAfterCurrentPage() {
+        PagedListing<String> listing = createListing(pages("a"), pages("b"), pages("c"));
+        listing.nextScreen(updates::add);
+        listing.stop();
+
+        runBackground();
+        assertEquals(Collections.singletonList(""), fetchedTokens);
+        assertFalse(listing.isLoading());
+        assertTrue(updates.isEmpty());
+        assertTrue(listing.nextScreen(updates::add).hasMore());
+    }
+
+    @Test
+    public void stop_thenReplaced_oldListingNotShown() {
+        PagedListing<String> old = createListing(pages("a"), pages("b"), pages("c"));
+        List<PagedListing.Screen> oldUpdates = new ArrayList<>();
+        old.nextScreen(oldUpdates::add);
+        old.stop();
+        PagedListing<String> replacement = PagedListing.of(Arrays.asList("x", "y"));
+        replacement.nextScreen(updates::add);
+
+        runBackground();
+        assertTrue(oldUpdates.isEmpty());
+        assertFalse(old.isLoading());
+    }
+
+    @Test
+    public void nextScreen_pageFails_screenMarkedFailed() {
+        List<List<String>> pages = new ArrayList<>();
+        pages.add(pages("a"));
+        PagedListing<String> listing = new PagedListing<>(token -> {
+            if (!token.isEmpty()) {
+                throw new IllegalStateException("offline");
+            }
+            return new PagedListing.Page<>(pages.get(0), "1");
+        }, Function.identity(), items -> completed = items, background::add, SCREEN_SIZE);
+        listing.nextScreen(updates::add);
+
+        runBackground();
+        PagedListing.Screen last = updates.get(updates.size() - 1);
+        assertTrue(last.isFailed());
+        assertEquals(Collections.singletonList("a"), last.getNames());
+        assertFalse(listing.isLoading());
+    }
+
+    @Test
+    public void of_knownNames_shownWithoutRetrieving() {
+        PagedListing<String> listing = PagedListing.of(Arrays.asList("x", "y"));
+        PagedListing.Screen screen = listing.nextScreen(updates::add);
+        assertEquals(Arrays.asList("x", "y"), screen.getNames());
+        assertFalse(screen.isLoading());
+        assertFalse(screen.hasMore());
+    }
+
+    /**
+     * Returns a listing of {@code pages}, whose page tokens are their indices, with a screen of
+     * {@value #SCREEN_SIZE} names whose background work is queued.
+     */
+    @SafeVarargs
+    private final PagedListing<String> createListing(List<String>... pages) {
+        return new PagedListing<>(token -> {
+            fetchedTokens.add(token);
+            int index = token.isEmpty() ? 0 : Integer.parseInt(token);
+            String next = (index + 1 < pages.length) ? String.valueOf(index + 1) : "";
+            return new PagedListing.Page<>(pages[index], next);
+        }, Function.identity(), items -> completed = items, background::add, SCREEN_SIZE);
+    }
+
+    private static List<String> pages(String... names) {
+        return Arrays.asList(names);
+    }
+
+    /**
+     * Runs the queued background work.
+     */
+    private void runBackground() {
+        while (!background.isEmpty()) {
+            background.remove(0).run();
+        }
+    }
+}
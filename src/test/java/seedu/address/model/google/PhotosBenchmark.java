@@ -0,0 +1,342 @@
+package seedu.address.model.google;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.MediaDownloader;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+//@@author chivent
+/**
+ * Measures how fast Piconso lists, downloads and uploads images, against a {@link FakePhotosLibrary} so that it
+ * can be run offline and under set conditions. Each scenario is run through a {@link PhotoHandler}, as the
+ * {@code g} commands do, and reports its throughput and the median and tail latency of its runs.
+ * <p>
+ * Run with {@code gradlew benchmark}, optionally with {@code -PbenchmarkArgs="latency=100 bandwidth=512"}, where
+ * the arguments, all optional, are:
+ * <ul>
+ *     <li>{@code albums}, {@code images}: number of albums, and of images in each (20 and 250)</li>
+ *     <li>{@code dimension}: width and height of each image in pixels (256, about 200KB)</li>
+ *     <li>{@code latency}, {@code jitter}: milliseconds each request waits, plus up to jitter more (50 and 50)</li>
+ *     <li>{@code bandwidth}: KB per second of each transfer, or 0 for as fast as possible (4096)</li>
+ *     <li>{@code errors}: share of requests that fail (0)</li>
+ *     <li>{@code runs}: number of times each scenario is run (5)</li>
+ *     <li>{@code seed}: seed of the jitter and failures (1)</li>
+ * </ul>
+ */
+public class PhotosBenchmark {
+
+    private static final String ACCOUNT = "benchmark";
+    private static final int UPLOADED_DIRECTORY_SIZE = 50;
+    private static final String ROW_FORMAT = "%-22s %5s %5s %12s %10s %10s %10s %10s%n";
+
+    private final Map<String, String> options;
+    private final int runs;
+    private final Random random;
+    private final FakePhotosLibrary library;
+    private final Path workspace;
+
+    private PhotosBenchmark(Map<String, String> options) throws IOException {
+        this.options = options;
+        runs = getInt("runs", 5);
+        random = new Random(getInt("seed", 1));
+        FakePhotosLibrary.Conditions conditions = new FakePhotosLibrary.Conditions(getInt("latency", 50),
+                getInt("jitter", 50), getInt("bandwidth", 4096) * 1024L, getDouble("errors", 0),
+                getInt("seed", 1));
+        library = new FakePhotosLibrary(FakePhotosLibrary.Conditions.IDEAL);
+        library.populate(getInt("albums", 20), getInt("images", 250), getInt("dimension", 256));
+        library.setConditions(conditions);
+        workspace = Files.createTempDirectory("photos-benchmark");
+    }
+
+    /**
+     * Runs every scenario and prints what it measured.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected name=value but got " + arg);
+            }
+            options.put(option[0], option[1]);
+        }
+
+        PhotosBenchmark benchmark = new PhotosBenchmark(options);
+        try {
+            benchmark.run();
+        } finally {
+            benchmark.library.close();
+            deleteDirectory(benchmark.workspace);
+        }
+    }
+
+    /**
+     * Runs every scenario and prints what it measured.
+     */
+    private void run() throws Exception {
+        System.out.println("Library: " + library.getAlbums().size() + " albums, " + library.getItems().size()
+                + " images, " + library.getContent(library.getItems().get(0).getId()).length / 1024 + "KB each");
+        System.out.println("Conditions: " + library.getConditions() + ", " + runs + " runs");
+        System.out.println();
+        System.out.printf(ROW_FORMAT, "scenario", "runs", "fails", "throughput", "p50 ms", "p95 ms", "p99 ms",
+                "max ms");
+
+        benchmarkListing();
+        benchmarkDownloads();
+        benchmarkUploads();
+    }
+
+    //=========== Scenarios ================================
+
+    /**
+     * Measures how soon {@code g ls} shows the first names and the first screen, and how long listing the whole
+     * library and every album takes, each time with nothing listed before.
+     */
+    private void benchmarkListing() throws Exception {
+        Stats firstPage = new Stats("ls first page", "names");
+        Stats firstScreen = new Stats("ls first screen", "names");
+        Stats everything = new Stats("ls whole library", "names");
+        for (int run = 0; run < runs; run++) {
+            PhotoHandler handler = library.createHandler(ACCOUNT + run);
+            CountDownLatch complete = new CountDownLatch(1);
+            AtomicReference<PagedListing.Screen> shown = new AtomicReference<>();
+            long start = System.nanoTime();
+            try {
+                PagedListing.Screen screen = handler.listImages(null, update -> {
+                    if (!update.isLoading()) {
+                        shown.set(update);
+                        complete.countDown();
+                    }
+                });
+                firstPage.record(start, screen.getNames().size(), false);
+                if (!screen.isLoading()) {
+                    shown.set(screen);
+                    complete.countDown();
+                }
+                complete.await();
+                firstScreen.record(start, shown.get().getNames().size(), shown.get().isFailed());
+            } catch (CommandException | RuntimeException e) {
+                firstPage.fail();
+                firstScreen.fail();
+            }
+
+            handler = library.createHandler(ACCOUNT + run);
+            start = System.nanoTime();
+            try {
+                handler.refreshLists();
+                everything.record(start, handler.returnAllImagesList().size()
+                        + handler.returnAllAlbumsList().size(), false);
+            } catch (RuntimeException e) {
+                everything.fail();
+            }
+        }
+        firstPage.print();
+        firstScreen.print();
+        everything.print();
+    }
+
+    /**
+     * Measures how long {@code g dl} takes to download a single image and a whole album.
+     */
+    private void benchmarkDownloads() throws Exception {
+        PhotoHandler handler = createListedHandler();
+        List<String> albums = new ArrayList<>(handler.returnAllAlbumsList());
+        Stats single = new Stats("dl image", "images");
+        Stats album = new Stats("dl album", "images");
+        MediaDownloader.ProgressListener ignored = (target, isSuccess, completed, total) -> { };
+        for (int run = 0; run < runs; run++) {
+            String albumName = albums.get(random.nextInt(albums.size()));
+            Path directory = Files.createTempDirectory(workspace, "dl");
+            try {
+                List<String> images = handler.returnAllImagesinAlbum(albumName);
+                long start = System.nanoTime();
+                try {
+                    handler.downloadAlbumImage(albumName, images.get(random.nextInt(images.size())),
+                            directory.toString());
+                    single.record(start, 1, false);
+                } catch (IOException e) {
+                    single.fail();
+                }
+
+                start = System.nanoTime();
+                List<Path> failed = handler.downloadWholeAlbum(albumName, directory.toString(), ignored).get();
+                album.record(start, images.size() - failed.size(), !failed.isEmpty());
+            } catch (CommandException | RuntimeException e) {
+                single.fail();
+                album.fail();
+            } finally {
+                deleteDirectory(directory);
+            }
+        }
+        single.print();
+        album.print();
+    }
+
+    /**
+     * Measures how long {@code g ul} takes to upload a single image and a whole directory of new images, and how
+     * long uploading the directory again takes, when every image is skipped.
+     */
+    private void benchmarkUploads() throws Exception {
+        PhotoHandler handler = createListedHandler();
+        Stats single = new Stats("ul image", "images");
+        Stats all = new Stats("ul all", "images");
+        Stats again = new Stats("ul all again", "images");
+        MediaUploader.ProgressListener ignored = (file, isSuccess, completed, total) -> { };
+        for (int run = 0; run < runs; run++) {
+            Path image = Files.createTempDirectory(workspace, "ul");
+            Path directory = Files.createTempDirectory(workspace, "ul");
+            try {
+                writeImages(image, 1);
+                writeImages(directory, Math.min(getInt("images", 250), UPLOADED_DIRECTORY_SIZE));
+
+                long start = System.nanoTime();
+                try {
+                    handler.uploadImage("image0.png", image.toString());
+                    single.record(start, 1, false);
+                } catch (Exception e) {
+                    single.fail();
+                }
+
+                start = System.nanoTime();
+                MediaUploader.Result result = handler.uploadAll(directory.toString(), ignored).get();
+                all.record(start, result.getUploaded().size(), !result.getFailed().isEmpty());
+
+                start = System.nanoTime();
+                result = handler.uploadAll(directory.toString(), ignored).get();
+                again.record(start, result.getSkipped().size(), !result.getFailed().isEmpty());
+            } finally {
+                deleteDirectory(image);
+                deleteDirectory(directory);
+            }
+        }
+        single.print();
+        all.print();
+        again.print();
+    }
+
+    /**
+     * Returns a handler for which the whole library and its albums were listed already.
+     */
+    private PhotoHandler createListedHandler() throws IOException {
+        FakePhotosLibrary.Conditions conditions = library.getConditions();
+        library.setConditions(FakePhotosLibrary.Conditions.IDEAL);
+        try {
+            PhotoHandler handler = library.createHandler(ACCOUNT);
+            handler.refreshLists();
+            return handler;
+        } finally {
+            library.setConditions(conditions);
+        }
+    }
+
+    /**
+     * Writes {@code count} new images, which were never uploaded, to {@code directory}.
+     */
+    private void writeImages(Path directory, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            Files.write(directory.resolve("image" + i + ".png"),
+                    FakePhotosLibrary.createImage(getInt("dimension", 256), random.nextLong()));
+        }
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it.
+     */
+    private static void deleteDirectory(Path directory) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(directory)) {
+            walk.forEach(paths::add);
+        }
+        Collections.reverse(paths);
+        for (Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    //=========== Options ================================
+
+    private int getInt(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private double getDouble(String name, double defaultValue) {
+        return options.containsKey(name) ? Double.parseDouble(options.get(name)) : defaultValue;
+    }
+
+    /**
+     * The latencies of the runs of a scenario, and how many items they went through.
+     */
+    private static class Stats {
+        private final String name;
+        private final String unit;
+        private final List<Long> latencies = new ArrayList<>();
+        private long items;
+        private int failures;
+
+        Stats(String name, String unit) {
+            this.name = name;
+            this.unit = unit;
+        }
+
+        /**
+         * Records a run started at {@code start}, in nanoseconds, that went through {@code count} items, and failed
+         * on some of them if {@code isFailed}.
+         */
+        void record(long start, long count, boolean isFailed) {
+            latencies.add(System.nanoTime() - start);
+            items += count;
+            if (isFailed) {
+                failures++;
+            }
+        }
+
+        void fail() {
+            failures++;
+        }
+
+        /**
+         * Prints the throughput and latency of the runs recorded.
+         */
+        void print() {
+            if (latencies.isEmpty()) {
+                System.out.printf(ROW_FORMAT, name, 0, failures, "-", "-", "-", "-", "-");
+                return;
+            }
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            long total = 0;
+            for (long latency : sorted) {
+                total += latency;
+            }
+            double throughput = items / (total / (double) TimeUnit.SECONDS.toNanos(1));
+            System.out.printf(ROW_FORMAT, name, sorted.size(), failures,
+                    String.format("%.1f %s/s", throughput, unit), toMillis(percentile(sorted, 50)),
+                    toMillis(percentile(sorted, 95)), toMillis(percentile(sorted, 99)),
+                    toMillis(sorted.get(sorted.size() - 1)));
+        }
+
+        /**
+         * Returns the {@code percent}th percentile of {@code sorted}, by the nearest-rank method.
+         */
+        private static long percentile(List<Long> sorted, int percent) {
+            int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+            return sorted.get(Math.max(0, rank - 1));
+        }
+
+        private static String toMillis(long nanos) {
+            return String.format("%.1f", nanos / 1e6);
+        }
+    }
+}
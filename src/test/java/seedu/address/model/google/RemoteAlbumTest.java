@@ -0,0 +1,48 @@
+package seedu.address.model.google;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.photos.library.v1.proto.MediaItem;
+import com.google.photos.library.v1.proto.MediaMetadata;
+
+//@@author chivent
+public class RemoteAlbumTest {
+
+    private static final String BASE_URL = "https://lh3.googleusercontent.com/abc";
+
+    @Test
+    public void of_mediaItem() throws Exception {
+        MediaItem item = MediaItem.newBuilder().setId("id").setFilename("IMG.JPG").setBaseUrl(BASE_URL)
+                .setMediaMetadata(MediaMetadata.newBuilder().setWidth(4000).setHeight(3000)).build();
+        RemoteImage image = RemoteImage.of("IMG (1).JPG", item);
+        assertEquals("id", image.getId());
+        assertEquals("IMG (1).JPG", image.getName());
+        assertEquals(4000, image.getWidth());
+        assertEquals(3000, image.getHeight());
+        assertEquals(BASE_URL + "=w256-h256", image.getSizedUrl(256).toString());
+    }
+
+    @Test
+    public void paths_uniqueAndValid() {
+        RemoteAlbum album = new RemoteAlbum("Trip: 2018", Arrays.asList(image("1", "a.png"), image("2", "b?.png"),
+                image("3", "b_.png")));
+        List<Path> paths = album.getPaths();
+        Path root = Paths.get(RemoteAlbum.ROOT, "Trip_ 2018");
+        assertEquals(Arrays.asList(root.resolve("a.png"), root.resolve("b_.png"), root.resolve("b_.png (1)")),
+                paths);
+        assertEquals(3, album.size());
+        assertEquals("3", album.get(2).getId());
+        assertEquals("2", album.getImages().get(paths.get(1)).getId());
+    }
+
+    private static RemoteImage image(String id, String name) {
+        return new RemoteImage(id, name, BASE_URL + id, 100, 100);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.model.transformation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TransformationTest {
+
+    @Test
+    public void isScalable() {
+        assertTrue(new Transformation("blur", "0x8").isScalable());
+        assertTrue(new Transformation("resize", "50%").isScalable());
+        assertFalse(new Transformation("@mycommand").isScalable());
+    }
+
+    @Test
+    public void scale() {
+        // radius and sigma are scaled
+        assertEquals(new Transformation("blur", "5x4"), new Transformation("blur", "10x8").scale(0.5));
+
+        // angle is not scaled
+        assertEquals(new Transformation("motion-blur", "5x3+45"),
+                new Transformation("motion-blur", "10x6+45").scale(0.5));
+
+        // zero stays zero, non-zero never rounds down to zero
+        assertEquals(new Transformation("blur", "0x1"), new Transformation("blur", "0x1").scale(0.1));
+
+        // scale-invariant operations are unchanged
+        Transformation resize = new Transformation("resize", "50%");
+        assertSame(resize, resize.scale(0.5));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.testutil.Assert;
+
+public class ImageHashStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path file;
+    private ImageHashStorage storage;
+
+    @Before
+    public void setUp() {
+        file = testFolder.getRoot().toPath().resolve("hashes").resolve("dhash.bin");
+        storage = new ImageHashStorage(file);
+    }
+
+    @Test
+    public void readHashes_notStored_returnsEmpty() throws Exception {
+        assertTrue(storage.readHashes().isEmpty());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        Map<String, Long> hashes = new HashMap<>();
+        hashes.put("0123abcd", 0x8f3c0e1e3c7effffL);
+        hashes.put("4567ef01", 0L);
+        storage.saveHashes(hashes);
+        assertEquals(hashes, storage.readHashes());
+    }
+
+    @Test
+    public void readHashes_corrupt_throwsDataConversionException() throws Exception {
+        storage.saveHashes(new HashMap<>());
+        Files.write(file, new byte[] {1, 2, 3});
+        Assert.assertThrows(DataConversionException.class, () -> storage.readHashes());
+    }
+}
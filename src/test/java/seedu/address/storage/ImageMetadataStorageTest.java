@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ImageMetadata;
+import seedu.address.testutil.Assert;
+
+public class ImageMetadataStorageTest {
+
+    private static final Path IMAGE_DIRECTORY = Paths.get("some", "images");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private ImageMetadataStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new ImageMetadataStorage(testFolder.getRoot().toPath().resolve("metadata"));
+    }
+
+    @Test
+    public void readMetadata_notStored_returnsEmpty() throws Exception {
+        assertTrue(storage.readMetadata(IMAGE_DIRECTORY).isEmpty());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        ImageMetadata a = new ImageMetadata("a.jpg", 4000, 3000, "jpeg", 8, 6, "2018:10:01 12:34:56", 123456L,
+                1540000000000L, "0123abcd");
+        ImageMetadata b = new ImageMetadata("b.png", 10, 20, "png", 16, 1, null, 99L, 1L, "ffff");
+        storage.saveMetadata(IMAGE_DIRECTORY, Arrays.asList(a, b));
+
+        Map<String, ImageMetadata> read = storage.readMetadata(IMAGE_DIRECTORY);
+        assertEquals(2, read.size());
+        assertEquals(a, read.get("a.jpg"));
+        assertEquals(b, read.get("b.png"));
+
+        // other directory -> stored separately
+        assertTrue(storage.readMetadata(Paths.get("other")).isEmpty());
+    }
+
+    @Test
+    public void readMetadata_corrupt_throwsDataConversionException() throws Exception {
+        storage.saveMetadata(IMAGE_DIRECTORY, Arrays.asList());
+        Files.write(storage.getMetadataPath(IMAGE_DIRECTORY), new byte[] {1, 2, 3});
+        Assert.assertThrows(DataConversionException.class, () -> storage.readMetadata(IMAGE_DIRECTORY));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Library;
+import seedu.address.testutil.Assert;
+
+public class LibraryStorageTest {
+
+    private static final Path ROOT = Paths.get("some", "library").toAbsolutePath();
+    private static final Path YEAR = ROOT.resolve("2018");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private LibraryStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new LibraryStorage(testFolder.getRoot().toPath().resolve("libraries"));
+    }
+
+    @Test
+    public void readLibrary_notStored_returnsEmpty() throws Exception {
+        assertFalse(storage.readLibrary(ROOT).isPresent());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        Library library = new Library(ROOT, Arrays.asList(
+                new Library.Folder(ROOT, 1540000000000L, Arrays.asList(ROOT.resolve("cover.png")),
+                        Arrays.asList(YEAR)),
+                new Library.Folder(YEAR, 42L, Arrays.asList(YEAR.resolve("a.jpg"), YEAR.resolve("b.png")),
+                        Collections.emptyList())));
+        storage.saveLibrary(library);
+
+        Library read = storage.readLibrary(ROOT).get();
+        assertEquals(library.getImages(), read.getImages());
+        assertEquals(library.getFolderCounts(), read.getFolderCounts());
+        assertEquals(42L, read.getFolder(YEAR).get().getLastModified());
+        assertEquals(Arrays.asList(YEAR), read.getFolder(ROOT).get().getSubfolders());
+
+        // other library -> stored separately
+        assertFalse(storage.readLibrary(YEAR).isPresent());
+    }
+
+    @Test
+    public void readLibrary_corrupt_throwsDataConversionException() throws Exception {
+        storage.saveLibrary(new Library(ROOT, Arrays.asList(
+                new Library.Folder(ROOT, 0, Collections.emptyList(), Collections.emptyList()))));
+        Files.write(storage.getLibraryPath(ROOT), new byte[] {1, 2, 3});
+        Assert.assertThrows(DataConversionException.class, () -> storage.readLibrary(ROOT));
+    }
+}
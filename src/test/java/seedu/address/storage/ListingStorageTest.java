@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.photos.library.v1.proto.MediaItem;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.google.ListingCache;
+import seedu.address.testutil.Assert;
+
+public class ListingStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private ListingStorage storage;
+
+    @Before
+    public void setUp() {
+        storage = new ListingStorage(testFolder.getRoot().toPath().resolve("listings"));
+    }
+
+    @Test
+    public void readListing_notStored_returnsEmpty() throws Exception {
+        assertFalse(storage.readListing("user", "library", MediaItem.parser()).isPresent());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        List<MediaItem> items = Arrays.asList(
+                MediaItem.newBuilder().setId("1").setFilename("beach.png").setMimeType("image/png").build(),
+                MediaItem.newBuilder().setId("2").setFilename("cat.jpg").setMimeType("image/jpeg").build());
+        storage.saveListing("user", "library", new ListingCache.Listing<>(items, 1234));
+
+        ListingCache.Listing<MediaItem> read = storage.readListing("user", "library", MediaItem.parser()).get();
+        assertEquals(items, read.getItems());
+        assertEquals(1234, read.getFetchedAt());
+
+        // other accounts and listings are stored apart
+        assertFalse(storage.readListing("other", "library", MediaItem.parser()).isPresent());
+        assertFalse(storage.readListing("user", "album:1", MediaItem.parser()).isPresent());
+
+        storage.deleteListing("user", "library");
+        assertFalse(storage.readListing("user", "library", MediaItem.parser()).isPresent());
+    }
+
+    @Test
+    public void readListing_corrupt_throwsDataConversionException() throws Exception {
+        List<MediaItem> items = Arrays.asList(MediaItem.newBuilder().setId("1").setFilename("beach.png").build());
+        storage.saveListing("user", "library", new ListingCache.Listing<>(items, 1234));
+        Path file = storage.getListingPath("user", "library");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        Assert.assertThrows(DataConversionException.class, () ->
+                storage.readListing("user", "library", MediaItem.parser()));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.google.SyncManifest;
+import seedu.address.testutil.Assert;
+
+public class SyncManifestStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path synced;
+    private SyncManifestStorage storage;
+
+    @Before
+    public void setUp() {
+        synced = testFolder.getRoot().toPath().resolve("photos");
+        storage = new SyncManifestStorage(testFolder.getRoot().toPath().resolve("sync"));
+    }
+
+    @Test
+    public void readManifest_notStored_returnsEmpty() throws Exception {
+        SyncManifest manifest = storage.readManifest(synced);
+        assertEquals(synced, manifest.getDirectory());
+        assertTrue(manifest.getEntries().isEmpty());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        SyncManifest.Entry beach = new SyncManifest.Entry("1", "album", "beach.png", 120, 1000, "beach.png|5|4x3");
+        SyncManifest.Entry cat = new SyncManifest.Entry("2", "album", "cat (1).jpg", 64, 2000, "cat.jpg|6|2x2");
+        storage.saveManifest(new SyncManifest(synced, Arrays.asList(beach, cat)));
+
+        SyncManifest read = storage.readManifest(synced);
+        assertEquals(new HashSet<>(Arrays.asList(beach, cat)), new HashSet<>(read.getEntries()));
+
+        // other directories are stored apart
+        assertTrue(storage.readManifest(testFolder.getRoot().toPath().resolve("other")).getEntries().isEmpty());
+    }
+
+    @Test
+    public void readManifest_corrupt_throwsDataConversionException() throws Exception {
+        Path file = storage.getManifestPath(synced);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[] {0x50, 0x53, 0x59});
+        Assert.assertThrows(DataConversionException.class, () -> storage.readManifest(synced));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ThumbnailStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private ThumbnailStorage storage;
+    private Path source;
+
+    @Before
+    public void setUp() throws Exception {
+        storage = new ThumbnailStorage(testFolder.getRoot().toPath().resolve("thumbnails"));
+        File file = testFolder.newFile("source.png");
+        ImageIO.write(new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB), "png", file);
+        source = file.toPath();
+    }
+
+    @Test
+    public void readThumbnail_notStored_returnsEmpty() {
+        assertFalse(storage.readThumbnail(source, 16).isPresent());
+        assertFalse(storage.readThumbnail(testFolder.getRoot().toPath().resolve("missing.png"), 16).isPresent());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        BufferedImage thumbnail = new BufferedImage(4, 2, BufferedImage.TYPE_INT_ARGB);
+        thumbnail.setRGB(3, 1, 0xff112233);
+        storage.saveThumbnail(source, 16, thumbnail);
+
+        BufferedImage read = storage.readThumbnail(source, 16).get();
+        assertEquals(4, read.getWidth());
+        assertEquals(0xff112233, read.getRGB(3, 1));
+
+        // different size -> not stored
+        assertFalse(storage.readThumbnail(source, 32).isPresent());
+    }
+
+    @Test
+    public void saveThenReadRemote() throws Exception {
+        assertFalse(storage.readRemoteThumbnail("id", 16).isPresent());
+        storage.saveRemoteThumbnail("id", 16, new BufferedImage(4, 2, BufferedImage.TYPE_INT_ARGB));
+
+        assertEquals(4, storage.readRemoteThumbnail("id", 16).get().getWidth());
+        assertFalse(storage.readRemoteThumbnail("id", 32).isPresent());
+        assertFalse(storage.readRemoteThumbnail("other", 16).isPresent());
+    }
+
+    @Test
+    public void modifiedSource_invalidatesThumbnail() throws Exception {
+        Path before = storage.getThumbnailPath(source, 16);
+        storage.saveThumbnail(source, 16, new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB));
+        assertTrue(storage.readThumbnail(source, 16).isPresent());
+
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 5000));
+        assertNotEquals(before, storage.getThumbnailPath(source, 16));
+        assertFalse(storage.readThumbnail(source, 16).isPresent());
+    }
+
+    @Test
+    public void saveThumbnail_modifiedSource_supersededThumbnailDeleted() throws Exception {
+        storage.saveThumbnail(source, 32, new BufferedImage(8, 8, BufferedImage.TYPE_INT_ARGB));
+        Path before = storage.getThumbnailPath(source, 16);
+        storage.saveThumbnail(source, 16, new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB));
+
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 5000));
+        storage.saveThumbnail(source, 16, new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB));
+        assertFalse(Files.exists(before));
+        assertTrue(storage.readThumbnail(source, 16).isPresent());
+
+        // another size is another thumbnail -> kept until its own is replaced
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() - 5000));
+        assertTrue(storage.readThumbnail(source, 32).isPresent());
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.testutil.Assert;
+
+public class UploadLedgerStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path file;
+    private UploadLedgerStorage storage;
+
+    @Before
+    public void setUp() {
+        file = testFolder.getRoot().toPath().resolve("uploads").resolve("ledger.bin");
+        storage = new UploadLedgerStorage(file);
+    }
+
+    @Test
+    public void readLedger_notStored_returnsEmpty() throws Exception {
+        assertTrue(storage.readLedger().isEmpty());
+    }
+
+    @Test
+    public void saveThenRead() throws Exception {
+        Map<String, String> uploads = new HashMap<>();
+        uploads.put("user|0123abcd", "beach.png");
+        uploads.put("user|4567ef01", "cat (1).jpg");
+        storage.saveLedger(uploads);
+        assertEquals(uploads, storage.readLedger());
+    }
+
+    @Test
+    public void readLedger_corrupt_throwsDataConversionException() throws Exception {
+        storage.saveLedger(new HashMap<>());
+        Files.write(file, new byte[] {1, 2, 3});
+        Assert.assertThrows(DataConversionException.class, () -> storage.readLedger());
+    }
+}
@@ -123,7 +123,7 @@ public class ModelGenerator {
      */
     public static Model getModelWithTestImgDirectory() {
         Model model = new ModelManager(new UserPrefs(), true);
-        model.updateCurrDirectory(Paths.get(MainApp.MAIN_PATH + "/src/test/resources/testimgs"));
+        model.updateCurrDirectory(Paths.get(MainApp.MAIN_PATH + "/src/test/resources/testimgs")).join();
         return model;
     }
 
@@ -151,7 +151,7 @@ public class ModelGenerator {
      */
     public static Model getModelWithPopulatedCanvasAndImgDirectory() {
         Model model = getModelWithPopulatedCanvas();
-        model.updateCurrDirectory(Paths.get(MainApp.MAIN_PATH + "/src/test/resources/testimgs"));
+        model.updateCurrDirectory(Paths.get(MainApp.MAIN_PATH + "/src/test/resources/testimgs")).join();
         return model;
     }
 
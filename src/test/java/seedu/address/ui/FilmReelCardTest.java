@@ -43,10 +43,10 @@ public class FilmReelCardTest extends GuiUnitTest {
     @Test
     public void equals() throws FileNotFoundException {
 
-        FilmReelCard imageCard = new FilmReelCard(paths.get(0), 0);
+        FilmReelCard imageCard = new FilmReelCard(paths.get(0), 0, null, null);
 
         // same image, same index -> returns true
-        FilmReelCard copy = new FilmReelCard(paths.get(0), 0);
+        FilmReelCard copy = new FilmReelCard(paths.get(0), 0, null, null);
         assertTrue(imageCard.equals(copy));
 
         // same object -> returns true
@@ -59,11 +59,11 @@ public class FilmReelCardTest extends GuiUnitTest {
         assertFalse(imageCard.equals(0));
 
         // different image, same index -> returns false
-        copy = new FilmReelCard(paths.get(0), 1);
+        copy = new FilmReelCard(paths.get(0), 1, null, null);
         assertFalse(imageCard.equals(copy));
 
         // same person, different index -> returns false
-        copy = new FilmReelCard(paths.get(1), 0);
+        copy = new FilmReelCard(paths.get(1), 0, null, null);
         assertFalse(imageCard.equals(copy));
     }
 }